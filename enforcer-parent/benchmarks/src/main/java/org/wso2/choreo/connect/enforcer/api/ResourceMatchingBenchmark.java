@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of the matched resource of an API, which is done for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceMatchingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int resourceCount;
+
+    private API api;
+    private String firstResource;
+    private String lastResource;
+
+    @Setup
+    public void setup() {
+        api = StaticAPI.createRestAPI(resourceCount);
+        firstResource = "/resource0/{id}";
+        lastResource = "/resource" + (resourceCount - 1) + "/{id}";
+    }
+
+    @Benchmark
+    public ResourceConfig matchFirstResource() {
+        return APIFactory.getInstance().getMatchedResource(api, firstResource, "POST");
+    }
+
+    @Benchmark
+    public ResourceConfig matchLastResource() {
+        return APIFactory.getInstance().getMatchedResource(api, lastResource, "POST");
+    }
+
+    @Benchmark
+    public ResourceConfig matchUnknownResource() {
+        return APIFactory.getInstance().getMatchedResource(api, "/unknown/{id}", "GET");
+    }
+}
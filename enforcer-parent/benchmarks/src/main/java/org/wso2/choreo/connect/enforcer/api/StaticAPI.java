@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.api;
+
+import org.wso2.choreo.connect.discovery.api.Api;
+import org.wso2.choreo.connect.enforcer.commons.Filter;
+import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
+import org.wso2.choreo.connect.enforcer.commons.model.GraphQLSchemaDTO;
+import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
+import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link API} backed by a fixed {@link APIConfig}, used by the benchmarks instead of the APIs
+ * created from the xDS resources received from the adapter.
+ */
+public class StaticAPI implements API {
+
+    private final APIConfig apiConfig;
+
+    public StaticAPI(APIConfig apiConfig) {
+        this.apiConfig = apiConfig;
+    }
+
+    /**
+     * Creates a REST API with {@code resourceCount} resources of the form {@code /resource{i}/{id}},
+     * each of them exposing a GET and a POST operation.
+     *
+     * @param resourceCount number of resource paths
+     * @return the API
+     */
+    public static StaticAPI createRestAPI(int resourceCount) {
+        List<ResourceConfig> resources = new ArrayList<>();
+        for (int i = 0; i < resourceCount; i++) {
+            resources.add(createResource("/resource" + i + "/{id}", ResourceConfig.HttpMethods.GET));
+            resources.add(createResource("/resource" + i + "/{id}", ResourceConfig.HttpMethods.POST));
+        }
+        return new StaticAPI(new APIConfig.Builder("PetStore").version("1.0.0").vhost("localhost")
+                .basePath("/petstore/v1").apiType("HTTP").uuid("petstore-uuid").resources(resources).build());
+    }
+
+    /**
+     * Creates a GraphQL API for the given schema with a query resource for each of the given operations.
+     *
+     * @param graphQLSchemaDTO schema of the API
+     * @param queryOperations  names of the query operations
+     * @return the API
+     */
+    public static StaticAPI createGraphQLAPI(GraphQLSchemaDTO graphQLSchemaDTO, List<String> queryOperations) {
+        List<ResourceConfig> resources = new ArrayList<>();
+        for (String operation : queryOperations) {
+            resources.add(createResource(operation, ResourceConfig.HttpMethods.QUERY));
+        }
+        return new StaticAPI(new APIConfig.Builder("StarWars").version("1.0.0").vhost("localhost")
+                .basePath("/starwars/v1").apiType("GraphQL").uuid("starwars-uuid").resources(resources)
+                .graphQLSchemaDTO(graphQLSchemaDTO).build());
+    }
+
+    private static ResourceConfig createResource(String path, ResourceConfig.HttpMethods method) {
+        ResourceConfig resourceConfig = new ResourceConfig();
+        resourceConfig.setPath(path);
+        resourceConfig.setMethod(method);
+        return resourceConfig;
+    }
+
+    @Override
+    public List<Filter> getFilters() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String init(Api api) {
+        return apiConfig.getBasePath();
+    }
+
+    @Override
+    public ResponseObject process(RequestContext requestContext) {
+        return new ResponseObject(requestContext.getRequestID());
+    }
+
+    @Override
+    public APIConfig getAPIConfig() {
+        return apiConfig;
+    }
+}
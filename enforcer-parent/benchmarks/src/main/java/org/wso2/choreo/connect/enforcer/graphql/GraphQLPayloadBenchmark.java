@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.graphql;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.choreo.connect.enforcer.api.API;
+import org.wso2.choreo.connect.enforcer.api.StaticAPI;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+import org.wso2.choreo.connect.enforcer.commons.model.GraphQLSchemaDTO;
+import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.CacheDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing and validation of GraphQL queries against the schema of the API, with and without
+ * the query cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphQLPayloadBenchmark {
+
+    private static final String SCHEMA = "schema { query: Query }\n"
+            + "type Query {\n"
+            + "  hero(episode: Episode): Character\n"
+            + "  human(id: ID!): Human\n"
+            + "  droid(id: ID!): Droid\n"
+            + "}\n"
+            + "enum Episode { NEWHOPE EMPIRE JEDI }\n"
+            + "interface Character { id: ID! name: String friends: [Character] appearsIn: [Episode] }\n"
+            + "type Human implements Character {\n"
+            + "  id: ID! name: String friends: [Character] appearsIn: [Episode] homePlanet: String\n"
+            + "}\n"
+            + "type Droid implements Character {\n"
+            + "  id: ID! name: String friends: [Character] appearsIn: [Episode] primaryFunction: String\n"
+            + "}\n";
+
+    private static final String QUERY = "query HeroAndDroid {\n"
+            + "  hero(episode: EMPIRE) { name friends { name appearsIn friends { name } } }\n"
+            + "  droid(id: \"2001\") { name primaryFunction appearsIn }\n"
+            + "}";
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private API api;
+
+    @Setup
+    public void setup() {
+        CacheDto cacheDto = new CacheDto();
+        cacheDto.setEnabled(cacheEnabled);
+        cacheDto.setMaximumSize(10000);
+        cacheDto.setExpiryTime(15);
+        ConfigHolder.getInstance().getConfig().setCacheDto(cacheDto);
+        CacheProvider.init();
+        TypeDefinitionRegistry registry = new SchemaParser().parse(SCHEMA);
+        GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
+        GraphQLSchemaDTO graphQLSchemaDTO = new GraphQLSchemaDTO(schema, registry, Collections.emptyList());
+        api = StaticAPI.createGraphQLAPI(graphQLSchemaDTO, Arrays.asList("hero", "human", "droid"));
+    }
+
+    @Benchmark
+    public ArrayList<ResourceConfig> buildGQLRequestContext() throws EnforcerException {
+        return GraphQLPayloadUtils.buildGQLRequestContext(api, QUERY);
+    }
+}
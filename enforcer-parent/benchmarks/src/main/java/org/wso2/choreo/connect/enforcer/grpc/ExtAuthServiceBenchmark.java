@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.grpc;
+
+import io.envoyproxy.envoy.service.auth.v3.AttributeContext;
+import io.envoyproxy.envoy.service.auth.v3.CheckRequest;
+import io.envoyproxy.envoy.service.auth.v3.CheckResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.choreo.connect.enforcer.api.ResponseObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of the result of the filter chain to the response sent back to the router.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExtAuthServiceBenchmark {
+
+    private static final String REQUEST_PATH = "/petstore/v1/pet/42?status=available&apikey=c2VjcmV0";
+
+    private ExtAuthService extAuthService;
+    private CheckRequest checkRequest;
+    private ResponseObject okResponse;
+    private ResponseObject okResponseWithQueryParamsToRemove;
+
+    @Setup
+    public void setup() {
+        extAuthService = new ExtAuthService();
+        checkRequest = CheckRequest.newBuilder().setAttributes(AttributeContext.newBuilder()
+                .setRequest(AttributeContext.Request.newBuilder()
+                        .setHttp(AttributeContext.HttpRequest.newBuilder()
+                                .setId("8b6f3b4c-5e6b-4a5e-9a4f-0e2f1c9d7a11")
+                                .setMethod("GET")
+                                .setPath(REQUEST_PATH)
+                                .putHeaders(":authority", "localhost:9095")
+                                .putHeaders("accept", "application/json")))).build();
+        okResponse = createOkResponse();
+        okResponseWithQueryParamsToRemove = createOkResponse();
+        ArrayList<String> queryParamsToRemove = new ArrayList<>();
+        queryParamsToRemove.add("apikey");
+        okResponseWithQueryParamsToRemove.setQueryParamsToRemove(queryParamsToRemove);
+    }
+
+    private static ResponseObject createOkResponse() {
+        ResponseObject responseObject = new ResponseObject("8b6f3b4c-5e6b-4a5e-9a4f-0e2f1c9d7a11");
+        responseObject.setStatusCode(200);
+        responseObject.setRequestPath(REQUEST_PATH);
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("status", "available");
+        queryParams.put("apikey", "c2VjcmV0");
+        responseObject.setQueryParamMap(queryParams);
+        responseObject.setQueryParamsToAdd(new HashMap<>());
+        Map<String, String> headers = new HashMap<>();
+        headers.put("x-wso2-cluster-header", "carbon.super_clusterProd_localhost_petstore1.0.0");
+        headers.put("x-jwt-assertion", "eyJhbGciOiJSUzI1NiJ9.e30.c2lnbmF0dXJl");
+        responseObject.setHeaderMap(headers);
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("x-wso2-api-name", "PetStore");
+        metadata.put("x-wso2-api-version", "1.0.0");
+        metadata.put("x-wso2-application-id", "f3b5e7a2-1c4d-4e8f-9a6b-2d7c8e9f0a1b");
+        metadata.put("x-wso2-subscriber", "admin");
+        responseObject.setMetaDataMap(metadata);
+        return responseObject;
+    }
+
+    @Benchmark
+    public CheckResponse buildOkResponse() {
+        return extAuthService.buildResponse(checkRequest, okResponse);
+    }
+
+    @Benchmark
+    public CheckResponse buildOkResponseRemovingQueryParams() {
+        return extAuthService.buildResponse(checkRequest, okResponseWithQueryParamsToRemove);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWKSConfigurationDTO;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.ExtendedTokenIssuerDto;
+import org.wso2.choreo.connect.enforcer.security.jwt.SignedJWTInfo;
+import org.wso2.choreo.connect.enforcer.util.JWTUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of self contained access tokens signed with RSA and EC keys, where the public keys
+ * are published by a JWKS endpoint served locally.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTValidatorBenchmark {
+
+    private static final String ISSUER = "https://localhost:9443/oauth2/token";
+    private static final String RSA_KEY_ID = "rsa-key";
+    private static final String EC_KEY_ID = "ec-key";
+
+    @Param({"RS256", "ES256"})
+    private String algorithm;
+
+    private HttpServer jwksServer;
+    private JWTValidator jwtValidator;
+    private JWSVerifier verifier;
+    private String token;
+    private SignedJWTInfo signedJWTInfo;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        KeyPairGenerator rsaGenerator = KeyPairGenerator.getInstance("RSA");
+        rsaGenerator.initialize(2048);
+        KeyPair rsaKeyPair = rsaGenerator.generateKeyPair();
+        KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+        ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair ecKeyPair = ecGenerator.generateKeyPair();
+
+        JWKSet jwkSet = new JWKSet(Arrays.asList(
+                new RSAKey.Builder((RSAPublicKey) rsaKeyPair.getPublic()).keyID(RSA_KEY_ID).build(),
+                new ECKey.Builder(Curve.P_256, (ECPublicKey) ecKeyPair.getPublic()).keyID(EC_KEY_ID).build()));
+        String jwksEndpoint = startJWKSServer(jwkSet.toString());
+
+        ExtendedTokenIssuerDto tokenIssuer = new ExtendedTokenIssuerDto(ISSUER);
+        tokenIssuer.setName("Resident Key Manager");
+        JWKSConfigurationDTO jwksConfiguration = new JWKSConfigurationDTO();
+        jwksConfiguration.setEnabled(true);
+        jwksConfiguration.setUrl(jwksEndpoint);
+        tokenIssuer.setJwksConfigurationDTO(jwksConfiguration);
+        Map<String, ExtendedTokenIssuerDto> issuers = new HashMap<>();
+        issuers.put(ISSUER, tokenIssuer);
+        ConfigHolder.getInstance().getConfig().setIssuersMap(issuers);
+
+        JWSSigner signer;
+        JWSHeader header;
+        if (JWSAlgorithm.ES256.getName().equals(algorithm)) {
+            signer = new ECDSASigner((ECPrivateKey) ecKeyPair.getPrivate());
+            header = new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(EC_KEY_ID).build();
+        } else {
+            signer = new RSASSASigner((RSAPrivateKey) rsaKeyPair.getPrivate());
+            header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(RSA_KEY_ID).build();
+        }
+        token = createToken(header, signer);
+        SignedJWT signedJWT = SignedJWT.parse(token);
+        signedJWTInfo = new SignedJWTInfo(token, signedJWT, signedJWT.getJWTClaimsSet());
+        verifier = JWKSManager.getInstance().getVerifier(jwksEndpoint, header.getKeyID());
+        jwtValidator = new JWTValidator();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jwksServer.stop(0);
+    }
+
+    private String startJWKSServer(String jwks) throws IOException {
+        byte[] response = jwks.getBytes(StandardCharsets.UTF_8);
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/oauth2/jwks", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        jwksServer.start();
+        return "http://localhost:" + jwksServer.getAddress().getPort() + "/oauth2/jwks";
+    }
+
+    private static String createToken(JWSHeader header, JWSSigner signer) throws JOSEException {
+        long now = System.currentTimeMillis();
+        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("admin@carbon.super")
+                .audience("petstore-client")
+                .issueTime(new Date(now))
+                .expirationTime(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("scope", "read:pets write:pets")
+                .claim("groups", Collections.singletonList("admin"))
+                .build();
+        SignedJWT signedJWT = new SignedJWT(header, claimsSet);
+        signedJWT.sign(signer);
+        return signedJWT.serialize();
+    }
+
+    @Benchmark
+    public SignedJWT parse() throws ParseException {
+        return SignedJWT.parse(token);
+    }
+
+    @Benchmark
+    public boolean parseAndVerify() throws ParseException {
+        return JWTUtils.verifyTokenSignature(SignedJWT.parse(token), verifier);
+    }
+
+    @Benchmark
+    public JWTValidationInfo validateJWTToken() throws EnforcerException {
+        return jwtValidator.validateJWTToken(signedJWTInfo);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.choreo.connect.discovery.throttle.IPCondition;
+import org.wso2.choreo.connect.enforcer.api.StaticAPI;
+import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
+import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.ThrottleConfigDto;
+import org.wso2.choreo.connect.enforcer.throttle.dto.Decision;
+import org.wso2.choreo.connect.enforcer.throttle.dto.ThrottleCondition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of the throttle decisions received from the traffic manager, which is done by the
+ * throttle filter for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThrottleDataHolderBenchmark {
+
+    private static final int THROTTLED_KEY_COUNT = 10000;
+    private static final int CUSTOM_POLICY_COUNT = 20;
+    private static final int BLOCKED_IP_RANGE_COUNT = 5000;
+    private static final String THROTTLED_KEY = "/petstore/v1:1.0.0:app42";
+    private static final String UNTHROTTLED_KEY = "/petstore/v1:1.0.0:app-unknown";
+    private static final String ADVANCED_KEY = "/petstore/v1:1.0.0:/resource5/{id}:GET";
+
+    private ThrottleDataHolder throttleDataHolder;
+    private RequestContext matchingContext;
+    private RequestContext nonMatchingContext;
+
+    @Setup
+    public void setup() {
+        ThrottleConfigDto throttleConfig = new ThrottleConfigDto();
+        throttleConfig.setHeaderConditionsEnabled(true);
+        throttleConfig.setQueryConditionsEnabled(true);
+        ConfigHolder.getInstance().getConfig().setThrottleConfig(throttleConfig);
+
+        throttleDataHolder = ThrottleDataHolder.getInstance();
+        long resetAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        for (int i = 0; i < THROTTLED_KEY_COUNT; i++) {
+            throttleDataHolder.addThrottleData("/petstore/v1:1.0.0:app" + i, resetAt);
+        }
+
+        ThrottleCondition headerCondition = new ThrottleCondition();
+        ThrottleCondition.HeaderConditions headerConditions = new ThrottleCondition.HeaderConditions();
+        headerConditions.setValues(Collections.singletonMap("x-tier", "free"));
+        headerCondition.setHeaderConditions(headerConditions);
+        throttleDataHolder.addThrottledConditions(ADVANCED_KEY, "condition_0",
+                Collections.singletonList(headerCondition));
+
+        ThrottleCondition queryCondition = new ThrottleCondition();
+        ThrottleCondition.QueryParamConditions queryParamConditions = new ThrottleCondition.QueryParamConditions();
+        queryParamConditions.setValues(Collections.singletonMap("limit", "1000"));
+        queryCondition.setQueryParameterConditions(queryParamConditions);
+        throttleDataHolder.addThrottledConditions(ADVANCED_KEY, "condition_1",
+                Collections.singletonList(queryCondition));
+        throttleDataHolder.addThrottleData(ADVANCED_KEY + "_condition_0", resetAt);
+        throttleDataHolder.addThrottleData(ADVANCED_KEY + "_condition_1", resetAt);
+
+        Map<String, String> keyTemplates = new HashMap<>();
+        for (int i = 0; i < CUSTOM_POLICY_COUNT; i++) {
+            String template = "$userId:$apiContext:$apiVersion:$customProperty.region:policy" + i;
+            keyTemplates.put(template, template);
+        }
+        throttleDataHolder.addKeyTemplates(keyTemplates);
+
+        List<IPCondition> ipConditions = new ArrayList<>();
+        for (int i = 0; i < BLOCKED_IP_RANGE_COUNT; i++) {
+            String network = "10." + (i / 256) + "." + (i % 256) + ".";
+            ipConditions.add(IPCondition.newBuilder().setId(i).setTenantDomain("carbon.super")
+                    .setType(ThrottleConstants.BLOCK_CONDITION_IP_RANGE).setStartingIp(network + "0")
+                    .setEndingIp(network + "255").build());
+        }
+        throttleDataHolder.addIpBlockingConditions(ipConditions);
+
+        APIConfig apiConfig = StaticAPI.createRestAPI(10).getAPIConfig();
+        matchingContext = createRequestContext(apiConfig, "free");
+        nonMatchingContext = createRequestContext(apiConfig, "gold");
+    }
+
+    private static RequestContext createRequestContext(APIConfig apiConfig, String tier) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("accept", "application/json");
+        headers.put("x-tier", tier);
+        return new RequestContext.Builder("/petstore/v1/resource5/42?limit=10")
+                .matchedAPI(apiConfig)
+                .headers(headers)
+                .pathTemplate("/resource5/{id}")
+                .requestMethod("GET")
+                .address("192.168.1.10")
+                .build();
+    }
+
+    @Benchmark
+    public Decision isThrottledHit() {
+        return throttleDataHolder.isThrottled(THROTTLED_KEY);
+    }
+
+    @Benchmark
+    public Decision isThrottledMiss() {
+        return throttleDataHolder.isThrottled(UNTHROTTLED_KEY);
+    }
+
+    @Benchmark
+    public Decision isAdvancedThrottledMatchingCondition() {
+        return throttleDataHolder.isAdvancedThrottled(ADVANCED_KEY, matchingContext);
+    }
+
+    @Benchmark
+    public Decision isAdvancedThrottledNonMatchingCondition() {
+        return throttleDataHolder.isAdvancedThrottled(ADVANCED_KEY, nonMatchingContext);
+    }
+
+    @Benchmark
+    public Decision isThrottledByCustomPolicy() {
+        return throttleDataHolder.isThrottledByCustomPolicy("admin", ADVANCED_KEY, "/petstore/v1", "1.0.0",
+                "carbon.super", "carbon.super", 42, "192.168.1.10", "region=us-east tier=gold");
+    }
+
+    @Benchmark
+    public boolean isRequestBlockedByIp() {
+        return throttleDataHolder.isRequestBlocked("/petstore/v1:1.0.0", "admin:app42", "admin",
+                "192.168.1.10", "/petstore/v1:1.0.0:admin:app42", "carbon.super");
+    }
+}
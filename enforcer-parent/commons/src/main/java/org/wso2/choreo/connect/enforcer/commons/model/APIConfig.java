@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * APIConfig contains the details related to the MatchedAPI for the inbound request.
@@ -51,6 +52,10 @@ public class APIConfig {
     private boolean applicationSecurity;
     private GraphQLSchemaDTO graphQLSchemaDTO;
     private String endpointType;
+    // resource path template -> resources defined for the path template (one per HTTP method)
+    private Map<String, List<ResourceConfig>> resourcesByPath = new HashMap<>();
+    // complete path template (including the basePath) -> compiled path parameter resolver
+    private final Map<String, ParameterResolver> parameterResolvers = new ConcurrentHashMap<>();
 
     /**
      * getApiType returns the API type. This could be one of the following.
@@ -193,6 +198,46 @@ public class APIConfig {
         return resources;
     }
 
+    /**
+     * Returns the resource matching the given path template and HTTP method. The lookup is done using
+     * an index built when the API is deployed, instead of scanning the resource list for each request.
+     *
+     * @param pathTemplate path template of the resource (as listed in OpenAPI)
+     * @param method       HTTP method of the request. If null, the first resource of the path template is returned.
+     * @return matching resource or null if there is no matching resource
+     */
+    public ResourceConfig getMatchedResource(String pathTemplate, String method) {
+        List<ResourceConfig> resourcesOfPath = resourcesByPath.get(pathTemplate);
+        if (resourcesOfPath == null) {
+            return null;
+        }
+        if (method == null) {
+            return resourcesOfPath.get(0);
+        }
+        ResourceConfig.HttpMethods httpMethod = ResourceConfig.HttpMethods.valueOf(method);
+        for (ResourceConfig resourceConfig : resourcesOfPath) {
+            if (resourceConfig.getMethod() == httpMethod) {
+                return resourceConfig;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the compiled path parameter resolver for the complete path template. Resolvers are compiled
+     * once per path template and reused by the subsequent requests.
+     *
+     * @param completePathTemplate path template including the basePath of the API
+     * @return path parameter resolver
+     */
+    ParameterResolver getParameterResolver(String completePathTemplate) {
+        ParameterResolver parameterResolver = parameterResolvers.get(completePathTemplate);
+        if (parameterResolver == null) {
+            parameterResolver = parameterResolvers.computeIfAbsent(completePathTemplate, ParameterResolver::new);
+        }
+        return parameterResolver;
+    }
+
     /**
      * Returns whether a given API is a mocked API or not.
      *
@@ -423,6 +468,12 @@ public class APIConfig {
             apiConfig.applicationSecurity = this.applicationSecurity;
             apiConfig.graphQLSchemaDTO = this.graphQLSchemaDTO;
             apiConfig.endpointType = this.endpointType;
+            if (this.resources != null) {
+                for (ResourceConfig resource : this.resources) {
+                    apiConfig.resourcesByPath.computeIfAbsent(resource.getPath(), path -> new ArrayList<>())
+                            .add(resource);
+                }
+            }
             return apiConfig;
         }
     }
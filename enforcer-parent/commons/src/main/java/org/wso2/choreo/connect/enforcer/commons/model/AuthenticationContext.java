@@ -257,7 +257,6 @@ public class AuthenticationContext {
 
     /**
      * Get Spike Arrest Time Unit if provided under the matched subscription.
-     * (Currently not supported in Throttle Filter)
      *
      * @return Spike Arrest Time Unit
      */
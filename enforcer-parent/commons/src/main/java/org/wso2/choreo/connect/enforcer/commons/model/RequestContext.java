@@ -23,6 +23,9 @@ import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -42,11 +45,14 @@ public class RequestContext {
     private String requestMethod;
     private ArrayList<ResourceConfig> matchedResourcePaths;
     private Map<String, String> headers;
-    private Map<String, Object> properties = new HashMap<>();
+    private Map<String, Object> properties;
     private AuthenticationContext authenticationContext;
     private String requestID;
     private String clientIp;
     private String requestPayload;
+    // Raw request body. The payload string is decoded from it on the first access.
+    private ByteBuffer requestBody;
+    private boolean requestPayloadDecoded;
     private String clientCertificate;
     // Denotes the cluster header name for each environment. Both properties can be null if
     // the openAPI has production endpoints alone.
@@ -54,13 +60,15 @@ public class RequestContext {
     private String sandClusterHeader;
     //Denotes the specific headers which needs to be passed to response object
     private Map<String, String> addHeaders;
-    private Map<String, String> metadataMap = new HashMap<>();
+    private Map<String, String> metadataMap;
     private String requestPathTemplate;
     private ArrayList<String> removeHeaders;
     // Consist of web socket frame related data like frame length, remote IP
     private WebSocketFrameContext webSocketFrameContext;
+    // Query and path parameters are resolved on the first access, as most of the filters do not read them.
     private Map<String, String> queryParameters;
     private Map<String, String> pathParameters;
+    private boolean pathParametersResolved;
     private ArrayList<String> queryParamsToRemove;
     private boolean removeAllQueryParams;
     private Map<String, String> queryParamsToAdd;
@@ -77,6 +85,9 @@ public class RequestContext {
      * @return dynamic metadata map
      */
     public Map<String, String> getMetadataMap() {
+        if (metadataMap == null) {
+            metadataMap = new HashMap<>();
+        }
         return metadataMap;
     }
 
@@ -88,7 +99,7 @@ public class RequestContext {
      * @param value metadata value
      */
     public void addMetadataToMap(String key, String value) {
-        metadataMap.put(key, value);
+        getMetadataMap().put(key, value);
     }
 
     /**
@@ -150,6 +161,10 @@ public class RequestContext {
      * @return Map contains path parameter name and assigned path param value in the request.
      */
     public Map<String, String> getPathParameters() {
+        if (!pathParametersResolved) {
+            pathParameters = populatePathParameters(matchedAPI.getBasePath(), requestPathTemplate, requestPath);
+            pathParametersResolved = true;
+        }
         return pathParameters;
     }
 
@@ -176,13 +191,51 @@ public class RequestContext {
 
     /**
      * Returns the request payload (request data submitted with the request).
+     * <p>
+     * Note:
+     * The payload is decoded from the request body on the first invocation. If the payload is not required as a
+     * string, use {@link #getRequestBody()} to avoid decoding it.
      *
-     * @return request payload (data).
+     * @return request payload (data), or null if the payload is not valid UTF-8.
      */
     public String getRequestPayload() {
+        if (!requestPayloadDecoded) {
+            if (requestPayload == null && requestBody != null) {
+                requestPayload = decodeUtf8(requestBody.duplicate());
+            }
+            requestPayloadDecoded = true;
+        }
         return requestPayload;
     }
 
+    /**
+     * Returns a read only view of the request body, without copying or decoding it. Each invocation returns
+     * a new view, hence reading from the returned buffer does not affect the other readers.
+     *
+     * @return request body, or null if the request does not have a body.
+     */
+    public ByteBuffer getRequestBody() {
+        if (requestBody != null) {
+            return requestBody.asReadOnlyBuffer();
+        }
+        if (requestPayload != null) {
+            return ByteBuffer.wrap(requestPayload.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        }
+        return null;
+    }
+
+    private static String decodeUtf8(ByteBuffer buffer) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(buffer).toString();
+        } catch (CharacterCodingException e) {
+            logger.debug("Request payload is not valid UTF-8", e);
+            return null;
+        }
+    }
+
     /**
      * Returns the client certificate.
      *
@@ -255,6 +308,9 @@ public class RequestContext {
      * @return property map.
      */
     public Map<String, Object> getProperties() {
+        if (properties == null) {
+            properties = new HashMap<>();
+        }
         return properties;
     }
 
@@ -320,6 +376,17 @@ public class RequestContext {
      * @return query parameters as a map of {@code <param_name, param_value>}
      */
     public Map<String, String> getQueryParameters() {
+        if (queryParameters == null) {
+            queryParameters = new HashMap<>();
+            int queryIndex = requestPath.indexOf('?');
+            if (queryIndex >= 0) {
+                List<NameValuePair> queryParams = URLEncodedUtils.parse(requestPath.substring(queryIndex + 1),
+                        StandardCharsets.UTF_8);
+                for (NameValuePair param : queryParams) {
+                    queryParameters.put(param.getName(), param.getValue());
+                }
+            }
+        }
         return queryParameters;
     }
 
@@ -393,6 +460,43 @@ public class RequestContext {
         this.clientCertificate = clientCertificate;
     }
 
+    /**
+     * Create and populate path parameters map.
+     *
+     * @param basePath         basePath of the API
+     * @param resourceTemplate resourceTemplate (as listed in OpenAPI)
+     * @param rawPath          raw request Path
+     * @return map which contains path parameters
+     */
+    private Map<String, String> populatePathParameters(String basePath, String resourceTemplate,
+                                                       String rawPath) {
+        if (resourceTemplate == null || rawPath == null) {
+            logger.debug("Skip populating the path parameters. template: {}, rawPath: {}", resourceTemplate,
+                    rawPath);
+            return null;
+        }
+        // Format the basePath and resourcePath to maintain consistency
+        String formattedBasePath = basePath.startsWith("/") ? basePath : "/" + basePath;
+        formattedBasePath = formattedBasePath.endsWith("/") ?
+                formattedBasePath.substring(0, formattedBasePath.length() - 1) : formattedBasePath;
+        String formattedResourcePathTemplate = resourceTemplate.startsWith("/") ?
+                resourceTemplate : "/" + resourceTemplate;
+        int queryIndex = rawPath.indexOf('?');
+        String formattedRawPath = queryIndex >= 0 ? rawPath.substring(0, queryIndex) : rawPath;
+
+        String completeResourcePathTemplate = formattedBasePath + formattedResourcePathTemplate;
+        // rawPath would not have the prefix <formattedBasePath> only when it is a default api
+        // request.
+        if (!formattedRawPath.startsWith(formattedBasePath)) {
+            // formatted basePath does not have a trailing slash. Hence the last slash appears right
+            // before the version.
+            String apiContext = formattedBasePath.substring(0, formattedBasePath.lastIndexOf("/"));
+            completeResourcePathTemplate = apiContext + formattedResourcePathTemplate;
+        }
+        final ParameterResolver parameterResolver = matchedAPI.getParameterResolver(completeResourcePathTemplate);
+        return parameterResolver.parametersByName(formattedRawPath);
+    }
+
     /**
      * Implements builder pattern to build an {@link RequestContext} object.
      */
@@ -406,11 +510,11 @@ public class RequestContext {
         private String prodClusterHeader;
         private String sandClusterHeader;
         private long requestTimeStamp;
-        private Map<String, Object> properties = new HashMap<>();
         private AuthenticationContext authenticationContext = new AuthenticationContext();
         private String requestID;
         private String clientIp;
         private String requestPayload;
+        private ByteBuffer requestBody;
         private String clientCertificate;
         private WebSocketFrameContext webSocketFrameContext;
 
@@ -487,6 +591,11 @@ public class RequestContext {
             return this;
         }
 
+        public Builder requestBody(ByteBuffer requestBody) {
+            this.requestBody = requestBody;
+            return this;
+        }
+
         public RequestContext build() {
             RequestContext requestContext = new RequestContext();
             requestContext.matchedResourcePaths = this.matchedResourceConfigs;
@@ -496,13 +605,13 @@ public class RequestContext {
             requestContext.headers = this.headers;
             requestContext.prodClusterHeader = this.prodClusterHeader;
             requestContext.sandClusterHeader = this.sandClusterHeader;
-            requestContext.properties = this.properties;
             requestContext.requestPathTemplate = this.requestPathTemplate;
             requestContext.requestTimeStamp = this.requestTimeStamp;
             requestContext.authenticationContext = this.authenticationContext;
             requestContext.requestID = this.requestID;
             requestContext.clientIp = this.clientIp;
             requestContext.requestPayload = this.requestPayload;
+            requestContext.requestBody = this.requestBody;
             requestContext.clientCertificate = this.clientCertificate;
             requestContext.addHeaders = new HashMap<>();
             requestContext.removeHeaders = new ArrayList<>();
@@ -510,17 +619,6 @@ public class RequestContext {
             requestContext.removeAllQueryParams = false;
             requestContext.queryParamsToAdd = new HashMap<>();
             requestContext.protectedHeaders = new ArrayList<>();
-            String[] queryParts = this.requestPath.split("\\?");
-            String queryParamsString = queryParts.length > 1 ? queryParts[1] : "";
-
-            requestContext.queryParameters = new HashMap<>();
-            List<NameValuePair> queryParams = URLEncodedUtils.parse(queryParamsString, StandardCharsets.UTF_8);
-            for (NameValuePair param : queryParams) {
-                requestContext.queryParameters.put(param.getName(), param.getValue());
-            }
-
-            requestContext.pathParameters = populatePathParameters(
-                    matchedAPI.getBasePath(), requestPathTemplate, this.requestPath);
 
             if (this.webSocketFrameContext != null) {
                 requestContext.webSocketFrameContext = this.webSocketFrameContext;
@@ -532,41 +630,5 @@ public class RequestContext {
             this.requestPathTemplate = requestPathTemplate;
             return this;
         }
-
-        /**
-         * Create and populate path parameters map.
-         *
-         * @param basePath         basePath of the API
-         * @param resourceTemplate resourceTemplate (as listed in OpenAPI)
-         * @param rawPath          raw request Path
-         * @return map which contains path parameters
-         */
-        private Map<String, String> populatePathParameters(String basePath, String resourceTemplate,
-                                                           String rawPath) {
-            if (resourceTemplate == null || rawPath == null) {
-                logger.debug("Skip populating the path parameters. template: {}, rawPath: {}", resourceTemplate,
-                        rawPath);
-                return null;
-            }
-            // Format the basePath and resourcePath to maintain consistency
-            String formattedBasePath = basePath.startsWith("/") ? basePath : "/" + basePath;
-            formattedBasePath = formattedBasePath.endsWith("/") ?
-                    formattedBasePath.substring(0, formattedBasePath.length() - 1) : formattedBasePath;
-            String formattedResourcePathTemplate = resourceTemplate.startsWith("/") ?
-                    resourceTemplate : "/" + resourceTemplate;
-            String formattedRawPath = rawPath.split("\\?")[0];
-
-            String completeResourcePathTemplate = formattedBasePath + formattedResourcePathTemplate;
-            // rawPath would not have the prefix <formattedBasePath> only when it is a default api
-            // request.
-            if (!formattedRawPath.startsWith(formattedBasePath)) {
-                // formatted basePath does not have a trailing slash. Hence the last slash appears right
-                // before the version.
-                String apiContext = formattedBasePath.substring(0, formattedBasePath.lastIndexOf("/"));
-                completeResourcePathTemplate = apiContext + formattedResourcePathTemplate;
-            }
-            final ParameterResolver parameterResolver = new ParameterResolver(completeResourcePathTemplate);
-            return parameterResolver.parametersByName(formattedRawPath);
-        }
     }
 }
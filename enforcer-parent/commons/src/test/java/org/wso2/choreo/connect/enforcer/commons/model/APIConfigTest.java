@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org).
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.commons.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class APIConfigTest {
+
+    @Test
+    public void testGetMatchedResource() {
+        APIConfig apiConfig = buildAPIConfig();
+        ResourceConfig getPet = apiConfig.getMatchedResource("/pet/{petId}", "GET");
+        Assert.assertNotNull(getPet);
+        Assert.assertEquals(ResourceConfig.HttpMethods.GET, getPet.getMethod());
+        ResourceConfig deletePet = apiConfig.getMatchedResource("/pet/{petId}", "DELETE");
+        Assert.assertNotNull(deletePet);
+        Assert.assertEquals(ResourceConfig.HttpMethods.DELETE, deletePet.getMethod());
+        Assert.assertNull(apiConfig.getMatchedResource("/pet/{petId}", "POST"));
+        Assert.assertNull(apiConfig.getMatchedResource("/store", "GET"));
+    }
+
+    @Test
+    public void testGetMatchedResourceWithoutMethod() {
+        APIConfig apiConfig = buildAPIConfig();
+        ResourceConfig resourceConfig = apiConfig.getMatchedResource("/pet/{petId}", null);
+        Assert.assertNotNull(resourceConfig);
+        Assert.assertEquals(ResourceConfig.HttpMethods.GET, resourceConfig.getMethod());
+    }
+
+    private APIConfig buildAPIConfig() {
+        List<ResourceConfig> resources = new ArrayList<>();
+        resources.add(buildResource("/pet", ResourceConfig.HttpMethods.POST));
+        resources.add(buildResource("/pet/{petId}", ResourceConfig.HttpMethods.GET));
+        resources.add(buildResource("/pet/{petId}", ResourceConfig.HttpMethods.DELETE));
+        return new APIConfig.Builder("Petstore").basePath("/v2").resources(resources).build();
+    }
+
+    private ResourceConfig buildResource(String path, ResourceConfig.HttpMethods method) {
+        ResourceConfig resourceConfig = new ResourceConfig();
+        resourceConfig.setPath(path);
+        resourceConfig.setMethod(method);
+        return resourceConfig;
+    }
+}
@@ -20,6 +20,9 @@ package org.wso2.choreo.connect.enforcer.commons.model;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 public class RequestContextTest {
 
     public RequestContextTest() {}
@@ -107,6 +110,37 @@ public class RequestContextTest {
                 "petId", "12");
     }
 
+    @Test
+    public void testQueryParameters() {
+        RequestContext.Builder builder = new RequestContext.Builder("/v2/pet/12?status=available&name=a%20b");
+        builder.matchedAPI(new APIConfig.Builder("Petstore").basePath("/v2").build());
+        builder.pathTemplate("/pet/{petId}");
+        RequestContext requestContext = builder.build();
+        Assert.assertEquals(2, requestContext.getQueryParameters().size());
+        Assert.assertEquals("available", requestContext.getQueryParameters().get("status"));
+        Assert.assertEquals("a b", requestContext.getQueryParameters().get("name"));
+        Assert.assertEquals("12", requestContext.getPathParameters().get("petId"));
+
+        builder = new RequestContext.Builder("/v2/pet/12");
+        builder.matchedAPI(new APIConfig.Builder("Petstore").basePath("/v2").build());
+        Assert.assertTrue(builder.build().getQueryParameters().isEmpty());
+    }
+
+    @Test
+    public void testRequestPayloadIsDecodedFromBody() {
+        ByteBuffer body = ByteBuffer.wrap("{\"name\": \"pet\"}".getBytes(StandardCharsets.UTF_8));
+        RequestContext requestContext = new RequestContext.Builder("/v2/pet")
+                .matchedAPI(new APIConfig.Builder("Petstore").basePath("/v2").build())
+                .requestBody(body.asReadOnlyBuffer()).build();
+        Assert.assertEquals(body, requestContext.getRequestBody());
+        Assert.assertEquals("{\"name\": \"pet\"}", requestContext.getRequestPayload());
+
+        requestContext = new RequestContext.Builder("/v2/pet")
+                .matchedAPI(new APIConfig.Builder("Petstore").basePath("/v2").build())
+                .requestBody(ByteBuffer.wrap(new byte[]{(byte) 0xc3, (byte) 0x28})).build();
+        Assert.assertNull(requestContext.getRequestPayload());
+    }
+
     private void testPathParamValues(String rawPath, String basePath, String pathTemplate, String pathParamName,
                                      String expectedValue) {
         RequestContext.Builder builder = new RequestContext.Builder(rawPath);
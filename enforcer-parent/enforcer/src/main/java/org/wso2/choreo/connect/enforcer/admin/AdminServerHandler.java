@@ -17,43 +17,46 @@
  */
 package org.wso2.choreo.connect.enforcer.admin;
 
-import io.grpc.netty.shaded.io.netty.buffer.Unpooled;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBuf;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufOutputStream;
 import io.grpc.netty.shaded.io.netty.channel.ChannelHandlerContext;
 import io.grpc.netty.shaded.io.netty.channel.ChannelInboundHandlerAdapter;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpRequest;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpMethod;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpVersion;
 import io.grpc.netty.shaded.io.netty.util.CharsetUtil;
 import org.apache.http.protocol.HTTP;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.wso2.choreo.connect.enforcer.admin.handlers.APIRequestHandler;
 import org.wso2.choreo.connect.enforcer.admin.handlers.ApplicationRequestHandler;
 import org.wso2.choreo.connect.enforcer.admin.handlers.RequestHandler;
 import org.wso2.choreo.connect.enforcer.admin.handlers.RevokedTokensRequestHandler;
 import org.wso2.choreo.connect.enforcer.admin.handlers.SubscriptionRequestHandler;
 import org.wso2.choreo.connect.enforcer.admin.handlers.ThrottlingPolicyRequestHandler;
-import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
-import org.wso2.choreo.connect.enforcer.config.dto.ManagementCredentialsDto;
 import org.wso2.choreo.connect.enforcer.constants.AdminConstants;
 import org.wso2.choreo.connect.enforcer.constants.HttpConstants;
 import org.wso2.choreo.connect.enforcer.models.ResponsePayload;
 
-import java.util.Base64;
+import java.io.IOException;
+import java.io.OutputStream;
 
 import static org.wso2.choreo.connect.enforcer.security.jwt.validator.JWTConstants.AUTHORIZATION;
 /**
  * Netty handler implementation for admin server.
  */
 public class AdminServerHandler extends ChannelInboundHandlerAdapter {
+    private static final Logger log = LogManager.getLogger(AdminServerHandler.class);
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
 
         FullHttpRequest request;
         ResponsePayload responsePayload;
-        boolean isAuthorized = false;
 
         if (msg instanceof FullHttpRequest) {
             request = (FullHttpRequest) msg;
@@ -75,28 +78,9 @@ public class AdminServerHandler extends ChannelInboundHandlerAdapter {
             responsePayload = AdminUtils.buildResponsePayload(error, HttpResponseStatus.UNAUTHORIZED, true);
             buildAndSendResponse(ctx, responsePayload);
             return;
-        } else if (authHeader.toLowerCase().startsWith(HttpConstants.BASIC_LOWER)) {
-            try {
-                // Authorization: Basic base64credentials
-                String base64Credentials = authHeader.substring(HttpConstants.BASIC_LOWER.length()).trim();
-                byte[] credDecoded = Base64.getDecoder().decode(base64Credentials);
-                String credentials = new String(credDecoded, CharsetUtil.UTF_8);
-                // credentials = username:password
-                final String[] values = credentials.split(":", 2);
-
-                ManagementCredentialsDto managementCredentials = ConfigHolder.getInstance().getConfig()
-                        .getManagement();
-                isAuthorized = values[0].equals(managementCredentials.getUserName())
-                        && values[1].equals(new String(managementCredentials.getPassword()));
-            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
-                String error = AdminConstants.ErrorMessages.INTERNAL_SERVER_ERROR;
-                responsePayload = AdminUtils.buildResponsePayload(error, HttpResponseStatus.UNAUTHORIZED, true);
-                buildAndSendResponse(ctx, responsePayload);
-                return;
-            }
         }
 
-        if (!isAuthorized) {
+        if (!AdminUtils.hasManagementCredentials(authHeader)) {
             String error = AdminConstants.ErrorMessages.UNAUTHORIZED_ERROR;
             responsePayload = AdminUtils.buildResponsePayload(error, HttpResponseStatus.UNAUTHORIZED, true);
             buildAndSendResponse(ctx, responsePayload);
@@ -116,42 +100,52 @@ public class AdminServerHandler extends ChannelInboundHandlerAdapter {
                 params = uriSections[1].split("&");
             }
             RequestHandler requestHandler;
+            String requestType;
 
             switch (baseURI) {
                 case AdminConstants.AdminResources.API_INFO:
                     requestHandler = new APIRequestHandler();
-                    responsePayload = requestHandler.handleRequest(params, AdminConstants.API_INFO_TYPE);
+                    requestType = AdminConstants.API_INFO_TYPE;
                     break;
                 case AdminConstants.AdminResources.APIS:
                     requestHandler = new APIRequestHandler();
-                    responsePayload = requestHandler.handleRequest(params, AdminConstants.API_TYPE);
+                    requestType = AdminConstants.API_TYPE;
                     break;
                 case AdminConstants.AdminResources.APPLICATIONS:
                     requestHandler = new ApplicationRequestHandler();
-                    responsePayload = requestHandler.handleRequest(params, AdminConstants.APPLICATION_TYPE);
+                    requestType = AdminConstants.APPLICATION_TYPE;
                     break;
                 case AdminConstants.AdminResources.SUBSCRIPTIONS:
                     requestHandler = new SubscriptionRequestHandler();
-                    responsePayload = requestHandler.handleRequest(params, AdminConstants.SUBSCRIPTION_TYPE);
+                    requestType = AdminConstants.SUBSCRIPTION_TYPE;
                     break;
                 case AdminConstants.AdminResources.APPLICATION_THROTTLING_POLICIES:
                     requestHandler = new ThrottlingPolicyRequestHandler();
-                    responsePayload = requestHandler.handleRequest(params,
-                            AdminConstants.APPLICATION_THROTTLING_POLICY_TYPE);
+                    requestType = AdminConstants.APPLICATION_THROTTLING_POLICY_TYPE;
                     break;
                 case AdminConstants.AdminResources.SUBSCRIPTION_THROTTLING_POLICIES:
                     requestHandler = new ThrottlingPolicyRequestHandler();
-                    responsePayload = requestHandler.handleRequest(params,
-                            AdminConstants.SUBSCRIPTION_THROTTLING_POLICY_TYPE);
+                    requestType = AdminConstants.SUBSCRIPTION_THROTTLING_POLICY_TYPE;
                     break;
                 case AdminConstants.AdminResources.REVOKED_TOKENS:
                     requestHandler = new RevokedTokensRequestHandler();
-                    responsePayload = requestHandler.handleRequest(params, AdminConstants.REVOKED_TOKEN_TYPE);
+                    requestType = AdminConstants.REVOKED_TOKEN_TYPE;
                     break;
                 default:
                     String error = AdminConstants.ErrorMessages.RESOURCE_NOT_FOUND_ERROR;
                     responsePayload = AdminUtils.buildResponsePayload(error, HttpResponseStatus.NOT_FOUND, true);
-                    break;
+                    buildAndSendResponse(ctx, responsePayload);
+                    return;
+            }
+            // Resources are not queried again if the data store has not changed since the tag known by the client.
+            String eTag = requestHandler.getETag();
+            if (AdminUtils.isETagMatching(request.headers().get(HttpHeaderNames.IF_NONE_MATCH), eTag)) {
+                responsePayload = AdminUtils.buildResponsePayload("", HttpResponseStatus.NOT_MODIFIED, false);
+            } else {
+                responsePayload = requestHandler.handleRequest(params, requestType);
+            }
+            if (!responsePayload.isError()) {
+                responsePayload.setETag(eTag);
             }
         }
         buildAndSendResponse(ctx, responsePayload);
@@ -163,11 +157,27 @@ public class AdminServerHandler extends ChannelInboundHandlerAdapter {
     }
 
     private void buildAndSendResponse(ChannelHandlerContext ctx, ResponsePayload response) {
-        FullHttpResponse httpResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
-                response.getStatus(),
-                Unpooled.copiedBuffer(response.getContent(), CharsetUtil.UTF_8));
+        ByteBuf content = ctx.alloc().buffer();
+        HttpResponseStatus status = response.getStatus();
+        if (response.getDataModel() != null) {
+            // The data model is serialized directly into the response buffer.
+            try (OutputStream outputStream = new ByteBufOutputStream(content)) {
+                AdminUtils.writeJson(response.getDataModel(), outputStream);
+            } catch (IOException e) {
+                log.error("Error while serializing the admin response", e);
+                content.clear();
+                content.writeCharSequence(AdminConstants.ErrorMessages.INTERNAL_SERVER_ERROR, CharsetUtil.UTF_8);
+                status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
+            }
+        } else {
+            content.writeCharSequence(response.getContent(), CharsetUtil.UTF_8);
+        }
+        FullHttpResponse httpResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, content);
         httpResponse.headers().set(HTTP.CONTENT_TYPE, HttpConstants.APPLICATION_JSON);
         httpResponse.headers().set(HTTP.CONTENT_LEN, httpResponse.content().readableBytes());
+        if (response.getETag() != null && status != HttpResponseStatus.INTERNAL_SERVER_ERROR) {
+            httpResponse.headers().set(HttpHeaderNames.ETAG, response.getETag());
+        }
         ctx.writeAndFlush(httpResponse);
     }
 }
@@ -17,9 +17,13 @@
  */
 package org.wso2.choreo.connect.enforcer.admin;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import io.grpc.netty.shaded.io.netty.util.CharsetUtil;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.ManagementCredentialsDto;
+import org.wso2.choreo.connect.enforcer.constants.HttpConstants;
 import org.wso2.choreo.connect.enforcer.models.API;
 import org.wso2.choreo.connect.enforcer.models.APIInfo;
 import org.wso2.choreo.connect.enforcer.models.Application;
@@ -37,12 +41,46 @@ import org.wso2.choreo.connect.enforcer.models.SubscriptionList;
 import org.wso2.choreo.connect.enforcer.models.SubscriptionPolicy;
 import org.wso2.choreo.connect.enforcer.models.SubscriptionPolicyList;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Utility class for internal admin functions
  */
 public class AdminUtils {
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writer();
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    /**
+     * Check whether the authorization header carries the management credentials as basic auth credentials.
+     *
+     * @param authHeader value of the authorization header, or {@code null} if it is not present
+     * @return {@code true} if the credentials match the management credentials of the enforcer
+     */
+    public static boolean hasManagementCredentials(String authHeader) {
+        if (authHeader == null || !authHeader.toLowerCase().startsWith(HttpConstants.BASIC_LOWER)) {
+            return false;
+        }
+        try {
+            // Authorization: Basic base64credentials
+            String base64Credentials = authHeader.substring(HttpConstants.BASIC_LOWER.length()).trim();
+            byte[] credDecoded = Base64.getDecoder().decode(base64Credentials);
+            String credentials = new String(credDecoded, CharsetUtil.UTF_8);
+            // credentials = username:password
+            final String[] values = credentials.split(":", 2);
+
+            ManagementCredentialsDto managementCredentials = ConfigHolder.getInstance().getConfig()
+                    .getManagement();
+            return values[0].equals(managementCredentials.getUserName())
+                    && values[1].equals(new String(managementCredentials.getPassword()));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return false;
+        }
+    }
 
     public static APIInfo toAPIInfo(API api, List<SubscriptionInfo> subscriptionInfoList) {
         APIInfo apiInfo = new APIInfo();
@@ -112,23 +150,67 @@ public class AdminUtils {
         return subscriptionPolicyList;
     }
 
-    public static ResponsePayload buildResponsePayload(Object dataModel, HttpResponseStatus status, boolean isError)
-            throws JsonProcessingException {
+    public static ResponsePayload buildResponsePayload(Object dataModel, HttpResponseStatus status,
+                                                       boolean isError) {
 
-        String jsonPayload;
-        ObjectMapper objectMapper = new ObjectMapper();
+        ResponsePayload responsePayload = new ResponsePayload();
         if (!(dataModel instanceof String)) {
-            jsonPayload = objectMapper.writeValueAsString(dataModel);
+            // Serialized when writing the response, without building the complete payload as a string.
+            responsePayload.setDataModel(dataModel);
         } else {
-            jsonPayload = (String) dataModel;
+            responsePayload.setContent((String) dataModel);
         }
-        ResponsePayload responsePayload = new ResponsePayload();
-        responsePayload.setContent(jsonPayload);
         responsePayload.setError(isError);
         responsePayload.setStatus(status);
         return responsePayload;
     }
 
+    /**
+     * Serialize the data model of a response payload as JSON, directly into the given output stream.
+     *
+     * @param dataModel data model of the response payload
+     * @param outputStream output stream of the response content
+     * @throws IOException if the serialization fails
+     */
+    public static void writeJson(Object dataModel, OutputStream outputStream) throws IOException {
+        JSON_WRITER.writeValue(outputStream, dataModel);
+    }
+
+    /**
+     * Build the entity tag of the admin resources for the given version of the subscription data store. The tag
+     * contains an identifier of this enforcer instance, hence tags issued by different enforcers do not match.
+     *
+     * @param dataStoreVersion version of the subscription data store
+     * @return weak entity tag
+     */
+    public static String getETag(long dataStoreVersion) {
+        return "W/\"" + INSTANCE_ID + "-" + dataStoreVersion + "\"";
+    }
+
+    /**
+     * Check whether the If-None-Match header of a request matches the current entity tag of the resource.
+     *
+     * @param ifNoneMatch value of the If-None-Match header
+     * @param eTag current entity tag of the resource
+     * @return true if the resource has not been modified
+     */
+    public static boolean isETagMatching(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        String opaqueTag = eTag.startsWith(WEAK_ETAG_PREFIX) ? eTag.substring(WEAK_ETAG_PREFIX.length()) : eTag;
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(WEAK_ETAG_PREFIX)) {
+                tag = tag.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if ("*".equals(tag) || opaqueTag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static RevokedTokenList toRevokedTokenList(List<RevokedToken> revokedTokens) {
         RevokedTokenList revokedTokenList = new RevokedTokenList();
         revokedTokenList.setCount(revokedTokens.size());
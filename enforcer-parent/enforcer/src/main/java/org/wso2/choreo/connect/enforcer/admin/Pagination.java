@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.admin;
+
+import org.wso2.choreo.connect.enforcer.constants.AdminConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor based pagination of admin query results. When the {@code limit} or {@code cursor} query parameters are
+ * provided, results are ordered by a unique sort key and the cursor of the next page refers to the sort key of
+ * the last entry of the current page. Hence, unlike offsets, cursors remain valid when entries are added or
+ * removed in between two requests.
+ */
+public class Pagination {
+    private final boolean paginated;
+    private final String cursor;
+    private final int limit;
+
+    private Pagination(boolean paginated, String cursor, int limit) {
+        this.paginated = paginated;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    /**
+     * Read the pagination parameters from the query parameters of a request.
+     *
+     * @param params query parameters in the form of key=value
+     * @return pagination of the request
+     * @throws IllegalArgumentException if the limit or cursor is invalid
+     */
+    public static Pagination fromParams(String[] params) {
+        boolean paginated = false;
+        String cursor = null;
+        int limit = Integer.MAX_VALUE;
+        if (params != null) {
+            for (String param : params) {
+                String[] keyVal = param.split("=", 2);
+                if (keyVal.length < 2) {
+                    continue;
+                }
+                if (AdminConstants.Parameters.LIMIT.equals(keyVal[0])) {
+                    limit = Integer.parseInt(keyVal[1]);
+                    if (limit <= 0) {
+                        throw new IllegalArgumentException("Limit should be a positive integer");
+                    }
+                    paginated = true;
+                } else if (AdminConstants.Parameters.CURSOR.equals(keyVal[0])) {
+                    cursor = new String(Base64.getUrlDecoder().decode(keyVal[1]), StandardCharsets.UTF_8);
+                    paginated = true;
+                }
+            }
+        }
+        return new Pagination(paginated, cursor, limit);
+    }
+
+    /**
+     * Reduce the given list to the requested page. The list is left unchanged if pagination is not requested.
+     *
+     * @param items   mutable list of all the matching entries
+     * @param sortKey resolves the unique sort key of an entry
+     * @param <T>     type of the entries
+     * @return cursor of the next page, or null if there are no more entries
+     */
+    public <T> String apply(List<T> items, Function<T, String> sortKey) {
+        if (!paginated) {
+            return null;
+        }
+        items.sort((first, second) -> sortKey.apply(first).compareTo(sortKey.apply(second)));
+        int from = 0;
+        if (cursor != null) {
+            // Find the first entry after the cursor.
+            int to = items.size();
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (sortKey.apply(items.get(mid)).compareTo(cursor) <= 0) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+        }
+        int to = (int) Math.min((long) from + limit, items.size());
+        String nextCursor = null;
+        if (to < items.size()) {
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    sortKey.apply(items.get(to - 1)).getBytes(StandardCharsets.UTF_8));
+        }
+        items.subList(to, items.size()).clear();
+        items.subList(0, from).clear();
+        return nextCursor;
+    }
+}
@@ -17,9 +17,9 @@
  */
 package org.wso2.choreo.connect.enforcer.admin.handlers;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 import org.wso2.choreo.connect.enforcer.admin.AdminUtils;
+import org.wso2.choreo.connect.enforcer.admin.Pagination;
 import org.wso2.choreo.connect.enforcer.constants.AdminConstants;
 import org.wso2.choreo.connect.enforcer.models.API;
 import org.wso2.choreo.connect.enforcer.models.APIInfo;
@@ -55,7 +55,7 @@ public class APIRequestHandler extends RequestHandler {
      * @param params Array of parameters
      * @return ResponsePayload with APIs as APIList object.
      * */
-    private ResponsePayload getAPIs(String[] params) throws JsonProcessingException {
+    private ResponsePayload getAPIs(String[] params) {
         List<API> apis;
         String name = null;
         String version = null;
@@ -82,10 +82,19 @@ public class APIRequestHandler extends RequestHandler {
                 }
             }
         }
+        Pagination pagination;
+        try {
+            pagination = Pagination.fromParams(params);
+        } catch (IllegalArgumentException e) {
+            String error = AdminConstants.ErrorMessages.INVALID_PAGINATION_PARAMETERS_ERROR;
+            return AdminUtils.buildResponsePayload(error, HttpResponseStatus.BAD_REQUEST, true);
+        }
         apis = super.dataStore.getMatchingAPIs(name, context, version, uuid);
+        String nextCursor = pagination.apply(apis, API::getApiUUID);
         APIList apiList = new APIList();
         apiList.setCount(apis.size());
         apiList.setList(apis);
+        apiList.setNextCursor(nextCursor);
         return AdminUtils.buildResponsePayload(apiList, HttpResponseStatus.OK, false);
 
     }
@@ -96,9 +105,8 @@ public class APIRequestHandler extends RequestHandler {
      *
      * @param params API Context and API version
      * @return APIInfo in as a ResponsePayload object.
-     * @throws JsonProcessingException
      */
-    private ResponsePayload getAPIInfo(String[] params) throws JsonProcessingException {
+    private ResponsePayload getAPIInfo(String[] params) {
         APIInfo apiInfo;
         String context = null;
         String version = null;
@@ -20,6 +20,7 @@ package org.wso2.choreo.connect.enforcer.admin.handlers;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 import org.apache.commons.lang.StringUtils;
 import org.wso2.choreo.connect.enforcer.admin.AdminUtils;
+import org.wso2.choreo.connect.enforcer.admin.Pagination;
 import org.wso2.choreo.connect.enforcer.constants.AdminConstants;
 import org.wso2.choreo.connect.enforcer.models.Application;
 import org.wso2.choreo.connect.enforcer.models.ApplicationInfo;
@@ -70,7 +71,17 @@ public class ApplicationRequestHandler extends RequestHandler {
             String error = "{\"error\": true, \"message\":\"Organization id should not be empty.\"}";
             return AdminUtils.buildResponsePayload(error, HttpResponseStatus.BAD_REQUEST, true);
         }
+        Pagination pagination;
+        try {
+            pagination = Pagination.fromParams(params);
+        } catch (IllegalArgumentException e) {
+            String error = AdminConstants.ErrorMessages.INVALID_PAGINATION_PARAMETERS_ERROR;
+            return AdminUtils.buildResponsePayload(error, HttpResponseStatus.BAD_REQUEST, true);
+        }
         applicationList = super.dataStore.getMatchingApplications(name, organizationID, uuid);
+        // Applications are paginated before resolving the key mappings, so that key mappings are only looked up
+        // for the applications of the requested page.
+        String nextCursor = pagination.apply(applicationList, Application::getUUID);
         for (Application application : applicationList) {
             List<ApplicationKeyMapping> keyMappingList = dataStore.getMatchingKeyMapping(application.getUUID(),
                     consumerKey);
@@ -80,6 +91,7 @@ public class ApplicationRequestHandler extends RequestHandler {
             }
         }
         ApplicationInfoList applicationInfos = AdminUtils.toApplicationInfoList(applicationInfoList);
+        applicationInfos.setNextCursor(nextCursor);
         return AdminUtils.buildResponsePayload(applicationInfos, HttpResponseStatus.OK, false);
     }
 }
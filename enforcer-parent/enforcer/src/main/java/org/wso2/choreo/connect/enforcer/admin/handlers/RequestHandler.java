@@ -17,6 +17,7 @@
  */
 package org.wso2.choreo.connect.enforcer.admin.handlers;
 
+import org.wso2.choreo.connect.enforcer.admin.AdminUtils;
 import org.wso2.choreo.connect.enforcer.models.ResponsePayload;
 import org.wso2.choreo.connect.enforcer.subscription.SubscriptionDataHolder;
 import org.wso2.choreo.connect.enforcer.subscription.SubscriptionDataStore;
@@ -31,4 +32,14 @@ public abstract class RequestHandler {
 
     public abstract ResponsePayload handleRequest(String[] params, String requestType) throws Exception;
 
+    /**
+     * Get the entity tag representing the current state of the resources served by the handler. The tag is
+     * resolved before handling the request, hence a response is never cached against a tag newer than its data.
+     *
+     * @return entity tag, or null if the resources are not versioned
+     */
+    public String getETag() {
+        return AdminUtils.getETag(dataStore.getVersion());
+    }
+
 }
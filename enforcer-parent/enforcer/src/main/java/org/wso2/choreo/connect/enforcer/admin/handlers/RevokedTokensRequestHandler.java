@@ -20,6 +20,7 @@ package org.wso2.choreo.connect.enforcer.admin.handlers;
 import com.nimbusds.jwt.SignedJWT;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 import org.wso2.choreo.connect.enforcer.admin.AdminUtils;
+import org.wso2.choreo.connect.enforcer.admin.Pagination;
 import org.wso2.choreo.connect.enforcer.constants.AdminConstants;
 import org.wso2.choreo.connect.enforcer.models.ResponsePayload;
 import org.wso2.choreo.connect.enforcer.models.RevokedToken;
@@ -37,15 +38,24 @@ public class RevokedTokensRequestHandler extends RequestHandler {
     @Override
     public ResponsePayload handleRequest(String[] params, String requestType) throws Exception {
 
+        Pagination pagination;
+        try {
+            pagination = Pagination.fromParams(params);
+        } catch (IllegalArgumentException e) {
+            String error = AdminConstants.ErrorMessages.INVALID_PAGINATION_PARAMETERS_ERROR;
+            return AdminUtils.buildResponsePayload(error, HttpResponseStatus.BAD_REQUEST, true);
+        }
         List<RevokedToken> revokedTokens = new ArrayList<>();
         RevokedJWTDataHolder revokedJWTDataHolder = RevokedJWTDataHolder.getInstance();
         Map<String, Long> revokedJWTMap = revokedJWTDataHolder.getRevokedJWTMap();
         String token;
+        boolean isTokenQueried = false;
 
         if (params != null) {
             for (String param : params) {
                 String[] tokenParam = param.split("=");
                 if (AdminConstants.Parameters.TOKEN.equals(tokenParam[0])) {
+                    isTokenQueried = true;
                     token = tokenParam[1];
                     String[] tokenParts = token.split("\\.");
                     if (tokenParts.length > 2) {
@@ -62,8 +72,8 @@ public class RevokedTokensRequestHandler extends RequestHandler {
                     }
                 }
             }
-
-        } else {
+        }
+        if (!isTokenQueried) {
             // Return all the tokens...
             for (Map.Entry<String, Long> e : revokedJWTMap.entrySet()) {
                 RevokedToken revokedToken = new RevokedToken();
@@ -72,8 +82,16 @@ public class RevokedTokensRequestHandler extends RequestHandler {
                 revokedTokens.add(revokedToken);
             }
         }
+        String nextCursor = pagination.apply(revokedTokens, RevokedToken::getToken);
 
         RevokedTokenList revokedTokenList = AdminUtils.toRevokedTokenList(revokedTokens);
+        revokedTokenList.setNextCursor(nextCursor);
         return AdminUtils.buildResponsePayload(revokedTokenList, HttpResponseStatus.OK, false);
     }
+
+    @Override
+    public String getETag() {
+        // Revoked tokens are not maintained in the subscription data store.
+        return null;
+    }
 }
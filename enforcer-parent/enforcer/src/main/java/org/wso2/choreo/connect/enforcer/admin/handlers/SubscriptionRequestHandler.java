@@ -19,6 +19,7 @@ package org.wso2.choreo.connect.enforcer.admin.handlers;
 
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 import org.wso2.choreo.connect.enforcer.admin.AdminUtils;
+import org.wso2.choreo.connect.enforcer.admin.Pagination;
 import org.wso2.choreo.connect.enforcer.constants.AdminConstants;
 import org.wso2.choreo.connect.enforcer.models.ResponsePayload;
 import org.wso2.choreo.connect.enforcer.models.Subscription;
@@ -54,8 +55,17 @@ public class SubscriptionRequestHandler extends RequestHandler {
                 }
             }
         }
+        Pagination pagination;
+        try {
+            pagination = Pagination.fromParams(params);
+        } catch (IllegalArgumentException e) {
+            String error = AdminConstants.ErrorMessages.INVALID_PAGINATION_PARAMETERS_ERROR;
+            return AdminUtils.buildResponsePayload(error, HttpResponseStatus.BAD_REQUEST, true);
+        }
         List<Subscription> subscriptions = super.dataStore.getMatchingSubscriptions(appUUID, apiUUID, state);
+        String nextCursor = pagination.apply(subscriptions, Subscription::getCacheKey);
         SubscriptionList subscriptionList = AdminUtils.toSubscriptionsList(subscriptions);
+        subscriptionList.setNextCursor(nextCursor);
         return AdminUtils.buildResponsePayload(subscriptionList, HttpResponseStatus.OK, false);
     }
 }
@@ -17,7 +17,6 @@
  */
 package org.wso2.choreo.connect.enforcer.admin.handlers;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 import org.wso2.choreo.connect.enforcer.admin.AdminUtils;
 import org.wso2.choreo.connect.enforcer.constants.AdminConstants;
@@ -53,13 +52,13 @@ public class ThrottlingPolicyRequestHandler extends RequestHandler {
         return responsePayload;
     }
 
-    private ResponsePayload getApplicationPolicies(String policyName) throws JsonProcessingException {
+    private ResponsePayload getApplicationPolicies(String policyName) {
         List<ApplicationPolicy> applicationPolicies = super.dataStore.getMatchingApplicationPolicies(policyName);
         ApplicationPolicyList applicationPolicyList = AdminUtils.toApplicationPolicyList(applicationPolicies);
         return AdminUtils.buildResponsePayload(applicationPolicyList, HttpResponseStatus.OK, false);
     }
 
-    private ResponsePayload getSubscriptionPolicies(String policyName) throws JsonProcessingException {
+    private ResponsePayload getSubscriptionPolicies(String policyName) {
         List<SubscriptionPolicy> subscriptionPolicies = super.dataStore.getMatchingSubscriptionPolicies(policyName);
         SubscriptionPolicyList subscriptionPolicyList = AdminUtils.toSubscriptionPolicyList(subscriptionPolicies);
         return AdminUtils.buildResponsePayload(subscriptionPolicyList, HttpResponseStatus.OK, false);
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.analytics;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import io.envoyproxy.envoy.data.accesslog.v3.AccessLogCommon;
+import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
+import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.choreo.connect.enforcer.constants.AnalyticsConstants;
+import org.wso2.choreo.connect.enforcer.constants.MetadataConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable view of an access log entry received from the router. The fields used by more than one consumer of the
+ * access log stream (analytics, metrics) are decoded once when the event is created, instead of being extracted
+ * separately by each consumer.
+ */
+public final class AccessLogEvent {
+    private final HTTPAccessLogEntry logEntry;
+    private final Map<String, Value> metadata;
+    private final String routeName;
+    private final String responseCodeDetails;
+    private final int responseCode;
+    private final boolean mockAPISuccess;
+    private final long requestMediationLatency;
+    private final long backendLatency;
+    private final long responseMediationLatency;
+    private final long responseLatency;
+
+    private AccessLogEvent(HTTPAccessLogEntry logEntry) {
+        this.logEntry = logEntry;
+        AccessLogCommon properties = logEntry.getCommonProperties();
+        Struct extAuthMetadata = properties.getMetadata().getFilterMetadataMap()
+                .get(MetadataConstants.EXT_AUTH_METADATA_CONTEXT_KEY);
+        this.metadata = extAuthMetadata == null ? Collections.emptyMap() : extAuthMetadata.getFieldsMap();
+        this.routeName = properties.getRouteName();
+        this.responseCodeDetails = logEntry.getResponse().getResponseCodeDetails();
+        this.responseCode = logEntry.getResponse().getResponseCode().getValue();
+        // The metadata of mock API responses is only set for successful requests.
+        this.mockAPISuccess = AnalyticsConstants.EXT_AUTH_DENIED_RESPONSE_DETAIL.equals(responseCodeDetails)
+                && Boolean.parseBoolean(getMetadataValue(MetadataConstants.IS_MOCK_API));
+
+        long downstreamResponseSendTimestamp = toMillis(properties.getTimeToLastDownstreamTxByte());
+        if (mockAPISuccess) {
+            // Mock APIs do not have a backend. Hence, backend latency remains 0.
+            this.requestMediationLatency = downstreamResponseSendTimestamp;
+            this.backendLatency = 0;
+            this.responseMediationLatency = 0;
+        } else {
+            long backendResponseRecvTimestamp = toMillis(properties.getTimeToLastUpstreamRxByte());
+            long backendRequestSendTimestamp = toMillis(properties.getTimeToFirstUpstreamTxByte());
+            this.requestMediationLatency = backendRequestSendTimestamp;
+            this.backendLatency = backendResponseRecvTimestamp - backendRequestSendTimestamp;
+            this.responseMediationLatency = downstreamResponseSendTimestamp - backendResponseRecvTimestamp;
+        }
+        this.responseLatency = downstreamResponseSendTimestamp;
+    }
+
+    /**
+     * Decodes an access log entry.
+     *
+     * @param logEntry access log entry received from the router
+     * @return access log event
+     */
+    public static AccessLogEvent from(HTTPAccessLogEntry logEntry) {
+        return new AccessLogEvent(logEntry);
+    }
+
+    /**
+     * Decodes all HTTP access log entries of a message received from the router.
+     *
+     * @param message gRPC Stream access log message from router
+     * @return access log events, in the order of the entries
+     */
+    public static List<AccessLogEvent> decode(StreamAccessLogsMessage message) {
+        int entryCount = message.getHttpLogs().getLogEntryCount();
+        List<AccessLogEvent> events = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            events.add(new AccessLogEvent(message.getHttpLogs().getLogEntry(i)));
+        }
+        return Collections.unmodifiableList(events);
+    }
+
+    public HTTPAccessLogEntry getLogEntry() {
+        return logEntry;
+    }
+
+    /**
+     * @return dynamic metadata populated by the enforcer within the ext_authz filter
+     */
+    public Map<String, Value> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Get a dynamic metadata value populated by the enforcer.
+     *
+     * @param key metadata key
+     * @return string value of the metadata, or {@code null} if it is not available
+     */
+    public String getMetadataValue(String key) {
+        Value value = metadata.get(key);
+        return value == null ? null : value.getStringValue();
+    }
+
+    public String getRouteName() {
+        return routeName;
+    }
+
+    public String getResponseCodeDetails() {
+        return responseCodeDetails;
+    }
+
+    public int getResponseCode() {
+        return responseCode;
+    }
+
+    /**
+     * @return {@code true} if the request is successfully responded by a mock API implementation
+     */
+    public boolean isMockAPISuccess() {
+        return mockAPISuccess;
+    }
+
+    /**
+     * @return a new {@link Latencies} instance with the latencies of the request, in milliseconds
+     */
+    public Latencies getLatencies() {
+        Latencies latencies = new Latencies();
+        latencies.setRequestMediationLatency(requestMediationLatency);
+        latencies.setBackendLatency(backendLatency);
+        latencies.setResponseMediationLatency(responseMediationLatency);
+        latencies.setResponseLatency(responseLatency);
+        return latencies;
+    }
+
+    private static long toMillis(Duration duration) {
+        return TimeUnit.SECONDS.toMillis(duration.getSeconds()) + TimeUnit.NANOSECONDS.toMillis(duration.getNanos());
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.analytics;
+
+import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
+
+import java.util.List;
+
+/**
+ * Consumer of the access log stream received by the {@link AccessLoggingService}. Each access log entry is decoded
+ * once into an {@link AccessLogEvent}, which is shared by all the consumers.
+ */
+@FunctionalInterface
+public interface AccessLogEventConsumer {
+
+    /**
+     * Handle the access log events of a message received from the router.
+     *
+     * @param message gRPC Stream access log message from router
+     * @param events  decoded HTTP access log entries of the message. The list is not modifiable.
+     */
+    void consume(StreamAccessLogsMessage message, List<AccessLogEvent> events);
+}
@@ -40,6 +40,8 @@ import org.wso2.choreo.connect.enforcer.server.NativeThreadFactory;
 import org.wso2.choreo.connect.enforcer.util.TLSUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -54,10 +56,15 @@ public class AccessLoggingService extends AccessLogServiceGrpc.AccessLogServiceI
 
     private static final Logger logger = LogManager.getLogger(AccessLoggingService.class);
 
+    private final List<AccessLogEventConsumer> consumers = new ArrayList<>();
+
     public void init() throws IOException {
         // Initialize analytics Filter
         if (ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled()) {
-            AnalyticsFilter.getInstance();
+            consumers.add(AnalyticsFilter.getInstance()::handleAccessLogEvents);
+        }
+        if (ConfigHolder.getInstance().getConfig().getMetricsConfig().isMetricsEnabled()) {
+            consumers.add((message, events) -> MetricsUtils.handlePublishingMetrics(events));
         }
         startAccessLoggingServer();
     }
@@ -68,11 +75,13 @@ public class AccessLoggingService extends AccessLogServiceGrpc.AccessLogServiceI
         return new StreamObserver<>() {
             @Override
             public void onNext(StreamAccessLogsMessage message) {
-                if (ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled()) {
-                    AnalyticsFilter.getInstance().handleGRPCLogMsg(message);
+                if (consumers.isEmpty()) {
+                    return;
                 }
-                if (ConfigHolder.getInstance().getConfig().getMetricsConfig().isMetricsEnabled()) {
-                    MetricsUtils.handlePublishingMetrics(message);
+                // Entries are decoded once and shared by all the consumers.
+                List<AccessLogEvent> events = AccessLogEvent.decode(message);
+                for (AccessLogEventConsumer consumer : consumers) {
+                    consumer.consume(message, events);
                 }
             }
 
@@ -21,6 +21,7 @@ package org.wso2.choreo.connect.enforcer.analytics;
 import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
 import org.wso2.choreo.connect.discovery.service.websocket.WebSocketFrameRequest;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -55,6 +56,18 @@ public interface AnalyticsEventPublisher {
      */
     void handleGRPCLogMsg(StreamAccessLogsMessage message);
 
+    /**
+     * Handle the gRPC log message received from the router, along with its HTTP access log entries decoded by the
+     * access logging service. Publishers can override this to reuse the decoded entries. The default
+     * implementation delegates to {@link #handleGRPCLogMsg(StreamAccessLogsMessage)}.
+     *
+     * @param message gRPC Stream access log message from router.
+     * @param events  decoded HTTP access log entries of the message.
+     */
+    default void handleAccessLogEvents(StreamAccessLogsMessage message, List<AccessLogEvent> events) {
+        handleGRPCLogMsg(message);
+    }
+
     /**
      * The method body should include about how to handle the websocket framereqeust received from the router's
      * wasm filter for websockets.
@@ -89,4 +102,10 @@ public interface AnalyticsEventPublisher {
      * @param configurationMap Analytics Configurations
      */
     void init(Map<String, String> configurationMap);
+
+    /**
+     * Publish the events held by the publisher and release its resources, when the enforcer shuts down.
+     */
+    default void shutdown() {
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.analytics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue which decouples receiving analytics events from building and publishing them. Worker threads take
+ * the events in batches, and a batch is handed over once it reaches the batch size or once the flush interval has
+ * elapsed since its first event. Events offered while the queue is full are dropped and counted, so that a slow
+ * analytics sink does not push back into the access log stream of the router. On shutdown, the workers publish the
+ * events queued so far before they stop.
+ *
+ * @param <T> type of the queued events
+ */
+public class AnalyticsEventQueue<T> {
+    private static final Logger logger = LogManager.getLogger(AnalyticsEventQueue.class);
+    private static final long DROP_LOG_INTERVAL = 1000;
+    // Idle workers check for shutdown at this interval.
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final BlockingQueue<T> queue;
+    private final int workers;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Consumer<List<T>> batchHandler;
+    private final LongAdder processedEventCount = new LongAdder();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean shuttingDown;
+
+    /**
+     * Creates the queue. The events are not processed until the worker threads are started with {@link #start()}.
+     *
+     * @param queueSize           maximum number of events waiting to be processed
+     * @param workers             number of worker threads
+     * @param batchSize           maximum number of events handed over at once
+     * @param flushIntervalMillis maximum time to wait for a batch to fill up
+     * @param batchHandler        processes a batch of events. The list is reused once the handler returns.
+     */
+    AnalyticsEventQueue(int queueSize, int workers, int batchSize, long flushIntervalMillis,
+                        Consumer<List<T>> batchHandler) {
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.batchHandler = batchHandler;
+    }
+
+    /**
+     * Starts the worker threads. This should be called only once.
+     */
+    void start() {
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread(this::processBatches, "AnalyticsEventPublisher-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workerThreads.add(worker);
+        }
+    }
+
+    /**
+     * Stops the worker threads once they have processed the events queued so far, waiting for them up to the given
+     * timeout. Events offered during the shutdown might not be processed.
+     *
+     * @param timeout maximum time to wait for the queued events to be processed
+     * @param unit    unit of the timeout
+     */
+    void shutdown(long timeout, TimeUnit unit) {
+        shuttingDown = true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            for (Thread worker : workerThreads) {
+                TimeUnit.NANOSECONDS.timedJoin(worker, Math.max(deadline - System.nanoTime(), 1));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("{} analytics events are still queued after waiting {} {}. Hence dropping them",
+                    queue.size(), timeout, unit);
+        }
+    }
+
+    /**
+     * Adds an event to the queue without blocking.
+     *
+     * @param event analytics event
+     * @return {@code false} if the event is dropped as the queue is full
+     */
+    public boolean offer(T event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+        long dropped = droppedEventCount.incrementAndGet();
+        if (dropped % DROP_LOG_INTERVAL == 1) {
+            logger.warn("Analytics event queue is full. {} events have been dropped so far.", dropped);
+        }
+        return false;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    public long getProcessedEventCount() {
+        return processedEventCount.sum();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    private void processBatches() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                if (!fillBatch(batch)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                batchHandler.accept(batch);
+            } catch (RuntimeException e) {
+                logger.error("Error while processing a batch of analytics events", e);
+            }
+            processedEventCount.add(batch.size());
+            batch.clear();
+        }
+    }
+
+    /**
+     * Waits for the first event of a batch, and then fills the batch until the flush interval elapses.
+     *
+     * @return {@code false} if the queue is shutting down and there are no more events to process
+     */
+    private boolean fillBatch(List<T> batch) throws InterruptedException {
+        T first = queue.poll(IDLE_POLL_NANOS, TimeUnit.NANOSECONDS);
+        while (first == null) {
+            if (shuttingDown) {
+                return false;
+            }
+            first = queue.poll(IDLE_POLL_NANOS, TimeUnit.NANOSECONDS);
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            // Batches are not held back for the flush interval during the shutdown.
+            if (remainingNanos <= 0 || shuttingDown) {
+                return true;
+            }
+            T event = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (event == null) {
+                return true;
+            }
+            batch.add(event);
+        }
+        return true;
+    }
+}
@@ -47,6 +47,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -109,6 +110,15 @@ public class AnalyticsFilter {
         return analyticsFilter;
     }
 
+    /**
+     * Shut down the analytics publisher, if analytics is initialized, so that the events it holds are published.
+     */
+    public static void shutdown() {
+        if (analyticsFilter != null && publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
     public void handleGRPCLogMsg(StreamAccessLogsMessage message) {
         if (publisher != null) {
             publisher.handleGRPCLogMsg(message);
@@ -118,6 +128,15 @@ public class AnalyticsFilter {
         }
     }
 
+    public void handleAccessLogEvents(StreamAccessLogsMessage message, List<AccessLogEvent> events) {
+        if (publisher != null) {
+            publisher.handleAccessLogEvents(message, events);
+        } else {
+            logger.error("Cannot publish the analytics event as analytics publisher is null.",
+                    ErrorDetails.errorLog(LoggingConstants.Severity.CRITICAL, 5102));
+        }
+    }
+
     public void handleWebsocketFrameRequest(WebSocketFrameRequest frameRequest) {
         if (publisher != null) {
             publisher.handleWebsocketFrameRequest(frameRequest);
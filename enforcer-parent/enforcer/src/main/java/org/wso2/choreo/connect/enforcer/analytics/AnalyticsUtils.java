@@ -19,14 +19,12 @@
 package org.wso2.choreo.connect.enforcer.analytics;
 
 import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsCustomDataProvider;
 import org.wso2.choreo.connect.enforcer.commons.model.AuthenticationContext;
 import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
 import org.wso2.choreo.connect.enforcer.constants.AnalyticsConstants;
-import org.wso2.choreo.connect.enforcer.constants.MetadataConstants;
 import org.wso2.choreo.connect.enforcer.models.API;
 import org.wso2.choreo.connect.enforcer.subscription.SubscriptionDataHolder;
 
@@ -78,22 +76,12 @@ public class AnalyticsUtils {
      *
      * @param logEntry Access Log Entry
      * @return true if the logEntry has the metadata called "x-wso2-is-mock-api" and its value is true
+     * @deprecated decode the entry once with {@link AccessLogEvent#from(HTTPAccessLogEntry)} and use
+     * {@link AccessLogEvent#isMockAPISuccess()} instead.
      */
+    @Deprecated
     public static boolean isMockAPISuccessRequest(HTTPAccessLogEntry logEntry) {
-
-        return (!StringUtils.isEmpty(logEntry.getResponse().getResponseCodeDetails())) &&
-                logEntry.getResponse().getResponseCodeDetails()
-                        .equals(AnalyticsConstants.EXT_AUTH_DENIED_RESPONSE_DETAIL) &&
-                logEntry.hasCommonProperties() &&
-                logEntry.getCommonProperties().hasMetadata() &&
-                logEntry.getCommonProperties().getMetadata().getFilterMetadataMap()
-                        .get(MetadataConstants.EXT_AUTH_METADATA_CONTEXT_KEY) != null &&
-                logEntry.getCommonProperties().getMetadata()
-                        .getFilterMetadataMap().get(MetadataConstants.EXT_AUTH_METADATA_CONTEXT_KEY).getFieldsMap()
-                        .containsKey(MetadataConstants.IS_MOCK_API) &&
-                Boolean.parseBoolean(logEntry.getCommonProperties().getMetadata()
-                        .getFilterMetadataMap().get(MetadataConstants.EXT_AUTH_METADATA_CONTEXT_KEY).getFieldsMap()
-                        .get(MetadataConstants.IS_MOCK_API).getStringValue());
+        return AccessLogEvent.from(logEntry).isMockAPISuccess();
     }
 
     /**
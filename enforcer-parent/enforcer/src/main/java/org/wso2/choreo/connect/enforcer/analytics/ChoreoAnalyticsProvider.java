@@ -19,7 +19,6 @@
 package org.wso2.choreo.connect.enforcer.analytics;
 
 import com.google.protobuf.Value;
-import io.envoyproxy.envoy.data.accesslog.v3.AccessLogCommon;
 import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,11 +46,17 @@ import java.util.Map;
  */
 public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
     private static final Logger logger = LogManager.getLogger(ChoreoAnalyticsProvider.class);
-    private static Map<String, Object> customProperties = new HashMap<>();
+    private final Map<String, Object> customProperties = new HashMap<>();
     protected final HTTPAccessLogEntry logEntry;
+    protected final AccessLogEvent event;
 
     public ChoreoAnalyticsProvider(HTTPAccessLogEntry logEntry) {
-        this.logEntry = logEntry;
+        this(AccessLogEvent.from(logEntry));
+    }
+
+    public ChoreoAnalyticsProvider(AccessLogEvent event) {
+        this.event = event;
+        this.logEntry = event.getLogEntry();
         if (AnalyticsFilter.getAnalyticsCustomDataProvider() != null) {
             setCustomPropertiesMap(logEntry, customProperties);
         }
@@ -156,20 +161,7 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
     public Latencies getLatencies() {
         // This method is only invoked for success requests. Hence all these properties will be available.
         // The cors requests responded from the CORS filter are already filtered at this point.
-        AccessLogCommon properties = logEntry.getCommonProperties();
-        long backendResponseRecvTimestamp = properties.getTimeToLastUpstreamRxByte().getSeconds() * 1000 +
-                properties.getTimeToLastUpstreamRxByte().getNanos() / 1000000;
-        long backendRequestSendTimestamp = properties.getTimeToFirstUpstreamTxByte().getSeconds() * 1000 +
-                properties.getTimeToFirstUpstreamTxByte().getNanos() / 1000000;
-        long downstreamResponseSendTimestamp = properties.getTimeToLastDownstreamTxByte().getSeconds() * 1000 +
-                properties.getTimeToLastDownstreamTxByte().getNanos() / 1000000;
-
-        Latencies latencies = new Latencies();
-        latencies.setBackendLatency(backendResponseRecvTimestamp - backendRequestSendTimestamp);
-        latencies.setRequestMediationLatency(backendRequestSendTimestamp);
-        latencies.setResponseLatency(downstreamResponseSendTimestamp);
-        latencies.setResponseMediationLatency(downstreamResponseSendTimestamp - backendResponseRecvTimestamp);
-        return latencies;
+        return event.getLatencies();
     }
 
     @Override
@@ -244,15 +236,7 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
     }
 
     private Map<String, Value> getFieldsMapFromLogEntry() {
-        if (logEntry.getCommonProperties() == null
-                || logEntry.getCommonProperties().getMetadata() == null
-                || logEntry.getCommonProperties().getMetadata().getFilterMetadataMap() == null
-                || !logEntry.getCommonProperties().getMetadata().getFilterMetadataMap()
-                .containsKey(MetadataConstants.EXT_AUTH_METADATA_CONTEXT_KEY)) {
-            return new HashMap<>(0);
-        }
-        return logEntry.getCommonProperties().getMetadata().getFilterMetadataMap()
-                .get(MetadataConstants.EXT_AUTH_METADATA_CONTEXT_KEY).getFieldsMap();
+        return event.getMetadata();
     }
 
     private void setCustomPropertiesMap(HTTPAccessLogEntry logEntry, Map<String, Object> customProperties) {
@@ -18,22 +18,19 @@
 
 package org.wso2.choreo.connect.enforcer.analytics;
 
-import io.envoyproxy.envoy.data.accesslog.v3.AccessLogCommon;
 import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
-import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
 import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
 import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultCategory;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Analytics Data Provider for MockAPIs Successful requests.
  * <p>
  * Note: MockAPI call failures is no different compared to regular api call failures. Hence, they are also handled
- * via the {@code ChoreoFaultAnalyticsProvider}.
+ * via the {@code ChoreoFaultAnalyticsProvider}. The latencies of mock API responses, which do not have a backend, are
+ * decoded by the {@link AccessLogEvent}.
  */
 public class ChoreoAnalyticsProviderForMockAPISuccess extends ChoreoAnalyticsProvider {
     private static final Logger logger = LogManager.getLogger(ChoreoAnalyticsProviderForMockAPISuccess.class);
@@ -42,6 +39,10 @@ public class ChoreoAnalyticsProviderForMockAPISuccess extends ChoreoAnalyticsPro
         super(logEntry);
     }
 
+    public ChoreoAnalyticsProviderForMockAPISuccess(AccessLogEvent event) {
+        super(event);
+    }
+
     @Override
     public EventCategory getEventCategory() {
         return EventCategory.SUCCESS;
@@ -53,25 +54,6 @@ public class ChoreoAnalyticsProviderForMockAPISuccess extends ChoreoAnalyticsPro
         return null;
     }
 
-    @Override
-    public Latencies getLatencies() {
-        // This method is only invoked for success requests. Hence all these properties will be available.
-        // The cors requests responded from the CORS filter are already filtered at this point.
-        AccessLogCommon properties = logEntry.getCommonProperties();
-        Latencies latencies = new Latencies();
-
-        long downstreamResponseSendTimeFromStart =
-                TimeUnit.SECONDS.toMillis(properties.getTimeToLastDownstreamTxByte().getSeconds()) +
-                        TimeUnit.NANOSECONDS.toMillis(properties.getTimeToLastDownstreamTxByte().getNanos());
-        // Mock APIs does not have a backend. Hence, backend latency remains 0.
-        latencies.setResponseLatency(downstreamResponseSendTimeFromStart);
-        latencies.setBackendLatency(0);
-        latencies.setRequestMediationLatency(downstreamResponseSendTimeFromStart);
-        latencies.setResponseMediationLatency(0);
-        return latencies;
-
-    }
-
     @Override
     public Error getError(FaultCategory faultCategory) {
         // Since this provider only handles success requests, getError method does not get called.
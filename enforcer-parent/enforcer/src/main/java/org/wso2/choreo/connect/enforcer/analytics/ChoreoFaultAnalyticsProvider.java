@@ -51,7 +51,7 @@ import java.util.Map;
  */
 public class ChoreoFaultAnalyticsProvider implements AnalyticsDataProvider {
     private final RequestContext requestContext;
-    private static Map<String, Object> customProperties = new HashMap<>();
+    private final Map<String, Object> customProperties = new HashMap<>();
     private final boolean isWebsocketUpgradeRequest;
 
     public ChoreoFaultAnalyticsProvider(RequestContext requestContext) {
@@ -18,7 +18,6 @@
 
 package org.wso2.choreo.connect.enforcer.analytics;
 
-import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
 import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -33,20 +32,26 @@ import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultCategor
 import org.wso2.choreo.connect.discovery.service.websocket.WebSocketFrameRequest;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.AnalyticsDTO;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.AnalyticsConstants;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.AnalyticsPublisherMetrics;
 import org.wso2.choreo.connect.enforcer.websocket.MetadataConstants;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.wso2.choreo.connect.enforcer.analytics.AnalyticsConstants.ERROR_SCHEMA;
 import static org.wso2.choreo.connect.enforcer.analytics.AnalyticsConstants.PUBLISHER_REPORTER_CLASS_CONFIG_KEY;
 import static org.wso2.choreo.connect.enforcer.analytics.AnalyticsConstants.RESPONSE_SCHEMA;
-import static org.wso2.choreo.connect.enforcer.constants.MetadataConstants.EXT_AUTH_METADATA_CONTEXT_KEY;
 
 /**
- * Default Analytics Event publisher to the analytics cloud.
+ * Default Analytics Event publisher to the analytics cloud. Access log entries are handed over to an
+ * {@link AnalyticsEventQueue}, so that the events are built and published by its workers instead of the thread
+ * receiving the access log stream.
  */
 public class DefaultAnalyticsEventPublisher implements AnalyticsEventPublisher {
     private static final String AUTH_TOKEN_KEY = "auth.api.token";
@@ -55,10 +60,12 @@ public class DefaultAnalyticsEventPublisher implements AnalyticsEventPublisher {
     public final String faultSchema;
 
     private static final Logger logger = LogManager.getLogger(DefaultAnalyticsEventPublisher.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private volatile AnalyticsEventQueue<AccessLogEvent> eventQueue;
 
     public DefaultAnalyticsEventPublisher() {
-        this.responseSchema = RESPONSE_SCHEMA;
-        this.faultSchema = ERROR_SCHEMA;
+        this(RESPONSE_SCHEMA, ERROR_SCHEMA);
     }
 
     public DefaultAnalyticsEventPublisher(String responseSchema, String faultSchema) {
@@ -68,19 +75,36 @@ public class DefaultAnalyticsEventPublisher implements AnalyticsEventPublisher {
 
     @Override
     public void handleGRPCLogMsg(StreamAccessLogsMessage message) {
-        for (int i = 0; i < message.getHttpLogs().getLogEntryCount(); i++) {
-            HTTPAccessLogEntry logEntry = message.getHttpLogs().getLogEntry(i);
-            logger.trace("Received logEntry from Router " + message.getIdentifier().getNode() +
+        handleAccessLogEvents(message, AccessLogEvent.decode(message));
+    }
+
+    @Override
+    public void handleAccessLogEvents(StreamAccessLogsMessage message, List<AccessLogEvent> events) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("Received logEntries from Router " + message.getIdentifier().getNode() +
                     " : " + message.toString());
-            if (doNotPublishEvent(logEntry)) {
+        }
+        AnalyticsEventQueue<AccessLogEvent> queue = eventQueue;
+        if (queue == null) {
+            logger.debug("Access log events are ignored as the analytics publisher is not initialized.");
+            return;
+        }
+        for (AccessLogEvent event : events) {
+            queue.offer(event);
+        }
+    }
+
+    private void publishAccessLogEvents(List<AccessLogEvent> events) {
+        for (AccessLogEvent event : events) {
+            if (doNotPublishEvent(event)) {
                 logger.debug("LogEntry is ignored as it is already published by the enforcer.");
                 continue;
             }
             AnalyticsDataProvider provider;
-            if (AnalyticsUtils.isMockAPISuccessRequest(logEntry)) {
-                provider = new ChoreoAnalyticsProviderForMockAPISuccess(logEntry);
+            if (event.isMockAPISuccess()) {
+                provider = new ChoreoAnalyticsProviderForMockAPISuccess(event);
             } else {
-                provider = new ChoreoAnalyticsProvider(logEntry);
+                provider = new ChoreoAnalyticsProvider(event);
             }
             // If the APIName is not available, the event should not be published.
             // 404 errors are not logged due to this.
@@ -100,6 +124,7 @@ public class DefaultAnalyticsEventPublisher implements AnalyticsEventPublisher {
 
     @Override
     public void init(Map<String, String> configuration) {
+        startEventQueue();
 
         if (StringUtils.isEmpty(configuration.get(PUBLISHER_REPORTER_CLASS_CONFIG_KEY))) {
 
@@ -134,11 +159,37 @@ public class DefaultAnalyticsEventPublisher implements AnalyticsEventPublisher {
         AnalyticsServiceReferenceHolder.getInstance().setConfigurations(commonConfiguration);
     }
 
-    private boolean doNotPublishEvent(HTTPAccessLogEntry logEntry) {
+    /**
+     * Starts the workers of the event queue. This is done in init, which is called once, instead of the
+     * constructor, so that creating a publisher does not start threads.
+     */
+    private void startEventQueue() {
+        AnalyticsDTO analyticsConfig = ConfigHolder.getInstance().getConfig().getAnalyticsConfig();
+        AnalyticsEventQueue<AccessLogEvent> queue = new AnalyticsEventQueue<>(
+                analyticsConfig.getPublisherQueueSize(), analyticsConfig.getPublisherWorkers(),
+                analyticsConfig.getPublisherBatchSize(), analyticsConfig.getPublisherFlushInterval(),
+                this::publishAccessLogEvents);
+        AnalyticsPublisherMetrics.getInstance().setQueue(queue);
+        queue.start();
+        eventQueue = queue;
+    }
+
+    /**
+     * Publishes the queued access log events before the enforcer shuts down.
+     */
+    @Override
+    public void shutdown() {
+        AnalyticsEventQueue<AccessLogEvent> queue = eventQueue;
+        if (queue != null) {
+            queue.shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private boolean doNotPublishEvent(AccessLogEvent event) {
 
         // If the logEntry corresponds to success mock api request, it should be published using logEntry.
         // IsMockAPI flag is only set when it corresponds to a success request.
-        if (AnalyticsUtils.isMockAPISuccessRequest(logEntry)) {
+        if (event.isMockAPISuccess()) {
             return false;
         }
 
@@ -146,35 +197,23 @@ public class DefaultAnalyticsEventPublisher implements AnalyticsEventPublisher {
         // There is a chance that the analytics event is published from enforcer and then result in ext_authz_error
         // responseCodeDetail due to some error/exception within enforcer implementation. This scenario is not
         // handled as it should be fixed from enforcer.
-        return (!StringUtils.isEmpty(logEntry.getResponse().getResponseCodeDetails()))
-                && logEntry.getResponse().getResponseCodeDetails()
-                .equals(AnalyticsConstants.EXT_AUTH_DENIED_RESPONSE_DETAIL)
+        return AnalyticsConstants.EXT_AUTH_DENIED_RESPONSE_DETAIL.equals(event.getResponseCodeDetails())
                 // Token endpoint calls needs to be removed as well
-                || (AnalyticsConstants.TOKEN_ENDPOINT_PATH.equals(logEntry.getCommonProperties().getRouteName()))
+                || (AnalyticsConstants.TOKEN_ENDPOINT_PATH.equals(event.getRouteName()))
                 // Health endpoint calls are not published
-                || (AnalyticsConstants.HEALTH_ENDPOINT_PATH.equals(logEntry.getCommonProperties().getRouteName()))
+                || (AnalyticsConstants.HEALTH_ENDPOINT_PATH.equals(event.getRouteName()))
                 // already published websocket log entries should not be published to the analytics again.
                 // JWKS endpoint calls should not be published
-                || (AnalyticsConstants.JWKS_ENDPOINT_PATH.equals(logEntry.getCommonProperties().getRouteName()))
-                || alreadyPublishedWebsocketHttpLogEntry(logEntry);
+                || (AnalyticsConstants.JWKS_ENDPOINT_PATH.equals(event.getRouteName()))
+                || alreadyPublishedWebsocketHttpLogEntry(event);
     }
 
     // If the access log entry has the status code of 101 and it is a websocket related log entry,
     // it corresponds to the successful websocket upgrade. And that event is handled via the
     // WebsocketResponseObserver.
-    private boolean alreadyPublishedWebsocketHttpLogEntry(HTTPAccessLogEntry logEntry) {
-        if (logEntry.hasCommonProperties() && logEntry.getCommonProperties().hasMetadata()
-                && logEntry.getCommonProperties().getMetadata().getFilterMetadataMap()
-                .get(EXT_AUTH_METADATA_CONTEXT_KEY) != null &&
-                logEntry.getCommonProperties().getMetadata()
-                .getFilterMetadataMap().get(EXT_AUTH_METADATA_CONTEXT_KEY).getFieldsMap()
-                .get(MetadataConstants.API_TYPE_KEY) != null) {
-            return APIConstants.ApiType.WEB_SOCKET.equals(logEntry.getCommonProperties().getMetadata()
-                    .getFilterMetadataMap().get(EXT_AUTH_METADATA_CONTEXT_KEY).getFieldsMap()
-                    .get(MetadataConstants.API_TYPE_KEY).getStringValue()) &&
-                    logEntry.getResponse().getResponseCode().getValue() == 101;
-        }
-        return false;
+    private boolean alreadyPublishedWebsocketHttpLogEntry(AccessLogEvent event) {
+        return APIConstants.ApiType.WEB_SOCKET.equals(event.getMetadataValue(MetadataConstants.API_TYPE_KEY))
+                && event.getResponseCode() == 101;
     }
 
     private void collectDataToPublish(AnalyticsDataProvider provider) {
@@ -192,5 +231,4 @@ public class DefaultAnalyticsEventPublisher implements AnalyticsEventPublisher {
                     ErrorDetails.errorLog(LoggingConstants.Severity.CRITICAL, 5100), e);
         }
     }
-
 }
@@ -26,9 +26,13 @@ import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.discovery.ApiDiscoveryClient;
+import org.wso2.choreo.connect.enforcer.discovery.common.IncrementalResourceApplier;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.ExtAuthMetrics;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -41,6 +45,9 @@ public class APIFactory {
 
     private static APIFactory apiFactory;
     private ConcurrentHashMap<String, API> apis = new ConcurrentHashMap<>();
+    // Only the APIs which are added or changed in a discovery response are initialized again.
+    private final IncrementalResourceApplier<String, Api, API> apiApplier = new IncrementalResourceApplier<>(
+            api -> getApiKey(api.getVhost(), api.getBasePath(), api.getVersion()), APIFactory::initApi);
 
     private APIFactory() {}
 
@@ -63,36 +70,40 @@ public class APIFactory {
 
     public void addApis(List<Api> apis) {
         //TODO: (Praminda) Use apiId as the map key. Need to add the apiId to envoy context meta
-        ConcurrentHashMap<String, API> newApis = new ConcurrentHashMap<>();
-
-        for (Api api : apis) {
-            if (APIConstants.ApiType.WEB_SOCKET.equals(api.getApiType())) {
-                WebSocketAPI webSocketAPI = new WebSocketAPI();
-                webSocketAPI.init(api);
-                String apiKey = getApiKey(webSocketAPI);
-                newApis.put(apiKey, webSocketAPI);
-            } else if (APIConstants.ApiType.GRAPHQL.equals(api.getApiType())) {
-                GraphQLAPI graphQLAPI = new GraphQLAPI();
-                graphQLAPI.init(api);
-                String apiKey = getApiKey(graphQLAPI);
-                newApis.put(apiKey, graphQLAPI);
-            } else {
-                RestAPI enforcerApi = new RestAPI();
-                enforcerApi.init(api);
-                String apiKey = getApiKey(enforcerApi);
-                newApis.put(apiKey, enforcerApi);
-            }
+        int changes = apiApplier.apply(apis, this.apis);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Total APIs in cache: {}, changed: {}", this.apis.size(), changes);
+        }
+        if (changes > 0) {
+            retainExtAuthMetrics();
         }
+    }
 
-        if (logger.isDebugEnabled()) {
-            logger.debug("Total APIs in new cache: {}", newApis.size());
+    private static API initApi(Api api) {
+        API enforcerApi;
+        if (APIConstants.ApiType.WEB_SOCKET.equals(api.getApiType())) {
+            enforcerApi = new WebSocketAPI();
+        } else if (APIConstants.ApiType.GRAPHQL.equals(api.getApiType())) {
+            enforcerApi = new GraphQLAPI();
+        } else {
+            enforcerApi = new RestAPI();
         }
-        this.apis = newApis;
+        enforcerApi.init(api);
+        return enforcerApi;
     }
 
     public void removeApi(API api) {
         String apiKey = getApiKey(api);
         apis.remove(apiKey);
+        retainExtAuthMetrics();
+    }
+
+    private void retainExtAuthMetrics() {
+        Set<String> basePaths = new HashSet<>();
+        for (API api : apis.values()) {
+            basePaths.add(api.getAPIConfig().getBasePath());
+        }
+        ExtAuthMetrics.retainAPIs(basePaths);
     }
 
     public API getMatchedAPI(CheckRequest request) {
@@ -120,11 +131,7 @@ public class APIFactory {
     }
 
     public ResourceConfig getMatchedResource(API api, String matchedResourcePath, String method) {
-        List<ResourceConfig> resourceConfigList = api.getAPIConfig().getResources();
-        return resourceConfigList.stream()
-                .filter(resourceConfig -> resourceConfig.getPath().equals(matchedResourcePath)).
-                        filter(resourceConfig -> (method == null) || resourceConfig.getMethod()
-                                .equals(ResourceConfig.HttpMethods.valueOf(method))).findFirst().orElse(null);
+        return api.getAPIConfig().getMatchedResource(matchedResourcePath, method);
     }
 
     // For WebSocket APIs since there are no resources in WebSocket APIs.
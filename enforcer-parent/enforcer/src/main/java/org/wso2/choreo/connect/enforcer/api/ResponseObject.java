@@ -40,6 +40,7 @@ public class ResponseObject {
     private Map<String, String> queryParamsToAdd;
     private Map<String, String> queryParams;
     private String requestPath;
+    private String apiBasePath;
     private String responseContent;
 
     public ArrayList<String> getRemoveHeaderMap() {
@@ -157,6 +158,14 @@ public class ResponseObject {
         this.requestPath = requestPath;
     }
 
+    public String getApiBasePath() {
+        return apiBasePath;
+    }
+
+    public void setApiBasePath(String apiBasePath) {
+        this.apiBasePath = apiBasePath;
+    }
+
     public String getResponsePayload() {
         return responseContent;
     }
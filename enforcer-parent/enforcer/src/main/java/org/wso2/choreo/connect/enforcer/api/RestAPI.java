@@ -214,7 +214,11 @@ public class RestAPI implements API {
             responseObject.setQueryParamsToRemove(requestContext.getQueryParamsToRemove());
             responseObject.setRemoveAllQueryParams(requestContext.isRemoveAllQueryParams());
             responseObject.setQueryParamsToAdd(requestContext.getQueryParamsToAdd());
-            responseObject.setQueryParamMap(requestContext.getQueryParameters());
+            // Query parameters are parsed only if the path has to be reconstructed with modified query parameters.
+            if (requestContext.isRemoveAllQueryParams() || !requestContext.getQueryParamsToRemove().isEmpty()
+                    || !requestContext.getQueryParamsToAdd().isEmpty()) {
+                responseObject.setQueryParamMap(requestContext.getQueryParameters());
+            }
             responseObject.setStatusCode(APIConstants.StatusCodes.OK.getCode());
             if (requestContext.getAddHeaders() != null && requestContext.getAddHeaders().size() > 0) {
                 responseObject.setHeaderMap(requestContext.getAddHeaders());
@@ -18,21 +18,59 @@
 
 package org.wso2.choreo.connect.enforcer.common;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.guava.CaffeinatedGuava;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.CacheDto;
+import org.wso2.choreo.connect.enforcer.config.dto.CacheSpecDto;
+import org.wso2.choreo.connect.enforcer.graphql.GraphQLQueryInfo;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.CacheMetrics;
 import org.wso2.choreo.connect.enforcer.security.jwt.SignedJWTInfo;
 import org.wso2.choreo.connect.enforcer.security.jwt.validator.JWTConstants;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Class for initiating and returning caches.
+ * <p>
+ * Each cache can be sized separately using the cache names defined here, and is backed by either Guava or
+ * Caffeine (W-TinyLFU eviction). Statistics of all caches are recorded and exposed via {@link CacheMetrics}.
  */
 public class CacheProvider {
+    private static final Logger log = LogManager.getLogger(CacheProvider.class);
+
+    public static final String GATEWAY_SIGNED_JWT_PARSE_CACHE = "gatewaySignedJWTParseCache";
+    public static final String GATEWAY_TOKEN_CACHE = "gatewayTokenCache";
+    public static final String GATEWAY_KEY_CACHE = "gatewayKeyCache";
+    public static final String INVALID_TOKEN_CACHE = "invalidTokenCache";
+    public static final String GATEWAY_JWT_TOKEN_CACHE = "gatewayJWTTokenCache";
+    public static final String GATEWAY_INTERNAL_KEY_CACHE = "gatewayInternalKeyCache";
+    public static final String GATEWAY_INTERNAL_KEY_DATA_CACHE = "gatewayInternalKeyDataCache";
+    public static final String INVALID_GATEWAY_INTERNAL_KEY_CACHE = "invalidGatewayInternalKeyCache";
+    public static final String GATEWAY_API_KEY_CACHE = "gatewayAPIKeyCache";
+    public static final String INVALID_GATEWAY_API_KEY_CACHE = "invalidGatewayAPIKeyCache";
+    public static final String GATEWAY_API_KEY_DATA_CACHE = "gatewayAPIKeyDataCache";
+    public static final String GRAPHQL_QUERY_CACHE = "graphQLQueryCache";
+    public static final String OPA_DECISION_CACHE = "opaDecisionCache";
+    public static final String INTROSPECTION_CACHE = "introspectionCache";
+    public static final Set<String> CACHE_NAMES = Set.of(GATEWAY_SIGNED_JWT_PARSE_CACHE, GATEWAY_TOKEN_CACHE,
+            GATEWAY_KEY_CACHE, INVALID_TOKEN_CACHE, GATEWAY_JWT_TOKEN_CACHE, GATEWAY_INTERNAL_KEY_CACHE,
+            GATEWAY_INTERNAL_KEY_DATA_CACHE, INVALID_GATEWAY_INTERNAL_KEY_CACHE, GATEWAY_API_KEY_CACHE,
+            INVALID_GATEWAY_API_KEY_CACHE, GATEWAY_API_KEY_DATA_CACHE, GRAPHQL_QUERY_CACHE, OPA_DECISION_CACHE,
+            INTROSPECTION_CACHE);
+
     private static LoadingCache<String, SignedJWTInfo> gatewaySignedJWTParseCache;
     private static LoadingCache<String, String> gatewayTokenCache;
     private static LoadingCache<String, JWTValidationInfo> gatewayKeyCache;
@@ -44,39 +82,131 @@ public class CacheProvider {
     private static LoadingCache<String, String> getGatewayAPIKeyCache;
     private static LoadingCache<String, String> getInvalidGatewayAPIKeyCache;
     private static LoadingCache<String, JWTValidationInfo> getGatewayAPIKeyDataCache;
+    private static Cache<GraphQLQueryInfo.Key, GraphQLQueryInfo> graphQLQueryCache;
+    private static final Map<String, Cache<?, ?>> caches = Collections.synchronizedMap(new LinkedHashMap<>());
 
     private static boolean cacheEnabled = true;
     public static void init() {
-        CacheDto cacheDto = ConfigHolder.getInstance().getConfig().getCacheDto();
+        init(ConfigHolder.getInstance().getConfig().getCacheDto());
+    }
+
+    static void init(CacheDto cacheDto) {
         cacheEnabled = cacheDto.isEnabled();
-        int maxSize = cacheDto.getMaximumSize();
-        int expiryTime = cacheDto.getExpiryTime();
-        gatewaySignedJWTParseCache = initCache(maxSize, expiryTime);
-        gatewayTokenCache = initCache(maxSize, expiryTime);
-        gatewayKeyCache = initCache(maxSize, expiryTime);
-        invalidTokenCache = initCache(maxSize, expiryTime);
-        gatewayJWTTokenCache = initCache(maxSize, expiryTime);
-        getGatewayInternalKeyCache = initCache(maxSize, expiryTime);
-        getGatewayInternalKeyDataCache = initCache(maxSize, expiryTime);
-        getInvalidGatewayInternalKeyCache = initCache(maxSize, expiryTime);
-        getGatewayAPIKeyCache = initCache(maxSize, expiryTime);
-        getInvalidGatewayAPIKeyCache = initCache(maxSize, expiryTime);
-        getGatewayAPIKeyDataCache = initCache(maxSize, expiryTime);
+        gatewaySignedJWTParseCache = initCache(GATEWAY_SIGNED_JWT_PARSE_CACHE, cacheDto);
+        gatewayTokenCache = initCache(GATEWAY_TOKEN_CACHE, cacheDto);
+        gatewayKeyCache = initCache(GATEWAY_KEY_CACHE, cacheDto);
+        invalidTokenCache = initCache(INVALID_TOKEN_CACHE, cacheDto);
+        gatewayJWTTokenCache = initCache(GATEWAY_JWT_TOKEN_CACHE, cacheDto);
+        getGatewayInternalKeyCache = initCache(GATEWAY_INTERNAL_KEY_CACHE, cacheDto);
+        getGatewayInternalKeyDataCache = initCache(GATEWAY_INTERNAL_KEY_DATA_CACHE, cacheDto);
+        getInvalidGatewayInternalKeyCache = initCache(INVALID_GATEWAY_INTERNAL_KEY_CACHE, cacheDto);
+        getGatewayAPIKeyCache = initCache(GATEWAY_API_KEY_CACHE, cacheDto);
+        getInvalidGatewayAPIKeyCache = initCache(INVALID_GATEWAY_API_KEY_CACHE, cacheDto);
+        getGatewayAPIKeyDataCache = initCache(GATEWAY_API_KEY_DATA_CACHE, cacheDto);
+        // Unlike the token caches, the query cache is not checked against the cache flag by its users.
+        if (cacheEnabled) {
+            graphQLQueryCache = initCacheWithoutLoader(GRAPHQL_QUERY_CACHE, cacheDto);
+        } else {
+            graphQLQueryCache = null;
+            caches.remove(GRAPHQL_QUERY_CACHE);
+        }
+        CacheMetrics.getInstance();
+    }
+
+    private static LoadingCache initCache(String cacheName, CacheDto cacheDto) {
+        CacheLoader<String, String> cacheLoader = new CacheLoader<String, String>() {    // build the cacheloader
+            @Override public String load(String s) throws Exception {
+                return JWTConstants.UNAVAILABLE;
+            }
+        };
+        LoadingCache cache;
+        if (CacheDto.BACKEND_CAFFEINE.equalsIgnoreCase(cacheDto.getBackend())) {
+            cache = CaffeinatedGuava.build(getCaffeineBuilder(cacheName, cacheDto), cacheLoader);
+        } else {
+            cache = getCacheBuilder(cacheName, cacheDto).build(cacheLoader);
+        }
+        caches.put(cacheName, cache);
+        return cache;
+    }
+
+    private static <K, V> Cache<K, V> initCacheWithoutLoader(String cacheName, CacheDto cacheDto) {
+        Cache<K, V> cache;
+        if (CacheDto.BACKEND_CAFFEINE.equalsIgnoreCase(cacheDto.getBackend())) {
+            cache = CaffeinatedGuava.build(getCaffeineBuilder(cacheName, cacheDto));
+        } else {
+            cache = getCacheBuilder(cacheName, cacheDto).build();
+        }
+        caches.put(cacheName, cache);
+        return cache;
+    }
+
+    private static Caffeine<Object, Object> getCaffeineBuilder(String cacheName, CacheDto cacheDto) {
+        CacheSpecDto cacheSpec = getCacheSpec(cacheName, cacheDto);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(cacheSpec.getMaximumSize())
+                .recordStats();
+        if (cacheSpec.isExpireAfterWrite()) {
+            builder.expireAfterWrite(cacheSpec.getExpiryTime(), TimeUnit.MINUTES);
+        } else {
+            builder.expireAfterAccess(cacheSpec.getExpiryTime(), TimeUnit.MINUTES);
+        }
+        return builder;
+    }
+
+    private static CacheBuilder<Object, Object> getCacheBuilder(String cacheName, CacheDto cacheDto) {
+        CacheSpecDto cacheSpec = getCacheSpec(cacheName, cacheDto);
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .maximumSize(cacheSpec.getMaximumSize())
+                .recordStats();
+        if (cacheSpec.isExpireAfterWrite()) {
+            builder.expireAfterWrite(cacheSpec.getExpiryTime(), TimeUnit.MINUTES);
+        } else {
+            builder.expireAfterAccess(cacheSpec.getExpiryTime(), TimeUnit.MINUTES);
+        }
+        return builder;
+    }
 
+    private static CacheSpecDto getCacheSpec(String cacheName, CacheDto cacheDto) {
+        CacheSpecDto cacheSpec = cacheDto.getCacheSpec(cacheName);
+        log.debug("Initializing {} cache: {} with maximum size: {}, expiry time: {} minutes, expire after write: {}",
+                cacheDto.getBackend(), cacheName, cacheSpec.getMaximumSize(), cacheSpec.getExpiryTime(),
+                cacheSpec.isExpireAfterWrite());
+        return cacheSpec;
     }
 
-    private static LoadingCache initCache(int maxSize, int expiryTime) {
-        return CacheBuilder.newBuilder()
-                .maximumSize(maxSize)                                  // maximum 10000 tokens can be cached
-                .expireAfterAccess(expiryTime, TimeUnit.MINUTES)      // cache will expire after 15 minutes of access
-                .build(new CacheLoader<String, String>() {            // build the cacheloader
-                    @Override public String load(String s) throws Exception {
-                        return JWTConstants.UNAVAILABLE;
-                    }
+    /**
+     * Registers a cache which is built by its user, such as a cache with a variable expiry per entry, so that its
+     * statistics are exposed along with the other caches. The cache is expected to be sized using the
+     * configuration of the cache name, see {@link CacheDto#getCacheSpec(String)}.
+     *
+     * @param cacheName name of the cache, one of {@link #CACHE_NAMES}
+     * @param cache     cache which records statistics
+     */
+    public static void registerCache(String cacheName, Cache<?, ?> cache) {
+        caches.put(cacheName, cache);
+    }
 
-                });
+    /**
+     * @return statistics of the caches by cache name
+     */
+    public static Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> cacheStats = new LinkedHashMap<>();
+        synchronized (caches) {
+            caches.forEach((cacheName, cache) -> cacheStats.put(cacheName, cache.stats()));
+        }
+        return cacheStats;
     }
 
+    /**
+     * @return number of entries in the caches by cache name
+     */
+    public static Map<String, Long> getCacheSizes() {
+        Map<String, Long> cacheSizes = new LinkedHashMap<>();
+        synchronized (caches) {
+            caches.forEach((cacheName, cache) -> cacheSizes.put(cacheName, cache.size()));
+        }
+        return cacheSizes;
+    }
 
     /**
      * @return Gateway Internal Key cache
@@ -155,4 +285,11 @@ public class CacheProvider {
     public static LoadingCache getInvalidGatewayAPIKeyCache() {
         return getInvalidGatewayAPIKeyCache;
     }
+
+    /**
+     * @return parsed GraphQL query cache, or {@code null} if caching is disabled
+     */
+    public static Cache<GraphQLQueryInfo.Key, GraphQLQueryInfo> getGraphQLQueryCache() {
+        return graphQLQueryCache;
+    }
 }
@@ -55,6 +55,7 @@ import org.wso2.choreo.connect.discovery.config.enforcer.TMURLGroup;
 import org.wso2.choreo.connect.discovery.config.enforcer.ThrottleAgent;
 import org.wso2.choreo.connect.discovery.config.enforcer.Throttling;
 import org.wso2.choreo.connect.discovery.config.enforcer.Tracing;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
 import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
@@ -64,6 +65,7 @@ import org.wso2.choreo.connect.enforcer.config.dto.AnalyticsReceiverConfigDTO;
 import org.wso2.choreo.connect.enforcer.config.dto.AuthHeaderDto;
 import org.wso2.choreo.connect.enforcer.config.dto.AuthServiceConfigurationDto;
 import org.wso2.choreo.connect.enforcer.config.dto.CacheDto;
+import org.wso2.choreo.connect.enforcer.config.dto.CacheSpecDto;
 import org.wso2.choreo.connect.enforcer.config.dto.CredentialDto;
 import org.wso2.choreo.connect.enforcer.config.dto.ExtendedTokenIssuerDto;
 import org.wso2.choreo.connect.enforcer.config.dto.FilterDTO;
@@ -99,6 +101,7 @@ import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPublicKey;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -334,6 +337,7 @@ public class ConfigHolder {
         throttleConfig.setJwtClaimConditionsEnabled(throttling.getEnableJwtClaimConditions());
         throttleConfig.setJmsConnectionInitialContextFactory(throttling.getJmsConnectionInitialContextFactory());
         throttleConfig.setJmsConnectionProviderUrl(throttling.getJmsConnectionProviderUrl());
+        throttleConfig.setLocalThrottlingEnabled(getEnvVarConfig().isLocalThrottlingEnabled());
         config.setThrottleConfig(throttleConfig);
         populateTMBinaryConfig(throttling.getPublisher());
     }
@@ -374,6 +378,7 @@ public class ConfigHolder {
         agentConf.setSslEnabledProtocols(binaryAgent.getSslEnabledProtocols());
         agentConf.setSocketTimeoutMS(binaryAgent.getSocketTimeoutMS());
         agentConf.setTrustStore(trustStore);
+        agentConf.setWaitStrategy(getEnvVarConfig().getThrottlePublisherWaitStrategy());
 
         PublisherPool pool = binary.getPool();
         ThrottlePublisherConfigDto pubConf = new ThrottlePublisherConfigDto();
@@ -384,6 +389,10 @@ public class ConfigHolder {
         pubConf.setPublisherThreadPoolCoreSize(pool.getPublisherThreadPoolCoreSize());
         pubConf.setPublisherThreadPoolKeepAliveTime(pool.getPublisherThreadPoolKeepAliveTime());
         pubConf.setPublisherThreadPoolMaximumSize(pool.getPublisherThreadPoolMaximumSize());
+        pubConf.setPublisherQueueSize(getEnvVarConfig().getThrottlePublisherQueueSize());
+        pubConf.setPublisherOverflowPolicy(getEnvVarConfig().getThrottlePublisherOverflowPolicy());
+        pubConf.setPublisherSampleRate(getEnvVarConfig().getThrottlePublisherSampleRate());
+        pubConf.setEventAggregationWindow(getEnvVarConfig().getThrottleEventAggregationWindow());
 
         processTMPublisherURLGroup(binary.getUrlGroupList(), pubConf);
 
@@ -583,8 +592,74 @@ public class ConfigHolder {
         cacheDto.setEnabled(cache.getEnable());
         cacheDto.setMaximumSize(cache.getMaximumSize());
         cacheDto.setExpiryTime(cache.getExpiryTime());
+        cacheDto.setBackend(getEnvVarConfig().getCacheBackend());
+        cacheDto.setCacheSpecs(parseCacheSpecs(getEnvVarConfig().getCacheSpecs(), cacheDto));
         config.setCacheDto(cacheDto);
     }
+
+    /**
+     * Parses the per cache configurations. Properties which are not specified for a cache are taken from the
+     * common cache configuration.
+     *
+     * @param cacheSpecs cache specs in the format
+     *                   {@code <cache>:maximumSize=<n>,expireAfterAccess=<minutes>;<cache>:expireAfterWrite=<minutes>}
+     * @param cacheDto   common cache configuration
+     * @return cache configurations by cache name. Specs which are invalid, have a negative value or refer to an
+     *         unknown cache are ignored.
+     */
+    static Map<String, CacheSpecDto> parseCacheSpecs(String cacheSpecs, CacheDto cacheDto) {
+        Map<String, CacheSpecDto> cacheSpecMap = new HashMap<>();
+        if (StringUtils.isBlank(cacheSpecs)) {
+            return cacheSpecMap;
+        }
+        for (String cacheSpec : cacheSpecs.split(";")) {
+            String[] nameAndProperties = cacheSpec.split(":", 2);
+            if (nameAndProperties.length != 2 || StringUtils.isBlank(nameAndProperties[0])) {
+                logger.warn("Ignoring invalid cache spec: {}", cacheSpec);
+                continue;
+            }
+            String cacheName = nameAndProperties[0].trim();
+            if (!CacheProvider.CACHE_NAMES.contains(cacheName)) {
+                logger.warn("Ignoring cache spec of unknown cache: {}. Known caches are: {}", cacheName,
+                        CacheProvider.CACHE_NAMES);
+                continue;
+            }
+            CacheSpecDto cacheSpecDto = new CacheSpecDto(cacheDto.getMaximumSize(), cacheDto.getExpiryTime(), false);
+            try {
+                for (String property : nameAndProperties[1].split(",")) {
+                    String[] keyValue = property.split("=", 2);
+                    if (keyValue.length != 2) {
+                        throw new IllegalArgumentException("Invalid property: " + property);
+                    }
+                    int value = Integer.parseInt(keyValue[1].trim());
+                    if (value < 0) {
+                        throw new IllegalArgumentException("Negative value of property: " + keyValue[0].trim());
+                    }
+                    switch (keyValue[0].trim()) {
+                        case "maximumSize":
+                            cacheSpecDto.setMaximumSize(value);
+                            break;
+                        case "expireAfterAccess":
+                            cacheSpecDto.setExpiryTime(value);
+                            cacheSpecDto.setExpireAfterWrite(false);
+                            break;
+                        case "expireAfterWrite":
+                            cacheSpecDto.setExpiryTime(value);
+                            cacheSpecDto.setExpireAfterWrite(true);
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Unknown property: " + keyValue[0]);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException is also an IllegalArgumentException
+                logger.warn("Ignoring invalid cache spec: {}. {}", cacheSpec, e.getMessage());
+                continue;
+            }
+            cacheSpecMap.put(cacheName, cacheSpecDto);
+        }
+        return cacheSpecMap;
+    }
     private void populateAnalyticsConfig(Analytics analyticsConfig) {
 
         AnalyticsReceiverConfigDTO serverConfig = new AnalyticsReceiverConfigDTO();
@@ -605,6 +680,10 @@ public class ConfigHolder {
         analyticsDTO.setType(analyticsConfig.getType());
         analyticsDTO.setConfigProperties(analyticsConfig.getConfigPropertiesMap());
         analyticsDTO.setServerConfig(serverConfig);
+        analyticsDTO.setPublisherQueueSize(getEnvVarConfig().getAnalyticsPublisherQueueSize());
+        analyticsDTO.setPublisherWorkers(getEnvVarConfig().getAnalyticsPublisherWorkers());
+        analyticsDTO.setPublisherBatchSize(getEnvVarConfig().getAnalyticsPublisherBatchSize());
+        analyticsDTO.setPublisherFlushInterval(getEnvVarConfig().getAnalyticsPublisherFlushInterval());
         config.setAnalyticsConfig(analyticsDTO);
 
     }
@@ -19,12 +19,16 @@
 package org.wso2.choreo.connect.enforcer.config;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.wso2.choreo.connect.enforcer.constants.Constants;
 
 /**
  * Holds and returns the configuration values retrieved from the environment variables.
  */
 public class EnvVarConfig {
+    private static final Logger log = LogManager.getLogger(EnvVarConfig.class);
+
     private static final String TRUSTED_CA_CERTS_PATH = "TRUSTED_CA_CERTS_PATH";
     private static final String TRUST_DEFAULT_CERTS = "TRUST_DEFAULT_CERTS";
     private static final String ADAPTER_HOST_NAME = "ADAPTER_HOST_NAME";
@@ -40,6 +44,23 @@ public class EnvVarConfig {
     public static final String XDS_MAX_RETRIES = "XDS_MAX_RETRIES";
     public static final String XDS_RETRY_PERIOD = "XDS_RETRY_PERIOD";
     public static final String HOSTNAME = "HOSTNAME";
+    private static final String LOCAL_THROTTLING_ENABLED = "LOCAL_THROTTLING_ENABLED";
+    private static final String JWKS_REFRESH_INTERVAL = "JWKS_REFRESH_INTERVAL";
+    private static final String CACHE_BACKEND = "CACHE_BACKEND";
+    private static final String CACHE_SPECS = "CACHE_SPECS";
+    private static final String OPA_DECISION_CACHE_MAX_TTL = "OPA_DECISION_CACHE_MAX_TTL";
+    private static final String INTROSPECTION_CACHE_MAX_TTL = "INTROSPECTION_CACHE_MAX_TTL";
+    private static final String INTROSPECTION_CACHE_INACTIVE_TTL = "INTROSPECTION_CACHE_INACTIVE_TTL";
+    private static final String THROTTLE_PUBLISHER_WAIT_STRATEGY = "THROTTLE_PUBLISHER_WAIT_STRATEGY";
+    private static final String THROTTLE_PUBLISHER_QUEUE_SIZE = "THROTTLE_PUBLISHER_QUEUE_SIZE";
+    private static final String THROTTLE_PUBLISHER_OVERFLOW_POLICY = "THROTTLE_PUBLISHER_OVERFLOW_POLICY";
+    private static final String THROTTLE_PUBLISHER_SAMPLE_RATE = "THROTTLE_PUBLISHER_SAMPLE_RATE";
+    private static final String THROTTLE_EVENT_AGGREGATION_WINDOW = "THROTTLE_EVENT_AGGREGATION_WINDOW";
+    private static final String ANALYTICS_PUBLISHER_QUEUE_SIZE = "ANALYTICS_PUBLISHER_QUEUE_SIZE";
+    private static final String ANALYTICS_PUBLISHER_WORKERS = "ANALYTICS_PUBLISHER_WORKERS";
+    private static final String ANALYTICS_PUBLISHER_BATCH_SIZE = "ANALYTICS_PUBLISHER_BATCH_SIZE";
+    private static final String ANALYTICS_PUBLISHER_FLUSH_INTERVAL = "ANALYTICS_PUBLISHER_FLUSH_INTERVAL";
+    private static final String PROMETHEUS_METRICS_ENABLED = "PROMETHEUS_METRICS_ENABLED";
 
     // Since the container is running in linux container, path separator is not needed.
     private static final String DEFAULT_TRUSTED_CA_CERTS_PATH = "/home/wso2/security/truststore";
@@ -55,6 +76,23 @@ public class EnvVarConfig {
     public static final String DEFAULT_XDS_MAX_RETRIES = Integer.toString(Constants.MAX_XDS_RETRIES);
     public static final String DEFAULT_XDS_RETRY_PERIOD = Integer.toString(Constants.XDS_DEFAULT_RETRY);
     public static final String DEFAULT_HOSTNAME = "Unassigned";
+    private static final String DEFAULT_LOCAL_THROTTLING_ENABLED = "true";
+    private static final long DEFAULT_JWKS_REFRESH_INTERVAL = 300;
+    private static final String DEFAULT_CACHE_BACKEND = "guava";
+    private static final String DEFAULT_CACHE_SPECS = "";
+    private static final long DEFAULT_OPA_DECISION_CACHE_MAX_TTL = 300;
+    private static final long DEFAULT_INTROSPECTION_CACHE_MAX_TTL = 30;
+    private static final long DEFAULT_INTROSPECTION_CACHE_INACTIVE_TTL = 30;
+    private static final String DEFAULT_THROTTLE_PUBLISHER_WAIT_STRATEGY = "blocking";
+    private static final long DEFAULT_THROTTLE_PUBLISHER_QUEUE_SIZE = 10000;
+    private static final String DEFAULT_THROTTLE_PUBLISHER_OVERFLOW_POLICY = "drop";
+    private static final long DEFAULT_THROTTLE_PUBLISHER_SAMPLE_RATE = 10;
+    private static final long DEFAULT_THROTTLE_EVENT_AGGREGATION_WINDOW = 0;
+    private static final long DEFAULT_ANALYTICS_PUBLISHER_QUEUE_SIZE = 10000;
+    private static final long DEFAULT_ANALYTICS_PUBLISHER_WORKERS = 2;
+    private static final long DEFAULT_ANALYTICS_PUBLISHER_BATCH_SIZE = 100;
+    private static final long DEFAULT_ANALYTICS_PUBLISHER_FLUSH_INTERVAL = 1000;
+    private static final String DEFAULT_PROMETHEUS_METRICS_ENABLED = "false";
 
     private static EnvVarConfig instance;
     private final String trustedAdapterCertsPath;
@@ -74,6 +112,23 @@ public class EnvVarConfig {
     private final String xdsMaxRetries;
     private final String xdsRetryPeriod;
     private final String instanceIdentifier;
+    private final String localThrottlingEnabled;
+    private final long jwksRefreshInterval;
+    private final String cacheBackend;
+    private final String cacheSpecs;
+    private final long opaDecisionCacheMaxTTL;
+    private final long introspectionCacheMaxTTL;
+    private final long introspectionCacheInactiveTTL;
+    private final String throttlePublisherWaitStrategy;
+    private final int throttlePublisherQueueSize;
+    private final String throttlePublisherOverflowPolicy;
+    private final int throttlePublisherSampleRate;
+    private final int throttleEventAggregationWindow;
+    private final int analyticsPublisherQueueSize;
+    private final int analyticsPublisherWorkers;
+    private final int analyticsPublisherBatchSize;
+    private final int analyticsPublisherFlushInterval;
+    private final String prometheusMetricsEnabled;
 
     private EnvVarConfig() {
         trustedAdapterCertsPath = retrieveEnvVarOrDefault(TRUSTED_CA_CERTS_PATH,
@@ -99,6 +154,37 @@ public class EnvVarConfig {
         // HOSTNAME environment property is readily available in docker and kubernetes, and it represents the Pod
         // name in Kubernetes context, containerID in docker context.
         instanceIdentifier = retrieveEnvVarOrDefault(HOSTNAME, DEFAULT_HOSTNAME);
+        localThrottlingEnabled = retrieveEnvVarOrDefault(LOCAL_THROTTLING_ENABLED, DEFAULT_LOCAL_THROTTLING_ENABLED);
+        jwksRefreshInterval = retrieveNumericEnvVarOrDefault(JWKS_REFRESH_INTERVAL, DEFAULT_JWKS_REFRESH_INTERVAL, 1,
+                Long.MAX_VALUE);
+        cacheBackend = retrieveEnvVarOrDefault(CACHE_BACKEND, DEFAULT_CACHE_BACKEND);
+        cacheSpecs = retrieveEnvVarOrDefault(CACHE_SPECS, DEFAULT_CACHE_SPECS);
+        opaDecisionCacheMaxTTL = retrieveNumericEnvVarOrDefault(OPA_DECISION_CACHE_MAX_TTL,
+                DEFAULT_OPA_DECISION_CACHE_MAX_TTL, 1, Long.MAX_VALUE);
+        introspectionCacheMaxTTL = retrieveNumericEnvVarOrDefault(INTROSPECTION_CACHE_MAX_TTL,
+                DEFAULT_INTROSPECTION_CACHE_MAX_TTL, 1, Long.MAX_VALUE);
+        introspectionCacheInactiveTTL = retrieveNumericEnvVarOrDefault(INTROSPECTION_CACHE_INACTIVE_TTL,
+                DEFAULT_INTROSPECTION_CACHE_INACTIVE_TTL, 1, Long.MAX_VALUE);
+        throttlePublisherWaitStrategy = retrieveEnvVarOrDefault(THROTTLE_PUBLISHER_WAIT_STRATEGY,
+                DEFAULT_THROTTLE_PUBLISHER_WAIT_STRATEGY);
+        throttlePublisherQueueSize = (int) retrieveNumericEnvVarOrDefault(THROTTLE_PUBLISHER_QUEUE_SIZE,
+                DEFAULT_THROTTLE_PUBLISHER_QUEUE_SIZE, 1, Integer.MAX_VALUE);
+        throttlePublisherOverflowPolicy = retrieveEnvVarOrDefault(THROTTLE_PUBLISHER_OVERFLOW_POLICY,
+                DEFAULT_THROTTLE_PUBLISHER_OVERFLOW_POLICY);
+        throttlePublisherSampleRate = (int) retrieveNumericEnvVarOrDefault(THROTTLE_PUBLISHER_SAMPLE_RATE,
+                DEFAULT_THROTTLE_PUBLISHER_SAMPLE_RATE, 1, Integer.MAX_VALUE);
+        throttleEventAggregationWindow = (int) retrieveNumericEnvVarOrDefault(THROTTLE_EVENT_AGGREGATION_WINDOW,
+                DEFAULT_THROTTLE_EVENT_AGGREGATION_WINDOW, 0, Integer.MAX_VALUE);
+        analyticsPublisherQueueSize = (int) retrieveNumericEnvVarOrDefault(ANALYTICS_PUBLISHER_QUEUE_SIZE,
+                DEFAULT_ANALYTICS_PUBLISHER_QUEUE_SIZE, 1, Integer.MAX_VALUE);
+        analyticsPublisherWorkers = (int) retrieveNumericEnvVarOrDefault(ANALYTICS_PUBLISHER_WORKERS,
+                DEFAULT_ANALYTICS_PUBLISHER_WORKERS, 1, Integer.MAX_VALUE);
+        analyticsPublisherBatchSize = (int) retrieveNumericEnvVarOrDefault(ANALYTICS_PUBLISHER_BATCH_SIZE,
+                DEFAULT_ANALYTICS_PUBLISHER_BATCH_SIZE, 1, Integer.MAX_VALUE);
+        analyticsPublisherFlushInterval = (int) retrieveNumericEnvVarOrDefault(ANALYTICS_PUBLISHER_FLUSH_INTERVAL,
+                DEFAULT_ANALYTICS_PUBLISHER_FLUSH_INTERVAL, 1, Integer.MAX_VALUE);
+        prometheusMetricsEnabled = retrieveEnvVarOrDefault(PROMETHEUS_METRICS_ENABLED,
+                DEFAULT_PROMETHEUS_METRICS_ENABLED);
     }
 
     public static EnvVarConfig getInstance() {
@@ -120,6 +206,24 @@ public class EnvVarConfig {
         return System.getenv(variable);
     }
 
+    private long retrieveNumericEnvVarOrDefault(String variable, long defaultValue, long minValue, long maxValue) {
+        String value = System.getenv(variable);
+        if (StringUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+        try {
+            long parsedValue = Long.parseLong(value.trim());
+            if (parsedValue >= minValue && parsedValue <= maxValue) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // falls back to the default below
+        }
+        log.warn("Invalid value: {} for the environment variable: {}. Hence using the default: {}", value, variable,
+                defaultValue);
+        return defaultValue;
+    }
+
     public String getTrustedAdapterCertsPath() {
         return trustedAdapterCertsPath;
     }
@@ -180,4 +284,105 @@ public class EnvVarConfig {
     public String getInstanceIdentifier() {
         return instanceIdentifier;
     }
+
+    public boolean isLocalThrottlingEnabled() {
+        return Boolean.parseBoolean(localThrottlingEnabled);
+    }
+
+    /**
+     * @return interval in seconds for refreshing the cached JWKS
+     */
+    public long getJwksRefreshInterval() {
+        return jwksRefreshInterval;
+    }
+
+    public String getCacheBackend() {
+        return cacheBackend;
+    }
+
+    /**
+     * Per cache sizing and expiry configurations in the format
+     * {@code <cache>:maximumSize=<n>,expireAfterAccess=<minutes>;<cache>:expireAfterWrite=<minutes>}.
+     *
+     * @return cache specs
+     */
+    public String getCacheSpecs() {
+        return cacheSpecs;
+    }
+
+    /**
+     * Upper bound in seconds for the TTL of the cached OPA decisions, including the TTLs hinted by the OPA server.
+     *
+     * @return maximum TTL of the OPA decision cache
+     */
+    public long getOpaDecisionCacheMaxTTL() {
+        return opaDecisionCacheMaxTTL;
+    }
+
+    /**
+     * Upper bound in seconds for caching the introspection results of active tokens, which are otherwise cached
+     * until the expiry of the token.
+     *
+     * @return maximum TTL of the introspection cache
+     */
+    public long getIntrospectionCacheMaxTTL() {
+        return introspectionCacheMaxTTL;
+    }
+
+    /**
+     * @return TTL in seconds for caching the introspection results of inactive tokens
+     */
+    public long getIntrospectionCacheInactiveTTL() {
+        return introspectionCacheInactiveTTL;
+    }
+
+    public String getThrottlePublisherWaitStrategy() {
+        return throttlePublisherWaitStrategy;
+    }
+
+    public int getThrottlePublisherQueueSize() {
+        return throttlePublisherQueueSize;
+    }
+
+    public String getThrottlePublisherOverflowPolicy() {
+        return throttlePublisherOverflowPolicy;
+    }
+
+    public int getThrottlePublisherSampleRate() {
+        return throttlePublisherSampleRate;
+    }
+
+    /**
+     * Window in milliseconds for aggregating the throttle events of the same throttle keys, 0 to disable. The
+     * request properties, i.e. the client IP, headers, query parameters and JWT claims, are a part of the key, since
+     * the conditional policies are evaluated against them at the traffic manager. Hence the events of requests which
+     * differ in any of them, e.g. in the x-request-id header or in the jti claim, are not aggregated. Aggregation
+     * only pays off with the header, query parameter and JWT claim conditions disabled in the throttling config,
+     * and for clients calling from the same IP.
+     *
+     * @return throttle event aggregation window in milliseconds
+     */
+    public int getThrottleEventAggregationWindow() {
+        return throttleEventAggregationWindow;
+    }
+
+    public int getAnalyticsPublisherQueueSize() {
+        return analyticsPublisherQueueSize;
+    }
+
+    public int getAnalyticsPublisherWorkers() {
+        return analyticsPublisherWorkers;
+    }
+
+    public int getAnalyticsPublisherBatchSize() {
+        return analyticsPublisherBatchSize;
+    }
+
+    public int getAnalyticsPublisherFlushInterval() {
+        return analyticsPublisherFlushInterval;
+    }
+
+    public boolean isPrometheusMetricsEnabled() {
+        return Boolean.parseBoolean(prometheusMetricsEnabled);
+    }
 }
@@ -29,6 +29,10 @@ public class AnalyticsDTO {
     private String type;
     private Map<String, String> configProperties;
     private AnalyticsReceiverConfigDTO serverConfig;
+    private int publisherQueueSize;
+    private int publisherWorkers;
+    private int publisherBatchSize;
+    private int publisherFlushInterval;
 
     public boolean isEnabled() {
         return isEnabled;
@@ -61,4 +65,48 @@ public class AnalyticsDTO {
     public void setConfigProperties(Map<String, String> configProperties) {
         this.configProperties = configProperties;
     }
+
+    /**
+     * @return maximum number of access log events waiting to be published
+     */
+    public int getPublisherQueueSize() {
+        return publisherQueueSize;
+    }
+
+    public void setPublisherQueueSize(int publisherQueueSize) {
+        this.publisherQueueSize = publisherQueueSize;
+    }
+
+    /**
+     * @return number of threads publishing the access log events
+     */
+    public int getPublisherWorkers() {
+        return publisherWorkers;
+    }
+
+    public void setPublisherWorkers(int publisherWorkers) {
+        this.publisherWorkers = publisherWorkers;
+    }
+
+    /**
+     * @return maximum number of access log events published at once
+     */
+    public int getPublisherBatchSize() {
+        return publisherBatchSize;
+    }
+
+    public void setPublisherBatchSize(int publisherBatchSize) {
+        this.publisherBatchSize = publisherBatchSize;
+    }
+
+    /**
+     * @return maximum time in milliseconds to wait for a batch of access log events to fill up
+     */
+    public int getPublisherFlushInterval() {
+        return publisherFlushInterval;
+    }
+
+    public void setPublisherFlushInterval(int publisherFlushInterval) {
+        this.publisherFlushInterval = publisherFlushInterval;
+    }
 }
@@ -18,13 +18,21 @@
 
 package org.wso2.choreo.connect.enforcer.config.dto;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Holds the configurations related to caching used for token validation.
  */
 public class CacheDto {
+    public static final String BACKEND_GUAVA = "guava";
+    public static final String BACKEND_CAFFEINE = "caffeine";
+
     private boolean enabled;
     private int maximumSize;
     private int expiryTime;
+    private String backend = BACKEND_GUAVA;
+    private Map<String, CacheSpecDto> cacheSpecs = new HashMap<>();
 
     public boolean isEnabled() {
         return enabled;
@@ -49,4 +57,35 @@ public class CacheDto {
     public void setExpiryTime(int expiryTime) {
         this.expiryTime = expiryTime;
     }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public void setBackend(String backend) {
+        this.backend = backend;
+    }
+
+    public Map<String, CacheSpecDto> getCacheSpecs() {
+        return cacheSpecs;
+    }
+
+    public void setCacheSpecs(Map<String, CacheSpecDto> cacheSpecs) {
+        this.cacheSpecs = cacheSpecs;
+    }
+
+    /**
+     * Returns the configuration of the given cache. Caches without a specific configuration use the common
+     * maximum size and expiry time, with entries expiring after the last access.
+     *
+     * @param cacheName name of the cache
+     * @return cache configuration
+     */
+    public CacheSpecDto getCacheSpec(String cacheName) {
+        CacheSpecDto cacheSpec = cacheSpecs.get(cacheName);
+        if (cacheSpec == null) {
+            return new CacheSpecDto(maximumSize, expiryTime, false);
+        }
+        return cacheSpec;
+    }
 }
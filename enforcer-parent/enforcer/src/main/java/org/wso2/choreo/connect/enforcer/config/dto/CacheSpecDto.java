@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.config.dto;
+
+/**
+ * Holds the sizing and expiry configurations of a single cache.
+ */
+public class CacheSpecDto {
+    private int maximumSize;
+    private int expiryTime;
+    private boolean expireAfterWrite;
+
+    public CacheSpecDto(int maximumSize, int expiryTime, boolean expireAfterWrite) {
+        this.maximumSize = maximumSize;
+        this.expiryTime = expiryTime;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return expiry time in minutes
+     */
+    public int getExpiryTime() {
+        return expiryTime;
+    }
+
+    public void setExpiryTime(int expiryTime) {
+        this.expiryTime = expiryTime;
+    }
+
+    /**
+     * @return true if entries expire after a fixed time from the last write, false if entries expire after a
+     * fixed time from the last access
+     */
+    public boolean isExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(boolean expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+}
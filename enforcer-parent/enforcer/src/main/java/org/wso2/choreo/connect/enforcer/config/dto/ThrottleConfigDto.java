@@ -30,6 +30,7 @@ public class ThrottleConfigDto {
     private boolean isHeaderConditionsEnabled;
     private boolean isQueryConditionsEnabled;
     private boolean isJwtClaimConditionsEnabled;
+    private boolean isLocalThrottlingEnabled;
     private String jmsConnectionInitialContextFactory;
     private String jmsConnectionProviderUrl;
     private ThrottleAgentConfigDto throttleAgent;
@@ -66,6 +67,14 @@ public class ThrottleConfigDto {
         isJwtClaimConditionsEnabled = jwtClaimConditionsEnabled;
     }
 
+    public boolean isLocalThrottlingEnabled() {
+        return isLocalThrottlingEnabled;
+    }
+
+    public void setLocalThrottlingEnabled(boolean localThrottlingEnabled) {
+        isLocalThrottlingEnabled = localThrottlingEnabled;
+    }
+
     public ThrottleAgentConfigDto getThrottleAgent() {
         return throttleAgent;
     }
@@ -29,12 +29,19 @@ import java.util.Map;
  */
 public class ThrottlePublisherConfigDto {
     private static final Logger log = LogManager.getLogger(ThrottlePublisherConfigDto.class);
+    public static final String OVERFLOW_POLICY_DROP = "drop";
+    public static final String OVERFLOW_POLICY_SAMPLE = "sample";
+    public static final String OVERFLOW_POLICY_BLOCK = "block";
 
     private int maxIdleDataPublishingAgents;
     private int initIdleObjectDataPublishingAgents;
     private int publisherThreadPoolCoreSize;
     private int publisherThreadPoolMaximumSize;
     private int publisherThreadPoolKeepAliveTime;
+    private int publisherQueueSize;
+    private String publisherOverflowPolicy = OVERFLOW_POLICY_DROP;
+    private int publisherSampleRate;
+    private int eventAggregationWindow;
 
     private String receiverUrlGroup;
     private String authUrlGroup;
@@ -105,6 +112,57 @@ public class ThrottlePublisherConfigDto {
         return authUrlGroup;
     }
 
+    /**
+     * @return maximum number of throttle events waiting for a publisher thread
+     */
+    public int getPublisherQueueSize() {
+        return publisherQueueSize;
+    }
+
+    public void setPublisherQueueSize(int publisherQueueSize) {
+        this.publisherQueueSize = publisherQueueSize;
+    }
+
+    /**
+     * Policy applied to the throttle events when the publisher queue is full. {@code drop} drops the events,
+     * {@code block} blocks the request thread for a bounded time until the queue has capacity and drops the events
+     * afterwards, and {@code sample} publishes only one in every {@link #getPublisherSampleRate()} events once the
+     * queue is half full, and drops the events when the queue is full.
+     *
+     * @return overflow policy of the publisher queue
+     */
+    public String getPublisherOverflowPolicy() {
+        return publisherOverflowPolicy;
+    }
+
+    public void setPublisherOverflowPolicy(String publisherOverflowPolicy) {
+        this.publisherOverflowPolicy = publisherOverflowPolicy;
+    }
+
+    public int getPublisherSampleRate() {
+        return publisherSampleRate;
+    }
+
+    public void setPublisherSampleRate(int publisherSampleRate) {
+        this.publisherSampleRate = publisherSampleRate;
+    }
+
+    /**
+     * Length of the window in milliseconds, within which the throttle events sharing the same throttle keys are
+     * folded into a single event carrying the number of requests. Aggregation is disabled when this is 0. The
+     * events of requests with different properties are not folded, see
+     * {@link org.wso2.choreo.connect.enforcer.config.EnvVarConfig#getThrottleEventAggregationWindow()}.
+     *
+     * @return event aggregation window in milliseconds
+     */
+    public int getEventAggregationWindow() {
+        return eventAggregationWindow;
+    }
+
+    public void setEventAggregationWindow(int eventAggregationWindow) {
+        this.eventAggregationWindow = eventAggregationWindow;
+    }
+
     public String getUserName() {
         return userName;
     }
@@ -57,6 +57,8 @@ public class AdminConstants {
         public static final String ORGANIZATION_ID = "orgId";
         public static final String TOKEN = "token";
         public static final String STATE = "state";
+        public static final String LIMIT = "limit";
+        public static final String CURSOR = "cursor";
     }
 
     /**
@@ -73,5 +75,7 @@ public class AdminConstants {
                         "\"message\": \"Username/ password invalid. User is not authorized to invoke the resource.\"}";
         public static final String NO_AUTH_HEADER_ERROR =
                 "{\"error\": true, \"message\": \"No Authorization header provided\"}";
+        public static final String INVALID_PAGINATION_PARAMETERS_ERROR =
+                "{\"error\": true, \"message\": \"Invalid limit or cursor query parameter\"}";
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.discovery.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Applies the resources of state-of-the-world xDS responses to a data store map incrementally. The
+ * resources of each response are compared with the resources applied from the previous response, and only the
+ * added, changed and removed entries are written to the data store map. Hence a small change in a large
+ * data set does not require rebuilding the complete map.
+ *
+ * @param <K> key of the data store map
+ * @param <R> xDS resource type
+ * @param <V> value of the data store map
+ */
+public class IncrementalResourceApplier<K, R, V> {
+    private final Function<R, K> keyResolver;
+    private final Function<R, V> converter;
+    private final Map<K, AppliedResource<R, V>> appliedResources = new HashMap<>();
+
+    /**
+     * @param keyResolver resolves the data store key of a resource, without converting the resource
+     * @param converter   converts a resource into the value stored in the data store
+     */
+    public IncrementalResourceApplier(Function<R, K> keyResolver, Function<R, V> converter) {
+        this.keyResolver = keyResolver;
+        this.converter = converter;
+    }
+
+    /**
+     * Apply the complete set of resources received in a discovery response to the target map. Entries in the
+     * target map which are not available in the resource list are removed.
+     * <p>
+     * An entry is only skipped if the resource is equal to the previously applied resource and the target map
+     * still holds the value created from it. Therefore, entries modified through events in between two
+     * discovery responses are reverted to the state of the latest discovery response.
+     * </p>
+     *
+     * @param resources resources received in the discovery response
+     * @param target    data store map
+     * @return number of entries which were added, updated or removed
+     */
+    public synchronized int apply(List<R> resources, Map<K, V> target) {
+        int changes = 0;
+        Set<K> receivedKeys = new HashSet<>();
+        for (R resource : resources) {
+            K key = keyResolver.apply(resource);
+            receivedKeys.add(key);
+            AppliedResource<R, V> applied = appliedResources.get(key);
+            if (applied != null && applied.resource.equals(resource) && target.get(key) == applied.value) {
+                continue;
+            }
+            V value = converter.apply(resource);
+            target.put(key, value);
+            appliedResources.put(key, new AppliedResource<>(resource, value));
+            changes++;
+        }
+
+        // Entries are removed through the map itself, so that maps maintaining indexes over their values
+        // are notified of the removal.
+        List<K> removedKeys = new ArrayList<>();
+        for (K key : target.keySet()) {
+            if (!receivedKeys.contains(key)) {
+                removedKeys.add(key);
+            }
+        }
+        for (K key : removedKeys) {
+            target.remove(key);
+        }
+        appliedResources.keySet().retainAll(receivedKeys);
+        changes += removedKeys.size();
+        return changes;
+    }
+
+    private static class AppliedResource<R, V> {
+        private final R resource;
+        private final V value;
+
+        private AppliedResource(R resource, V value) {
+            this.resource = resource;
+            this.value = value;
+        }
+    }
+}
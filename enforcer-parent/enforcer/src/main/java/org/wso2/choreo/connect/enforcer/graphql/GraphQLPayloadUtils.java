@@ -17,6 +17,11 @@
  */
 package org.wso2.choreo.connect.enforcer.graphql;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.cache.Cache;
+import com.google.protobuf.ByteString;
 import graphql.language.Definition;
 import graphql.language.Document;
 import graphql.language.OperationDefinition;
@@ -27,23 +32,26 @@ import graphql.validation.Validator;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONException;
-import org.json.JSONObject;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.common.gateway.graphql.GraphQLProcessorUtil;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryValidator;
 import org.wso2.choreo.connect.discovery.api.GraphqlComplexity;
 import org.wso2.choreo.connect.enforcer.api.API;
 import org.wso2.choreo.connect.enforcer.api.APIFactory;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
 import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
+import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.GraphQLCustomComplexityInfoDTO;
 import org.wso2.choreo.connect.enforcer.commons.model.GraphQLSchemaDTO;
 import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -53,6 +61,9 @@ import java.util.Map;
  */
 public class GraphQLPayloadUtils {
     private static final Logger logger = LogManager.getLogger(GraphQLPayloadUtils.class);
+    // The validator does not hold any per request state, hence a single instance is shared.
+    private static final QueryValidator QUERY_VALIDATOR = new QueryValidator(new Validator());
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     /**
      * This method will decode the qraphQL query body.
@@ -63,73 +74,127 @@ public class GraphQLPayloadUtils {
      * @throws EnforcerException use for error response handling
      */
     public static ArrayList<ResourceConfig> buildGQLRequestContext(API api, String queryBody) throws EnforcerException {
-        GraphQLSchemaDTO graphQLSchemaDTO = api.getAPIConfig().getGraphQLSchemaDTO();
+        GraphQLQueryInfo queryInfo = getQueryInfo(api.getAPIConfig(), queryBody);
+        if (queryInfo.getValidationErrors() != null) {
+            throw new EnforcerException("Payload is invalid", new Exception(queryInfo.getValidationErrors()));
+        }
+        ArrayList<ResourceConfig> resourceConfigs = new ArrayList<>();
+        for (String op : queryInfo.getOperationList()) {
+            ResourceConfig resourceConfig = APIFactory.getInstance().getMatchedResource(api, op,
+                    queryInfo.getMethod());
+            if (resourceConfig != null) {
+                resourceConfigs.add(resourceConfig);
+            } else {
+                logger.error("No matching operations found for {} in APIUUID : {} API : {}, version : {}", op,
+                        api.getAPIConfig().getName(), api.getAPIConfig().getUuid(),
+                        api.getAPIConfig().getVersion(),
+                        ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 6705));
+                return new ArrayList<>();
+            }
+        }
+        return resourceConfigs;
+    }
+
+    /**
+     * Returns the parsed and validated information of the query, from the cache if the same query has been
+     * received for the API before.
+     *
+     * @param apiConfig matched api
+     * @param queryBody graphQL query
+     * @return query information
+     * @throws EnforcerException if the query has invalid syntax or no operation definition
+     */
+    static GraphQLQueryInfo getQueryInfo(APIConfig apiConfig, String queryBody) throws EnforcerException {
+        return getQueryInfo(CacheProvider.getGraphQLQueryCache(), apiConfig, queryBody);
+    }
+
+    static GraphQLQueryInfo getQueryInfo(Cache<GraphQLQueryInfo.Key, GraphQLQueryInfo> queryCache,
+                                         APIConfig apiConfig, String queryBody) throws EnforcerException {
+        if (queryCache == null) {
+            return parseQuery(apiConfig.getGraphQLSchemaDTO(), queryBody);
+        }
+        GraphQLQueryInfo.Key key = new GraphQLQueryInfo.Key(apiConfig, queryBody);
+        GraphQLQueryInfo queryInfo = queryCache.getIfPresent(key);
+        // A query cached for an earlier revision of the API is validated again against the current schema.
+        if (queryInfo == null || !queryInfo.isValidatedAgainst(apiConfig.getGraphQLSchemaDTO())) {
+            queryInfo = parseQuery(apiConfig.getGraphQLSchemaDTO(), queryBody);
+            queryCache.put(key, queryInfo);
+        }
+        return queryInfo;
+    }
+
+    /**
+     * Returns the cached information of a query which has already been processed for the API.
+     *
+     * @param apiConfig matched api
+     * @param queryBody graphQL query
+     * @return query information or null if the query is not cached
+     */
+    static GraphQLQueryInfo getCachedQueryInfo(APIConfig apiConfig, String queryBody) {
+        Cache<GraphQLQueryInfo.Key, GraphQLQueryInfo> queryCache = CacheProvider.getGraphQLQueryCache();
+        if (queryCache == null || apiConfig == null || queryBody == null) {
+            return null;
+        }
+        GraphQLQueryInfo queryInfo = queryCache.getIfPresent(new GraphQLQueryInfo.Key(apiConfig, queryBody));
+        if (queryInfo == null || !queryInfo.isValidatedAgainst(apiConfig.getGraphQLSchemaDTO())) {
+            return null;
+        }
+        return queryInfo;
+    }
+
+    private static GraphQLQueryInfo parseQuery(GraphQLSchemaDTO graphQLSchemaDTO, String queryBody)
+            throws EnforcerException {
         try {
             // Validate payload with graphQLSchema
             Document document = new Parser().parseDocument(queryBody);
             String validationErrors = validatePayloadWithSchema(graphQLSchemaDTO.getGraphQLSchema(), document);
-            if (validationErrors == null) {
-                ArrayList<String> operationList = new ArrayList<>();
-                String method = "";
-                // Extract the operation type and operations from the payload
-                for (Definition definition : document.getDefinitions()) {
-                    // we only allow one operation type per request
-                    if (definition instanceof OperationDefinition) {
-                        OperationDefinition operation = (OperationDefinition) definition;
-                        if (operation.getOperation() != null) {
-                            method = operation.getOperation().toString();
-                            operationList = GraphQLProcessorUtil.getOperationList(operation,
-                                    graphQLSchemaDTO.getTypeDefinitionRegistry());
-                            logger.debug("Found operation list : " + operationList.toString());
-                            break;
-                        }
-                    } else {
-                        throw new EnforcerException("Operation definition cannot be empty");
-                    }
-                }
-                ArrayList<ResourceConfig> resourceConfigs = new ArrayList<>();
-                for (String op : operationList) {
-                    ResourceConfig resourceConfig = APIFactory.getInstance().getMatchedResource(api, op, method);
-                    if (resourceConfig != null) {
-                        resourceConfigs.add(resourceConfig);
-                    } else {
-                        logger.error("No matching operations found for {} in APIUUID : {} API : {}, version : {}", op,
-                                api.getAPIConfig().getName(), api.getAPIConfig().getUuid(),
-                                api.getAPIConfig().getVersion(),
-                                ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 6705));
-                        return new ArrayList<>();
+            if (validationErrors != null) {
+                return new GraphQLQueryInfo(graphQLSchemaDTO, validationErrors, null, Collections.emptyList());
+            }
+            List<String> operationList = new ArrayList<>();
+            String method = "";
+            // Extract the operation type and operations from the payload
+            for (Definition definition : document.getDefinitions()) {
+                // we only allow one operation type per request
+                if (definition instanceof OperationDefinition) {
+                    OperationDefinition operation = (OperationDefinition) definition;
+                    if (operation.getOperation() != null) {
+                        method = operation.getOperation().toString();
+                        operationList = GraphQLProcessorUtil.getOperationList(operation,
+                                graphQLSchemaDTO.getTypeDefinitionRegistry());
+                        logger.debug("Found operation list : " + operationList.toString());
+                        break;
                     }
+                } else {
+                    throw new EnforcerException("Operation definition cannot be empty");
                 }
-                return resourceConfigs;
-            } else {
-                throw new EnforcerException("Payload is invalid", new Exception(validationErrors));
             }
+            return new GraphQLQueryInfo(graphQLSchemaDTO, null, method,
+                    Collections.unmodifiableList(operationList));
         } catch (InvalidSyntaxException exception) {
             throw new EnforcerException("Invalid syntax", exception);
         }
     }
 
     /**
-     * @param requestPayload request payload
+     * Extract the GraphQL query from the request body. JSON bodies are read with a streaming parser directly from
+     * the body bytes, hence only the query is decoded to a string.
+     *
+     * @param requestBody    request body
      * @param requestHeaders request headers
-     * @return
+     * @return GraphQL query
      * @throws EnforcerException invalid payloads
      */
-    public static String getGQLRequestPayload(String requestPayload, Map<String, String> requestHeaders)
+    public static String getGQLRequestPayload(ByteString requestBody, Map<String, String> requestHeaders)
             throws EnforcerException {
         String queryBody = "";
         if (!requestHeaders.containsKey(APIConstants.CONTENT_TYPE_HEADER) ||
                 (requestHeaders.containsKey(APIConstants.CONTENT_TYPE_HEADER) && APIConstants.APPLICATION_JSON
                         .equalsIgnoreCase(requestHeaders.get(APIConstants.CONTENT_TYPE_HEADER)))) {
-            try {
-                JSONObject jsonObject = new JSONObject(requestPayload);
-                queryBody = jsonObject.getString(GraphQLConstants.GRAPHQL_QUERY.toLowerCase(Locale.ROOT));
-            } catch (JSONException e) {
-                throw new EnforcerException("Invalid GraphQL query body structure");
-            }
+            queryBody = readQueryFromJson(requestBody);
         } else if (requestHeaders.containsKey(APIConstants.CONTENT_TYPE_HEADER) && APIConstants.APPLICATION_GRAPHQL
                 .equalsIgnoreCase(requestHeaders.get(APIConstants.CONTENT_TYPE_HEADER))) {
-            queryBody = requestPayload;
+            queryBody = requestBody.isValidUtf8() ? requestBody.toStringUtf8() : null;
         } else {
             throw new EnforcerException("Invalid content type. Make sure the content type is " +
                     APIConstants.APPLICATION_JSON + " or " + APIConstants.APPLICATION_GRAPHQL);
@@ -140,6 +205,31 @@ public class GraphQLPayloadUtils {
         throw new EnforcerException("Query cannot be empty");
     }
 
+    private static String readQueryFromJson(ByteString requestBody) throws EnforcerException {
+        String queryField = GraphQLConstants.GRAPHQL_QUERY.toLowerCase(Locale.ROOT);
+        try (InputStream inputStream = requestBody.newInput();
+             JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new EnforcerException("Invalid GraphQL query body structure");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (queryField.equals(fieldName)) {
+                    if (valueToken != JsonToken.VALUE_STRING) {
+                        break;
+                    }
+                    return parser.getText();
+                }
+                // Variables and other fields are not required, hence skipped without being decoded.
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            throw new EnforcerException("Invalid GraphQL query body structure");
+        }
+        throw new EnforcerException("Invalid GraphQL query body structure");
+    }
+
     /**
      * This method validate the payload.
      *
@@ -148,8 +238,7 @@ public class GraphQLPayloadUtils {
      * @return true or false
      */
     private static String validatePayloadWithSchema(GraphQLSchema graphQLSchema, Document document) {
-        QueryValidator queryValidator = new QueryValidator(new Validator());
-        return queryValidator.validatePayload(graphQLSchema, document);
+        return QUERY_VALIDATOR.validatePayload(graphQLSchema, document);
     }
 
     public static List<GraphQLCustomComplexityInfoDTO> parseComplexityDTO(List<GraphqlComplexity>
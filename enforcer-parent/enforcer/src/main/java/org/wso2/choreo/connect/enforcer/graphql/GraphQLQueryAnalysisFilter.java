@@ -47,11 +47,15 @@ public class GraphQLQueryAnalysisFilter implements Filter {
 
     private static final Logger logger = LogManager.getLogger(GraphQLQueryAnalysisFilter.class);
     private QueryAnalyzer queryAnalyzer;
+    private String policyDefinition;
 
     @Override
     public void init(APIConfig apiConfig, Map<String, String> configProperties) {
         GraphQLSchema schema = apiConfig.getGraphQLSchemaDTO().getGraphQLSchema();
         queryAnalyzer = new QueryAnalyzer(schema);
+        // The custom complexity values do not change for the lifetime of the API, hence the policy is built once.
+        policyDefinition = policyDefinitionToJson(apiConfig.getGraphQLSchemaDTO()
+                .getGraphQLCustomComplexityInfoDTO()).toJSONString();
     }
 
     @Override
@@ -73,7 +77,11 @@ public class GraphQLQueryAnalysisFilter implements Filter {
      */
     private boolean isDepthAndComplexityValid(RequestContext requestContext, String payload) {
         try {
-            return isDepthValid(requestContext, payload) && isComplexityValid(requestContext, payload);
+            // Query was parsed and cached while matching the resources, unless the cache has evicted it since.
+            GraphQLQueryInfo queryInfo = GraphQLPayloadUtils.getCachedQueryInfo(requestContext.getMatchedAPI(),
+                    payload);
+            return isDepthValid(requestContext, payload, queryInfo)
+                    && isComplexityValid(requestContext, payload, queryInfo);
         } catch (Exception e) {
             logger.error("Policy definition parsing failed for API UUID : {} API : {} version : {}",
                     requestContext.getMatchedAPI().getUuid(), requestContext.getMatchedAPI().getName(),
@@ -84,12 +92,19 @@ public class GraphQLQueryAnalysisFilter implements Filter {
         }
     }
 
-    private boolean isDepthValid(RequestContext requestContext, String payload) {
+    private boolean isDepthValid(RequestContext requestContext, String payload, GraphQLQueryInfo queryInfo) {
         int maxQueryDepth = -1;
         if (requestContext.getProperties().containsKey(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
             maxQueryDepth = (Integer) requestContext.getProperties().get(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
         }
-        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+        QueryAnalyzerResponseDTO responseDTO;
+        if (queryInfo != null) {
+            int maxDepth = maxQueryDepth;
+            responseDTO = queryInfo.getDepthAnalysis().computeIfAbsent(maxQueryDepth,
+                    depth -> queryAnalyzer.analyseQueryDepth(maxDepth, payload));
+        } else {
+            responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+        }
         if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(requestContext, GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP_MESSAGE, responseDTO.getErrorList().toString());
@@ -102,7 +117,7 @@ public class GraphQLQueryAnalysisFilter implements Filter {
         return true;
     }
 
-    private boolean isComplexityValid(RequestContext requestContext, String payload) {
+    private boolean isComplexityValid(RequestContext requestContext, String payload, GraphQLQueryInfo queryInfo) {
         int queryComplexity = -1;
         if (requestContext.getProperties().containsKey(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY)) {
             queryComplexity = (Integer) requestContext.getProperties()
@@ -110,9 +125,16 @@ public class GraphQLQueryAnalysisFilter implements Filter {
         }
         QueryAnalyzerResponseDTO responseDTO = null;
         try {
-            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity,
-                    policyDefinitionToJson(requestContext.getMatchedAPI().getGraphQLSchemaDTO()
-                            .getGraphQLCustomComplexityInfoDTO()).toJSONString());
+            if (queryInfo != null) {
+                responseDTO = queryInfo.getComplexityAnalysis().get(queryComplexity);
+            }
+            if (responseDTO == null) {
+                responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity,
+                        policyDefinition);
+                if (queryInfo != null) {
+                    queryInfo.getComplexityAnalysis().put(queryComplexity, responseDTO);
+                }
+            }
         } catch (ParseException e) {
             String errorMessage = "Policy definition parsing failed. ";
             handleFailure(requestContext, GraphQLConstants.GRAPHQL_INVALID_QUERY, errorMessage, errorMessage);
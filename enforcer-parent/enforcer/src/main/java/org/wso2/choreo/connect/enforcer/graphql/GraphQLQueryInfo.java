@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.graphql;
+
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
+import org.wso2.choreo.connect.enforcer.commons.model.GraphQLSchemaDTO;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outcome of parsing and validating a GraphQL query against the schema of an API. Instances are cached by
+ * {@link GraphQLPayloadUtils} so that repeated queries skip parsing, schema validation and query analysis.
+ */
+public class GraphQLQueryInfo {
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    // Weakly referenced, so that a cached query does not retain the schema of an undeployed API revision.
+    private final WeakReference<GraphQLSchemaDTO> schema;
+    private final String validationErrors;
+    private final String method;
+    private final List<String> operationList;
+    // Depth and complexity limits depend on the subscription, hence the analysis results are kept by the limit.
+    private final Map<Integer, QueryAnalyzerResponseDTO> depthAnalysis = new ConcurrentHashMap<>();
+    private final Map<Integer, QueryAnalyzerResponseDTO> complexityAnalysis = new ConcurrentHashMap<>();
+
+    GraphQLQueryInfo(GraphQLSchemaDTO schema, String validationErrors, String method, List<String> operationList) {
+        this.schema = new WeakReference<>(schema);
+        this.validationErrors = validationErrors;
+        this.method = method;
+        this.operationList = operationList;
+    }
+
+    /**
+     * @param currentSchema current schema of the API
+     * @return true if the query was validated against the given schema
+     */
+    boolean isValidatedAgainst(GraphQLSchemaDTO currentSchema) {
+        return schema.get() == currentSchema;
+    }
+
+    /**
+     * @return schema validation errors, or null if the query is valid
+     */
+    public String getValidationErrors() {
+        return validationErrors;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public List<String> getOperationList() {
+        return operationList;
+    }
+
+    public Map<Integer, QueryAnalyzerResponseDTO> getDepthAnalysis() {
+        return depthAnalysis;
+    }
+
+    public Map<Integer, QueryAnalyzerResponseDTO> getComplexityAnalysis() {
+        return complexityAnalysis;
+    }
+
+    /**
+     * Cache key of a query, i.e. the identifier of the API and a fingerprint of the query. Neither the API config
+     * nor the query text is retained by the cache. A cached query is reused only if it was validated against the
+     * current schema of the API, see {@link GraphQLQueryInfo#isValidatedAgainst(GraphQLSchemaDTO)}.
+     */
+    public static final class Key {
+        private final String apiId;
+        private final String queryFingerprint;
+
+        Key(APIConfig apiConfig, String query) {
+            this.apiId = apiConfig.getUuid() != null ? apiConfig.getUuid()
+                    : apiConfig.getBasePath() + ":" + apiConfig.getVersion();
+            this.queryFingerprint = getFingerprint(query);
+        }
+
+        private static String getFingerprint(String query) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+                return Base64.getEncoder().encodeToString(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Error while fingerprinting the GraphQL query", e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return apiId.equals(other.apiId) && queryFingerprint.equals(other.queryFingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(apiId, queryFingerprint);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import org.apache.logging.log4j.ThreadContext;
 import org.wso2.choreo.connect.enforcer.api.ResponseObject;
+import org.wso2.choreo.connect.enforcer.config.EnvVarConfig;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.Constants;
 import org.wso2.choreo.connect.enforcer.constants.HttpConstants;
@@ -69,6 +70,8 @@ public class ExtAuthService extends AuthorizationGrpc.AuthorizationImplBase {
         TracingSpan extAuthServiceSpan = null;
         Scope extAuthServiceSpanScope = null;
         long starTimestamp = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        ResponseObject responseObject = null;
         try {
             String traceId = request.getAttributes().getRequest().getHttp()
                     .getHeadersOrDefault(HttpConstants.X_REQUEST_ID_HEADER,
@@ -82,7 +85,7 @@ public class ExtAuthService extends AuthorizationGrpc.AuthorizationImplBase {
                 Utils.setTag(extAuthServiceSpan, APIConstants.LOG_TRACE_ID, traceId);
             }
             ThreadContext.put(APIConstants.LOG_TRACE_ID, traceId);
-            ResponseObject responseObject = requestHandler.process(request);
+            responseObject = requestHandler.process(request);
             CheckResponse response = buildResponse(request, responseObject);
             responseObserver.onNext(response);
             // When you are done, you must call onCompleted.
@@ -97,13 +100,24 @@ public class ExtAuthService extends AuthorizationGrpc.AuthorizationImplBase {
                 MetricsExporter metricsExporter = MetricsManager.getInstance();
                 metricsExporter.trackMetric("enforcerLatency", System.currentTimeMillis() - starTimestamp);
             }
-            if (JMXUtils.isJMXMetricsEnabled()) {
-                ExtAuthMetrics.getInstance().recordMetric(System.currentTimeMillis() - starTimestamp);
+            if (JMXUtils.isJMXMetricsEnabled() || EnvVarConfig.getInstance().isPrometheusMetricsEnabled()) {
+                recordExtAuthMetrics(responseObject, System.nanoTime() - startNanos);
             }
         }
     }
 
-    private CheckResponse buildResponse(CheckRequest request, ResponseObject responseObject) {
+    private void recordExtAuthMetrics(ResponseObject responseObject, long responseTimeNanos) {
+        String api = "";
+        // Requests failing before a response is built are recorded with the internal server error status.
+        int statusCode = APIConstants.StatusCodes.INTERNAL_SERVER_ERROR.getCode();
+        if (responseObject != null) {
+            api = responseObject.getApiBasePath() == null ? "" : responseObject.getApiBasePath();
+            statusCode = responseObject.getStatusCode();
+        }
+        ExtAuthMetrics.getInstance().recordMetric(api, statusCode, responseTimeNanos);
+    }
+
+    CheckResponse buildResponse(CheckRequest request, ResponseObject responseObject) {
         CheckResponse.Builder checkResponseBuilder = CheckResponse.newBuilder();
         if (responseObject.isDirectResponse()) {
             DeniedResponsePreparer deniedResponsePreparer = new DeniedResponsePreparer(DeniedHttpResponse.newBuilder());
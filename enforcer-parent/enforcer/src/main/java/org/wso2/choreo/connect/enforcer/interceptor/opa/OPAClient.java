@@ -20,13 +20,16 @@ package org.wso2.choreo.connect.enforcer.interceptor.opa;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
 import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
@@ -34,9 +37,11 @@ import org.wso2.choreo.connect.enforcer.commons.opa.OPAConstants;
 import org.wso2.choreo.connect.enforcer.commons.opa.OPARequestGenerator;
 import org.wso2.choreo.connect.enforcer.commons.opa.OPASecurityException;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.EnvVarConfig;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.APISecurityConstants;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+import org.wso2.choreo.connect.enforcer.util.HttpClientRegistry;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -59,8 +64,12 @@ public class OPAClient {
 
     private final OPARequestGenerator defaultRequestGenerator = new OPADefaultRequestGenerator();
     private final Map<String, OPARequestGenerator> requestGeneratorMap = new HashMap<>();
+    private final OPADecisionCache decisionCache = new OPADecisionCache(ConfigHolder.getInstance().getConfig()
+            .getCacheDto().getCacheSpec(CacheProvider.OPA_DECISION_CACHE).getMaximumSize(),
+            EnvVarConfig.getInstance().getOpaDecisionCacheMaxTTL());
 
     private OPAClient() {
+        CacheProvider.registerCache(CacheProvider.OPA_DECISION_CACHE, decisionCache.getCache());
     }
 
     public static void init() {
@@ -119,11 +128,37 @@ public class OPAClient {
         // calling OPA server and validate response
         String requestBody = requestGenerator.generateRequest(policyName, ruleName, additionalParameters,
                 requestContext);
-        String opaResponse = callOPAServer(evaluatingPolicyUrl, requestBody, token, clientOptions);
+        long cacheTTL = getDecisionCacheTTL(policyAttrib.get("decisionCacheTTL"));
+        String cacheKey = cacheTTL > 0 ? decisionCache.getKey(evaluatingPolicyUrl, requestBody,
+                policyAttrib.get("decisionCacheKeyFields")) : null;
+        String opaResponse = cacheKey != null ? decisionCache.get(cacheKey) : null;
+        if (opaResponse == null) {
+            OPAResponse response = callOPAServer(evaluatingPolicyUrl, requestBody, token, clientOptions);
+            opaResponse = response.body;
+            if (cacheKey != null) {
+                decisionCache.put(cacheKey, opaResponse, cacheTTL, response.cacheControl);
+            }
+        } else {
+            log.debug("OPA decision found in the cache for the policy: {}", evaluatingPolicyUrl);
+        }
+        // The response is handled for cached decisions as well, since the request generator may update the request
+        // context based on the response.
         return requestGenerator.handleResponse(policyName, ruleName, opaResponse, additionalParameters,
                 requestContext);
     }
 
+    private static long getDecisionCacheTTL(String cacheTTL) {
+        if (StringUtils.isEmpty(cacheTTL)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cacheTTL.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid OPA decision cache TTL: {}. Hence the decisions are not cached", cacheTTL);
+            return 0;
+        }
+    }
+
     private void loadRequestGenerators() {
         ServiceLoader<OPARequestGenerator> loader = ServiceLoader.load(OPARequestGenerator.class);
         for (OPARequestGenerator generator : loader) {
@@ -134,34 +169,35 @@ public class OPAClient {
         requestGeneratorMap.put(DEFAULT_REQUEST_GENERATOR_CLASS, defaultRequestGenerator);
     }
 
-    private static String callOPAServer(String serverEp, String payload, String token,
-                                        Map<String, String> clientOptions) throws OPASecurityException {
+    private static OPAResponse callOPAServer(String serverEp, String payload, String token,
+                                             Map<String, String> clientOptions) throws OPASecurityException {
         try {
             URL url = new URL(serverEp);
             KeyStore opaKeyStore = ConfigHolder.getInstance().getOpaKeyStore();
-            try (CloseableHttpClient httpClient = (CloseableHttpClient) FilterUtils.getHttpClient(url.getProtocol(),
-                    opaKeyStore, clientOptions)) {
-                HttpPost httpPost = new HttpPost(serverEp);
-                HttpEntity reqEntity = new ByteArrayEntity(payload.getBytes(Charset.defaultCharset()));
-                httpPost.setEntity(reqEntity);
-                httpPost.setHeader(APIConstants.CONTENT_TYPE_HEADER, APIConstants.APPLICATION_JSON);
-                if (StringUtils.isNotEmpty(token)) {
-                    httpPost.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
-                            APIConstants.AUTHORIZATION_BEARER + token);
-                }
-                try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
-                    int statusCode = response.getStatusLine().getStatusCode();
-                    if (statusCode == 200) {
-                        HttpEntity entity = response.getEntity();
-                        try (InputStream content = entity.getContent()) {
-                            return IOUtils.toString(content, Charset.defaultCharset());
-                        }
-                    } else {
-                        log.error("Unexpected HTTP response code responded by the OPA server, HTTP code: {} {}",
-                                statusCode, ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 6106));
-                        throw new OPASecurityException(APIConstants.StatusCodes.INTERNAL_SERVER_ERROR.getCode(),
-                                APISecurityConstants.OPA_REQUEST_FAILURE);
+            CloseableHttpClient httpClient = HttpClientRegistry.getInstance().getClient(url.getProtocol(),
+                    opaKeyStore, clientOptions);
+            HttpPost httpPost = new HttpPost(serverEp);
+            HttpEntity reqEntity = new ByteArrayEntity(payload.getBytes(Charset.defaultCharset()));
+            httpPost.setEntity(reqEntity);
+            httpPost.setHeader(APIConstants.CONTENT_TYPE_HEADER, APIConstants.APPLICATION_JSON);
+            if (StringUtils.isNotEmpty(token)) {
+                httpPost.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
+                        APIConstants.AUTHORIZATION_BEARER + token);
+            }
+            try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+                int statusCode = response.getStatusLine().getStatusCode();
+                if (statusCode == 200) {
+                    HttpEntity entity = response.getEntity();
+                    Header cacheControl = response.getFirstHeader(HttpHeaders.CACHE_CONTROL);
+                    try (InputStream content = entity.getContent()) {
+                        return new OPAResponse(IOUtils.toString(content, Charset.defaultCharset()),
+                                cacheControl == null ? null : cacheControl.getValue());
                     }
+                } else {
+                    log.error("Unexpected HTTP response code responded by the OPA server, HTTP code: {} {}",
+                            statusCode, ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 6106));
+                    throw new OPASecurityException(APIConstants.StatusCodes.INTERNAL_SERVER_ERROR.getCode(),
+                            APISecurityConstants.OPA_REQUEST_FAILURE);
                 }
             }
         } catch (IOException e) {
@@ -171,4 +207,14 @@ public class OPAClient {
                     APISecurityConstants.OPA_REQUEST_FAILURE, e);
         }
     }
+
+    private static class OPAResponse {
+        private final String body;
+        private final String cacheControl;
+
+        OPAResponse(String body, String cacheControl) {
+            this.body = body;
+            this.cacheControl = cacheControl;
+        }
+    }
 }
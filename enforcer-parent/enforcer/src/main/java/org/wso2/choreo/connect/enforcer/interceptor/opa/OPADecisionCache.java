@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.interceptor.opa;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.guava.CaffeinatedGuava;
+import com.google.common.cache.Cache;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the responses of the OPA server against a fingerprint of the evaluated policy and the generated OPA input.
+ * <p>
+ * Only the input fields which the decision of the policy depends on are fingerprinted, given as a comma separated
+ * list of JSON pointers (e.g. {@code /input/path,/input/method}). Decisions are not cached for policies without
+ * key fields, since the generated input contains per request values such as the {@code x-request-id} header, and
+ * would never be looked up again. Each entry expires after the TTL of the policy, unless the OPA server responds
+ * with a {@code Cache-Control} header, in which case {@code max-age} overrides the TTL and {@code no-store} or
+ * {@code no-cache} skips caching the response.
+ */
+class OPADecisionCache {
+    private static final Logger log = LogManager.getLogger(OPADecisionCache.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final String NO_STORE = "no-store";
+    private static final String NO_CACHE = "no-cache";
+    private static final String MAX_AGE = "max-age=";
+    static final long NO_TTL_HINT = -1;
+
+    private final Cache<String, CachedResponse> cache;
+    private final long maxTTLSeconds;
+    private final Map<String, List<JsonPointer>> keyFieldsMap = new ConcurrentHashMap<>();
+
+    OPADecisionCache(long maximumSize, long maxTTLSeconds) {
+        this.maxTTLSeconds = maxTTLSeconds;
+        this.cache = CaffeinatedGuava.build(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return value.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime,
+                                                  long currentDuration) {
+                        return value.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                }));
+    }
+
+    /**
+     * Derives the cache key of an OPA evaluation.
+     *
+     * @param policyUrl   URL of the evaluated policy
+     * @param requestBody OPA input generated for the request
+     * @param keyFields   comma separated JSON pointers of the input fields to fingerprint
+     * @return cache key, or {@code null} if there are no key fields or the key could not be derived
+     */
+    String getKey(String policyUrl, String requestBody, String keyFields) {
+        if (StringUtils.isBlank(keyFields)) {
+            return null;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            log.debug("Error while fingerprinting the OPA input, hence the decision is not cached", e);
+            return null;
+        }
+        JsonNode input;
+        try {
+            input = OBJECT_MAPPER.readTree(requestBody);
+        } catch (IOException e) {
+            log.debug("Error while parsing the OPA input, hence the decision is not cached", e);
+            return null;
+        }
+        List<JsonPointer> pointers;
+        try {
+            pointers = keyFieldsMap.computeIfAbsent(keyFields, OPADecisionCache::parseKeyFields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid OPA decision cache key fields: {}, hence the decision is not cached", keyFields);
+            return null;
+        }
+        for (JsonPointer pointer : pointers) {
+            // Field separator, so that the values of consecutive fields do not fall into each other.
+            digest.update((byte) 0);
+            JsonNode value = input.at(pointer);
+            if (!value.isMissingNode()) {
+                digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return policyUrl + "#" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    }
+
+    /**
+     * @param key cache key
+     * @return cached OPA response, or {@code null} if not cached or expired
+     */
+    String get(String key) {
+        CachedResponse cachedResponse = cache.getIfPresent(key);
+        return cachedResponse == null ? null : cachedResponse.response;
+    }
+
+    /**
+     * Caches the OPA response for the TTL hinted by the OPA server if any, or else the TTL of the policy. The TTL
+     * is bounded by the maximum TTL of the cache.
+     *
+     * @param key          cache key
+     * @param response     OPA response
+     * @param ttlSeconds   TTL of the policy
+     * @param cacheControl value of the {@code Cache-Control} header responded by the OPA server
+     */
+    void put(String key, String response, long ttlSeconds, String cacheControl) {
+        long hint = getTTLHint(cacheControl);
+        long ttl = Math.min(hint == NO_TTL_HINT ? ttlSeconds : hint, maxTTLSeconds);
+        if (ttl <= 0) {
+            return;
+        }
+        cache.put(key, new CachedResponse(response, TimeUnit.SECONDS.toNanos(ttl)));
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.size();
+    }
+
+    /**
+     * @return underlying cache, to be registered for the cache statistics
+     */
+    Cache<String, ?> getCache() {
+        return cache;
+    }
+
+    /**
+     * @param cacheControl value of the {@code Cache-Control} header
+     * @return TTL in seconds hinted by the header, zero if the response must not be cached, or
+     * {@link #NO_TTL_HINT} if there is no hint
+     */
+    static long getTTLHint(String cacheControl) {
+        if (StringUtils.isEmpty(cacheControl)) {
+            return NO_TTL_HINT;
+        }
+        long hint = NO_TTL_HINT;
+        for (String directive : cacheControl.split(",")) {
+            directive = directive.trim().toLowerCase();
+            if (NO_STORE.equals(directive) || NO_CACHE.equals(directive)) {
+                return 0;
+            }
+            if (directive.startsWith(MAX_AGE)) {
+                try {
+                    hint = Math.max(0, Long.parseLong(directive.substring(MAX_AGE.length())));
+                } catch (NumberFormatException e) {
+                    log.debug("Invalid max-age directive in the Cache-Control header: {}", cacheControl);
+                }
+            }
+        }
+        return hint;
+    }
+
+    private static List<JsonPointer> parseKeyFields(String keyFields) {
+        List<JsonPointer> pointers = new ArrayList<>();
+        for (String field : keyFields.split(",")) {
+            field = field.trim();
+            if (!field.isEmpty()) {
+                pointers.add(JsonPointer.compile(field));
+            }
+        }
+        return Collections.unmodifiableList(pointers);
+    }
+
+    private static class CachedResponse {
+        private final String response;
+        private final long ttlNanos;
+
+        CachedResponse(String response, long ttlNanos) {
+            this.response = response;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.ExtendedTokenIssuerDto;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.discovery.KeyManagerDiscoveryClient;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.JWKSManager;
 import org.wso2.choreo.connect.enforcer.util.TLSUtils;
 
 import java.io.ByteArrayInputStream;
@@ -42,6 +43,7 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -173,5 +175,22 @@ public class KeyManagerHolder {
         // add the updated issuer list replacing the existing one
         tokenIssuerMap.clear();
         tokenIssuerMap.putAll(kmIssuerMap);
+        prefetchJWKS(kmIssuerMap.values());
+    }
+
+    /**
+     * Fetch the key sets of the issuers in the background, so that the requests which arrive right after a key
+     * manager is added do not all block on the JWKS endpoint. Key sets which are already loaded are not fetched.
+     *
+     * @param tokenIssuers token issuers
+     */
+    private void prefetchJWKS(Collection<ExtendedTokenIssuerDto> tokenIssuers) {
+        for (ExtendedTokenIssuerDto tokenIssuer : tokenIssuers) {
+            JWKSConfigurationDTO jwksConfiguration = tokenIssuer.getJwksConfigurationDTO();
+            if (jwksConfiguration != null && jwksConfiguration.isEnabled()
+                    && StringUtils.isNotEmpty(jwksConfiguration.getUrl())) {
+                JWKSManager.getInstance().prefetch(jwksConfiguration.getUrl());
+            }
+        }
     }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram. Each power of ten from 100 microseconds up to 90 seconds is split into
+ * nine linear buckets (1, 2, ... 9 x 10^n), which keeps the relative error of the percentiles within a single
+ * significant digit while using a fixed number of buckets. Latencies above the last bound are counted in an
+ * overflow bucket.
+ * <p>
+ * Recording only updates {@link LongAdder}s, hence concurrent request threads do not contend on a lock. Reads are
+ * not atomic across the buckets, which is acceptable for monitoring.
+ */
+public class LatencyHistogram {
+    private static final int MIN_EXPONENT = 2;
+    private static final int MAX_EXPONENT = 7;
+    private static final int BUCKETS_PER_EXPONENT = 9;
+    private static final long[] BUCKET_UPPER_BOUNDS_MICROS = createBucketUpperBounds();
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_MICROS.length + 1];
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final LongAccumulator minMicros = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    private static long[] createBucketUpperBounds() {
+        long[] bounds = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) * BUCKETS_PER_EXPONENT];
+        long base = 1;
+        for (int i = 0; i < MIN_EXPONENT; i++) {
+            base *= 10;
+        }
+        int index = 0;
+        for (int exponent = MIN_EXPONENT; exponent <= MAX_EXPONENT; exponent++) {
+            for (int step = 1; step <= BUCKETS_PER_EXPONENT; step++) {
+                bounds[index++] = step * base;
+            }
+            base *= 10;
+        }
+        return bounds;
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void record(long latencyNanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        buckets[getBucketIndex(micros)].increment();
+        sumMicros.add(micros);
+        maxMicros.accumulate(micros);
+        minMicros.accumulate(micros);
+    }
+
+    static int getBucketIndex(long micros) {
+        int index = Arrays.binarySearch(BUCKET_UPPER_BOUNDS_MICROS, micros);
+        // Buckets are inclusive of their upper bound.
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * @return number of buckets, including the overflow bucket
+     */
+    public static int getBucketCount() {
+        return BUCKET_UPPER_BOUNDS_MICROS.length + 1;
+    }
+
+    /**
+     * Get the inclusive upper bound of a bucket.
+     *
+     * @param index bucket index
+     * @return upper bound in microseconds, or {@link Long#MAX_VALUE} for the overflow bucket
+     */
+    public static long getBucketUpperBoundMicros(int index) {
+        return index < BUCKET_UPPER_BOUNDS_MICROS.length ? BUCKET_UPPER_BOUNDS_MICROS[index] : Long.MAX_VALUE;
+    }
+
+    /**
+     * @return number of latencies recorded in each bucket. The counts are not cumulative.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getSumMicros() {
+        return sumMicros.sum();
+    }
+
+    /**
+     * @return maximum latency in microseconds, or {@code -1} if nothing is recorded
+     */
+    public long getMaxMicros() {
+        long max = maxMicros.get();
+        return max == Long.MIN_VALUE ? -1 : max;
+    }
+
+    /**
+     * @return minimum latency in microseconds, or {@code -1} if nothing is recorded
+     */
+    public long getMinMicros() {
+        long min = minMicros.get();
+        return min == Long.MAX_VALUE ? -1 : min;
+    }
+
+    /**
+     * Estimate a percentile as the upper bound of the bucket it falls into. Percentiles falling into the overflow
+     * bucket are reported as the maximum latency.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return estimated latency in microseconds, or {@code -1} if nothing is recorded
+     */
+    public long getPercentileMicros(double percentile) {
+        long[] counts = getBucketCounts();
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        if (count == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MICROS.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(BUCKET_UPPER_BOUNDS_MICROS[i], getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sumMicros.reset();
+        maxMicros.reset();
+        minMicros.reset();
+    }
+}
@@ -19,57 +19,37 @@
 
 package org.wso2.choreo.connect.enforcer.metrics;
 
-import com.google.protobuf.UInt32Value;
-import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
 import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
 import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
-import org.wso2.choreo.connect.enforcer.analytics.ChoreoAnalyticsProvider;
-import org.wso2.choreo.connect.enforcer.constants.AnalyticsConstants;
+import org.wso2.choreo.connect.enforcer.analytics.AccessLogEvent;
 
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * Common utility functions to publish metrics.
  */
 public class MetricsUtils {
 
-    private static final Logger LOGGER = LogManager.getLogger(MetricsUtils.class);
-
     /**
      * Method to process and publish metrics obtained from access logs.
      *
      * @param message the StreamAccessLogsMessage object.
      */
     public static void handlePublishingMetrics(StreamAccessLogsMessage message) {
+        handlePublishingMetrics(AccessLogEvent.decode(message));
+    }
 
-        for (int i = 0; i < message.getHttpLogs().getLogEntryCount(); i++) {
-            HTTPAccessLogEntry logEntry = message.getHttpLogs().getLogEntry(i);
-            MetricsExporter metricsExporter = MetricsManager.getInstance();
-
-            UInt32Value httpResponseProperties = logEntry.getResponse().getResponseCode();
-            metricsExporter.trackMetric(MetricsConstants.RESPONSE_CODE, httpResponseProperties.getValue());
-            AnalyticsDataProvider provider = new ChoreoAnalyticsProvider(logEntry);
-            Latencies latencies = provider.getLatencies();
-
-            // handle do not publish event
-            if ((!StringUtils.isEmpty(logEntry.getResponse().getResponseCodeDetails()))
-                    && logEntry.getResponse().getResponseCodeDetails()
-                    .equals(AnalyticsConstants.EXT_AUTH_DENIED_RESPONSE_DETAIL)
-                    // Token endpoint calls needs to be removed as well
-                    || (AnalyticsConstants.TOKEN_ENDPOINT_PATH.equals(logEntry.getCommonProperties().getRouteName()))
-                    // Health endpoint calls are not published
-                    || (AnalyticsConstants.HEALTH_ENDPOINT_PATH.equals(logEntry.getCommonProperties().getRouteName()))
-                    // JWKS endpoint calls should not be published
-                    || (AnalyticsConstants.JWKS_ENDPOINT_PATH.equals(logEntry.getCommonProperties().getRouteName()))) {
-                LOGGER.debug("Metric is ignored as it is already published by the enforcer.");
-                publishMetrics(metricsExporter, latencies);
-                continue;
-            }
-            publishMetrics(metricsExporter, latencies);
+    /**
+     * Method to publish metrics of the access log entries decoded by the access logging service.
+     *
+     * @param events the decoded access log entries.
+     */
+    public static void handlePublishingMetrics(List<AccessLogEvent> events) {
+        MetricsExporter metricsExporter = MetricsManager.getInstance();
+        for (AccessLogEvent event : events) {
+            metricsExporter.trackMetric(MetricsConstants.RESPONSE_CODE, event.getResponseCode());
+            publishMetrics(metricsExporter, event.getLatencies());
         }
     }
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the backpressure metrics of the analytics event publisher.
+ */
+public interface AnalyticsPublisherMetricsMXBean {
+
+    /**
+     * Getter for the number of access log entries waiting to be published to analytics.
+     *
+     * @return long
+     */
+    long getQueueDepth();
+
+    /**
+     * Getter for the maximum number of access log entries which can wait to be published to analytics.
+     *
+     * @return long
+     */
+    long getQueueCapacity();
+
+    /**
+     * Getter for the number of access log entries processed by the analytics publisher workers.
+     *
+     * @return long
+     */
+    long getProcessedEventCount();
+
+    /**
+     * Getter for the number of access log entries dropped as the analytics event queue was full.
+     *
+     * @return long
+     */
+    long getDroppedEventCount();
+}
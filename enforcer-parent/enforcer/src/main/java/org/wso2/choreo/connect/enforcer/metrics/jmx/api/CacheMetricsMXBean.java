@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+import java.util.Map;
+
+/**
+ * MBean API for the statistics of the caches used in the enforcer. Each attribute is keyed by the cache name.
+ */
+public interface CacheMetricsMXBean {
+
+    /**
+     * Getter for the number of lookups which found a cached value.
+     *
+     * @return Map
+     */
+    Map<String, Long> getHitCount();
+
+    /**
+     * Getter for the number of lookups which did not find a cached value.
+     *
+     * @return Map
+     */
+    Map<String, Long> getMissCount();
+
+    /**
+     * Getter for the ratio of lookups which found a cached value.
+     *
+     * @return Map
+     */
+    Map<String, Double> getHitRate();
+
+    /**
+     * Getter for the number of entries evicted due to the size limit or expiry.
+     *
+     * @return Map
+     */
+    Map<String, Long> getEvictionCount();
+
+    /**
+     * Getter for the average time spent loading new values in milliseconds.
+     *
+     * @return Map
+     */
+    Map<String, Double> getAverageLoadPenaltyMillis();
+
+    /**
+     * Getter for the approximate number of entries in the caches.
+     *
+     * @return Map
+     */
+    Map<String, Long> getSize();
+}
@@ -49,6 +49,27 @@ public interface ExtAuthMetricsMXBean {
      */
     public double getMinResponseTimeMillis();
 
+    /**
+     * Getter for the median response time in milliseconds, estimated from a log-linear histogram.
+     *
+     * @return double
+     */
+    public double getMedianResponseTimeMillis();
+
+    /**
+     * Getter for the 99th percentile response time in milliseconds, estimated from a log-linear histogram.
+     *
+     * @return double
+     */
+    public double getP99ResponseTimeMillis();
+
+    /**
+     * Getter for the 99.9th percentile response time in milliseconds, estimated from a log-linear histogram.
+     *
+     * @return double
+     */
+    public double getP999ResponseTimeMillis();
+
     /**
      * Resets all the metrics to thier initial values.
      */
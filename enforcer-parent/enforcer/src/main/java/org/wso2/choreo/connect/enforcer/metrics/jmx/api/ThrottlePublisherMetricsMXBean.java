@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the backpressure metrics of the throttle event publisher.
+ */
+public interface ThrottlePublisherMetricsMXBean {
+
+    /**
+     * Getter for the number of throttle events waiting for a publisher thread.
+     *
+     * @return long
+     */
+    long getQueueDepth();
+
+    /**
+     * Getter for the maximum number of throttle events which can wait for a publisher thread.
+     *
+     * @return long
+     */
+    long getQueueCapacity();
+
+    /**
+     * Getter for the number of throttle events accepted by the data publisher. Events rejected as the event queue
+     * of the data publisher is full are not counted.
+     *
+     * @return long
+     */
+    long getPublishedEventCount();
+
+    /**
+     * Getter for the number of throttle events dropped as the publisher queue was full.
+     *
+     * @return long
+     */
+    long getDroppedEventCount();
+
+    /**
+     * Getter for the number of throttle events skipped by sampling while the publisher queue was filling up.
+     *
+     * @return long
+     */
+    long getSampledOutEventCount();
+
+    /**
+     * Getter for the average time from submitting a throttle event until it is accepted by the data publisher,
+     * in milliseconds.
+     *
+     * @return double
+     */
+    double getAveragePublishLatencyMillis();
+
+    /**
+     * Getter for the maximum time from submitting a throttle event until it is accepted by the data publisher,
+     * in milliseconds.
+     *
+     * @return double
+     */
+    double getMaxPublishLatencyMillis();
+
+    /**
+     * Resets the counters and latencies.
+     */
+    void resetThrottlePublisherMetrics();
+}
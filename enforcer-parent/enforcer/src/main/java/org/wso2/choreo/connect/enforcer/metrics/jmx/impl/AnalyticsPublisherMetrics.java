@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.analytics.AnalyticsEventQueue;
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.AnalyticsPublisherMetricsMXBean;
+
+/**
+ * Singleton MBean for the backpressure metrics of the analytics event publisher.
+ */
+public class AnalyticsPublisherMetrics implements AnalyticsPublisherMetricsMXBean {
+
+    private static volatile AnalyticsPublisherMetrics analyticsPublisherMetricsMBean = null;
+
+    private volatile AnalyticsEventQueue<?> queue;
+
+    private AnalyticsPublisherMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton AnalyticsPublisherMetrics instance.
+     *
+     * @return AnalyticsPublisherMetrics
+     */
+    public static AnalyticsPublisherMetrics getInstance() {
+        if (analyticsPublisherMetricsMBean == null) {
+            synchronized (AnalyticsPublisherMetrics.class) {
+                if (analyticsPublisherMetricsMBean == null) {
+                    analyticsPublisherMetricsMBean = new AnalyticsPublisherMetrics();
+                }
+            }
+        }
+        return analyticsPublisherMetricsMBean;
+    }
+
+    /**
+     * Sets the queue of the analytics events waiting to be published.
+     *
+     * @param queue analytics event queue
+     */
+    public void setQueue(AnalyticsEventQueue<?> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public long getQueueDepth() {
+        AnalyticsEventQueue<?> currentQueue = queue;
+        return currentQueue == null ? 0 : currentQueue.getQueueDepth();
+    }
+
+    @Override
+    public long getQueueCapacity() {
+        AnalyticsEventQueue<?> currentQueue = queue;
+        return currentQueue == null ? 0 : currentQueue.getQueueCapacity();
+    }
+
+    @Override
+    public long getProcessedEventCount() {
+        AnalyticsEventQueue<?> currentQueue = queue;
+        return currentQueue == null ? 0 : currentQueue.getProcessedEventCount();
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        AnalyticsEventQueue<?> currentQueue = queue;
+        return currentQueue == null ? 0 : currentQueue.getDroppedEventCount();
+    }
+}
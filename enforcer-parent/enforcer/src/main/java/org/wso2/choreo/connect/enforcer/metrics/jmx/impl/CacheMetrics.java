@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import com.google.common.cache.CacheStats;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.CacheMetricsMXBean;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Singleton MBean for the cache statistics, which are read from {@link CacheProvider} on demand.
+ */
+public class CacheMetrics implements CacheMetricsMXBean {
+
+    private static volatile CacheMetrics cacheMetricsMBean = null;
+
+    private CacheMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton CacheMetrics instance.
+     *
+     * @return CacheMetrics
+     */
+    public static CacheMetrics getInstance() {
+        if (cacheMetricsMBean == null) {
+            synchronized (CacheMetrics.class) {
+                if (cacheMetricsMBean == null) {
+                    cacheMetricsMBean = new CacheMetrics();
+                }
+            }
+        }
+        return cacheMetricsMBean;
+    }
+
+    @Override
+    public Map<String, Long> getHitCount() {
+        return collect(CacheStats::hitCount);
+    }
+
+    @Override
+    public Map<String, Long> getMissCount() {
+        return collect(CacheStats::missCount);
+    }
+
+    @Override
+    public Map<String, Double> getHitRate() {
+        return collect(CacheStats::hitRate);
+    }
+
+    @Override
+    public Map<String, Long> getEvictionCount() {
+        return collect(CacheStats::evictionCount);
+    }
+
+    @Override
+    public Map<String, Double> getAverageLoadPenaltyMillis() {
+        return collect(stats -> stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Override
+    public Map<String, Long> getSize() {
+        return CacheProvider.getCacheSizes();
+    }
+
+    private static <T> Map<String, T> collect(Function<CacheStats, T> statistic) {
+        Map<String, T> values = new LinkedHashMap<>();
+        CacheProvider.getCacheStats().forEach((cacheName, stats) -> values.put(cacheName, statistic.apply(stats)));
+        return values;
+    }
+}
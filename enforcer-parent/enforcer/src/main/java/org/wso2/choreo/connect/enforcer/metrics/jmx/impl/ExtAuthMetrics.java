@@ -17,25 +17,31 @@
 package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
 
 import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.LatencyHistogram;
 import org.wso2.choreo.connect.enforcer.metrics.jmx.api.ExtAuthMetricsMXBean;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Singleton MBean for ExtAuth Service metrics.
+ * Singleton MBean for ExtAuth Service metrics. Response times are recorded in lock-free {@link LatencyHistogram}s,
+ * one for the JMX view and one per API and response status code, which is exported to Prometheus. Only the JMX view
+ * is reset by {@link #resetExtAuthMetrics()}, as the exported histograms have to be cumulative.
  */
 public class ExtAuthMetrics extends TimerTask implements ExtAuthMetricsMXBean {
 
     private static final long REQUEST_COUNT_INTERVAL_MILLIS = 5 * 60 * 1000;
-    private static ExtAuthMetrics extAuthMetricsMBean = null;
+    private static volatile ExtAuthMetrics extAuthMetricsMBean = null;
 
-    private long requestCountInLastFiveMinuteWindow = 0;
-    private long requestCountWindowStartTimeMillis = System.currentTimeMillis();
-    private long totalRequestCount = 0;
-    private double averageResponseTimeMillis = 0;
-    private double maxResponseTimeMillis = Double.MIN_VALUE;
-    private double minResponseTimeMillis = Double.MAX_VALUE;
+    private final LongAdder requestCountInLastFiveMinuteWindow = new LongAdder();
+    private volatile long requestCountWindowStartTimeMillis = System.currentTimeMillis();
+    private final LatencyHistogram responseTimes = new LatencyHistogram();
+    private final Map<String, Map<Integer, LatencyHistogram>> responseTimesByAPI = new ConcurrentHashMap<>();
 
     private ExtAuthMetrics() {
         MBeanRegistrator.registerMBean(this);
@@ -62,54 +68,111 @@ public class ExtAuthMetrics extends TimerTask implements ExtAuthMetricsMXBean {
 
     @Override
     public long getTotalRequestCount() {
-        return totalRequestCount;
+        return responseTimes.getCount();
     };
 
     @Override
     public double getAverageResponseTimeMillis() {
-        return averageResponseTimeMillis;
+        long count = responseTimes.getCount();
+        return count == 0 ? 0 : toMillis(responseTimes.getSumMicros()) / count;
     };
 
     @Override
     public double getMaxResponseTimeMillis() {
-        return maxResponseTimeMillis;
+        long max = responseTimes.getMaxMicros();
+        return max < 0 ? Double.MIN_VALUE : toMillis(max);
     };
 
     @Override
     public double getMinResponseTimeMillis() {
-        return minResponseTimeMillis;
+        long min = responseTimes.getMinMicros();
+        return min < 0 ? Double.MAX_VALUE : toMillis(min);
     };
 
-    public synchronized void recordMetric(long responseTimeMillis) {
-        this.requestCountInLastFiveMinuteWindow += 1;
-        this.totalRequestCount += 1;
-        this.averageResponseTimeMillis = this.averageResponseTimeMillis +
-                (responseTimeMillis - this.averageResponseTimeMillis) / totalRequestCount;
-        this.minResponseTimeMillis = Math.min(this.minResponseTimeMillis, responseTimeMillis);
-        this.maxResponseTimeMillis = Math.max(this.maxResponseTimeMillis, responseTimeMillis);
+    @Override
+    public double getMedianResponseTimeMillis() {
+        return getPercentileMillis(50);
+    }
+
+    @Override
+    public double getP99ResponseTimeMillis() {
+        return getPercentileMillis(99);
+    }
+
+    @Override
+    public double getP999ResponseTimeMillis() {
+        return getPercentileMillis(99.9);
+    }
+
+    /**
+     * Record the time taken to process an ext_authz check request.
+     *
+     * @param api               base path of the matched API, or an empty string if no API matched
+     * @param statusCode        status code decided by the enforcer
+     * @param responseTimeNanos time taken to process the request in nanoseconds
+     */
+    public void recordMetric(String api, int statusCode, long responseTimeNanos) {
+        requestCountInLastFiveMinuteWindow.increment();
+        responseTimes.record(responseTimeNanos);
+        Map<Integer, LatencyHistogram> responseTimesByStatus = responseTimesByAPI.get(api);
+        if (responseTimesByStatus == null) {
+            responseTimesByStatus = responseTimesByAPI.computeIfAbsent(api, key -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = responseTimesByStatus.get(statusCode);
+        if (histogram == null) {
+            histogram = responseTimesByStatus.computeIfAbsent(statusCode, key -> new LatencyHistogram());
+        }
+        histogram.record(responseTimeNanos);
+    }
+
+    /**
+     * Drops the response times of the APIs which are no longer deployed, so that the exported label values do not
+     * grow with every API ever deployed. The response times of the requests not matching any API are kept. Does
+     * nothing if the metrics have not been initialized.
+     *
+     * @param deployedAPIs base paths of the deployed APIs
+     */
+    public static void retainAPIs(Set<String> deployedAPIs) {
+        ExtAuthMetrics metrics = extAuthMetricsMBean;
+        if (metrics != null) {
+            metrics.responseTimesByAPI.keySet().removeIf(api -> !api.isEmpty() && !deployedAPIs.contains(api));
+        }
+    }
+
+    /**
+     * @return response time histograms by API base path and response status code
+     */
+    public Map<String, Map<Integer, LatencyHistogram>> getResponseTimesByAPI() {
+        return responseTimesByAPI;
     }
 
     @Override
-    public synchronized void resetExtAuthMetrics() {
-        this.totalRequestCount = 0;
-        this.averageResponseTimeMillis = 0;
-        this.maxResponseTimeMillis = Double.MIN_VALUE;
-        this.minResponseTimeMillis = Double.MAX_VALUE;
+    public void resetExtAuthMetrics() {
+        responseTimes.reset();
     }
 
     @Override
-    public synchronized void run() {
+    public void run() {
         requestCountWindowStartTimeMillis = System.currentTimeMillis();
-        requestCountInLastFiveMinuteWindow = 0;
+        requestCountInLastFiveMinuteWindow.reset();
     }
 
     @Override
     public long getRequestCountInLastFiveMinuteWindow() {
-        return requestCountInLastFiveMinuteWindow;
+        return requestCountInLastFiveMinuteWindow.sum();
     }
 
     @Override
     public long getRequestCountWindowStartTimeMillis() {
         return requestCountWindowStartTimeMillis;
     }
+
+    private double getPercentileMillis(double percentile) {
+        long percentileMicros = responseTimes.getPercentileMicros(percentile);
+        return percentileMicros < 0 ? 0 : toMillis(percentileMicros);
+    }
+
+    private static double toMillis(long micros) {
+        return (double) micros / TimeUnit.MILLISECONDS.toMicros(1);
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.ThrottlePublisherMetricsMXBean;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Singleton MBean for the backpressure metrics of the throttle event publisher. Metrics are recorded with
+ * contention free adders, as they are updated from the request threads.
+ */
+public class ThrottlePublisherMetrics implements ThrottlePublisherMetricsMXBean {
+
+    private static volatile ThrottlePublisherMetrics throttlePublisherMetricsMBean = null;
+
+    private final LongAdder publishedEventCount = new LongAdder();
+    private final LongAdder droppedEventCount = new LongAdder();
+    private final LongAdder sampledOutEventCount = new LongAdder();
+    private final LongAdder totalPublishLatencyNanos = new LongAdder();
+    private final LongAccumulator maxPublishLatencyNanos = new LongAccumulator(Math::max, 0);
+    private volatile BlockingQueue<?> queue;
+
+    private ThrottlePublisherMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton ThrottlePublisherMetrics instance.
+     *
+     * @return ThrottlePublisherMetrics
+     */
+    public static ThrottlePublisherMetrics getInstance() {
+        if (throttlePublisherMetricsMBean == null) {
+            synchronized (ThrottlePublisherMetrics.class) {
+                if (throttlePublisherMetricsMBean == null) {
+                    throttlePublisherMetricsMBean = new ThrottlePublisherMetrics();
+                }
+            }
+        }
+        return throttlePublisherMetricsMBean;
+    }
+
+    /**
+     * Sets the queue of the throttle events waiting for a publisher thread.
+     *
+     * @param queue publisher queue
+     */
+    public void setQueue(BlockingQueue<?> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public long getQueueDepth() {
+        BlockingQueue<?> currentQueue = queue;
+        return currentQueue == null ? 0 : currentQueue.size();
+    }
+
+    @Override
+    public long getQueueCapacity() {
+        BlockingQueue<?> currentQueue = queue;
+        return currentQueue == null ? 0 : currentQueue.size() + currentQueue.remainingCapacity();
+    }
+
+    @Override
+    public long getPublishedEventCount() {
+        return publishedEventCount.sum();
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    @Override
+    public long getSampledOutEventCount() {
+        return sampledOutEventCount.sum();
+    }
+
+    @Override
+    public double getAveragePublishLatencyMillis() {
+        long count = publishedEventCount.sum();
+        return count == 0 ? 0 : toMillis(totalPublishLatencyNanos.sum()) / count;
+    }
+
+    @Override
+    public double getMaxPublishLatencyMillis() {
+        return toMillis(maxPublishLatencyNanos.get());
+    }
+
+    @Override
+    public void resetThrottlePublisherMetrics() {
+        publishedEventCount.reset();
+        droppedEventCount.reset();
+        sampledOutEventCount.reset();
+        totalPublishLatencyNanos.reset();
+        maxPublishLatencyNanos.reset();
+    }
+
+    public void recordPublished(long latencyNanos) {
+        publishedEventCount.increment();
+        totalPublishLatencyNanos.add(latencyNanos);
+        maxPublishLatencyNanos.accumulate(latencyNanos);
+    }
+
+    public void recordDropped() {
+        droppedEventCount.increment();
+    }
+
+    public void recordSampledOut() {
+        sampledOutEventCount.increment();
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.prometheus;
+
+import io.grpc.netty.shaded.io.netty.buffer.Unpooled;
+import io.grpc.netty.shaded.io.netty.channel.ChannelFuture;
+import io.grpc.netty.shaded.io.netty.channel.ChannelFutureListener;
+import io.grpc.netty.shaded.io.netty.channel.ChannelHandlerContext;
+import io.grpc.netty.shaded.io.netty.channel.SimpleChannelInboundHandler;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpMethod;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpObject;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpVersion;
+import io.grpc.netty.shaded.io.netty.util.ReferenceCountUtil;
+import org.apache.http.protocol.HTTP;
+import org.wso2.choreo.connect.enforcer.admin.AdminUtils;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.ExtAuthMetrics;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.wso2.choreo.connect.enforcer.security.jwt.validator.JWTConstants.AUTHORIZATION;
+
+/**
+ * Serves the enforcer metrics to Prometheus scrapers from the "/metrics" context of the rest server. The scrapers
+ * authenticate with the management credentials of the enforcer, as basic auth, like the admin resources.
+ */
+public class PrometheusRequestHandler extends SimpleChannelInboundHandler<HttpObject> {
+    private static final String route = "/metrics";
+    private static final String BASIC_CHALLENGE = "Basic realm=\"enforcer\"";
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) {
+        if (msg instanceof HttpRequest) {
+            FullHttpRequest req = (FullHttpRequest) msg;
+            String path = req.uri().split("\\?")[0]; //Get the context without query params
+
+            if (!(HttpMethod.GET.equals(req.method()) && path.equals(route))) {
+                // Retained, as the message is released once this method returns.
+                ctx.fireChannelRead(ReferenceCountUtil.retain(msg));
+                return;
+            }
+            FullHttpResponse res;
+            if (AdminUtils.hasManagementCredentials(req.headers().get(AUTHORIZATION))) {
+                String metrics = PrometheusTextWriter.writeExtAuthMetrics(
+                        ExtAuthMetrics.getInstance().getResponseTimesByAPI());
+                res = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                        Unpooled.wrappedBuffer(metrics.getBytes(StandardCharsets.UTF_8)));
+                res.headers().set(HTTP.CONTENT_TYPE, PrometheusTextWriter.CONTENT_TYPE);
+            } else {
+                res = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.UNAUTHORIZED,
+                        Unpooled.EMPTY_BUFFER);
+                res.headers().set(HttpHeaderNames.WWW_AUTHENTICATE, BASIC_CHALLENGE);
+            }
+            res.headers()
+                    .set(HTTP.CONN_DIRECTIVE, HTTP.CONN_KEEP_ALIVE)
+                    .setInt(HTTP.CONTENT_LEN, res.content().readableBytes());
+            ChannelFuture f = ctx.writeAndFlush(res);
+            f.addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+        }
+    }
+}
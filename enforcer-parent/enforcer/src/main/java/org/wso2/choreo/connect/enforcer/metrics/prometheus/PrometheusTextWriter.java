@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.prometheus;
+
+import org.wso2.choreo.connect.enforcer.metrics.LatencyHistogram;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Writes the enforcer metrics in the Prometheus text exposition format (version 0.0.4).
+ */
+public class PrometheusTextWriter {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    static final String EXT_AUTHZ_DURATION_METRIC = "choreo_connect_enforcer_ext_authz_request_duration_seconds";
+
+    private PrometheusTextWriter() {
+    }
+
+    /**
+     * Write the ext_authz request durations as a histogram labelled by API base path and response status code.
+     *
+     * @param responseTimesByAPI response time histograms by API base path and response status code
+     * @return metrics in the Prometheus text format
+     */
+    public static String writeExtAuthMetrics(Map<String, Map<Integer, LatencyHistogram>> responseTimesByAPI) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("# HELP ").append(EXT_AUTHZ_DURATION_METRIC)
+                .append(" Time taken by the enforcer to process ext_authz check requests.\n");
+        builder.append("# TYPE ").append(EXT_AUTHZ_DURATION_METRIC).append(" histogram\n");
+        for (Map.Entry<String, Map<Integer, LatencyHistogram>> apiEntry : responseTimesByAPI.entrySet()) {
+            for (Map.Entry<Integer, LatencyHistogram> statusEntry : apiEntry.getValue().entrySet()) {
+                String labels = "api=\"" + escapeLabelValue(apiEntry.getKey()) + "\",status=\""
+                        + statusEntry.getKey() + "\"";
+                writeHistogram(builder, EXT_AUTHZ_DURATION_METRIC, labels, statusEntry.getValue());
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void writeHistogram(StringBuilder builder, String name, String labels,
+                                       LatencyHistogram histogram) {
+        long[] counts = histogram.getBucketCounts();
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+            long upperBound = LatencyHistogram.getBucketUpperBoundMicros(i);
+            String le = upperBound == Long.MAX_VALUE ? "+Inf" : toSeconds(upperBound);
+            builder.append(name).append("_bucket{").append(labels).append(",le=\"").append(le).append("\"} ")
+                    .append(cumulativeCount).append('\n');
+        }
+        // The count is taken from the buckets, so that it matches the +Inf bucket even with concurrent updates.
+        builder.append(name).append("_sum{").append(labels).append("} ")
+                .append(toSeconds(histogram.getSumMicros())).append('\n');
+        builder.append(name).append("_count{").append(labels).append("} ").append(cumulativeCount).append('\n');
+    }
+
+    private static String toSeconds(long micros) {
+        return BigDecimal.valueOf(micros, 6).stripTrailingZeros().toPlainString();
+    }
+
+    static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -17,6 +17,8 @@
  */
 package org.wso2.choreo.connect.enforcer.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,6 +29,8 @@ public class ApplicationInfoList {
 
     private Integer count = null;
     private List<ApplicationInfo> list = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 
     public Integer getCount() {
         return count;
@@ -43,4 +47,12 @@ public class ApplicationInfoList {
     public void setList(List<ApplicationInfo> list) {
         this.list = list;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -26,8 +26,11 @@ import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 public class ResponsePayload {
 
     private String content;
+    // Data model which is serialized directly into the response, instead of the content.
+    private Object dataModel;
     private HttpResponseStatus status;
     private boolean isError;
+    private String eTag;
 
     public String getContent() {
         return content;
@@ -37,6 +40,14 @@ public class ResponsePayload {
         this.content = content;
     }
 
+    public Object getDataModel() {
+        return dataModel;
+    }
+
+    public void setDataModel(Object dataModel) {
+        this.dataModel = dataModel;
+    }
+
     public HttpResponseStatus getStatus() {
         return status;
     }
@@ -52,4 +63,12 @@ public class ResponsePayload {
     public void setError(boolean error) {
         isError = error;
     }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public void setETag(String eTag) {
+        this.eTag = eTag;
+    }
 }
@@ -17,6 +17,8 @@
  */
 package org.wso2.choreo.connect.enforcer.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
@@ -25,6 +27,8 @@ import java.util.List;
 public class RevokedTokenList {
     private Integer count;
     private List<RevokedToken> tokens;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 
     public Integer getCount() {
         return count;
@@ -41,4 +45,12 @@ public class RevokedTokenList {
     public void setTokens(List<RevokedToken> tokens) {
         this.tokens = tokens;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -18,6 +18,8 @@
 
 package org.wso2.choreo.connect.enforcer.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,6 +30,8 @@ public class SubscriptionList {
 
     private Integer count = null;
     private List<Subscription> list = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 
     public Integer getCount() {
 
@@ -48,4 +52,14 @@ public class SubscriptionList {
 
         this.list = list;
     }
+
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
 }
@@ -49,11 +49,9 @@ import org.wso2.choreo.connect.enforcer.dto.JWTTokenPayloadInfo;
 import org.wso2.choreo.connect.enforcer.security.KeyValidator;
 import org.wso2.choreo.connect.enforcer.util.BackendJwtUtils;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+import org.wso2.choreo.connect.enforcer.util.IPAddressUtils;
 import org.wso2.choreo.connect.enforcer.util.JWTUtils;
 
-import java.math.BigInteger;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.text.ParseException;
 import java.util.Map;
 
@@ -68,8 +66,6 @@ public class APIKeyAuthenticator extends APIKeyHandler {
     private static boolean apiKeySubValidationEnabled;
     private AbstractAPIMgtGatewayJWTGenerator jwtGenerator;
     private final boolean isGatewayTokenCacheEnabled;
-    private static final int IPV4_ADDRESS_BIT_LENGTH = 32;
-    private static final int IPV6_ADDRESS_BIT_LENGTH = 128;
 
     public APIKeyAuthenticator() {
         log.debug("API key authenticator initialized.");
@@ -395,8 +391,11 @@ public class APIKeyAuthenticator extends APIKeyHandler {
             String clientIP = requestContext.getClientIp();
 
             if (StringUtils.isNotEmpty(clientIP)) {
+                clientIP = clientIP.trim();
+                long[] clientAddress = new long[2];
+                int family = IPAddressUtils.parse(clientIP, clientAddress);
                 for (String restrictedIP : permittedIPList.split(",")) {
-                    if (isIpInNetwork(clientIP, restrictedIP.trim())) {
+                    if (isIpInNetwork(clientIP, clientAddress, family, restrictedIP)) {
                         // Client IP is allowed
                         return;
                     }
@@ -444,65 +443,26 @@ public class APIKeyAuthenticator extends APIKeyHandler {
         }
     }
 
-    private boolean isIpInNetwork(String ip, String cidr) {
+    private boolean isIpInNetwork(String ip, long[] address, int family, String cidr) {
 
-        if (StringUtils.isEmpty(ip) || StringUtils.isEmpty(cidr)) {
+        if (StringUtils.isEmpty(cidr)) {
             return false;
         }
-        ip = ip.trim();
         cidr = cidr.trim();
 
         if (cidr.contains("/")) {
             String[] cidrArr = cidr.split("/");
-            if (cidrArr.length < 2 || (ip.contains(".") && !cidr.contains(".")) ||
-                    (ip.contains(":") && !cidr.contains(":"))) {
+            if (cidrArr.length < 2 || family == IPAddressUtils.INVALID) {
                 return false;
             }
-
-            BigInteger netAddress = ipToBigInteger(cidrArr[0]);
-            int netBits = Integer.parseInt(cidrArr[1]);
-            BigInteger givenIP = ipToBigInteger(ip);
-
-            if (ip.contains(".")) {
-                // IPv4
-                if (netAddress.shiftRight(IPV4_ADDRESS_BIT_LENGTH - netBits)
-                        .shiftLeft(IPV4_ADDRESS_BIT_LENGTH - netBits).compareTo(
-                                givenIP.shiftRight(IPV4_ADDRESS_BIT_LENGTH - netBits)
-                                        .shiftLeft(IPV4_ADDRESS_BIT_LENGTH - netBits)) == 0) {
-                    return true;
-                }
-            } else if (ip.contains(":")) {
-                // IPv6
-                if (netAddress.shiftRight(IPV6_ADDRESS_BIT_LENGTH - netBits)
-                        .shiftLeft(IPV6_ADDRESS_BIT_LENGTH - netBits).compareTo(
-                                givenIP.shiftRight(IPV6_ADDRESS_BIT_LENGTH - netBits)
-                                        .shiftLeft(IPV6_ADDRESS_BIT_LENGTH - netBits)) == 0) {
-                    return true;
-                }
+            long[] netAddress = new long[2];
+            if (IPAddressUtils.parse(cidrArr[0], netAddress) != family) {
+                return false;
             }
-        } else if (ip.equals(cidr)) {
-            return true;
-        }
-        return false;
-    }
-
-    private BigInteger ipToBigInteger(String ipAddress) {
-
-        InetAddress address;
-        try {
-            address = getAddress(ipAddress);
-            byte[] bytes = address.getAddress();
-            return new BigInteger(1, bytes);
-        } catch (UnknownHostException e) {
-            //ignore the error and log it
-            log.error("Error while parsing host IP {}", ipAddress, e);
+            int netBits = Integer.parseInt(cidrArr[1]);
+            return IPAddressUtils.isInNetwork(address, netAddress, family, netBits);
         }
-        return BigInteger.ZERO;
-    }
-
-    private InetAddress getAddress(String ipAddress) throws UnknownHostException {
-
-        return InetAddress.getByName(ipAddress);
+        return ip.equals(cidr);
     }
 
     @Override
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Counting Bloom filter used to answer membership queries for strings without touching the backing map in the
+ * common case where the string is not a member. Unlike a plain Bloom filter, members can be removed.
+ * <p>
+ * Queries are lock free. Callers must not add a member which is already present or remove a member which is not
+ * present, as that would corrupt the counters of other members.
+ */
+class CountingBloomFilter {
+    private static final long FNV_64_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_64_PRIME = 0x100000001b3L;
+
+    private final AtomicIntegerArray counters;
+    private final int mask;
+    private final int hashCount;
+
+    /**
+     * @param sizeExponent number of counters as a power of two
+     * @param hashCount    number of counters set per member
+     */
+    CountingBloomFilter(int sizeExponent, int hashCount) {
+        this.counters = new AtomicIntegerArray(1 << sizeExponent);
+        this.mask = (1 << sizeExponent) - 1;
+        this.hashCount = hashCount;
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            counters.incrementAndGet((h1 + i * h2) & mask);
+        }
+    }
+
+    void remove(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            counters.decrementAndGet((h1 + i * h2) & mask);
+        }
+    }
+
+    /**
+     * @param value string to be checked
+     * @return false if the value is definitely not a member, true if it might be a member
+     */
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (counters.get((h1 + i * h2) & mask) <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_64_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_64_PRIME;
+        }
+        // Murmur3 finalizer to spread the bits, since FNV does not mix the upper bits well for short strings.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        // Ensures the second hash is odd, so that it never collapses the probes into a single counter.
+        return hash | (1L << 32);
+    }
+}
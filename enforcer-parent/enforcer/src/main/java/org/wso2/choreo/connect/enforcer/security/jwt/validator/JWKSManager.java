@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.config.EnvVarConfig;
+import org.wso2.choreo.connect.enforcer.util.JWTUtils;
+import org.wso2.choreo.connect.enforcer.util.SingleFlight;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the JSON Web Key Sets of the token issuers, indexed by the key ID, as ready to use {@link JWSVerifier}s.
+ * <p>
+ * The key set of an endpoint is fetched on the first request which refers to it, or ahead of it when the endpoint
+ * is prefetched, and is refreshed in the background afterwards, so key rotation does not block request threads.
+ * A token signed with an unknown key ID triggers an immediate refresh, which is rate limited per endpoint to avoid
+ * hammering the JWKS endpoint with tokens carrying bogus key IDs. Concurrent fetches of an endpoint share a single
+ * call to the endpoint.
+ */
+public class JWKSManager {
+    private static final Logger log = LogManager.getLogger(JWKSManager.class);
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private static volatile JWKSManager instance;
+    private static final SingleFlight<String, Map<String, JWSVerifier>> fetches = new SingleFlight<>();
+    private final Map<String, EndpointKeys> keysByEndpoint = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refreshService;
+
+    private JWKSManager() {
+        long refreshInterval = EnvVarConfig.getInstance().getJwksRefreshInterval();
+        refreshService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JWKSRefresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshService.scheduleWithFixedDelay(this::refreshAll, refreshInterval, refreshInterval, TimeUnit.SECONDS);
+    }
+
+    public static JWKSManager getInstance() {
+        if (instance == null) {
+            synchronized (JWKSManager.class) {
+                if (instance == null) {
+                    instance = new JWKSManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Return the verifier for the given key ID of the JWKS endpoint.
+     *
+     * @param jwksEndpoint JWKS endpoint of the token issuer
+     * @param keyId        key ID in the JWT header
+     * @return verifier or {@code null} if the key set does not contain a supported key with the given key ID
+     * @throws IOException if the JWKS endpoint could not be invoked or the response could not be parsed
+     */
+    public JWSVerifier getVerifier(String jwksEndpoint, String keyId) throws IOException {
+        EndpointKeys endpointKeys = keysByEndpoint.computeIfAbsent(jwksEndpoint, this::createEndpointKeys);
+        JWSVerifier verifier = endpointKeys.getVerifier(keyId);
+        if (verifier == null) {
+            endpointKeys.refreshForUnknownKey(keyId);
+            verifier = endpointKeys.getVerifier(keyId);
+        }
+        return verifier;
+    }
+
+    private EndpointKeys createEndpointKeys(String jwksEndpoint) {
+        return new EndpointKeys(jwksEndpoint, JWKSManager::fetchVerifiers);
+    }
+
+    /**
+     * Fetch the key set of the given JWKS endpoint in the background, if it has not been fetched yet, so that the
+     * first requests carrying tokens of a newly added token issuer do not wait for the key set.
+     *
+     * @param jwksEndpoint JWKS endpoint of the token issuer
+     */
+    public void prefetch(String jwksEndpoint) {
+        EndpointKeys endpointKeys = keysByEndpoint.computeIfAbsent(jwksEndpoint, this::createEndpointKeys);
+        if (endpointKeys.lastRefreshedAt != 0) {
+            return;
+        }
+        refreshService.execute(() -> {
+            try {
+                endpointKeys.refreshIfNotLoaded();
+            } catch (IOException e) {
+                log.error("Error while fetching the JWKS from endpoint: {}", jwksEndpoint, e);
+            }
+        });
+    }
+
+    private void refreshAll() {
+        for (EndpointKeys endpointKeys : keysByEndpoint.values()) {
+            try {
+                endpointKeys.refresh();
+            } catch (IOException e) {
+                // Previously loaded keys are retained until the next successful refresh.
+                log.error("Error while refreshing the JWKS from endpoint: {}", endpointKeys.endpoint, e);
+            }
+        }
+    }
+
+    private static Map<String, JWSVerifier> createVerifiers(JWKSet jwkSet) {
+        Map<String, JWSVerifier> verifiers = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (jwk.getKeyID() == null) {
+                continue;
+            }
+            try {
+                JWSVerifier verifier = JWSVerifierFactory.createVerifier(jwk);
+                if (verifier != null) {
+                    verifiers.put(jwk.getKeyID(), verifier);
+                } else {
+                    log.debug("Unsupported key type: {} for the key ID: {}", jwk.getKeyType(), jwk.getKeyID());
+                }
+            } catch (JOSEException e) {
+                log.error("Error while creating the verifier for the key ID: {}", jwk.getKeyID(), e);
+            }
+        }
+        return verifiers;
+    }
+
+    private static Map<String, JWSVerifier> fetchVerifiers(String endpoint) throws IOException {
+        String jwksInfo = JWTUtils.retrieveJWKSConfiguration(endpoint);
+        if (jwksInfo == null) {
+            throw new IOException("Unexpected response from the JWKS endpoint: " + endpoint);
+        }
+        try {
+            return createVerifiers(JWKSet.parse(jwksInfo));
+        } catch (ParseException e) {
+            throw new IOException("Error while parsing the JWKS response from endpoint: " + endpoint, e);
+        }
+    }
+
+    /**
+     * Loads the verifiers of a JWKS endpoint.
+     */
+    interface VerifierFetcher {
+        Map<String, JWSVerifier> fetch(String endpoint) throws IOException;
+    }
+
+    /**
+     * Verifiers loaded from a single JWKS endpoint. The verifier map is replaced as a whole on each refresh.
+     */
+    static final class EndpointKeys {
+        private final String endpoint;
+        private final VerifierFetcher fetcher;
+        private volatile Map<String, JWSVerifier> verifiers = Collections.emptyMap();
+        private volatile long lastRefreshedAt;
+
+        EndpointKeys(String endpoint, VerifierFetcher fetcher) {
+            this.endpoint = endpoint;
+            this.fetcher = fetcher;
+        }
+
+        JWSVerifier getVerifier(String keyId) {
+            return verifiers.get(keyId);
+        }
+
+        void refresh() throws IOException {
+            fetches.execute(endpoint, this::load);
+        }
+
+        // The keys and the refresh time are published before the shared call completes, so that callers waiting
+        // for it see them and do not start another refresh for the same unknown key ID.
+        private Map<String, JWSVerifier> load() throws IOException {
+            try {
+                verifiers = fetcher.fetch(endpoint);
+            } finally {
+                // Failed attempts are rate limited as well, so that an unreachable endpoint is not called for
+                // every token carrying an unknown key ID.
+                lastRefreshedAt = System.currentTimeMillis();
+            }
+            log.debug("Loaded {} keys from the JWKS endpoint: {}", verifiers.size(), endpoint);
+            return verifiers;
+        }
+
+        void refreshIfNotLoaded() throws IOException {
+            if (lastRefreshedAt == 0) {
+                refresh();
+            }
+        }
+
+        void refreshForUnknownKey(String keyId) throws IOException {
+            // Another refresh might have loaded the key while this request was looking it up.
+            if (verifiers.containsKey(keyId)
+                    || System.currentTimeMillis() - lastRefreshedAt < MIN_REFRESH_INTERVAL_MILLIS) {
+                return;
+            }
+            refresh();
+        }
+    }
+}
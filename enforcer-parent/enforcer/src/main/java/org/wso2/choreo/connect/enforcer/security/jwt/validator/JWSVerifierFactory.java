@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+
+/**
+ * Creates {@link JWSVerifier}s for the RSA, EC (P-256, P-384, P-521) and Ed25519 keys used to sign JWTs.
+ * Verifiers are thread safe, hence the verifiers created for public keys are cached and reused across requests.
+ * The cache is bounded, so that keys which are no longer used, such as the keys of replaced certificates, are
+ * evicted.
+ */
+public class JWSVerifierFactory {
+    private static final String ED25519 = "Ed25519";
+    private static final String EDDSA = "EdDSA";
+    // DER encoding of the X.509 SubjectPublicKeyInfo of an Ed25519 key (RFC 8410), up to the raw key:
+    // SEQUENCE (42 bytes) { SEQUENCE (5 bytes) { OID 1.3.101.112 }, BIT STRING (33 bytes, no unused bits) }
+    private static final byte[] ED25519_SUBJECT_PUBLIC_KEY_INFO_PREFIX = {
+            0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00};
+    private static final int ED25519_RAW_KEY_LENGTH = 32;
+    private static final long MAX_CACHED_VERIFIERS = 1000;
+
+    private static final Cache<PublicKey, JWSVerifier> verifierCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_VERIFIERS)
+            .build();
+
+    private JWSVerifierFactory() {
+    }
+
+    /**
+     * Create a verifier for a JSON Web Key.
+     *
+     * @param jwk JSON Web Key
+     * @return verifier or {@code null} if the key type is not supported
+     * @throws JOSEException if the key is invalid
+     */
+    public static JWSVerifier createVerifier(JWK jwk) throws JOSEException {
+        if (jwk instanceof RSAKey) {
+            return new RSASSAVerifier((RSAKey) jwk);
+        } else if (jwk instanceof ECKey) {
+            return new ECDSAVerifier((ECKey) jwk);
+        } else if (jwk instanceof OctetKeyPair && Curve.Ed25519.equals(((OctetKeyPair) jwk).getCurve())) {
+            return new Ed25519Verifier(((OctetKeyPair) jwk).toPublicJWK());
+        }
+        return null;
+    }
+
+    /**
+     * Return the cached verifier for a public key, which is usually taken from a certificate.
+     *
+     * @param publicKey public key
+     * @return verifier or {@code null} if the key type is not supported
+     * @throws JOSEException if the key is invalid
+     */
+    public static JWSVerifier getVerifier(PublicKey publicKey) throws JOSEException {
+        JWSVerifier verifier = verifierCache.getIfPresent(publicKey);
+        if (verifier == null) {
+            verifier = createVerifier(publicKey);
+            if (verifier != null) {
+                verifierCache.put(publicKey, verifier);
+            }
+        }
+        return verifier;
+    }
+
+    private static JWSVerifier createVerifier(PublicKey publicKey) throws JOSEException {
+        if (publicKey instanceof RSAPublicKey) {
+            return new RSASSAVerifier((RSAPublicKey) publicKey);
+        } else if (publicKey instanceof ECPublicKey) {
+            return new ECDSAVerifier((ECPublicKey) publicKey);
+        } else if (ED25519.equals(publicKey.getAlgorithm()) || EDDSA.equals(publicKey.getAlgorithm())) {
+            byte[] rawKey = decodeEd25519PublicKey(publicKey.getEncoded());
+            if (rawKey != null) {
+                return new Ed25519Verifier(new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(rawKey)).build());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decode the raw Ed25519 key from its X.509 SubjectPublicKeyInfo encoding. The encoding is verified against the
+     * Ed25519 algorithm identifier, since EdDSA keys of other curves share the same key algorithm name.
+     *
+     * @param encoded X.509 encoded public key
+     * @return raw 32 byte key, or {@code null} if the encoding is not an Ed25519 SubjectPublicKeyInfo
+     */
+    static byte[] decodeEd25519PublicKey(byte[] encoded) {
+        int prefixLength = ED25519_SUBJECT_PUBLIC_KEY_INFO_PREFIX.length;
+        if (encoded == null || encoded.length != prefixLength + ED25519_RAW_KEY_LENGTH
+                || !Arrays.equals(Arrays.copyOfRange(encoded, 0, prefixLength),
+                ED25519_SUBJECT_PUBLIC_KEY_INFO_PREFIX)) {
+            return null;
+        }
+        return Arrays.copyOfRange(encoded, prefixLength, encoded.length);
+    }
+}
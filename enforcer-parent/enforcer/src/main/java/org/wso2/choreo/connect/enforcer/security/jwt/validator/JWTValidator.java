@@ -18,9 +18,7 @@
 
 package org.wso2.choreo.connect.enforcer.security.jwt.validator;
 
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.util.DateUtils;
@@ -38,7 +36,6 @@ import org.wso2.choreo.connect.enforcer.security.jwt.SignedJWTInfo;
 import org.wso2.choreo.connect.enforcer.util.JWTUtils;
 
 import java.io.IOException;
-import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.Date;
@@ -51,7 +48,7 @@ import java.util.Map;
  */
 public class JWTValidator {
     private static final Logger logger = LogManager.getLogger(JWTValidator.class);
-    private JWKSet jwkSet;
+    static final long TIMESTAMP_SKEW_SECONDS = 5; //TODO : Read from config.
 
     public JWTValidator() {
     }
@@ -114,49 +111,31 @@ public class JWTValidator {
             if (StringUtils.isNotEmpty(keyID)) {
                 if (tokenIssuer.getJwksConfigurationDTO().isEnabled() && StringUtils
                         .isNotEmpty(tokenIssuer.getJwksConfigurationDTO().getUrl())) {
-                    // Check JWKSet Available in Cache
-                    if (jwkSet == null) {
-                        jwkSet = retrieveJWKSet(tokenIssuer);
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) == null) {
-                        jwkSet = retrieveJWKSet(tokenIssuer);
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) instanceof RSAKey) {
-                        RSAKey keyByKeyId = (RSAKey) jwkSet.getKeyByKeyId(keyID);
-                        RSAPublicKey rsaPublicKey = keyByKeyId.toRSAPublicKey();
-                        if (rsaPublicKey != null) {
-                            return JWTUtils.verifyTokenSignature(signedJWT, rsaPublicKey);
-                        }
-                    } else {
-                        throw new EnforcerException("Key Algorithm not supported");
+                    JWSVerifier verifier = JWKSManager.getInstance()
+                            .getVerifier(tokenIssuer.getJwksConfigurationDTO().getUrl(), keyID);
+                    if (verifier == null) {
+                        throw new EnforcerException("No supported key found in JWKS for the key ID: " + keyID);
                     }
+                    return JWTUtils.verifyTokenSignature(signedJWT, verifier);
                 } else if (tokenIssuer.getCertificate() != null) {
                     logger.debug("Retrieve certificate from Token issuer and validating");
-                    RSAPublicKey rsaPublicKey = (RSAPublicKey) tokenIssuer.getCertificate().getPublicKey();
-                    return JWTUtils.verifyTokenSignature(signedJWT, rsaPublicKey);
+                    return JWTUtils.verifyTokenSignature(signedJWT, tokenIssuer.getCertificate().getPublicKey());
                 } else {
                     //TODO: (VirajSalaka) Come up with a fix
                     return JWTUtils.verifyTokenSignature(signedJWT, keyID);
                 }
             }
             return JWTUtils.verifyTokenSignature(signedJWT, certificateAlias);
-        } catch (ParseException | JOSEException | IOException e) {
+        } catch (IOException e) {
             throw new EnforcerException("JWT Signature verification failed", e);
         }
     }
 
     protected boolean validateTokenExpiry(JWTClaimsSet jwtClaimsSet) {
 
-        long timestampSkew = 5; //TODO : Read from config.
         Date now = new Date();
         Date exp = jwtClaimsSet.getExpirationTime();
-        return exp == null || DateUtils.isAfter(exp, now, timestampSkew);
-    }
-
-    private JWKSet retrieveJWKSet(ExtendedTokenIssuerDto tokenIssuer) throws IOException, ParseException {
-        String jwksInfo = JWTUtils.retrieveJWKSConfiguration(tokenIssuer.getJwksConfigurationDTO().getUrl());
-        jwkSet = JWKSet.parse(jwksInfo);
-        return jwkSet;
+        return exp == null || DateUtils.isAfter(exp, now, TIMESTAMP_SKEW_SECONDS);
     }
 
     private void createJWTValidationInfoFromJWT(JWTValidationInfo jwtValidationInfo, JWTClaimsSet jwtClaimsSet)
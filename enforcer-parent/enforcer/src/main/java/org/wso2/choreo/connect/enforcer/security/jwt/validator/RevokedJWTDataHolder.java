@@ -21,17 +21,41 @@ package org.wso2.choreo.connect.enforcer.security.jwt.validator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.choreo.connect.enforcer.discovery.RevokedTokenDiscoveryClient;
+import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 
+import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  *  Singleton which stores the revoked JWT map.
+ *  <p>
+ *  Revoked tokens are evicted once their own expiry time passes, since an expired token is rejected regardless of
+ *  the revocation. The validators accept a token until its expiry plus the clock skew, hence the eviction waits for
+ *  the largest of the skews as well. Lookups are fronted by a counting Bloom filter so that the common case of a
+ *  token which is not revoked does not touch the map.
  */
 public class RevokedJWTDataHolder {
 
     private static final Logger log = LogManager.getLogger(RevokedJWTDataHolder.class);
-    private static Map<String, Long> revokedJWTMap = new ConcurrentHashMap<>();
+    private static final long EXPIRED_TOKEN_CLEANUP_INTERVAL_SECONDS = 60;
+    // 2^19 counters with 4 probes keeps the false positive rate around 1% for 50,000 revoked tokens.
+    private static final int BLOOM_FILTER_SIZE_EXPONENT = 19;
+    private static final int BLOOM_FILTER_HASH_COUNT = 4;
+    static final long EVICTION_GRACE_PERIOD_MILLIS = TimeUnit.SECONDS.toMillis(
+            Math.max(JWTValidator.TIMESTAMP_SKEW_SECONDS, FilterUtils.getTimeStampSkewInSeconds()));
+
+    private static final Map<String, Long> revokedJWTMap = new ConcurrentHashMap<>();
+    private static final CountingBloomFilter revokedJWTFilter = new CountingBloomFilter(BLOOM_FILTER_SIZE_EXPONENT,
+            BLOOM_FILTER_HASH_COUNT);
+    // Guarded by the lock of the queue. Modifications of the map and the filter happen under the same lock.
+    private static final PriorityQueue<Map.Entry<String, Long>> expiryQueue =
+            new PriorityQueue<>(Map.Entry.comparingByValue());
     private static RevokedJWTDataHolder instance = new RevokedJWTDataHolder();
 
     public void init() {
@@ -42,12 +66,23 @@ public class RevokedJWTDataHolder {
     /**
      * Adds a given key,value pair to the revoke map.
      * @param key key to be added.
-     * @param value value to be added.
+     * @param value expiry time of the revoked token in milliseconds. Non positive values are never evicted.
      */
     public void addRevokedJWTToMap(String key, Long value) {
         if (key != null && value != null) {
             log.debug("Adding revoked JWT key, value pair to the revoked map :" + key + " , " + value);
-            revokedJWTMap.put(key, value);
+            synchronized (expiryQueue) {
+                if (!revokedJWTMap.containsKey(key)) {
+                    // The filter is updated before the map so that any key in the map is visible in the filter.
+                    revokedJWTFilter.add(key);
+                }
+                Long previous = revokedJWTMap.put(key, value);
+                // Revoked tokens are received again with each discovery response, hence only the new expiry times
+                // are queued.
+                if (value > 0 && !value.equals(previous)) {
+                    expiryQueue.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+                }
+            }
         }
     }
 
@@ -57,19 +92,50 @@ public class RevokedJWTDataHolder {
      * @return true if it exists and false otherwise.
      */
     public static boolean isJWTTokenSignatureExistsInRevokedMap(String jwtSignature) {
-        return revokedJWTMap.containsKey(jwtSignature);
+        return jwtSignature != null && revokedJWTFilter.mightContain(jwtSignature)
+                && revokedJWTMap.containsKey(jwtSignature);
     }
 
     private RevokedJWTDataHolder() {
+        ScheduledExecutorService cleanupService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RevokedTokenCleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cleanupService.scheduleWithFixedDelay(() -> removeExpiredTokens(System.currentTimeMillis()),
+                EXPIRED_TOKEN_CLEANUP_INTERVAL_SECONDS, EXPIRED_TOKEN_CLEANUP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
 
+    /**
+     * Removes the revoked tokens which have expired by the given time, and are no longer accepted within the clock
+     * skew either.
+     * @param now current time in milliseconds.
+     */
+    void removeExpiredTokens(long now) {
+        int removed = 0;
+        long expiredBy = now - EVICTION_GRACE_PERIOD_MILLIS;
+        synchronized (expiryQueue) {
+            Map.Entry<String, Long> head;
+            while ((head = expiryQueue.peek()) != null && head.getValue() <= expiredBy) {
+                expiryQueue.poll();
+                // The token might have been revoked again with a later expiry, in which case a newer entry is queued.
+                if (revokedJWTMap.remove(head.getKey(), head.getValue())) {
+                    revokedJWTFilter.remove(head.getKey());
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.debug("Removed {} expired tokens from the revoked map", removed);
+        }
     }
 
     /**
      * Fetches the revoke map.
-     * @return
+     * @return an unmodifiable view of the revoked map.
      */
     public Map<String, Long> getRevokedJWTMap() {
-        return revokedJWTMap;
+        return Collections.unmodifiableMap(revokedJWTMap);
     }
 
     /**
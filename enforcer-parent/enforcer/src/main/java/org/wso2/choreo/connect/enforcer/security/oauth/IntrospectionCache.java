@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.oauth;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.guava.CaffeinatedGuava;
+import com.google.common.cache.Cache;
+import org.wso2.choreo.connect.enforcer.util.SingleFlight;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the token introspection results of opaque tokens. Active tokens are cached until the expiry of the
+ * token, and inactive tokens are cached for a shorter period so that repeated requests with revoked or unknown
+ * tokens do not reach the key manager either. Both are bounded by the maximum TTL of the cache.
+ * <p>
+ * Concurrent lookups of a token which is not cached share a single introspection call.
+ */
+class IntrospectionCache {
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private final Cache<String, IntrospectInfo> cache;
+    private final SingleFlight<String, IntrospectInfo> introspections = new SingleFlight<>();
+    private final long maxTTLMillis;
+    private final long inactiveTTLMillis;
+
+    /**
+     * Introspects a token at the key manager.
+     */
+    interface Introspector {
+        /**
+         * @param token access token
+         * @return introspection result, or {@code null} if the token could not be introspected
+         * @throws IOException if an error occurs while invoking the introspection endpoint
+         */
+        IntrospectInfo introspect(String token) throws IOException;
+    }
+
+    IntrospectionCache(long maximumSize, long maxTTLSeconds, long inactiveTTLSeconds) {
+        this.maxTTLMillis = TimeUnit.SECONDS.toMillis(maxTTLSeconds);
+        this.inactiveTTLMillis = Math.min(TimeUnit.SECONDS.toMillis(inactiveTTLSeconds), maxTTLMillis);
+        this.cache = CaffeinatedGuava.build(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .expireAfter(new Expiry<String, IntrospectInfo>() {
+                    @Override
+                    public long expireAfterCreate(String key, IntrospectInfo value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(getTTLMillis(value, System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, IntrospectInfo value, long currentTime,
+                                                  long currentDuration) {
+                        return TimeUnit.MILLISECONDS.toNanos(getTTLMillis(value, System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, IntrospectInfo value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                }));
+    }
+
+    /**
+     * Returns the cached introspection result of the token, or introspects the token if it is not cached.
+     *
+     * @param token        access token
+     * @param introspector introspector used when the token is not cached
+     * @return introspection result, or {@code null} if the token could not be introspected
+     * @throws IOException if an error occurs while invoking the introspection endpoint
+     */
+    IntrospectInfo get(String token, Introspector introspector) throws IOException {
+        String key = getKey(token);
+        IntrospectInfo introspectInfo = cache.getIfPresent(key);
+        if (introspectInfo != null) {
+            return introspectInfo;
+        }
+        return introspections.execute(key, () -> {
+            IntrospectInfo result = introspector.introspect(token);
+            if (result != null && getTTLMillis(result, System.currentTimeMillis()) > 0) {
+                cache.put(key, result);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * @return underlying cache, to be registered for the cache statistics
+     */
+    Cache<String, ?> getCache() {
+        return cache;
+    }
+
+    long getTTLMillis(IntrospectInfo introspectInfo, long now) {
+        if (!introspectInfo.isActive()) {
+            return inactiveTTLMillis;
+        }
+        if (introspectInfo.getExpiry() <= 0) {
+            return maxTTLMillis;
+        }
+        return Math.max(0, Math.min(TimeUnit.SECONDS.toMillis(introspectInfo.getExpiry()) - now, maxTTLMillis));
+    }
+
+    /**
+     * Tokens are not retained in memory as they are, only their fingerprints are used as the cache keys.
+     */
+    private static String getKey(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Error while fingerprinting the token", e);
+        }
+    }
+}
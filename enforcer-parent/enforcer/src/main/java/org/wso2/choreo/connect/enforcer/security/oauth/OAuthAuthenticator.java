@@ -32,9 +32,13 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.logging.log4j.ThreadContext;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
 import org.wso2.choreo.connect.enforcer.commons.exception.APISecurityException;
 import org.wso2.choreo.connect.enforcer.commons.model.AuthenticationContext;
 import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.EnvVarConfig;
+import org.wso2.choreo.connect.enforcer.config.dto.CacheDto;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.APISecurityConstants;
 import org.wso2.choreo.connect.enforcer.security.AccessTokenInfo;
@@ -45,6 +49,7 @@ import org.wso2.choreo.connect.enforcer.tracing.TracingSpan;
 import org.wso2.choreo.connect.enforcer.tracing.TracingTracer;
 import org.wso2.choreo.connect.enforcer.tracing.Utils;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+import org.wso2.choreo.connect.enforcer.util.HttpClientRegistry;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -64,6 +69,13 @@ import java.util.Map;
  */
 public class OAuthAuthenticator implements Authenticator {
     private static final Log log = LogFactory.getLog(OAuthAuthenticator.class);
+    private static final Gson GSON = new Gson();
+    // Null if caching is disabled, in which case each request is introspected.
+    private static final IntrospectionCache introspectionCache = createIntrospectionCache();
+    // Introspection has a pool of its own, so that it cannot exhaust the connections used for other destinations.
+    private static final Map<String, String> INTROSPECTION_CLIENT_OPTIONS = Map.of(
+            FilterUtils.HTTPClientOptions.MAX_OPEN_CONNECTIONS, "100",
+            FilterUtils.HTTPClientOptions.MAX_PER_ROUTE, "50");
     private List<String> keyManagerList;
 
     protected JWTValidator jwtValidator;
@@ -121,7 +133,13 @@ public class OAuthAuthenticator implements Authenticator {
             token = token.split("\\s")[1];
 
             try {
-                IntrospectInfo introspectInfo = validateToken(token);
+                IntrospectInfo introspectInfo = introspectionCache != null
+                        ? introspectionCache.get(token, this::validateToken) : validateToken(token);
+                if (introspectInfo == null || !introspectInfo.isActive()) {
+                    throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
+                            APISecurityConstants.API_AUTH_INVALID_CREDENTIALS,
+                            APISecurityConstants.API_AUTH_INVALID_CREDENTIALS_MESSAGE);
+                }
                 accessTokenInfo.setAccessToken(token);
                 accessTokenInfo.setConsumerKey(introspectInfo.getClientId());
             } catch (IOException e) {
@@ -226,25 +244,38 @@ public class OAuthAuthenticator implements Authenticator {
      */
     private IntrospectInfo validateToken(String accessToken) throws IOException {
         URL url = new URL(kmEndpoint + "/introspect");
-        try (CloseableHttpClient httpClient = (CloseableHttpClient) FilterUtils.getHttpClient(url.getProtocol())) {
-            HttpPost introspectRequest = new HttpPost(kmEndpoint + "/introspect");
-            List<NameValuePair> params = new ArrayList<>();
-            NameValuePair token = new BasicNameValuePair("token", accessToken);
-            params.add(token);
-            introspectRequest.setEntity(new UrlEncodedFormEntity(params));
-            introspectRequest.setHeader("Content-type", "application/x-www-form-urlencoded");
-            introspectRequest.setHeader("Authorization", "Basic " +
-                    Base64.getEncoder().encodeToString("admin:admin".getBytes()));
-            try (CloseableHttpResponse response = httpClient.execute(introspectRequest)) {
-                if (response.getStatusLine().getStatusCode() == 200) {
-                    HttpEntity entity = response.getEntity();
-                    try (InputStream content = entity.getContent()) {
-                        return new Gson().fromJson(IOUtils.toString(content), IntrospectInfo.class);
-                    }
-                } else {
-                    return null;
+        CloseableHttpClient httpClient = HttpClientRegistry.getInstance().getClient(url.getProtocol(), null,
+                INTROSPECTION_CLIENT_OPTIONS);
+        HttpPost introspectRequest = new HttpPost(kmEndpoint + "/introspect");
+        List<NameValuePair> params = new ArrayList<>();
+        NameValuePair token = new BasicNameValuePair("token", accessToken);
+        params.add(token);
+        introspectRequest.setEntity(new UrlEncodedFormEntity(params));
+        introspectRequest.setHeader("Content-type", "application/x-www-form-urlencoded");
+        introspectRequest.setHeader("Authorization", "Basic " +
+                Base64.getEncoder().encodeToString("admin:admin".getBytes()));
+        try (CloseableHttpResponse response = httpClient.execute(introspectRequest)) {
+            if (response.getStatusLine().getStatusCode() == 200) {
+                HttpEntity entity = response.getEntity();
+                try (InputStream content = entity.getContent()) {
+                    return GSON.fromJson(IOUtils.toString(content), IntrospectInfo.class);
                 }
+            } else {
+                return null;
             }
         }
     }
+
+    private static IntrospectionCache createIntrospectionCache() {
+        CacheDto cacheDto = ConfigHolder.getInstance().getConfig().getCacheDto();
+        if (!cacheDto.isEnabled()) {
+            return null;
+        }
+        EnvVarConfig envVarConfig = ConfigHolder.getInstance().getEnvVarConfig();
+        int maximumSize = cacheDto.getCacheSpec(CacheProvider.INTROSPECTION_CACHE).getMaximumSize();
+        IntrospectionCache cache = new IntrospectionCache(maximumSize, envVarConfig.getIntrospectionCacheMaxTTL(),
+                envVarConfig.getIntrospectionCacheInactiveTTL());
+        CacheProvider.registerCache(CacheProvider.INTROSPECTION_CACHE, cache.getCache());
+        return cache;
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.carbon.apimgt.common.jms.JMSTransportHandler;
 import org.wso2.choreo.connect.enforcer.analytics.AccessLoggingService;
+import org.wso2.choreo.connect.enforcer.analytics.AnalyticsFilter;
 import org.wso2.choreo.connect.enforcer.api.APIFactory;
 import org.wso2.choreo.connect.enforcer.common.CacheProvider;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
@@ -55,6 +56,7 @@ import org.wso2.choreo.connect.enforcer.throttle.ThrottleEventListener;
 import org.wso2.choreo.connect.enforcer.tracing.TracerFactory;
 import org.wso2.choreo.connect.enforcer.tracing.TracingException;
 import org.wso2.choreo.connect.enforcer.tracing.Utils;
+import org.wso2.choreo.connect.enforcer.util.HttpClientRegistry;
 import org.wso2.choreo.connect.enforcer.util.TLSUtils;
 
 import java.io.IOException;
@@ -136,6 +138,7 @@ public class AuthServer {
 
             // Start the server
             server.start();
+            registerShutdownHook();
             logger.info("Sever started Listening in port : " + 8081);
 
             // Initialize JMX Agent
@@ -168,6 +171,18 @@ public class AuthServer {
         }
     }
 
+    /**
+     * Releases the resources held across requests when the enforcer is stopped.
+     */
+    private static void registerShutdownHook() {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("Shutting down the enforcer.");
+            ThrottleAgent.shutdown();
+            AnalyticsFilter.shutdown();
+            HttpClientRegistry.getInstance().closeAll();
+        }, "EnforcerShutdownHook"));
+    }
+
     private static Server initServer() throws SSLException {
         final EventLoopGroup bossGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors());
         final EventLoopGroup workerGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors() * 2);
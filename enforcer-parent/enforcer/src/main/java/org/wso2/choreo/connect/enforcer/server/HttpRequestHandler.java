@@ -18,6 +18,7 @@
 package org.wso2.choreo.connect.enforcer.server;
 
 import com.google.protobuf.ByteString;
+import io.envoyproxy.envoy.service.auth.v3.AttributeContext;
 import io.envoyproxy.envoy.service.auth.v3.CheckRequest;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -38,6 +39,7 @@ import org.wso2.choreo.connect.enforcer.constants.HttpConstants;
 import org.wso2.choreo.connect.enforcer.graphql.GraphQLPayloadUtils;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Map;
 
@@ -68,6 +70,7 @@ public class HttpRequestHandler implements RequestHandler<CheckRequest, Response
 
         RequestContext requestContext = buildRequestContext(matchedAPI, request);
         ResponseObject responseObject = matchedAPI.process(requestContext);
+        responseObject.setApiBasePath(api.getBasePath());
 
         // to clear the ThreadContext's stack used for logging
         ThreadContext.removeStack();
@@ -95,26 +98,18 @@ public class HttpRequestHandler implements RequestHandler<CheckRequest, Response
             address = request.getAttributes().getSource().getAddress().getSocketAddress().getAddress();
         }
         address = FilterUtils.getClientIp(headers, address);
+        // The body is passed as a read only view of the received bytes. It is decoded only if a filter reads
+        // the payload as a string.
+        ByteString requestBody = getRequestBody(request.getAttributes().getRequest().getHttp());
+        ByteBuffer requestBodyView = requestBody.isEmpty() ? null : requestBody.asReadOnlyByteBuffer();
         String requestPayload = null;
-        if (!request.getAttributes().getRequest().getHttp().getRawBody().isEmpty()) {
-            ByteString byteString = request.getAttributes().getRequest().getHttp().getRawBody();
-            if (byteString.isValidUtf8()) {
-                requestPayload = byteString.toStringUtf8();
-            }
-        }
-        if (!request.getAttributes().getRequest().getHttp().getBody().isEmpty()) {
-            ByteString byteString = request.getAttributes().getRequest().getHttp().getBodyBytes();
-            if (byteString.isValidUtf8()) {
-                requestPayload = byteString.toStringUtf8();
-            }
-        }
         ResourceConfig resourceConfig = null;
         ArrayList<ResourceConfig> resourceConfigs = null;
         boolean isGraphQLAPI = api.getAPIConfig().getApiType().equals(APIConstants.ApiType.GRAPHQL);
         if (isGraphQLAPI && !HttpConstants.OPTIONS.equals(method)) {
             // need to decode the payload if request is graphql and a non option call.
             try {
-                requestPayload = GraphQLPayloadUtils.getGQLRequestPayload(requestPayload, headers);
+                requestPayload = GraphQLPayloadUtils.getGQLRequestPayload(requestBody, headers);
                 resourceConfigs = GraphQLPayloadUtils.buildGQLRequestContext(api, requestPayload);
             } catch (EnforcerException exception) {
                 logger.error("Error while processing the graphql api request for {}",
@@ -123,7 +118,7 @@ public class HttpRequestHandler implements RequestHandler<CheckRequest, Response
                 RequestContext requestContext = new RequestContext.Builder(requestPath).requestMethod(method)
                         .matchedAPI(api.getAPIConfig()).headers(headers).requestID(requestID).address(address)
                         .prodClusterHeader(prodCluster).sandClusterHeader(sandCluster).certificate(certificate)
-                        .requestTimeStamp(requestTimeInMillis).requestPayload(requestPayload).build();
+                        .requestTimeStamp(requestTimeInMillis).requestBody(requestBodyView).build();
                 requestContext.getProperties().put(APIConstants.MessageFormat.STATUS_CODE,
                         APIConstants.StatusCodes.BAD_REQUEST_ERROR.getCode());
                 requestContext.getProperties().put(APIConstants.MessageFormat.ERROR_CODE,
@@ -145,6 +140,15 @@ public class HttpRequestHandler implements RequestHandler<CheckRequest, Response
                 .certificate(certificate).matchedAPI(api.getAPIConfig()).headers(headers).requestID(requestID)
                 .address(address).prodClusterHeader(prodCluster).sandClusterHeader(sandCluster)
                 .requestTimeStamp(requestTimeInMillis).pathTemplate(pathTemplate).requestPayload(requestPayload)
-                .build();
+                .requestBody(requestBodyView).build();
+    }
+
+    /**
+     * Returns the body of the request without decoding it. If both body fields are set, the body field takes
+     * precedence over the raw body.
+     */
+    private static ByteString getRequestBody(AttributeContext.HttpRequest httpRequest) {
+        ByteString body = httpRequest.getBodyBytes();
+        return body.isEmpty() ? httpRequest.getRawBody() : body;
     }
 }
@@ -27,7 +27,9 @@ import io.grpc.netty.shaded.io.netty.handler.ssl.SslContext;
 import org.wso2.choreo.connect.enforcer.admin.AdminServerHandler;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.EnforcerConfig;
+import org.wso2.choreo.connect.enforcer.config.EnvVarConfig;
 import org.wso2.choreo.connect.enforcer.jwks.JWKSRequestHandler;
+import org.wso2.choreo.connect.enforcer.metrics.prometheus.PrometheusRequestHandler;
 import org.wso2.choreo.connect.enforcer.security.jwt.issuer.HttpTokenServerHandler;
 
 /**
@@ -62,6 +64,9 @@ public class RestServerInitializer extends ChannelInitializer<SocketChannel> {
         if (enforcerConfig.getJwtIssuerConfigurationDto().isEnabled()) {
             p.addLast(new HttpTokenServerHandler());
         }
+        if (EnvVarConfig.getInstance().isPrometheusMetricsEnabled()) {
+            p.addLast(new PrometheusRequestHandler());
+        }
         if (enforcerConfig.getRestServer().isEnable()) {
             p.addLast(new AdminServerHandler());
         }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.subscription;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Concurrent map of subscription data entries which maintains secondary indexes over attributes of the
+ * stored values. Indexes are updated along with each {@link #put} and {@link #remove}, hence queries on indexed
+ * attributes do not need to scan all the entries of the map.
+ * <p>
+ * Reads are lock free, while writes are serialized so that the entries and the indexes are updated together.
+ * The entry set of the map is read only and entries can only be modified through {@link #put} and
+ * {@link #remove}. Each modification increments the shared version counter, which is used to detect whether
+ * the data store has changed.
+ * </p>
+ *
+ * @param <K> key of the map
+ * @param <V> value of the map
+ */
+class IndexedMap<K, V> extends AbstractMap<K, V> {
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final Map<String, Index<K, V>> indexes = new HashMap<>();
+    private final AtomicLong version;
+
+    /**
+     * @param version version counter which is incremented on each modification of the map
+     */
+    IndexedMap(AtomicLong version) {
+        this.version = version;
+    }
+
+    /**
+     * Add a secondary index. Indexes should be added before entries are added to the map.
+     *
+     * @param name      name of the index
+     * @param attribute resolves the indexed attribute of a value. Values with a null attribute are not indexed
+     * @return this map
+     */
+    IndexedMap<K, V> withIndex(String name, Function<V, String> attribute) {
+        indexes.put(name, new Index<>(attribute));
+        return this;
+    }
+
+    /**
+     * Get the values of which the indexed attribute is equal to the given value.
+     *
+     * @param indexName      name of the index
+     * @param attributeValue value of the indexed attribute
+     * @return matching values
+     */
+    List<V> getByIndex(String indexName, String attributeValue) {
+        Set<K> keys = indexes.get(indexName).keys.get(attributeValue);
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+        List<V> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            V value = entries.get(key);
+            // The index may be ahead of a concurrent read, hence the entry is checked before adding.
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public V get(Object key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(entries).entrySet();
+    }
+
+    @Override
+    public synchronized V put(K key, V value) {
+        V previous = entries.put(key, value);
+        for (Index<K, V> index : indexes.values()) {
+            if (previous != null) {
+                index.remove(key, previous);
+            }
+            index.add(key, value);
+        }
+        version.incrementAndGet();
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(Object key) {
+        V previous = entries.remove(key);
+        if (previous != null) {
+            for (Index<K, V> index : indexes.values()) {
+                index.remove((K) key, previous);
+            }
+            version.incrementAndGet();
+        }
+        return previous;
+    }
+
+    private static class Index<K, V> {
+        private final Function<V, String> attribute;
+        private final Map<String, Set<K>> keys = new ConcurrentHashMap<>();
+
+        private Index(Function<V, String> attribute) {
+            this.attribute = attribute;
+        }
+
+        private void add(K key, V value) {
+            String attributeValue = attribute.apply(value);
+            if (attributeValue != null) {
+                keys.computeIfAbsent(attributeValue, k -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        }
+
+        private void remove(K key, V value) {
+            String attributeValue = attribute.apply(value);
+            if (attributeValue != null) {
+                keys.computeIfPresent(attributeValue, (k, indexedKeys) -> {
+                    indexedKeys.remove(key);
+                    return indexedKeys.isEmpty() ? null : indexedKeys;
+                });
+            }
+        }
+    }
+}
@@ -92,6 +92,14 @@ public interface SubscriptionDataStore {
      */
     ApplicationPolicy getApplicationPolicyByName(String policyName);
 
+    /**
+     * Gets the version of the data store. The version changes whenever an entry of the data store is added,
+     * updated or removed.
+     *
+     * @return version of the data store
+     */
+    long getVersion();
+
     void addSubscriptions(List<org.wso2.choreo.connect.discovery.subscription.Subscription> subscriptionList);
 
     void addApplications(List<org.wso2.choreo.connect.discovery.subscription.Application> applicationList);
@@ -23,6 +23,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.choreo.connect.discovery.subscription.APIs;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
+import org.wso2.choreo.connect.enforcer.discovery.common.IncrementalResourceApplier;
 import org.wso2.choreo.connect.enforcer.discovery.ApiListDiscoveryClient;
 import org.wso2.choreo.connect.enforcer.discovery.ApplicationDiscoveryClient;
 import org.wso2.choreo.connect.enforcer.discovery.ApplicationKeyMappingDiscoveryClient;
@@ -39,10 +40,13 @@ import org.wso2.choreo.connect.enforcer.models.Subscription;
 import org.wso2.choreo.connect.enforcer.models.SubscriptionPolicy;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -64,16 +68,35 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     public static final String DELEM_PERIOD = ":";
 
+    // Names of the secondary indexes maintained over the maps below.
+    private static final String CONTEXT_INDEX = "context";
+    private static final String TENANT_DOMAIN_INDEX = "tenantDomain";
+    private static final String APPLICATION_UUID_INDEX = "applicationUUID";
+    private static final String CONSUMER_KEY_INDEX = "consumerKey";
+    private static final String API_UUID_INDEX = "apiUUID";
+
     // Maps for keeping Subscription related details.
-    private Map<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> applicationKeyMappingMap;
-    private Map<String, Application> applicationMap;
-    private Map<String, API> apiMap;
+    private IndexedMap<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> applicationKeyMappingMap;
+    private IndexedMap<String, Application> applicationMap;
+    private IndexedMap<String, API> apiMap;
     private Map<String, ApiPolicy> apiPolicyMap;
     private Map<String, SubscriptionPolicy> subscriptionPolicyMap;
     private Map<String, ApplicationPolicy> appPolicyMap;
-    private Map<String, Subscription> subscriptionMap;
+    private IndexedMap<String, Subscription> subscriptionMap;
+    // Incremented whenever any of the maps above is modified.
+    private final AtomicLong version = new AtomicLong();
     private String tenantDomain = APIConstants.SUPER_TENANT_DOMAIN_NAME;
 
+    // Appliers to update the maps above incrementally, using the state-of-the-world discovery responses.
+    private IncrementalResourceApplier<String, org.wso2.choreo.connect.discovery.subscription.Subscription,
+            Subscription> subscriptionApplier;
+    private IncrementalResourceApplier<String, org.wso2.choreo.connect.discovery.subscription.Application,
+            Application> applicationApplier;
+    private IncrementalResourceApplier<String, APIs, API> apiApplier;
+    private IncrementalResourceApplier<ApplicationKeyMappingCacheKey,
+            org.wso2.choreo.connect.discovery.subscription.ApplicationKeyMapping, ApplicationKeyMapping>
+            applicationKeyMappingApplier;
+
     SubscriptionDataStoreImpl() {
     }
 
@@ -83,13 +106,29 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     public void initializeStore() {
 
-        this.applicationKeyMappingMap = new ConcurrentHashMap<>();
-        this.applicationMap = new ConcurrentHashMap<>();
-        this.apiMap = new ConcurrentHashMap<>();
+        this.applicationKeyMappingMap = new IndexedMap<ApplicationKeyMappingCacheKey, ApplicationKeyMapping>(version)
+                .withIndex(APPLICATION_UUID_INDEX, ApplicationKeyMapping::getApplicationUUID)
+                .withIndex(CONSUMER_KEY_INDEX, ApplicationKeyMapping::getConsumerKey);
+        this.applicationMap = new IndexedMap<String, Application>(version)
+                .withIndex(TENANT_DOMAIN_INDEX, Application::getTenantDomain);
+        this.apiMap = new IndexedMap<String, API>(version)
+                .withIndex(CONTEXT_INDEX, API::getContext);
         this.subscriptionPolicyMap = new ConcurrentHashMap<>();
         this.appPolicyMap = new ConcurrentHashMap<>();
         this.apiPolicyMap = new ConcurrentHashMap<>();
-        this.subscriptionMap = new ConcurrentHashMap<>();
+        this.subscriptionMap = new IndexedMap<String, Subscription>(version)
+                .withIndex(APPLICATION_UUID_INDEX, Subscription::getAppUUID)
+                .withIndex(API_UUID_INDEX, Subscription::getApiUUID);
+        this.subscriptionApplier = new IncrementalResourceApplier<>(subscription ->
+                SubscriptionDataStoreUtil.getSubscriptionCacheKey(subscription.getAppUUID(),
+                        subscription.getApiUUID()), SubscriptionDataStoreImpl::toSubscription);
+        this.applicationApplier = new IncrementalResourceApplier<>(
+                org.wso2.choreo.connect.discovery.subscription.Application::getUuid,
+                SubscriptionDataStoreImpl::toApplication);
+        this.apiApplier = new IncrementalResourceApplier<>(APIs::getUuid, SubscriptionDataStoreImpl::toApi);
+        this.applicationKeyMappingApplier = new IncrementalResourceApplier<>(keyMapping ->
+                new ApplicationKeyMappingCacheKey(keyMapping.getConsumerKey(), keyMapping.getKeyManager()),
+                SubscriptionDataStoreImpl::toApplicationKeyMapping);
         initializeLoadingTasks();
     }
 
@@ -139,6 +178,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return apiPolicyMap.get(key);
     }
 
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
     private void initializeLoadingTasks() {
         SubscriptionDiscoveryClient.getInstance().watchSubscriptions();
         ApplicationDiscoveryClient.getInstance().watchApplications();
@@ -149,70 +193,24 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     }
 
     public void addSubscriptions(List<org.wso2.choreo.connect.discovery.subscription.Subscription> subscriptionList) {
-        Map<String, Subscription> newSubscriptionMap = new ConcurrentHashMap<>();
-
-        for (org.wso2.choreo.connect.discovery.subscription.Subscription subscription : subscriptionList) {
-            Subscription newSubscription = new Subscription();
-            newSubscription.setSubscriptionId(subscription.getSubscriptionUUID());
-            newSubscription.setPolicyId(subscription.getPolicyId());
-            newSubscription.setApiUUID(subscription.getApiUUID());
-            newSubscription.setAppUUID(subscription.getAppUUID());
-            newSubscription.setSubscriptionState(subscription.getSubscriptionState());
-            newSubscription.setTimeStamp(subscription.getTimeStamp());
-
-            newSubscriptionMap.put(newSubscription.getCacheKey(), newSubscription);
-        }
-
+        int changes = subscriptionApplier.apply(subscriptionList, subscriptionMap);
         if (log.isDebugEnabled()) {
-            log.debug("Total Subscriptions in new cache: {}", newSubscriptionMap.size());
+            log.debug("Total Subscriptions in cache: {}, changed: {}", subscriptionMap.size(), changes);
         }
-        this.subscriptionMap = newSubscriptionMap;
     }
 
-
     public void addApplications(List<org.wso2.choreo.connect.discovery.subscription.Application> applicationList) {
-        Map<String, Application> newApplicationMap = new ConcurrentHashMap<>();
-
-        for (org.wso2.choreo.connect.discovery.subscription.Application application : applicationList) {
-            Application newApplication = new Application();
-            newApplication.setId(application.getId());
-            newApplication.setName(application.getName());
-            newApplication.setPolicy(application.getPolicy());
-            newApplication.setSubId(application.getSubId());
-            newApplication.setSubName(application.getSubName());
-            newApplication.setTokenType(application.getTokenType());
-            newApplication.setUUID(application.getUuid());
-            newApplication.setTenantDomain(application.getTenantDomain());
-            application.getAttributesMap().forEach(newApplication::addAttribute);
-
-            newApplicationMap.put(newApplication.getCacheKey(), newApplication);
-        }
+        int changes = applicationApplier.apply(applicationList, applicationMap);
         if (log.isDebugEnabled()) {
-            log.debug("Total Applications in new cache: {}", newApplicationMap.size());
+            log.debug("Total Applications in cache: {}, changed: {}", applicationMap.size(), changes);
         }
-        this.applicationMap = newApplicationMap;
     }
 
     public void addApis(List<APIs> apisList) {
-        Map<String, API> newApiMap = new ConcurrentHashMap<>();
-
-        for (APIs api : apisList) {
-            API newApi = new API();
-            newApi.setApiId(Integer.parseInt(api.getApiId()));
-            newApi.setApiName(api.getName());
-            newApi.setApiProvider(api.getProvider());
-            newApi.setApiType(api.getApiType());
-            newApi.setApiVersion(api.getVersion());
-            newApi.setContext(api.getContext());
-            newApi.setApiTier(api.getPolicy());
-            newApi.setApiUUID(api.getUuid());
-            newApi.setLcState(api.getLcState());
-            newApiMap.put(newApi.getCacheKey(), newApi);
-        }
+        int changes = apiApplier.apply(apisList, apiMap);
         if (log.isDebugEnabled()) {
-            log.debug("Total Apis in new cache: {}", newApiMap.size());
+            log.debug("Total Apis in cache: {}, changed: {}", apiMap.size(), changes);
         }
-        this.apiMap = newApiMap;
     }
 
     public void addApplicationPolicies(
@@ -233,6 +231,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             log.debug("Total Application Policies in new cache: {}", newAppPolicyMap.size());
         }
         this.appPolicyMap = newAppPolicyMap;
+        version.incrementAndGet();
     }
 
     public void addSubscriptionPolicies(
@@ -258,28 +257,68 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             log.debug("Total Subscription Policies in new cache: {}", newSubscriptionPolicyMap.size());
         }
         this.subscriptionPolicyMap = newSubscriptionPolicyMap;
+        version.incrementAndGet();
     }
 
     public void addApplicationKeyMappings(
             List<org.wso2.choreo.connect.discovery.subscription.ApplicationKeyMapping> applicationKeyMappingList) {
-        Map<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> newApplicationKeyMappingMap =
-                new ConcurrentHashMap<>();
-
-        for (org.wso2.choreo.connect.discovery.subscription.ApplicationKeyMapping applicationKeyMapping :
-                applicationKeyMappingList) {
-            ApplicationKeyMapping mapping = new ApplicationKeyMapping();
-            mapping.setApplicationId(applicationKeyMapping.getApplicationId());
-            mapping.setApplicationUUID(applicationKeyMapping.getApplicationUUID());
-            mapping.setConsumerKey(applicationKeyMapping.getConsumerKey());
-            mapping.setKeyType(applicationKeyMapping.getKeyType());
-            mapping.setKeyManager(applicationKeyMapping.getKeyManager());
-
-            newApplicationKeyMappingMap.put(mapping.getCacheKey(), mapping);
-        }
+        int changes = applicationKeyMappingApplier.apply(applicationKeyMappingList, applicationKeyMappingMap);
         if (log.isDebugEnabled()) {
-            log.debug("Total Application Key Mappings in new cache: {}", newApplicationKeyMappingMap.size());
+            log.debug("Total Application Key Mappings in cache: {}, changed: {}", applicationKeyMappingMap.size(),
+                    changes);
         }
-        this.applicationKeyMappingMap = newApplicationKeyMappingMap;
+    }
+
+    private static Subscription toSubscription(
+            org.wso2.choreo.connect.discovery.subscription.Subscription subscription) {
+        Subscription newSubscription = new Subscription();
+        newSubscription.setSubscriptionId(subscription.getSubscriptionUUID());
+        newSubscription.setPolicyId(subscription.getPolicyId());
+        newSubscription.setApiUUID(subscription.getApiUUID());
+        newSubscription.setAppUUID(subscription.getAppUUID());
+        newSubscription.setSubscriptionState(subscription.getSubscriptionState());
+        newSubscription.setTimeStamp(subscription.getTimeStamp());
+        return newSubscription;
+    }
+
+    private static Application toApplication(
+            org.wso2.choreo.connect.discovery.subscription.Application application) {
+        Application newApplication = new Application();
+        newApplication.setId(application.getId());
+        newApplication.setName(application.getName());
+        newApplication.setPolicy(application.getPolicy());
+        newApplication.setSubId(application.getSubId());
+        newApplication.setSubName(application.getSubName());
+        newApplication.setTokenType(application.getTokenType());
+        newApplication.setUUID(application.getUuid());
+        newApplication.setTenantDomain(application.getTenantDomain());
+        application.getAttributesMap().forEach(newApplication::addAttribute);
+        return newApplication;
+    }
+
+    private static API toApi(APIs api) {
+        API newApi = new API();
+        newApi.setApiId(Integer.parseInt(api.getApiId()));
+        newApi.setApiName(api.getName());
+        newApi.setApiProvider(api.getProvider());
+        newApi.setApiType(api.getApiType());
+        newApi.setApiVersion(api.getVersion());
+        newApi.setContext(api.getContext());
+        newApi.setApiTier(api.getPolicy());
+        newApi.setApiUUID(api.getUuid());
+        newApi.setLcState(api.getLcState());
+        return newApi;
+    }
+
+    private static ApplicationKeyMapping toApplicationKeyMapping(
+            org.wso2.choreo.connect.discovery.subscription.ApplicationKeyMapping applicationKeyMapping) {
+        ApplicationKeyMapping mapping = new ApplicationKeyMapping();
+        mapping.setApplicationId(applicationKeyMapping.getApplicationId());
+        mapping.setApplicationUUID(applicationKeyMapping.getApplicationUUID());
+        mapping.setConsumerKey(applicationKeyMapping.getConsumerKey());
+        mapping.setKeyType(applicationKeyMapping.getKeyType());
+        mapping.setKeyManager(applicationKeyMapping.getKeyManager());
+        return mapping;
     }
 
     @Override
@@ -336,22 +375,26 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public void addOrUpdateSubscriptionPolicy(SubscriptionPolicy subscriptionPolicy) {
         subscriptionPolicyMap.remove(subscriptionPolicy.getCacheKey());
         subscriptionPolicyMap.put(subscriptionPolicy.getCacheKey(), subscriptionPolicy);
+        version.incrementAndGet();
     }
 
     @Override
     public void addOrUpdateApplicationPolicy(ApplicationPolicy applicationPolicy) {
         appPolicyMap.remove(applicationPolicy.getCacheKey());
         appPolicyMap.put(applicationPolicy.getCacheKey(), applicationPolicy);
+        version.incrementAndGet();
     }
 
     @Override
     public void removeApplicationPolicy(ApplicationPolicy applicationPolicy) {
         appPolicyMap.remove(applicationPolicy.getCacheKey());
+        version.incrementAndGet();
     }
 
     @Override
     public void removeSubscriptionPolicy(SubscriptionPolicy subscriptionPolicy) {
         subscriptionPolicyMap.remove(subscriptionPolicy.getCacheKey());
+        version.incrementAndGet();
     }
 
     @Override
@@ -372,6 +415,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void removeApiPolicy(ApiPolicy apiPolicy) {
         apiPolicyMap.remove(apiPolicy.getCacheKey());
+        version.incrementAndGet();
     }
 
     @Override
@@ -392,7 +436,17 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<API> getMatchingAPIs(String name, String context, String version, String uuid) {
         List<API> apiList = new ArrayList<>();
-        for (API api : apiMap.values()) {
+        // Narrow down the candidates using the key or an index. The name is matched partially, hence it
+        // cannot be looked up from an index.
+        Collection<API> candidates;
+        if (StringUtils.isNotEmpty(uuid)) {
+            candidates = getAsCollection(apiMap.get(uuid));
+        } else if (StringUtils.isNotEmpty(context)) {
+            candidates = apiMap.getByIndex(CONTEXT_INDEX, context);
+        } else {
+            candidates = apiMap.values();
+        }
+        for (API api : candidates) {
             boolean isNameMatching = true;
             boolean isContextMatching = true;
             boolean isVersionMatching = true;
@@ -418,11 +472,12 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     @Override
     public API getMatchingAPI(String context, String version) {
-        for (API api : apiMap.values()) {
-            if (StringUtils.isNotEmpty(context) && StringUtils.isNotEmpty(version)) {
-                if (api.getContext().equals(context) && api.getApiVersion().equals(version)) {
-                    return api;
-                }
+        if (StringUtils.isEmpty(context) || StringUtils.isEmpty(version)) {
+            return null;
+        }
+        for (API api : apiMap.getByIndex(CONTEXT_INDEX, context)) {
+            if (api.getApiVersion().equals(version)) {
+                return api;
             }
         }
         return null;
@@ -431,7 +486,15 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<Application> getMatchingApplications(String name, String organizationID, String uuid) {
         List<Application> applicationList = new ArrayList<>();
-        for (Application application : applicationMap.values()) {
+        Collection<Application> candidates;
+        if (StringUtils.isNotEmpty(uuid)) {
+            candidates = getAsCollection(applicationMap.get(uuid));
+        } else if (StringUtils.isNotEmpty(organizationID)) {
+            candidates = applicationMap.getByIndex(TENANT_DOMAIN_INDEX, organizationID);
+        } else {
+            candidates = applicationMap.values();
+        }
+        for (Application application : candidates) {
             boolean isNameMatching = true;
             boolean isOrgMatching = true;
             boolean isUUIDMatching = true;
@@ -454,8 +517,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<ApplicationKeyMapping> getMatchingKeyMapping(String applicationUUID, String consumerKey) {
         List<ApplicationKeyMapping> applicationKeyMappingList = new ArrayList<>();
+        Collection<ApplicationKeyMapping> candidates;
+        if (StringUtils.isNotEmpty(consumerKey)) {
+            candidates = applicationKeyMappingMap.getByIndex(CONSUMER_KEY_INDEX, consumerKey);
+        } else if (StringUtils.isNotEmpty(applicationUUID)) {
+            candidates = applicationKeyMappingMap.getByIndex(APPLICATION_UUID_INDEX, applicationUUID);
+        } else {
+            candidates = applicationKeyMappingMap.values();
+        }
 
-        for (ApplicationKeyMapping applicationKeyMapping : applicationKeyMappingMap.values()) {
+        for (ApplicationKeyMapping applicationKeyMapping : candidates) {
             boolean isConsumerKeyMatching = true;
             boolean isAppUUIDMatching = true;
 
@@ -475,8 +546,19 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<Subscription> getMatchingSubscriptions(String applicationUUID, String apiUUID, String state) {
         List<Subscription> subscriptionList = new ArrayList<>();
+        Collection<Subscription> candidates;
+        if (StringUtils.isNotEmpty(applicationUUID) && StringUtils.isNotEmpty(apiUUID)) {
+            candidates = getAsCollection(subscriptionMap.get(
+                    SubscriptionDataStoreUtil.getSubscriptionCacheKey(applicationUUID, apiUUID)));
+        } else if (StringUtils.isNotEmpty(applicationUUID)) {
+            candidates = subscriptionMap.getByIndex(APPLICATION_UUID_INDEX, applicationUUID);
+        } else if (StringUtils.isNotEmpty(apiUUID)) {
+            candidates = subscriptionMap.getByIndex(API_UUID_INDEX, apiUUID);
+        } else {
+            candidates = subscriptionMap.values();
+        }
 
-        for (Subscription subscription : subscriptionMap.values()) {
+        for (Subscription subscription : candidates) {
             boolean isApiUUIDMatch = true;
             boolean isAppUUIDMatch = true;
             boolean isStateMatch = true;
@@ -520,4 +602,8 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         }
         return subscriptionPolicies;
     }
+
+    private static <V> Collection<V> getAsCollection(V value) {
+        return value == null ? Collections.emptyList() : Collections.singletonList(value);
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import org.wso2.choreo.connect.enforcer.util.IPPrefixTrie;
+
+/**
+ * IP blocking conditions of a tenant, indexed by IP prefix.
+ * <p>
+ * A request is blocked if its IP is within any of the blocked IPs or ranges, or if it is not within any one
+ * of the inverted conditions. The latter is detected by counting the inverted conditions which contain
+ * the IP.
+ */
+class IPBlockingConditions {
+    private final IPPrefixTrie blockedIPs = new IPPrefixTrie();
+    private final IPPrefixTrie invertedIPs = new IPPrefixTrie();
+    private int invertedConditionCount;
+
+    /**
+     * @return {@code false} if the IP is not valid
+     */
+    boolean addIP(String ip, boolean invert) {
+        boolean added = invert ? invertedIPs.addNetwork(ip) : blockedIPs.addNetwork(ip);
+        if (added && invert) {
+            invertedConditionCount++;
+        }
+        return added;
+    }
+
+    /**
+     * Add an IP range. The starting and the ending IPs are not considered to be within the range.
+     *
+     * @return {@code false} if the IPs are not valid
+     */
+    boolean addRange(String startingIp, String endingIp, boolean invert) {
+        boolean added = invert ? invertedIPs.addRange(startingIp, endingIp, true)
+                : blockedIPs.addRange(startingIp, endingIp, true);
+        if (added && invert) {
+            invertedConditionCount++;
+        }
+        return added;
+    }
+
+    boolean isBlocked(String ip) {
+        if (blockedIPs.matches(ip)) {
+            return true;
+        }
+        return invertedConditionCount > 0 && invertedIPs.countMatches(ip) < invertedConditionCount;
+    }
+}
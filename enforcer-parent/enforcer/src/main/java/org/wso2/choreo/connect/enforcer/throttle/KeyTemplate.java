@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom throttle policy key template, compiled into a sequence of literal and variable segments when the
+ * template is received from the traffic manager. A throttle key is then built by appending the segments to a
+ * builder, instead of running a regex substitution for each variable of the template on each request.
+ */
+class KeyTemplate {
+    static final String CUSTOM_PROPERTY_PREFIX = "$customProperty.";
+
+    /**
+     * Variables which can be used within a key template. The values of the variables of a request are passed
+     * as an array indexed by the ordinal of the variable.
+     */
+    enum Variable {
+        RESOURCE_KEY("$resourceKey"),
+        USER_ID("$userId"),
+        API_CONTEXT("$apiContext"),
+        API_VERSION("$apiVersion"),
+        APP_TENANT("$appTenant"),
+        API_TENANT("$apiTenant"),
+        APP_ID("$appId"),
+        CLIENT_IP("$clientIp");
+
+        private final String token;
+
+        Variable(String token) {
+            this.token = token;
+        }
+    }
+
+    private final String template;
+    private final String[] literals;
+    // A null entry refers to a custom property, named by the entry at the same index of customProperties.
+    private final Variable[] variables;
+    private final String[] customProperties;
+    private final boolean hasCustomProperties;
+
+    private KeyTemplate(String template, List<String> literals, List<Variable> variables,
+                        List<String> customProperties) {
+        this.template = template;
+        this.literals = literals.toArray(new String[0]);
+        this.variables = variables.toArray(new Variable[0]);
+        this.customProperties = customProperties.toArray(new String[0]);
+        this.hasCustomProperties = customProperties.stream().anyMatch(name -> name != null);
+    }
+
+    /**
+     * Compile the given key template.
+     *
+     * @param template key template, i.e. {@code $userId:$apiContext:$customProperty.region}
+     * @return compiled key template
+     */
+    static KeyTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<Variable> variables = new ArrayList<>();
+        List<String> customProperties = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == '$') {
+                Variable variable = matchVariable(template, i);
+                if (variable != null) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    variables.add(variable);
+                    customProperties.add(null);
+                    i += variable.token.length();
+                    continue;
+                }
+                if (template.startsWith(CUSTOM_PROPERTY_PREFIX, i)) {
+                    int end = i + CUSTOM_PROPERTY_PREFIX.length();
+                    while (end < template.length() && isPropertyNameChar(template.charAt(end))) {
+                        end++;
+                    }
+                    if (end > i + CUSTOM_PROPERTY_PREFIX.length()) {
+                        literals.add(literal.toString());
+                        literal.setLength(0);
+                        variables.add(null);
+                        customProperties.add(template.substring(i + CUSTOM_PROPERTY_PREFIX.length(), end));
+                        i = end;
+                        continue;
+                    }
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+        return new KeyTemplate(template, literals, variables, customProperties);
+    }
+
+    private static Variable matchVariable(String template, int index) {
+        for (Variable variable : Variable.values()) {
+            if (template.startsWith(variable.token, index)) {
+                return variable;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPropertyNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+    }
+
+    /**
+     * Build the throttle key for a request. A variable without a value is kept as it is in the key, hence
+     * such a key would not match any throttle decision received from the traffic manager.
+     *
+     * @param builder          builder to be used for building the key. It is cleared before use.
+     * @param values           values of the variables indexed by {@link Variable#ordinal()}
+     * @param customProperties custom throttle properties of the request
+     * @return throttle key
+     */
+    String evaluate(StringBuilder builder, String[] values, Map<String, String> customProperties) {
+        builder.setLength(0);
+        for (int i = 0; i < variables.length; i++) {
+            builder.append(literals[i]);
+            String value;
+            String token;
+            if (variables[i] != null) {
+                value = values[variables[i].ordinal()];
+                token = variables[i].token;
+            } else {
+                value = customProperties.get(this.customProperties[i]);
+                token = CUSTOM_PROPERTY_PREFIX + this.customProperties[i];
+            }
+            builder.append(value != null ? value : token);
+        }
+        builder.append(literals[variables.length]);
+        return builder.toString();
+    }
+
+    boolean hasCustomProperties() {
+        return hasCustomProperties;
+    }
+
+    String getTemplate() {
+        return template;
+    }
+}
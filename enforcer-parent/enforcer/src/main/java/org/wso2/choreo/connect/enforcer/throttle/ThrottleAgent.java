@@ -37,4 +37,10 @@ public class ThrottleAgent {
     public static void publishNonThrottledEvent(Map<String, String> throttleEvent) {
         throttleDataPublisher.publishNonThrottledEvent(throttleEvent);
     }
+
+    public static void shutdown() {
+        if (throttleDataPublisher != null) {
+            throttleDataPublisher.shutdown();
+        }
+    }
 }
@@ -39,6 +39,8 @@ public class ThrottleConstants {
     public static final String THROTTLE_OUT_REASON_API_LIMIT_EXCEEDED = "API_LIMIT_EXCEEDED";
     public static final String THROTTLE_OUT_REASON_RESOURCE_LIMIT_EXCEEDED = "RESOURCE_LIMIT_EXCEEDED";
     public static final String THROTTLE_OUT_REASON_SUBSCRIPTION_LIMIT_EXCEEDED = "SUBSCRIPTION_LIMIT_EXCEEDED";
+    public static final String THROTTLE_OUT_REASON_SUBSCRIPTION_BURST_LIMIT_EXCEEDED =
+            "SUBSCRIPTION_BURST_LIMIT_EXCEEDED";
     public static final String THROTTLE_OUT_REASON_APPLICATION_LIMIT_EXCEEDED = "APPLICATION_LIMIT_EXCEEDED";
     public static final String THROTTLE_OUT_REASON_CUSTOM_LIMIT_EXCEED = "CUSTOM_POLICY_LIMIT_EXCEED";
     public static final String THROTTLE_OUT_REASON_REQUEST_BLOCKED = "REQUEST_BLOCKED";
@@ -57,6 +59,8 @@ public class ThrottleConstants {
     public static final String DEFAULT_THROTTLE_CONDITION = "default";
     public static final String HEADER_RETRY_AFTER = "Retry-After";
     public static final String GMT = "GMT";
+    public static final String TIME_UNIT_SECOND = "sec";
+    public static final String TIME_UNIT_MINUTE = "min";
 
     // blocking constants
     public static final String BLOCKING_CONDITIONS_IP = "IP";
@@ -28,16 +28,15 @@ import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.ThrottleConfigDto;
 import org.wso2.choreo.connect.enforcer.discovery.ThrottleDataDiscoveryClient;
 import org.wso2.choreo.connect.enforcer.throttle.dto.Decision;
-import org.wso2.choreo.connect.enforcer.throttle.dto.IPRange;
 import org.wso2.choreo.connect.enforcer.throttle.dto.ThrottleCondition;
 import org.wso2.choreo.connect.enforcer.throttle.utils.ThrottleUtils;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 
 import java.math.BigInteger;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -50,9 +49,9 @@ public class ThrottleDataHolder {
     private static final Logger log = LogManager.getLogger(ThrottleDataHolder.class);
 
     private final Map<String, Long> throttleDecisions;
-    private Map<String, String> keyTemplates;
+    private volatile Map<String, KeyTemplate> keyTemplates;
     private Map<String, String> blockedConditions;
-    private Map<String, Set<IPRange>> blockedIpConditions;
+    private Map<String, IPBlockingConditions> blockedIpConditions;
     private static ThrottleDataHolder instance;
     private final Map<String, Map<String, List<ThrottleCondition>>> conditionData = new ConcurrentHashMap<>();
 
@@ -84,10 +83,13 @@ public class ThrottleDataHolder {
      * @param templates Map of key template
      */
     public void addKeyTemplates(Map<String, String> templates) {
-        if (templates == null || templates.size() < 1) {
-            keyTemplates = new ConcurrentHashMap<>();
+        Map<String, KeyTemplate> compiledTemplates = new ConcurrentHashMap<>();
+        if (templates != null) {
+            for (String template : templates.keySet()) {
+                compiledTemplates.put(template, KeyTemplate.compile(template));
+            }
         }
-        keyTemplates = new ConcurrentHashMap<>(templates);
+        keyTemplates = compiledTemplates;
     }
 
     /**
@@ -166,29 +168,21 @@ public class ThrottleDataHolder {
             blockedIpConditions = new ConcurrentHashMap<>();
             return;
         }
-        Map<String, Set<IPRange>> newConditions = new ConcurrentHashMap<>();
+        Map<String, IPBlockingConditions> newConditions = new ConcurrentHashMap<>();
         for (IPCondition condition : conditions) {
-            Set<IPRange> ipRanges = newConditions.get(condition.getTenantDomain());
-            if (ipRanges == null) {
-                ipRanges = new HashSet<>();
-            }
-
-            IPRange ipRange = new IPRange();
+            IPBlockingConditions ipConditions = newConditions.computeIfAbsent(condition.getTenantDomain(),
+                    tenantDomain -> new IPBlockingConditions());
+            boolean added = false;
             if (ThrottleConstants.BLOCK_CONDITION_IP_RANGE.equals(condition.getType())) {
-                ipRange.setStartingIP(condition.getStartingIp());
-                ipRange.setEndingIp(condition.getEndingIp());
+                added = ipConditions.addRange(condition.getStartingIp(), condition.getEndingIp(),
+                        condition.getInvert());
             } else if (ThrottleConstants.BLOCKING_CONDITIONS_IP.equals(condition.getType())) {
-                ipRange.setFixedIp(condition.getFixedIp());
+                added = ipConditions.addIP(condition.getFixedIp(), condition.getInvert());
+            }
+            if (!added) {
+                log.warn("Ignored the invalid IP blocking condition with ID: {} of type: {}", condition.getId(),
+                        condition.getType());
             }
-            ipRange.setId(condition.getId());
-            ipRange.setTenantDomain(condition.getTenantDomain());
-            ipRange.setType(condition.getType());
-            ipRange.setInvert(condition.getInvert());
-            ipRange.setStartingIpBigIntValue(FilterUtils.ipToBigInteger(condition.getStartingIp()));
-            ipRange.setEndingIpBigIntValue(FilterUtils.ipToBigInteger(condition.getEndingIp()));
-
-            ipRanges.add(ipRange);
-            newConditions.put(condition.getTenantDomain(), ipRanges);
         }
 
         blockedIpConditions = newConditions;
@@ -234,20 +228,19 @@ public class ThrottleDataHolder {
      * @return throttle {@link Decision} defining the whether request is throttled or not
      */
     public Decision isThrottled(String key) {
-        Decision decision = new Decision();
         Long timestamp = this.throttleDecisions.get(key);
+        if (timestamp == null) {
+            return Decision.NOT_THROTTLED;
+        }
 
-        if (timestamp != null) {
-            long currentTime = System.currentTimeMillis();
-            decision.setThrottled(true);
-            decision.setResetAt(timestamp);
-
-            if (timestamp < currentTime) {
-                this.throttleDecisions.remove(key);
-                decision.setThrottled(false);
-            }
+        if (timestamp < System.currentTimeMillis()) {
+            this.throttleDecisions.remove(key, timestamp);
+            return Decision.NOT_THROTTLED;
         }
 
+        Decision decision = new Decision();
+        decision.setThrottled(true);
+        decision.setResetAt(timestamp);
         return decision;
     }
 
@@ -262,12 +255,11 @@ public class ThrottleDataHolder {
      */
     public Decision isAdvancedThrottled(String key, RequestContext context) {
         String conditionKey = null;
-        Decision decision = new Decision();
         Map<String, List<ThrottleCondition>> conditionGrps = conditionData.get(key);
         List<ThrottleCondition> defaultGrp = null;
 
         if (conditionGrps == null) {
-            return decision;
+            return Decision.NOT_THROTTLED;
         }
 
         log.debug("Found throttle condition in condition map");
@@ -302,22 +294,23 @@ public class ThrottleDataHolder {
             // is no longer valid
             Long timestamp = throttleDecisions.get(combinedThrottleKey);
             if (timestamp == null) {
-                return decision;
+                return Decision.NOT_THROTTLED;
             }
 
             long currentTime = System.currentTimeMillis();
             if (timestamp < currentTime) {
                 this.throttleDecisions.remove(key);
                 this.conditionData.remove(key);
-                return decision;
+                return Decision.NOT_THROTTLED;
             }
 
+            Decision decision = new Decision();
             decision.setThrottled(true);
             decision.setResetAt(timestamp);
             return decision;
         }
 
-        return decision;
+        return Decision.NOT_THROTTLED;
     }
 
     /**
@@ -384,87 +377,78 @@ public class ThrottleDataHolder {
      * Verify if the request is throttled by a custom key template policy.
      * This method call is an expensive operation and should not enabled by default.
      * If we enabled this policy then all APIs available in system will have
-     * to go through this check.
+     * to go through this check. Key templates are compiled when they are received,
+     * hence building the throttle key of each template does not involve regex substitutions.
      *
      * @return throttle {@link Decision}
      */
     public Decision isThrottledByCustomPolicy(String userID, String resourceKey, String apiContext, String apiVersion,
                                               String appTenant, String apiTenant, int appId, String clientIp,
                                               String customPropertyString) {
-        Decision decision = new Decision();
-        if (keyTemplates.size() > 0) {
-            for (String key : keyTemplates.keySet()) {
-                key = key.replaceAll("\\$resourceKey", resourceKey);
-                key = key.replaceAll("\\$userId", userID);
-                key = key.replaceAll("\\$apiContext", apiContext);
-                key = key.replaceAll("\\$apiVersion", apiVersion);
-                key = key.replaceAll("\\$appTenant", appTenant);
-                key = key.replaceAll("\\$apiTenant", apiTenant);
-                key = key.replaceAll("\\$appId", String.valueOf(appId));
-
-                if (clientIp != null) {
-                    key = key.replaceAll("\\$clientIp", FilterUtils.ipToBigInteger(clientIp).toString());
-                }
+        Decision decision = Decision.NOT_THROTTLED;
+        Map<String, KeyTemplate> templates = keyTemplates;
+        if (templates.isEmpty()) {
+            return decision;
+        }
 
-                // If custom throttle properties exist, populate the key template with custom properties.
-                if (!customPropertyString.equals("null")) {
-                    String[] customPropertyList = customPropertyString.split(" ");
-                    for (String customProperty : customPropertyList) {
-                        String[] propertyPair = customProperty.split("=");
-                        if (propertyPair.length == 2) {
-                            key = key.replaceAll("\\$customProperty." + propertyPair[0], propertyPair[1]);
-                        } else {
-                            log.debug("Invalid custom property string : {}", customProperty);
-                        }
-                    }
-                }
+        String[] values = new String[KeyTemplate.Variable.values().length];
+        values[KeyTemplate.Variable.RESOURCE_KEY.ordinal()] = resourceKey;
+        values[KeyTemplate.Variable.USER_ID.ordinal()] = userID;
+        values[KeyTemplate.Variable.API_CONTEXT.ordinal()] = apiContext;
+        values[KeyTemplate.Variable.API_VERSION.ordinal()] = apiVersion;
+        values[KeyTemplate.Variable.APP_TENANT.ordinal()] = appTenant;
+        values[KeyTemplate.Variable.API_TENANT.ordinal()] = apiTenant;
+        values[KeyTemplate.Variable.APP_ID.ordinal()] = String.valueOf(appId);
+        if (clientIp != null) {
+            values[KeyTemplate.Variable.CLIENT_IP.ordinal()] = FilterUtils.ipToBigInteger(clientIp).toString();
+        }
+        Map<String, String> customProperties = null;
+        StringBuilder keyBuilder = new StringBuilder();
 
-                decision = isThrottled(key);
-                if (decision.isThrottled()) {
-                    return decision;
-                }
+        for (KeyTemplate template : templates.values()) {
+            if (customProperties == null && template.hasCustomProperties()) {
+                customProperties = parseCustomProperties(customPropertyString);
+            }
+            String key = template.evaluate(keyBuilder, values,
+                    customProperties != null ? customProperties : Collections.emptyMap());
+            decision = isThrottled(key);
+            if (decision.isThrottled()) {
+                return decision;
             }
         }
 
         return decision;
     }
 
-    private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
-        Set<IPRange> ipRanges = blockedIpConditions.get(apiTenantDomain);
-
-        if (ipRanges != null && ipRanges.size() > 0) {
-            log.debug("Tenant {} contains block conditions", apiTenantDomain);
-            for (IPRange ipRange : ipRanges) {
-                if (ThrottleConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
-                    if (ip.equals(ipRange.getFixedIp())) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Blocked IP detected");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Blocked IP detected");
-                            return true;
-                        }
-                    }
-                } else if (ThrottleConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
-                    BigInteger ipBigIntegerValue = FilterUtils.ipToBigInteger(ip);
-
-                    if (((ipBigIntegerValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0) &&
-                            (ipBigIntegerValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0))) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Blocked IP detected in an IP Range");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Blocked IP detected in an IP Range");
-                            return true;
-                        }
-                    }
-                }
+    /**
+     * Parse the custom throttle properties of a request, which are sent as space separated
+     * {@code name=value} pairs.
+     *
+     * @param customPropertyString custom throttle properties of the request
+     * @return map of custom property names to values
+     */
+    private Map<String, String> parseCustomProperties(String customPropertyString) {
+        if (customPropertyString == null || customPropertyString.equals("null")) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> customProperties = new HashMap<>();
+        for (String customProperty : customPropertyString.split(" ")) {
+            String[] propertyPair = customProperty.split("=");
+            if (propertyPair.length == 2) {
+                customProperties.put(propertyPair[0], propertyPair[1]);
+            } else {
+                log.debug("Invalid custom property string : {}", customProperty);
             }
         }
+        return customProperties;
+    }
+
+    private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
+        IPBlockingConditions ipConditions = blockedIpConditions.get(apiTenantDomain);
+        if (ipConditions != null && ipConditions.isBlocked(ip)) {
+            log.debug("Blocked IP detected");
+            return true;
+        }
         return false;
     }
 
@@ -35,6 +35,7 @@ import org.wso2.choreo.connect.enforcer.config.dto.ThrottleConfigDto;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.ThrottleEventConstants;
 import org.wso2.choreo.connect.enforcer.throttle.dto.Decision;
+import org.wso2.choreo.connect.enforcer.throttle.local.LocalThrottleEngine;
 import org.wso2.choreo.connect.enforcer.throttle.utils.ThrottleUtils;
 import org.wso2.choreo.connect.enforcer.tracing.TracingConstants;
 import org.wso2.choreo.connect.enforcer.tracing.TracingSpan;
@@ -50,6 +51,7 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is the filter handling the authentication for the requests flowing through the gateway.
@@ -58,19 +60,39 @@ public class ThrottleFilter implements Filter {
     private static final Logger log = LogManager.getLogger(ThrottleFilter.class);
 
     private final boolean isGlobalThrottlingEnabled;
+    private final boolean isLocalThrottlingEnabled;
     private final ThrottleDataHolder dataHolder;
+    // Throttle keys are built once per API and resource, instead of for each request. Subscription throttle keys
+    // are not kept, since the subscribed applications are not bounded.
+    private String apiThrottleKey;
+    private final Map<ResourceConfig, String> resourceThrottleKeys = new ConcurrentHashMap<>();
 
     public ThrottleFilter() {
         this.dataHolder = ThrottleDataHolder.getInstance();
-        this.isGlobalThrottlingEnabled = ConfigHolder.getInstance().getConfig().getThrottleConfig()
-                .isGlobalPublishingEnabled();
+        ThrottleConfigDto throttleConfig = ConfigHolder.getInstance().getConfig().getThrottleConfig();
+        this.isGlobalThrottlingEnabled = throttleConfig.isGlobalPublishingEnabled();
+        this.isLocalThrottlingEnabled = throttleConfig.isLocalThrottlingEnabled();
+    }
+
+    @Override
+    public void init(APIConfig apiConfig, Map<String, String> configProperties) {
+        String apiContext = apiConfig.getBasePath();
+        String apiVersion = apiConfig.getVersion();
+        this.apiThrottleKey = getApiThrottleKey(apiContext, apiVersion);
+        if (apiConfig.getResources() != null) {
+            for (ResourceConfig resourceConfig : apiConfig.getResources()) {
+                resourceThrottleKeys.put(resourceConfig,
+                        getResourceThrottleKey(resourceConfig, apiContext, apiVersion));
+            }
+        }
     }
 
     @Override
     public boolean handleRequest(RequestContext requestContext) {
 
-        // If global throttle event publishing is disabled, throttle filter should be skipped.
-        if (!ConfigHolder.getInstance().getConfig().getThrottleConfig().isGlobalPublishingEnabled()) {
+        // If both global throttle event publishing and local throttling are disabled, throttle filter
+        // should be skipped.
+        if (!isGlobalThrottlingEnabled && !isLocalThrottlingEnabled) {
             return true;
         }
 
@@ -99,6 +121,9 @@ public class ThrottleFilter implements Filter {
             // breaking filter chain since request is throttled
             return false;
         }
+        if (!isGlobalThrottlingEnabled) {
+            return true;
+        }
         TracingSpan publishThrottleEventSpan = null;
         Scope publishThrottleEventSpanScope = null;
         try {
@@ -154,7 +179,8 @@ public class ThrottleFilter implements Filter {
                 String apiVersion = api.getVersion();
                 int appId = authContext.getApplicationId();
                 String apiTier = getApiTier(api);
-                String apiThrottleKey = getApiThrottleKey(apiContext, apiVersion);
+                String apiThrottleKey = this.apiThrottleKey != null ? this.apiThrottleKey
+                        : getApiThrottleKey(apiContext, apiVersion);
                 String subTier = authContext.getTier();
                 String appTier = authContext.getApplicationTier();
                 String appTenant = authContext.getSubscriberTenantDomain();
@@ -194,27 +220,28 @@ public class ThrottleFilter implements Filter {
                     }
                 }
 
-                ArrayList<Decision> apiDecisions = new ArrayList<>();
+                long apiThrottleResetAT = 0;
+                Decision throttledAPIDecision = null;
                 // Checking API and Resource level throttling.
                 // If API tier is defined,
                 // we ignore the resource level tier definition.
                 if (!StringUtils.isEmpty(api.getTier())) {
                     isApiLevelTriggered = true;
-                    apiDecisions.add(checkResourceThrottled(apiThrottleKey, apiTier, reqContext));
+                    Decision apiDecision = checkResourceThrottled(apiThrottleKey, apiTier, reqContext);
+                    if (apiDecision.isThrottled()) {
+                        apiThrottleResetAT = apiDecision.getResetAt();
+                        throttledAPIDecision = apiDecision;
+                    }
                 } else {
                     for (ResourceConfig resourceConfig : reqContext.getMatchedResourcePaths()) {
                         String resourceTier = getResourceTier(resourceConfig);
                         String resourceThrottleKey = getResourceThrottleKey(resourceConfig, apiContext, apiVersion);
-                        apiDecisions.add(checkResourceThrottled(resourceThrottleKey, resourceTier, reqContext));
-                    }
-                }
-
-                long apiThrottleResetAT = 0;
-                Decision throttledAPIDecision = null;
-                for (Decision apiDecision : apiDecisions) {
-                    if (apiDecision.isThrottled() && apiDecision.getResetAt() > apiThrottleResetAT) {
-                        apiThrottleResetAT = apiDecision.getResetAt();
-                        throttledAPIDecision = apiDecision;
+                        Decision apiDecision = checkResourceThrottled(resourceThrottleKey, resourceTier,
+                                reqContext);
+                        if (apiDecision.isThrottled() && apiDecision.getResetAt() > apiThrottleResetAT) {
+                            apiThrottleResetAT = apiDecision.getResetAt();
+                            throttledAPIDecision = apiDecision;
+                        }
                     }
                 }
                 if (throttledAPIDecision != null) {
@@ -234,8 +261,26 @@ public class ThrottleFilter implements Filter {
                     return throttledAPIDecision;
                 }
 
-                // Checking subscription level throttling
+                // Checking subscription level burst control. Burst control is evaluated within the enforcer
+                // as waiting for the traffic manager decision would let the burst through.
                 String subThrottleKey = getSubscriptionThrottleKey(appId, apiContext, apiVersion);
+                if (isLocalThrottlingEnabled && authContext.getSpikeArrestLimit() > 0) {
+                    Decision burstDecision = LocalThrottleEngine.getInstance().isThrottled(subThrottleKey,
+                            authContext.getSpikeArrestLimit(), authContext.getSpikeArrestUnit());
+                    if (burstDecision.isThrottled()) {
+                        log.debug("Setting subscription burst control throttle out response");
+                        FilterUtils.setThrottleErrorToContext(reqContext,
+                                ThrottleConstants.SUBSCRIPTION_THROTTLE_OUT_ERROR_CODE,
+                                ThrottleConstants.THROTTLE_OUT_MESSAGE,
+                                ThrottleConstants.THROTTLE_OUT_DESCRIPTION);
+                        reqContext.getProperties().put(ThrottleConstants.THROTTLE_OUT_REASON,
+                                ThrottleConstants.THROTTLE_OUT_REASON_SUBSCRIPTION_BURST_LIMIT_EXCEEDED);
+                        ThrottleUtils.setRetryAfterHeader(reqContext, burstDecision.getResetAt());
+                        return burstDecision;
+                    }
+                }
+
+                // Checking subscription level throttling
                 Decision subDecision = checkSubscriptionLevelThrottled(subThrottleKey, subTier);
                 if (subDecision.isThrottled()) {
                     if (authContext.isStopOnQuotaReach()) {
@@ -268,18 +313,14 @@ public class ThrottleFilter implements Filter {
                 }
 
                 // Checking Custom policy throttling
-                ArrayList<Decision> customDecisions = new ArrayList<>();
+                Decision throttledCustomDecision = null;
+                long customThrottleResetAT = 0;
                 for (ResourceConfig resourceConfig : reqContext.getMatchedResourcePaths()) {
                     String resourceThrottleKey = getResourceThrottleKey(resourceConfig, apiContext, apiVersion);
                     Decision customDecision = dataHolder.isThrottledByCustomPolicy(authorizedUser,
                             resourceThrottleKey, apiContext, apiVersion, appTenant, apiTenantDomain, appId,
                             clientIp, customPropertyString);
                     log.debug("Custom policy throttle decision is {}", customDecision.isThrottled());
-                    customDecisions.add(customDecision);
-                }
-                Decision throttledCustomDecision = null;
-                long customThrottleResetAT = 0;
-                for (Decision customDecision : customDecisions) {
                     if (customDecision.isThrottled() && customThrottleResetAT < customDecision.getResetAt()) {
                         log.debug("Setting custom policy throttle out response");
                         throttledCustomDecision = customDecision;
@@ -297,7 +338,7 @@ public class ThrottleFilter implements Filter {
                     return throttledCustomDecision;
                 }
             }
-            return new Decision();
+            return Decision.NOT_THROTTLED;
         } finally {
             if (Utils.tracingEnabled()) {
                 doThrottleSpanScope.close();
@@ -323,18 +364,16 @@ public class ThrottleFilter implements Filter {
 
     private Decision checkResourceThrottled(String throttleKey, String tier, RequestContext context) {
         log.debug("Checking if request is throttled at API/Resource level for tier: {}, key: {}", tier, throttleKey);
-        Decision decision = new Decision();
-
         if (ThrottleConstants.UNLIMITED_TIER.equals(tier)) {
-            return decision;
+            return Decision.NOT_THROTTLED;
         }
 
         if (isGlobalThrottlingEnabled) {
-            decision = dataHolder.isAdvancedThrottled(throttleKey, context);
+            Decision decision = dataHolder.isAdvancedThrottled(throttleKey, context);
             log.debug("API/Resource Level throttle decision: {}", decision.isThrottled());
             return decision;
         }
-        return decision;
+        return Decision.NOT_THROTTLED;
     }
 
     /**
@@ -405,7 +444,11 @@ public class ThrottleFilter implements Filter {
     }
 
     private String getResourceThrottleKey(ResourceConfig resourceConfig, String apiContext, String apiVersion) {
-        String resourceThrottleKey = apiContext;
+        String resourceThrottleKey = resourceThrottleKeys.get(resourceConfig);
+        if (resourceThrottleKey != null) {
+            return resourceThrottleKey;
+        }
+        resourceThrottleKey = apiContext;
         if (!apiVersion.isBlank()) {
             resourceThrottleKey += "/" + apiVersion;
         }
@@ -46,6 +46,7 @@ public class AgentConfiguration {
     private int secureMinIdleTimeInPool;
     private String sslEnabledProtocols;
     private String ciphers;
+    private String waitStrategy = DataEndpointConstants.BLOCKING_WAIT_STRATEGY;
 
     private static AgentConfiguration instance = new AgentConfiguration();
 
@@ -196,6 +197,20 @@ public class AgentConfiguration {
         this.ciphers = ciphers;
     }
 
+    /**
+     * Wait strategy of the event queue consumer, one of {@code blocking}, {@code sleeping}, {@code yielding} or
+     * {@code busy-spin}. Strategies other than {@code blocking} trade CPU usage for lower publishing latency.
+     *
+     * @return wait strategy
+     */
+    public String getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public void setWaitStrategy(String waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
     public String getPublishingStrategy() {
         return publishingStrategy;
     }
@@ -219,7 +234,8 @@ public class AgentConfiguration {
                 "SecureEvictionTimePeriod" + secureEvictionTimePeriod +
                 "SecureMinIdleTimeInPool" + secureMinIdleTimeInPool +
                 "SSLEnabledProtocols" + sslEnabledProtocols +
-                "Ciphers" + ciphers;
+                "Ciphers" + ciphers +
+                "WaitStrategy" + waitStrategy;
     }
 
     public static AgentConfiguration getInstance() {
@@ -19,9 +19,13 @@
 package org.wso2.choreo.connect.enforcer.throttle.databridge.agent.endpoint;
 
 import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.InsufficientCapacityException;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import org.apache.logging.log4j.LogManager;
@@ -99,7 +103,8 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
         this.reconnectionInterval = agent.getAgentConfiguration().getReconnectionInterval();
         this.publishingStrategy = agent.getAgentConfiguration().getPublishingStrategy();
         if (!publishingStrategy.equalsIgnoreCase(DataEndpointConstants.SYNC_STRATEGY)) {
-            this.eventQueue = new EventQueue(agent.getAgentConfiguration().getQueueSize());
+            this.eventQueue = new EventQueue(agent.getAgentConfiguration().getQueueSize(),
+                    agent.getAgentConfiguration().getWaitStrategy());
         }
         this.reconnectionService.scheduleAtFixedRate(new ReconnectionTask(), reconnectionInterval,
                 reconnectionInterval, TimeUnit.SECONDS);
@@ -174,11 +179,11 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
         private Disruptor<WrappedEventFactory.WrappedEvent> eventQueueDisruptor = null;
         private ExecutorService eventQueuePool = null;
 
-        EventQueue(int queueSize) {
+        EventQueue(int queueSize, String waitStrategy) {
             eventQueuePool = Executors.newCachedThreadPool(
                     new DataBridgeThreadFactory("EventQueue"));
             eventQueueDisruptor = new Disruptor<>(new WrappedEventFactory(), queueSize, eventQueuePool,
-                    ProducerType.MULTI, new BlockingWaitStrategy());
+                    ProducerType.MULTI, createWaitStrategy(waitStrategy));
             eventQueueDisruptor.handleEventsWith(new EventQueueWorker());
             this.ringBuffer = eventQueueDisruptor.start();
         }
@@ -220,6 +225,26 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
         }
     }
 
+    private static WaitStrategy createWaitStrategy(String waitStrategy) {
+        if (waitStrategy == null) {
+            return new BlockingWaitStrategy();
+        }
+        switch (waitStrategy.toLowerCase()) {
+            case DataEndpointConstants.BLOCKING_WAIT_STRATEGY:
+                return new BlockingWaitStrategy();
+            case DataEndpointConstants.SLEEPING_WAIT_STRATEGY:
+                return new SleepingWaitStrategy();
+            case DataEndpointConstants.YIELDING_WAIT_STRATEGY:
+                return new YieldingWaitStrategy();
+            case DataEndpointConstants.BUSY_SPIN_WAIT_STRATEGY:
+                return new BusySpinWaitStrategy();
+            default:
+                log.warn("Unknown wait strategy: " + waitStrategy + " for the event queue. Hence using the "
+                        + DataEndpointConstants.BLOCKING_WAIT_STRATEGY + " wait strategy");
+                return new BlockingWaitStrategy();
+        }
+    }
+
     /**
      * Event Queue Worker.
      */
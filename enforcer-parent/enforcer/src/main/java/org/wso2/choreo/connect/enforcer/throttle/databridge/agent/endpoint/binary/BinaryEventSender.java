@@ -22,13 +22,11 @@ import org.wso2.carbon.databridge.commons.Event;
 import org.wso2.carbon.databridge.commons.binary.BinaryMessageConstants;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -40,6 +38,11 @@ import static org.wso2.carbon.databridge.commons.binary.BinaryMessageConverterUt
  * This is a Util class which does the Binary message transformation for publish, login, logout operations.
  */
 public class BinaryEventSender {
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<ByteBuffer> ENCODE_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_SIZE));
+
     public static void sendBinaryLoginMessage(Socket socket, String userName, String password) throws IOException {
         ByteBuffer buf = ByteBuffer.allocate(13 + userName.length() + password.length());
         buf.put((byte) 0);
@@ -49,7 +52,7 @@ public class BinaryEventSender {
         buf.put(userName.getBytes(BinaryMessageConstants.DEFAULT_CHARSET));
         buf.put(password.getBytes(BinaryMessageConstants.DEFAULT_CHARSET));
 
-        OutputStream outputStream = new BufferedOutputStream(socket.getOutputStream());
+        OutputStream outputStream = socket.getOutputStream();
         outputStream.write(buf.array());
         outputStream.flush();
     }
@@ -61,63 +64,79 @@ public class BinaryEventSender {
         buf.putInt(sessionId.length());
         buf.put(sessionId.getBytes(BinaryMessageConstants.DEFAULT_CHARSET));
 
-        OutputStream outputStream = new BufferedOutputStream(socket.getOutputStream());
+        OutputStream outputStream = socket.getOutputStream();
         outputStream.write(buf.array());
         outputStream.flush();
     }
 
     public static void sendBinaryPublishMessage(Socket socket, List<Event> events, String sessionId)
             throws IOException {
+        int[] eventSizes = new int[events.size()];
         int messageSize = 8 + sessionId.length();
-        List<byte[]> bytes = new ArrayList<>();
+        for (int i = 0; i < eventSizes.length; i++) {
+            eventSizes[i] = getEventSize(events.get(i));
+            messageSize += eventSizes[i] + 4;
+        }
 
-        for (Event event : events) {
+        // The whole message is encoded into a single buffer and written at once, instead of writing each event
+        // separately.
+        ByteBuffer buf = getEncodeBuffer(messageSize + 5);
+        buf.put((byte) 2);  //1
+        buf.putInt(messageSize); //4
+        buf.putInt(sessionId.length()); //4
+        buf.put(sessionId.getBytes(BinaryMessageConstants.DEFAULT_CHARSET));
+        buf.putInt(events.size()); //4
 
-            int eventSize = getEventSize(event);
-            messageSize += eventSize + 4;
-            ByteBuffer eventDataBuffer = ByteBuffer.allocate(4 + eventSize);
-            eventDataBuffer.putInt(eventSize);
-            eventDataBuffer.putLong(event.getTimeStamp());
-            eventDataBuffer.putInt(event.getStreamId().length());
-            eventDataBuffer.put(event.getStreamId().getBytes(BinaryMessageConstants.DEFAULT_CHARSET));
+        for (int i = 0; i < eventSizes.length; i++) {
+            Event event = events.get(i);
+            buf.putInt(eventSizes[i]);
+            buf.putLong(event.getTimeStamp());
+            buf.putInt(event.getStreamId().length());
+            buf.put(event.getStreamId().getBytes(BinaryMessageConstants.DEFAULT_CHARSET));
 
             if (event.getMetaData() != null && event.getMetaData().length != 0) {
                 for (Object aMetaData : event.getMetaData()) {
-                    assignData(aMetaData, eventDataBuffer);
+                    assignData(aMetaData, buf);
                 }
             }
             if (event.getCorrelationData() != null && event.getCorrelationData().length != 0) {
                 for (Object aCorrelationData : event.getCorrelationData()) {
-                    assignData(aCorrelationData, eventDataBuffer);
+                    assignData(aCorrelationData, buf);
                 }
             }
             if (event.getPayloadData() != null && event.getPayloadData().length != 0) {
                 for (Object aPayloadData : event.getPayloadData()) {
-                    assignData(aPayloadData, eventDataBuffer);
+                    assignData(aPayloadData, buf);
                 }
             }
             if (event.getArbitraryDataMap() != null && event.getArbitraryDataMap().size() != 0) {
                 for (Map.Entry<String, String> aArbitraryData : event.getArbitraryDataMap().entrySet()) {
-                    assignData(aArbitraryData.getKey(), eventDataBuffer);
-                    assignData(aArbitraryData.getValue(), eventDataBuffer);
+                    assignData(aArbitraryData.getKey(), buf);
+                    assignData(aArbitraryData.getValue(), buf);
                 }
             }
-            bytes.add(eventDataBuffer.array());
         }
 
-        ByteBuffer buf = ByteBuffer.allocate(sessionId.length() + 13);
-        buf.put((byte) 2);  //1
-        buf.putInt(messageSize); //4
-        buf.putInt(sessionId.length()); //4
-        buf.put(sessionId.getBytes(BinaryMessageConstants.DEFAULT_CHARSET));
-        buf.putInt(events.size()); //4
+        OutputStream outputstream = socket.getOutputStream();
+        outputstream.write(buf.array(), 0, buf.position());
+        outputstream.flush();
+    }
 
-        OutputStream outputstream = new BufferedOutputStream(socket.getOutputStream());
-        outputstream.write(buf.array());
-        for (byte[] byteArray : bytes) {
-            outputstream.write(byteArray);
+    /**
+     * Returns the cleared encode buffer of the current thread, with at least the given capacity. Events are
+     * published by a fixed pool of threads, hence the buffers are reused across the batches published by each
+     * thread. Buffers larger than {@link #MAX_RETAINED_BUFFER_SIZE} are not retained.
+     */
+    private static ByteBuffer getEncodeBuffer(int capacity) {
+        ByteBuffer buf = ENCODE_BUFFER.get();
+        if (buf.capacity() < capacity) {
+            buf = ByteBuffer.allocate(capacity);
+            if (capacity <= MAX_RETAINED_BUFFER_SIZE) {
+                ENCODE_BUFFER.set(buf);
+            }
         }
-        outputstream.flush();
+        buf.clear();
+        return buf;
     }
 
     private static int getEventSize(Event event) {
@@ -36,4 +36,9 @@ public class DataEndpointConstants {
     public static final String SYNC_STRATEGY = "sync";
     public static final String ASYNC_STRATEGY = "async";
 
+    public static final String BLOCKING_WAIT_STRATEGY = "blocking";
+    public static final String SLEEPING_WAIT_STRATEGY = "sleeping";
+    public static final String YIELDING_WAIT_STRATEGY = "yielding";
+    public static final String BUSY_SPIN_WAIT_STRATEGY = "busy-spin";
+
 }
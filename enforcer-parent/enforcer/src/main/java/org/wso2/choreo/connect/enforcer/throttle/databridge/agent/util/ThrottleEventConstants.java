@@ -43,4 +43,5 @@ public class ThrottleEventConstants {
     public static final String APP_ID = "appId";
     public static final String API_NAME = "apiName";
     public static final String PROPERTIES = "properties";
+    public static final String EVENT_COUNT = "eventCount";
 }
@@ -21,9 +21,11 @@ package org.wso2.choreo.connect.enforcer.throttle.databridge.publisher;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.carbon.databridge.commons.Event;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.ThrottlePublisherMetrics;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.DataPublisher;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.ThrottleEventConstants;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -55,6 +57,8 @@ public class DataProcessAndPublishingAgent implements Runnable {
     String apiName;
     String appId;
     String properties;
+    String eventCount;
+    long submittedTime;
 
     public DataProcessAndPublishingAgent() {
         dataPublisher = getDataPublisher();
@@ -81,6 +85,8 @@ public class DataProcessAndPublishingAgent implements Runnable {
         this.apiTenant = null;
         this.appId = null;
         this.apiName = null;
+        this.eventCount = null;
+        this.submittedTime = 0;
     }
 
     /**
@@ -104,6 +110,8 @@ public class DataProcessAndPublishingAgent implements Runnable {
         this.appId = throttleEvent.get(ThrottleEventConstants.APP_ID);
         this.apiName = throttleEvent.get(ThrottleEventConstants.API_NAME);
         this.properties = throttleEvent.get(ThrottleEventConstants.PROPERTIES);
+        this.eventCount = throttleEvent.get(ThrottleEventConstants.EVENT_COUNT);
+        this.submittedTime = System.nanoTime();
     }
 
     public void run() {
@@ -115,8 +123,17 @@ public class DataProcessAndPublishingAgent implements Runnable {
                 this.resourceLevelThrottleKey, this.resourceLevelTier,
                 this.authorizedUser, this.apiContext, this.apiVersion,
                 this.appTenant, this.apiTenant, this.appId, this.apiName, properties};
-        Event event = new Event(streamID, System.currentTimeMillis(), null, null, objects);
-        dataPublisher.tryPublish(event);
+        // The number of requests of an aggregated event is sent as arbitrary data, so that the stream definition
+        // does not change. A stock traffic manager ignores it and counts one request per event, hence it
+        // undercounts the aggregated requests. The execution plans must sum the eventCount instead, before event
+        // aggregation is enabled.
+        Map<String, String> arbitraryDataMap = eventCount == null ? null
+                : Collections.singletonMap(ThrottleEventConstants.EVENT_COUNT, eventCount);
+        Event event = new Event(streamID, System.currentTimeMillis(), null, null, objects, arbitraryDataMap);
+        // Only the events accepted by the data publisher are counted as published.
+        if (dataPublisher.tryPublish(event)) {
+            ThrottlePublisherMetrics.getInstance().recordPublished(System.nanoTime() - submittedTime);
+        }
     }
 
     protected DataPublisher getDataPublisher() {
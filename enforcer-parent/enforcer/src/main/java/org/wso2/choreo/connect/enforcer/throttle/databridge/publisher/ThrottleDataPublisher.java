@@ -25,6 +25,7 @@ import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.ThrottlePublisherConfigDto;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.ThrottlePublisherMetrics;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.DataPublisher;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.exception.DataEndpointAuthenticationException;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.exception.DataEndpointConfigurationException;
@@ -34,10 +35,11 @@ import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.ThrottleE
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Map;
-import java.util.concurrent.Executor;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Throttle data publisher class is here to publish throttle data to global policy engine.
@@ -45,11 +47,19 @@ import java.util.concurrent.TimeUnit;
  * When we use this for high concurrency usecases proper tuning is mandatory.
  */
 public class ThrottleDataPublisher {
-    public static ThrottleDataPublisherPool dataPublisherPool;
-
     private static final Logger LOG = LogManager.getLogger(ThrottleDataPublisher.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    // Upper bound for the time a request thread is blocked on a full queue with the block overflow policy.
+    private static final long BLOCK_TIMEOUT_MILLIS = 500;
     private static volatile DataPublisher dataPublisher = null;
-    private Executor executor;
+    private final ThrottlePublisherMetrics metrics = ThrottlePublisherMetrics.getInstance();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final ThrottleDataPublisherPool dataPublisherPool;
+    private DataPublisherThreadPoolExecutor executor;
+    private ThrottleEventAggregator aggregator;
+    private String overflowPolicy;
+    private int sampleThreshold;
+    private int sampleRate;
 
     public static DataPublisher getDataPublisher() {
         return dataPublisher;
@@ -60,18 +70,11 @@ public class ThrottleDataPublisher {
      * publisher which we used to publish throttle data.
      */
     public ThrottleDataPublisher() {
-        dataPublisherPool = ThrottleDataPublisherPool.getInstance();
+        this(ConfigHolder.getInstance().getConfig().getThrottleConfig().getThrottleAgent().getPublisher(),
+                ThrottleDataPublisherPool.getInstance());
         ThrottlePublisherConfigDto throttlePublisherConfigDto = ConfigHolder.getInstance().getConfig().
                 getThrottleConfig().getThrottleAgent().getPublisher();
-
         try {
-            executor = new DataPublisherThreadPoolExecutor(
-                    throttlePublisherConfigDto.getPublisherThreadPoolCoreSize(),
-                    throttlePublisherConfigDto.getPublisherThreadPoolMaximumSize(),
-                    throttlePublisherConfigDto.getPublisherThreadPoolKeepAliveTime(),
-                    TimeUnit.SECONDS,
-                    new LinkedBlockingDeque<Runnable>() {
-                    });
             dataPublisher = new DataPublisher(throttlePublisherConfigDto.getReceiverUrlGroup(),
                     throttlePublisherConfigDto.getAuthUrlGroup(), throttlePublisherConfigDto.getUserName(),
                     throttlePublisherConfigDto.getPassword());
@@ -83,12 +86,59 @@ public class ThrottleDataPublisher {
         }
     }
 
+    ThrottleDataPublisher(ThrottlePublisherConfigDto throttlePublisherConfigDto, ThrottleDataPublisherPool pool) {
+        dataPublisherPool = pool;
+        overflowPolicy = throttlePublisherConfigDto.getPublisherOverflowPolicy();
+        if (!ThrottlePublisherConfigDto.OVERFLOW_POLICY_DROP.equalsIgnoreCase(overflowPolicy)
+                && !ThrottlePublisherConfigDto.OVERFLOW_POLICY_SAMPLE.equalsIgnoreCase(overflowPolicy)
+                && !ThrottlePublisherConfigDto.OVERFLOW_POLICY_BLOCK.equalsIgnoreCase(overflowPolicy)) {
+            LOG.warn("Unknown throttle publisher overflow policy: {}. Hence using the {} policy", overflowPolicy,
+                    ThrottlePublisherConfigDto.OVERFLOW_POLICY_DROP);
+            overflowPolicy = ThrottlePublisherConfigDto.OVERFLOW_POLICY_DROP;
+        }
+        sampleThreshold = throttlePublisherConfigDto.getPublisherQueueSize() / 2;
+        sampleRate = throttlePublisherConfigDto.getPublisherSampleRate();
+        if (throttlePublisherConfigDto.getEventAggregationWindow() > 0) {
+            aggregator = new ThrottleEventAggregator(throttlePublisherConfigDto.getEventAggregationWindow(),
+                    this::publishEvent);
+        }
+
+        int corePoolSize = throttlePublisherConfigDto.getPublisherThreadPoolCoreSize();
+        if (throttlePublisherConfigDto.getPublisherThreadPoolMaximumSize() > corePoolSize) {
+            LOG.warn("Throttle publisher thread pool maximum size {} is ignored as the publisher queue is bounded. "
+                            + "Hence using the core size {}. Tune the core size instead.",
+                    throttlePublisherConfigDto.getPublisherThreadPoolMaximumSize(), corePoolSize);
+        }
+        LinkedBlockingDeque<Runnable> workQueue =
+                new LinkedBlockingDeque<>(throttlePublisherConfigDto.getPublisherQueueSize());
+        executor = new DataPublisherThreadPoolExecutor(
+                corePoolSize,
+                corePoolSize,
+                throttlePublisherConfigDto.getPublisherThreadPoolKeepAliveTime(),
+                TimeUnit.SECONDS,
+                workQueue);
+        metrics.setQueue(workQueue);
+    }
+
     /**
-     * This method used to pass message context and let it run within separate thread.
+     * This method used to pass message context and let it run within separate thread. When event aggregation is
+     * enabled, the event is published with the other events of the same throttle keys at the end of the window.
      */
     public void publishNonThrottledEvent(Map<String, String> throttleEvent) {
+        if (aggregator != null && dataPublisherPool != null) {
+            aggregator.add(throttleEvent);
+            return;
+        }
+        publishEvent(throttleEvent);
+    }
+
+    private void publishEvent(Map<String, String> throttleEvent) {
         try {
             if (dataPublisherPool != null) {
+                if (isSampledOut()) {
+                    metrics.recordSampledOut();
+                    return;
+                }
                 DataProcessAndPublishingAgent agent = dataPublisherPool.get();
                 agent.setDataReference(throttleEvent);
                 if (LOG.isDebugEnabled()) {
@@ -115,28 +165,96 @@ public class ThrottleDataPublisher {
         }
     }
 
+    /**
+     * Publishes the events aggregated so far and waits until the queued events are handed over to the data
+     * publisher, before shutting down the data publisher.
+     */
+    public void shutdown() {
+        if (aggregator != null) {
+            aggregator.shutdown();
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Throttle events are still queued after waiting {} seconds. Hence dropping them",
+                        SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dataPublisher != null) {
+            try {
+                dataPublisher.shutdown();
+            } catch (DataEndpointException e) {
+                LOG.error("Error while shutting down the throttle data publisher", e);
+            }
+        }
+    }
+
+    /**
+     * With the sample overflow policy, only one in every {@code sampleRate} events is published once the queue is
+     * half full, so that the queue drains before it overflows.
+     */
+    private boolean isSampledOut() {
+        return ThrottlePublisherConfigDto.OVERFLOW_POLICY_SAMPLE.equalsIgnoreCase(overflowPolicy)
+                && executor.getQueue().size() >= sampleThreshold
+                && sampleCounter.incrementAndGet() % sampleRate != 0;
+    }
+
+    /**
+     * Applies the overflow policy to an event rejected as the queue is full. Dropped agents are returned to the
+     * pool, since they are not executed.
+     * <p>
+     * The block policy runs on the request thread which publishes the event, hence it holds the request for up to
+     * {@link #BLOCK_TIMEOUT_MILLIS} while the traffic manager is slow, and drops the event if the queue is still
+     * full afterwards.
+     */
+    private void handleRejectedEvent(Runnable r, ThreadPoolExecutor threadPoolExecutor) {
+        if (ThrottlePublisherConfigDto.OVERFLOW_POLICY_BLOCK.equalsIgnoreCase(overflowPolicy)
+                && !threadPoolExecutor.isShutdown()) {
+            try {
+                if (threadPoolExecutor.getQueue().offer(r, BLOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        metrics.recordDropped();
+        LOG.debug("Dropping throttle event as the publisher queue is full");
+        try {
+            DataProcessAndPublishingAgent agent = (DataProcessAndPublishingAgent) r;
+            dataPublisherPool.release(agent);
+        } catch (Exception e) {
+            LOG.error("Error while returning Throttle data publishing agent back to pool" + e.getMessage(),
+                    ErrorDetails.errorLog(LoggingConstants.Severity.CRITICAL, 6904));
+        }
+    }
+
     /**
      * This class will act as thread pool executor and after executing each thread it will return runnable
      * object back to pool. This implementation specifically used to minimize number of objectes created during
      * runtime. In this queuing strategy the submitted task will wait in the queue if the corePoolsize theads are
-     * busy and the task will be allocated if any of the threads become idle.Thus ThreadPool will always have number
-     * of threads running  as mentioned in the corePoolSize.
-     * LinkedBlockingQueue without the capacity can be used for this queuing strategy.If the corePoolsize of the
-     * threadpool is less and there are more number of time consuming task were submitted,there is more possibility
-     * that the task has to wait in the queue for more time before it is run by any of the ideal thread.
-     * So tuning core pool size is something we need to tune properly.
-     * Also no task will be rejected in Threadpool until the threadpool was shutdown.
+     * busy and the task will be allocated if any of the threads become idle.
+     * The queue is bounded, so that the events do not pile up in the heap when the traffic manager slows down. The
+     * maximumPoolSize is kept at the corePoolSize, as a bounded queue would otherwise grow the pool up to the
+     * maximumPoolSize threads once it is full. When the queue is full and all the threads are busy, the events are
+     * handled according to the configured overflow policy.
+     * If the corePoolsize of the threadpool is less and there are more number of time consuming task were
+     * submitted,there is more possibility that the task has to wait in the queue for more time before it is run by
+     * any of the ideal thread. So tuning core pool size is something we need to tune properly.
      */
     private class DataPublisherThreadPoolExecutor extends ThreadPoolExecutor {
         public DataPublisherThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime,
-                                               TimeUnit unit, LinkedBlockingDeque<Runnable> workQueue) {
-            super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue);
+                                               TimeUnit unit, BlockingQueue<Runnable> workQueue) {
+            super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                    ThrottleDataPublisher.this::handleRejectedEvent);
         }
 
         protected void afterExecute(Runnable r, Throwable t) {
             try {
                 DataProcessAndPublishingAgent agent = (DataProcessAndPublishingAgent) r;
-                ThrottleDataPublisher.dataPublisherPool.release(agent);
+                dataPublisherPool.release(agent);
             } catch (Exception e) {
                 LOG.error("Error while returning Throttle data publishing agent back to pool" + e.getMessage(),
                         ErrorDetails.errorLog(LoggingConstants.Severity.CRITICAL, 6904));
@@ -58,6 +58,10 @@ public class ThrottleDataPublisherPool {
         }, configuration.getMaxIdleDataPublishingAgents(), configuration.getInitIdleObjectDataPublishingAgents());
     }
 
+    ThrottleDataPublisherPool(ObjectPool clientPool) {
+        this.clientPool = clientPool;
+    }
+
     private static class ThrottleDataPublisherPoolHolder {
         private static final ThrottleDataPublisherPool INSTANCE = new ThrottleDataPublisherPool();
 
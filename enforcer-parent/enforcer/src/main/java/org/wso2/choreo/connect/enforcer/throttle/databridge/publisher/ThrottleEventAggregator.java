@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle.databridge.publisher;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.ThrottleEventConstants;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Folds the throttle events sharing the same throttle keys into a single event per aggregation window, so that a
+ * hot key results in one event per window instead of one event per request. The aggregated event is the first
+ * event of the window, with the number of requests it represents under {@link ThrottleEventConstants#EVENT_COUNT}.
+ * The properties of the event are a part of the aggregation key, since conditional policies are evaluated against
+ * them. Hence the events only fold when the request properties, including the headers and the JWT claims, are the
+ * same.
+ */
+class ThrottleEventAggregator {
+    private static final Logger log = LogManager.getLogger(ThrottleEventAggregator.class);
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private final Map<String, AggregatedEvent> window = new ConcurrentHashMap<>();
+    private final Consumer<Map<String, String>> publisher;
+    private final ScheduledExecutorService flushService;
+
+    ThrottleEventAggregator(long windowMillis, Consumer<Map<String, String>> publisher) {
+        this.publisher = publisher;
+        log.warn("Throttle events are aggregated over {} milliseconds. The number of requests of an aggregated event "
+                + "is sent as the {} arbitrary data, which the execution plans of a stock traffic manager ignore. "
+                + "Hence the aggregated requests are undercounted unless the execution plans sum it.", windowMillis,
+                ThrottleEventConstants.EVENT_COUNT);
+        flushService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ThrottleEventAggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushService.scheduleAtFixedRate(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a throttle event to the current window.
+     *
+     * @param throttleEvent throttle event of a single request
+     */
+    void add(Map<String, String> throttleEvent) {
+        // compute is atomic per key, hence a request is either counted in an event which is yet to be flushed, or
+        // starts a new event once the previous one is removed by the flush.
+        window.compute(getKey(throttleEvent), (key, aggregatedEvent) -> {
+            if (aggregatedEvent == null) {
+                return new AggregatedEvent(throttleEvent);
+            }
+            aggregatedEvent.count++;
+            return aggregatedEvent;
+        });
+    }
+
+    /**
+     * Publishes and removes all the events aggregated so far.
+     */
+    void flush() {
+        Iterator<String> keys = window.keySet().iterator();
+        while (keys.hasNext()) {
+            AggregatedEvent aggregatedEvent = window.remove(keys.next());
+            if (aggregatedEvent == null) {
+                continue;
+            }
+            Map<String, String> throttleEvent = new HashMap<>(aggregatedEvent.throttleEvent);
+            throttleEvent.put(ThrottleEventConstants.EVENT_COUNT, String.valueOf(aggregatedEvent.count));
+            try {
+                publisher.accept(throttleEvent);
+            } catch (Exception e) {
+                log.error("Error while publishing aggregated throttle event", e);
+            }
+        }
+    }
+
+    /**
+     * Stops the scheduled flushes and publishes the events aggregated so far, so that they are not lost on
+     * shutdown.
+     */
+    void shutdown() {
+        flushService.shutdown();
+        flush();
+    }
+
+    private static String getKey(Map<String, String> throttleEvent) {
+        return throttleEvent.get(ThrottleEventConstants.APP_KEY) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.APP_TIER) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.API_KEY) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.API_TIER) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.SUBSCRIPTION_KEY) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.SUBSCRIPTION_TIER) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.RESOURCE_KEY) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.RESOURCE_TIER) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.USER_ID) + KEY_SEPARATOR
+                + throttleEvent.get(ThrottleEventConstants.PROPERTIES);
+    }
+
+    /**
+     * Throttle event of the first request of a window, and the number of requests aggregated into it. The count
+     * is only updated within {@link ConcurrentHashMap#compute}, hence it does not need to be atomic.
+     */
+    private static class AggregatedEvent {
+        private final Map<String, String> throttleEvent;
+        private long count = 1;
+
+        AggregatedEvent(Map<String, String> throttleEvent) {
+            this.throttleEvent = throttleEvent;
+        }
+    }
+}
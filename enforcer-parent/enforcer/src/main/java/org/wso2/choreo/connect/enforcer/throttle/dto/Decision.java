@@ -22,6 +22,27 @@ package org.wso2.choreo.connect.enforcer.throttle.dto;
  * Detailed information about the throttle decision.
  */
 public class Decision {
+    /**
+     * Shared decision for requests which are not throttled, so that a decision is not allocated for each of
+     * the throttle levels evaluated for a request. It can not be modified.
+     */
+    public static final Decision NOT_THROTTLED = new Decision() {
+        @Override
+        public void setThrottled(boolean throttled) {
+            throw new UnsupportedOperationException("Shared not throttled decision can not be modified");
+        }
+
+        @Override
+        public void setResetAt(long resetAt) {
+            throw new UnsupportedOperationException("Shared not throttled decision can not be modified");
+        }
+
+        @Override
+        public void setDueToBlockedCondition(boolean dueToBlockedCondition) {
+            throw new UnsupportedOperationException("Shared not throttled decision can not be modified");
+        }
+    };
+
     /**
      * Is request throttled or not
      */
@@ -41,7 +62,7 @@ public class Decision {
     public Decision() {
         this.isThrottled = false;
         this.resetAt = 0;
-        this.setDueToBlockedCondition(false);
+        this.isDueToBlockedCondition = false;
     }
 
     public boolean isThrottled() {
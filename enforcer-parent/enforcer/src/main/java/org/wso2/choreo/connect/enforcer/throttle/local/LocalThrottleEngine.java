@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle.local;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.throttle.ThrottleConstants;
+import org.wso2.choreo.connect.enforcer.throttle.dto.Decision;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process rate limiting engine which evaluates limits inline with the request, without waiting for a
+ * decision from the traffic manager. Limits are enforced using a lock-free {@link TokenBucket} per
+ * throttle key. Decisions pushed from the traffic manager are still evaluated by
+ * {@link org.wso2.choreo.connect.enforcer.throttle.ThrottleDataHolder}, and this engine complements
+ * them by cutting off bursts before the global decision arrives.
+ */
+public class LocalThrottleEngine {
+    private static final Logger log = LogManager.getLogger(LocalThrottleEngine.class);
+    private static final long IDLE_BUCKET_CLEANUP_INTERVAL_SECONDS = 60;
+
+    private static volatile LocalThrottleEngine instance;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private LocalThrottleEngine() {
+        ScheduledExecutorService cleanupService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LocalThrottleBucketCleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cleanupService.scheduleWithFixedDelay(this::removeIdleBuckets, IDLE_BUCKET_CLEANUP_INTERVAL_SECONDS,
+                IDLE_BUCKET_CLEANUP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static LocalThrottleEngine getInstance() {
+        if (instance == null) {
+            synchronized (LocalThrottleEngine.class) {
+                if (instance == null) {
+                    instance = new LocalThrottleEngine();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Consume a single request from the limit assigned to the given throttle key.
+     *
+     * @param key      throttle key
+     * @param limit    number of requests allowed within a single time unit
+     * @param timeUnit time unit of the limit ({@code sec} or {@code min})
+     * @return throttle {@link Decision} with the time at which the next request will be allowed, if throttled
+     */
+    public Decision isThrottled(String key, int limit, String timeUnit) {
+        long windowNanos = getWindowNanos(timeUnit);
+        if (limit <= 0 || windowNanos <= 0) {
+            return Decision.NOT_THROTTLED;
+        }
+
+        long now = System.nanoTime();
+        long waitNanos;
+        do {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null || bucket.isRetired() || !bucket.isConfiguredFor(limit, windowNanos)) {
+                // A new bucket is created for the first request of a key, when the limit of the policy is changed
+                // and when the bucket is retired as idle.
+                bucket = buckets.compute(key, (k, existing) -> existing != null && !existing.isRetired()
+                        && existing.isConfiguredFor(limit, windowNanos) ? existing
+                        : new TokenBucket(limit, windowNanos, now));
+            }
+            waitNanos = bucket.tryAcquire(now);
+        } while (waitNanos == TokenBucket.RETIRED);
+
+        if (waitNanos <= 0) {
+            return Decision.NOT_THROTTLED;
+        }
+        Decision decision = new Decision();
+        decision.setThrottled(true);
+        decision.setResetAt(System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1);
+        log.debug("Request throttled locally for key: {}, limit: {}/{}", key, limit, timeUnit);
+        return decision;
+    }
+
+    private long getWindowNanos(String timeUnit) {
+        if (ThrottleConstants.TIME_UNIT_SECOND.equals(timeUnit)) {
+            return TimeUnit.SECONDS.toNanos(1);
+        } else if (ThrottleConstants.TIME_UNIT_MINUTE.equals(timeUnit)) {
+            return TimeUnit.MINUTES.toNanos(1);
+        }
+        return 0;
+    }
+
+    /**
+     * Buckets which have refilled completely carry no state, hence they can be removed and recreated
+     * on the next request to keep the map bounded by the number of active keys. A bucket is retired before it is
+     * removed, so that a request which has already looked it up does not acquire a token from a removed bucket.
+     */
+    private void removeIdleBuckets() {
+        long now = System.nanoTime();
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (k, bucket) -> bucket.retireIfFull(now) ? null : bucket);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle.local;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. The bucket state is kept as a single nano time value (the time at which the
+ * bucket would have been empty), so that acquiring a token is a single compare-and-set operation.
+ * <p>
+ * An idle bucket is retired by swapping the same value with a marker, hence a token is either acquired before the
+ * bucket is retired, or the acquisition fails with {@link #RETIRED} and has to be retried on a new bucket.
+ */
+class TokenBucket {
+    /**
+     * Returned by {@link #tryAcquire(long)} if the bucket has been retired.
+     */
+    static final long RETIRED = -1;
+    private static final long RETIRED_MARKER = Long.MIN_VALUE;
+
+    private final int limit;
+    private final long windowNanos;
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final AtomicLong emptyAt;
+
+    /**
+     * @param limit       number of tokens allowed within the window
+     * @param windowNanos length of the window in nanoseconds
+     * @param now         current nano time
+     */
+    TokenBucket(int limit, long windowNanos, long now) {
+        this.limit = limit;
+        this.windowNanos = windowNanos;
+        this.nanosPerToken = Math.max(1, windowNanos / limit);
+        this.capacityNanos = nanosPerToken * limit;
+        this.emptyAt = new AtomicLong(now - capacityNanos);
+    }
+
+    /**
+     * Try to take a single token from the bucket.
+     *
+     * @param now current nano time
+     * @return {@code 0} if a token was acquired, {@link #RETIRED} if the bucket has been retired, otherwise the
+     * number of nanoseconds until the next token becomes available
+     */
+    long tryAcquire(long now) {
+        long current;
+        long balance;
+        do {
+            current = emptyAt.get();
+            if (current == RETIRED_MARKER) {
+                return RETIRED;
+            }
+            balance = Math.min(now - current, capacityNanos) - nanosPerToken;
+            if (balance < 0) {
+                return -balance;
+            }
+        } while (!emptyAt.compareAndSet(current, now - balance));
+        return 0;
+    }
+
+    /**
+     * Retires the bucket if it has refilled completely, meaning it has not been used for at least one window.
+     *
+     * @param now current nano time
+     * @return {@code true} if the bucket is retired
+     */
+    boolean retireIfFull(long now) {
+        long current = emptyAt.get();
+        if (current == RETIRED_MARKER) {
+            return true;
+        }
+        return now - current >= capacityNanos && emptyAt.compareAndSet(current, RETIRED_MARKER);
+    }
+
+    boolean isRetired() {
+        return emptyAt.get() == RETIRED_MARKER;
+    }
+
+    boolean isConfiguredFor(int limit, long windowNanos) {
+        return this.limit == limit && this.windowNanos == windowNanos;
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.http.conn.ssl.SSLContextBuilder;
 import org.apache.http.conn.ssl.SSLContexts;
 import org.apache.http.conn.ssl.SSLSocketFactory;
 import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.logging.log4j.LogManager;
@@ -88,6 +89,12 @@ public class FilterUtils {
     public static final String STRICT = "Strict";
     public static final String ALLOW_ALL = "AllowAll";
     public static final List<String> SKIPPED_FAULT_CODES = new ArrayList<>();
+    private static final String DEFAULT_MAX_OPEN_CONNECTIONS = "100";
+    private static final String DEFAULT_MAX_PER_ROUTE = "10";
+    // Timeouts in milliseconds, which bound outbound calls made while an ext_authz request is waiting.
+    private static final String DEFAULT_CONNECT_TIMEOUT = "5000";
+    private static final String DEFAULT_SOCKET_TIMEOUT = "10000";
+    private static final String DEFAULT_CONNECTION_REQUEST_TIMEOUT = "5000";
 
     public static String getMaskedToken(String token) {
 
@@ -117,37 +124,62 @@ public class FilterUtils {
      * @return HTTP client
      */
     public static HttpClient getHttpClient(String protocol, KeyStore clientKeyStore, Map<String, String> options) {
-
-        //        APIManagerConfiguration configuration = ServiceReferenceHolder.getInstance().
-        //                getAPIManagerConfigurationService().getAPIManagerConfiguration();
-
-        String maxTotal = "100"; //TODO : Read from config
-        String defaultMaxPerRoute = "10"; //TODO : Read from config
-
-        if (options == null) {
-            options = Collections.emptyMap();
-        }
-
         PoolingHttpClientConnectionManager pool = null;
         try {
-            pool = getPoolingHttpClientConnectionManager(protocol, clientKeyStore);
-            pool.setMaxTotal(Integer.parseInt(options.getOrDefault(HTTPClientOptions.MAX_OPEN_CONNECTIONS,
-                    maxTotal)));
-            pool.setDefaultMaxPerRoute(Integer.parseInt(options.getOrDefault(HTTPClientOptions.MAX_PER_ROUTE,
-                    defaultMaxPerRoute)));
+            pool = getPoolingHttpClientConnectionManager(protocol, clientKeyStore, options);
         } catch (EnforcerException e) {
             log.error("Error while getting http client connection manager", e);
         }
+        return getHttpClientBuilder(pool, options).build();
+    }
 
-        RequestConfig.Builder pramsBuilder = RequestConfig.custom();
-        if (options.containsKey(HTTPClientOptions.CONNECT_TIMEOUT)) {
-            pramsBuilder.setConnectTimeout(Integer.parseInt(options.get(HTTPClientOptions.CONNECT_TIMEOUT)));
+    /**
+     * Return a PoolingHttpClientConnectionManager instance sized by the provided options.
+     *
+     * @param protocol - service endpoint protocol http/https
+     * @param clientKeyStore - keystore with key and cert for client
+     * @param options - HTTP client options
+     * @return PoolManager
+     * @throws EnforcerException if the socket factory could not be created
+     */
+    static PoolingHttpClientConnectionManager getPoolingHttpClientConnectionManager(
+            String protocol, KeyStore clientKeyStore, Map<String, String> options) throws EnforcerException {
+        if (options == null) {
+            options = Collections.emptyMap();
         }
-        if (options.containsKey(HTTPClientOptions.SOCKET_TIMEOUT)) {
-            pramsBuilder.setSocketTimeout(Integer.parseInt(options.get(HTTPClientOptions.SOCKET_TIMEOUT)));
+
+        PoolingHttpClientConnectionManager pool = getPoolingHttpClientConnectionManager(protocol, clientKeyStore);
+        pool.setMaxTotal(Integer.parseInt(options.getOrDefault(HTTPClientOptions.MAX_OPEN_CONNECTIONS,
+                DEFAULT_MAX_OPEN_CONNECTIONS)));
+        pool.setDefaultMaxPerRoute(Integer.parseInt(options.getOrDefault(HTTPClientOptions.MAX_PER_ROUTE,
+                DEFAULT_MAX_PER_ROUTE)));
+        return pool;
+    }
+
+    /**
+     * Return a http client builder with the given connection manager and the request config populated from the
+     * provided options. Timeouts which are not provided are bounded by defaults, so that a slow or unreachable
+     * endpoint, or an exhausted pool, does not hold the calling thread indefinitely.
+     *
+     * @param pool - connection manager of the client
+     * @param options - HTTP client options
+     * @return HTTP client builder
+     */
+    static HttpClientBuilder getHttpClientBuilder(PoolingHttpClientConnectionManager pool,
+                                                  Map<String, String> options) {
+        if (options == null) {
+            options = Collections.emptyMap();
         }
-        RequestConfig params = pramsBuilder.build();
-        return HttpClients.custom().setConnectionManager(pool).setDefaultRequestConfig(params).build();
+
+        RequestConfig params = RequestConfig.custom()
+                .setConnectTimeout(Integer.parseInt(options.getOrDefault(HTTPClientOptions.CONNECT_TIMEOUT,
+                        DEFAULT_CONNECT_TIMEOUT)))
+                .setSocketTimeout(Integer.parseInt(options.getOrDefault(HTTPClientOptions.SOCKET_TIMEOUT,
+                        DEFAULT_SOCKET_TIMEOUT)))
+                .setConnectionRequestTimeout(Integer.parseInt(options.getOrDefault(
+                        HTTPClientOptions.CONNECTION_REQUEST_TIMEOUT, DEFAULT_CONNECTION_REQUEST_TIMEOUT)))
+                .build();
+        return HttpClients.custom().setConnectionManager(pool).setDefaultRequestConfig(params);
     }
 
     public static KeyStore createClientKeyStore(String certPath, String keyPath) {
@@ -666,6 +698,7 @@ public class FilterUtils {
     public static class HTTPClientOptions {
         public static final String CONNECT_TIMEOUT = "CONNECT_TIMEOUT";
         public static final String SOCKET_TIMEOUT = "SOCKET_TIMEOUT";
+        public static final String CONNECTION_REQUEST_TIMEOUT = "CONNECTION_REQUEST_TIMEOUT";
         public static final String MAX_OPEN_CONNECTIONS = "MAX_OPEN_CONNECTIONS";
         public static final String MAX_PER_ROUTE = "MAX_PER_ROUTE";
     }
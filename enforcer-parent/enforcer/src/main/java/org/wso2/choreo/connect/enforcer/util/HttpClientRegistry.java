@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.util;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of long-lived pooled HTTP clients used for outbound calls from the enforcer (OPA, token introspection,
+ * JWKS etc.). Clients are shared per protocol, client keystore and client options, so connections (and the TLS
+ * sessions on them) are kept alive and reused across requests instead of being established for each call.
+ * <p>
+ * Clients returned from this registry must not be closed by the caller. Only the responses should be closed, which
+ * releases the connection back to the pool. The clients are closed when the enforcer shuts down.
+ */
+public class HttpClientRegistry {
+    private static final Logger log = LogManager.getLogger(HttpClientRegistry.class);
+    private static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+    private static volatile HttpClientRegistry instance;
+
+    private final Map<ClientKey, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+    private final ClientFactory clientFactory;
+
+    HttpClientRegistry(ClientFactory clientFactory) {
+        this.clientFactory = clientFactory;
+    }
+
+    public static HttpClientRegistry getInstance() {
+        if (instance == null) {
+            synchronized (HttpClientRegistry.class) {
+                if (instance == null) {
+                    instance = new HttpClientRegistry(HttpClientRegistry::createClient);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Return the shared http client for the given protocol.
+     *
+     * @param protocol - service endpoint protocol http/https
+     * @return shared HTTP client
+     * @throws IOException if the connection pool of the client could not be created
+     */
+    public CloseableHttpClient getClient(String protocol) throws IOException {
+        return getClient(protocol, null, null);
+    }
+
+    /**
+     * Return the shared http client for the given protocol, client keystore and client options. A new client is
+     * created only for the first call with a given combination.
+     *
+     * @param protocol - service endpoint protocol http/https
+     * @param clientKeyStore - keystore with key and cert for client
+     * @param options - HTTP client options defined in {@link FilterUtils.HTTPClientOptions}
+     * @return shared HTTP client
+     * @throws IOException if the connection pool of the client could not be created
+     */
+    public CloseableHttpClient getClient(String protocol, KeyStore clientKeyStore, Map<String, String> options)
+            throws IOException {
+        ClientKey key = new ClientKey(protocol, clientKeyStore, options);
+        CloseableHttpClient client = clients.get(key);
+        if (client != null) {
+            return client;
+        }
+        try {
+            // Only the callers of the same key wait for the client to be created. A client is cached only once it
+            // is created, so that a failure is retried on the next call.
+            return clients.computeIfAbsent(key, k -> {
+                try {
+                    return clientFactory.create(protocol, clientKeyStore, options);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static CloseableHttpClient createClient(String protocol, KeyStore clientKeyStore,
+                                                    Map<String, String> options) throws IOException {
+        PoolingHttpClientConnectionManager pool;
+        try {
+            pool = FilterUtils.getPoolingHttpClientConnectionManager(protocol, clientKeyStore, options);
+        } catch (EnforcerException e) {
+            throw new IOException("Error while creating the connection pool for protocol: " + protocol, e);
+        }
+        log.debug("Creating shared HTTP client for protocol: {}, options: {}", protocol, options);
+        return FilterUtils.getHttpClientBuilder(pool, options)
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Close all the shared clients and their connection pools.
+     */
+    public void closeAll() {
+        for (Map.Entry<ClientKey, CloseableHttpClient> entry : clients.entrySet()) {
+            if (clients.remove(entry.getKey(), entry.getValue())) {
+                try {
+                    entry.getValue().close();
+                } catch (IOException e) {
+                    log.warn("Error while closing shared HTTP client for protocol: {}", entry.getKey().protocol, e);
+                }
+            }
+        }
+    }
+
+    int size() {
+        return clients.size();
+    }
+
+    /**
+     * Creates the client for a combination of protocol, client keystore and client options.
+     */
+    interface ClientFactory {
+        CloseableHttpClient create(String protocol, KeyStore clientKeyStore, Map<String, String> options)
+                throws IOException;
+    }
+
+    /**
+     * Identifies a shared client. The client keystore is compared by identity since the keystores are loaded once
+     * and held in the config holder.
+     */
+    private static final class ClientKey {
+        private final String protocol;
+        private final KeyStore clientKeyStore;
+        private final Map<String, String> options;
+
+        ClientKey(String protocol, KeyStore clientKeyStore, Map<String, String> options) {
+            this.protocol = protocol;
+            this.clientKeyStore = clientKeyStore;
+            this.options = options == null || options.isEmpty() ? Collections.emptyMap() : new TreeMap<>(options);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClientKey)) {
+                return false;
+            }
+            ClientKey other = (ClientKey) o;
+            return Objects.equals(protocol, other.protocol) && clientKeyStore == other.clientKeyStore
+                    && options.equals(other.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(protocol, System.identityHashCode(clientKeyStore), options);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.util;
+
+/**
+ * Utility methods for parsing IPv4 and IPv6 addresses into primitive values, without resolving them through
+ * {@link java.net.InetAddress} or creating {@link java.math.BigInteger} objects.
+ * <p>
+ * An address is represented as a pair of longs. The first element holds the high 64 bits and the second
+ * element holds the low 64 bits of an IPv6 address. An IPv4 address is held in the low 32 bits of the second
+ * element. As with {@link java.net.InetAddress}, IPv4-mapped IPv6 addresses (i.e. {@code ::ffff:10.0.0.1}) are
+ * treated as IPv4 addresses.
+ */
+public class IPAddressUtils {
+    public static final int INVALID = 0;
+    public static final int IPV4 = 4;
+    public static final int IPV6 = 6;
+    public static final int IPV4_BIT_LENGTH = 32;
+    public static final int IPV6_BIT_LENGTH = 128;
+    private static final long IPV4_MAPPED_PREFIX = 0xFFFFL;
+
+    private IPAddressUtils() {
+    }
+
+    /**
+     * Parse the given IP address.
+     *
+     * @param ip      IPv4 or IPv6 address. A zone index of an IPv6 address (i.e. {@code fe80::1%eth0}) is ignored.
+     * @param address array of two longs to hold the parsed address
+     * @return {@link #IPV4}, {@link #IPV6} or {@link #INVALID} if the value is not an IP address. IPv4-mapped IPv6
+     *         addresses are returned as {@link #IPV4}.
+     */
+    public static int parse(String ip, long[] address) {
+        address[0] = 0;
+        address[1] = 0;
+        if (ip == null || ip.isEmpty()) {
+            return INVALID;
+        }
+        int end = ip.indexOf('%');
+        if (end < 0) {
+            end = ip.length();
+        }
+        if (ip.indexOf(':') < 0) {
+            long value = parseIPv4(ip, 0, end);
+            if (value < 0) {
+                return INVALID;
+            }
+            address[1] = value;
+            return IPV4;
+        }
+        if (!parseIPv6(ip, end, address)) {
+            return INVALID;
+        }
+        if (address[0] == 0 && (address[1] >>> IPV4_BIT_LENGTH) == IPV4_MAPPED_PREFIX) {
+            address[1] &= 0xFFFFFFFFL;
+            return IPV4;
+        }
+        return IPV6;
+    }
+
+    /**
+     * Returns the number of bits of an address of the given family.
+     *
+     * @param family {@link #IPV4} or {@link #IPV6}
+     * @return bit length of the address
+     */
+    public static int bitLength(int family) {
+        return family == IPV4 ? IPV4_BIT_LENGTH : IPV6_BIT_LENGTH;
+    }
+
+    /**
+     * Returns the bit at the given index of an address, counting from the most significant bit.
+     *
+     * @param address parsed address
+     * @param family  family of the address
+     * @param index   index of the bit
+     * @return {@code 0} or {@code 1}
+     */
+    public static int bitAt(long[] address, int family, int index) {
+        if (family == IPV4) {
+            return (int) (address[1] >>> (IPV4_BIT_LENGTH - 1 - index)) & 1;
+        }
+        if (index < Long.SIZE) {
+            return (int) (address[0] >>> (Long.SIZE - 1 - index)) & 1;
+        }
+        return (int) (address[1] >>> (IPV6_BIT_LENGTH - 1 - index)) & 1;
+    }
+
+    /**
+     * Checks whether the first {@code prefixLength} bits of the two addresses of the same family are equal.
+     *
+     * @param address      parsed address
+     * @param network      parsed network address
+     * @param family       family of both addresses
+     * @param prefixLength length of the network prefix
+     * @return {@code true} if the address is within the network
+     */
+    public static boolean isInNetwork(long[] address, long[] network, int family, int prefixLength) {
+        if (prefixLength <= 0) {
+            return true;
+        }
+        if (family == IPV4) {
+            int shift = IPV4_BIT_LENGTH - Math.min(prefixLength, IPV4_BIT_LENGTH);
+            return (address[1] >>> shift) == (network[1] >>> shift);
+        }
+        if (prefixLength <= Long.SIZE) {
+            int shift = Long.SIZE - prefixLength;
+            return (address[0] >>> shift) == (network[0] >>> shift);
+        }
+        if (address[0] != network[0]) {
+            return false;
+        }
+        if (prefixLength >= IPV6_BIT_LENGTH) {
+            return address[1] == network[1];
+        }
+        int shift = IPV6_BIT_LENGTH - prefixLength;
+        return (address[1] >>> shift) == (network[1] >>> shift);
+    }
+
+    /**
+     * @return the IPv4 address as an unsigned value, or {@code -1} if the value is not an IPv4 address
+     */
+    private static long parseIPv4(String ip, int start, int end) {
+        long value = 0;
+        int octets = 0;
+        int octet = -1;
+        for (int i = start; i < end; i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && octets < 3) {
+                value = (value << 8) | octet;
+                octets++;
+                octet = -1;
+            } else {
+                return -1;
+            }
+        }
+        if (octet < 0 || octets != 3) {
+            return -1;
+        }
+        return (value << 8) | octet;
+    }
+
+    private static boolean parseIPv6(String ip, int end, long[] address) {
+        // Groups are shifted into the address as they are read. If the address is compressed with "::", the
+        // groups read after "::" are moved to the end of the address once all groups are read.
+        int groups = 0;
+        int compressedAt = -1;
+        int i = 0;
+        if (ip.charAt(0) == ':') {
+            if (end < 2 || ip.charAt(1) != ':') {
+                return false;
+            }
+            compressedAt = 0;
+            i = 2;
+        }
+        while (i < end) {
+            int groupStart = i;
+            int value = 0;
+            while (i < end && i - groupStart <= 4) {
+                int digit = Character.digit(ip.charAt(i), 16);
+                if (digit < 0) {
+                    break;
+                }
+                value = (value << 4) | digit;
+                i++;
+            }
+            if (i < end && ip.charAt(i) == '.') {
+                // IPv4 address embedded in the last 32 bits
+                long ipv4 = parseIPv4(ip, groupStart, end);
+                if (ipv4 < 0 || groups > 6) {
+                    return false;
+                }
+                shiftLeft(address, IPV4_BIT_LENGTH);
+                address[1] |= ipv4;
+                groups += 2;
+                break;
+            }
+            int digits = i - groupStart;
+            if (digits == 0 || digits > 4 || groups == 8) {
+                return false;
+            }
+            shiftLeft(address, 16);
+            address[1] |= value;
+            groups++;
+            if (i == end) {
+                break;
+            }
+            if (ip.charAt(i) != ':' || ++i == end) {
+                return false;
+            }
+            if (ip.charAt(i) == ':') {
+                if (compressedAt >= 0) {
+                    return false;
+                }
+                compressedAt = groups;
+                i++;
+            }
+        }
+        if (compressedAt < 0) {
+            return groups == 8;
+        }
+        if (groups > 7) {
+            return false;
+        }
+        int tailBits = 16 * (groups - compressedAt);
+        long tailHigh = 0;
+        long tailLow = 0;
+        if (tailBits >= Long.SIZE) {
+            tailLow = address[1];
+            tailHigh = tailBits == Long.SIZE ? 0 : address[0] & ((1L << (tailBits - Long.SIZE)) - 1);
+        } else if (tailBits > 0) {
+            tailLow = address[1] & ((1L << tailBits) - 1);
+        }
+        shiftRight(address, tailBits);
+        shiftLeft(address, 16 * (8 - compressedAt));
+        address[0] |= tailHigh;
+        address[1] |= tailLow;
+        return true;
+    }
+
+    private static void shiftLeft(long[] address, int bits) {
+        if (bits >= IPV6_BIT_LENGTH) {
+            address[0] = 0;
+            address[1] = 0;
+        } else if (bits >= Long.SIZE) {
+            address[0] = address[1] << (bits - Long.SIZE);
+            address[1] = 0;
+        } else if (bits > 0) {
+            address[0] = (address[0] << bits) | (address[1] >>> (Long.SIZE - bits));
+            address[1] <<= bits;
+        }
+    }
+
+    private static void shiftRight(long[] address, int bits) {
+        if (bits >= IPV6_BIT_LENGTH) {
+            address[0] = 0;
+            address[1] = 0;
+        } else if (bits >= Long.SIZE) {
+            address[1] = address[0] >>> (bits - Long.SIZE);
+            address[0] = 0;
+        } else if (bits > 0) {
+            address[1] = (address[1] >>> bits) | (address[0] << (Long.SIZE - bits));
+            address[0] >>>= bits;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.util;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Binary prefix trie of IPv4 and IPv6 networks. Looking up an address walks at most one node per bit of the
+ * address and does not allocate, hence the lookup time does not depend on the number of networks in the trie.
+ * <p>
+ * Networks can only be added while the trie is being built. A trie should be published to the request
+ * threads only after all networks are added.
+ */
+public class IPPrefixTrie {
+    private static final int IPV4_ROOT = 0;
+    private static final int IPV6_ROOT = 1;
+    private static final ThreadLocal<long[]> ADDRESS_BUFFER = ThreadLocal.withInitial(() -> new long[2]);
+
+    // Child nodes of node n are at index 2n (bit 0) and 2n + 1 (bit 1). Roots are never a child, hence 0 is
+    // used to denote a missing child.
+    private int[] children = new int[64];
+    // Number of networks ending at each node.
+    private int[] counts = new int[32];
+    private int nodeCount = 2;
+    private int networkCount;
+
+    /**
+     * Add a network in CIDR notation, i.e. {@code 192.168.0.0/16}. An address without a prefix length is
+     * added as a single address network.
+     *
+     * @param cidr network in CIDR notation
+     * @return {@code false} if the network is not valid
+     */
+    public boolean addNetwork(String cidr) {
+        if (cidr == null) {
+            return false;
+        }
+        int separator = cidr.indexOf('/');
+        long[] address = new long[2];
+        int family = IPAddressUtils.parse(separator < 0 ? cidr : cidr.substring(0, separator), address);
+        if (family == IPAddressUtils.INVALID) {
+            return false;
+        }
+        int prefixLength = IPAddressUtils.bitLength(family);
+        if (separator >= 0) {
+            try {
+                prefixLength = Integer.parseInt(cidr.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (prefixLength < 0 || prefixLength > IPAddressUtils.bitLength(family)) {
+                return false;
+            }
+        }
+        insert(address, family, prefixLength);
+        return true;
+    }
+
+    /**
+     * Add all addresses between the given addresses. The range is added as the smallest set of networks
+     * covering it.
+     *
+     * @param startIp       first address of the range
+     * @param endIp         last address of the range
+     * @param excludeBounds whether the start and the end addresses are excluded from the range
+     * @return {@code false} if the addresses are not valid or are not of the same family
+     */
+    public boolean addRange(String startIp, String endIp, boolean excludeBounds) {
+        long[] address = new long[2];
+        int family = IPAddressUtils.parse(startIp, address);
+        BigInteger start = toBigInteger(address);
+        if (family == IPAddressUtils.INVALID || IPAddressUtils.parse(endIp, address) != family) {
+            return false;
+        }
+        BigInteger end = toBigInteger(address);
+        if (excludeBounds) {
+            start = start.add(BigInteger.ONE);
+            end = end.subtract(BigInteger.ONE);
+        }
+        int bitLength = IPAddressUtils.bitLength(family);
+        while (start.compareTo(end) <= 0) {
+            // Largest network starting at the current address, which does not go beyond the end of the range
+            int hostBits = start.signum() == 0 ? bitLength : start.getLowestSetBit();
+            hostBits = Math.min(hostBits, end.subtract(start).add(BigInteger.ONE).bitLength() - 1);
+            address[0] = start.shiftRight(Long.SIZE).longValue();
+            address[1] = start.longValue();
+            insert(address, family, bitLength - hostBits);
+            start = start.add(BigInteger.ONE.shiftLeft(hostBits));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of networks in the trie containing the given address. A range added through
+     * {@link #addRange(String, String, boolean)} is counted once at most, as its networks do not overlap.
+     *
+     * @param ip IPv4 or IPv6 address
+     * @return number of networks containing the address. {@code 0} if the address is not valid.
+     */
+    public int countMatches(String ip) {
+        long[] address = ADDRESS_BUFFER.get();
+        int family = IPAddressUtils.parse(ip, address);
+        if (family == IPAddressUtils.INVALID) {
+            return 0;
+        }
+        int node = family == IPAddressUtils.IPV4 ? IPV4_ROOT : IPV6_ROOT;
+        int matches = counts[node];
+        int bitLength = IPAddressUtils.bitLength(family);
+        for (int i = 0; i < bitLength; i++) {
+            node = children[2 * node + IPAddressUtils.bitAt(address, family, i)];
+            if (node == 0) {
+                break;
+            }
+            matches += counts[node];
+        }
+        return matches;
+    }
+
+    /**
+     * @param ip IPv4 or IPv6 address
+     * @return {@code true} if the address is within any of the networks in the trie
+     */
+    public boolean matches(String ip) {
+        return networkCount > 0 && countMatches(ip) > 0;
+    }
+
+    public boolean isEmpty() {
+        return networkCount == 0;
+    }
+
+    private void insert(long[] address, int family, int prefixLength) {
+        int node = family == IPAddressUtils.IPV4 ? IPV4_ROOT : IPV6_ROOT;
+        for (int i = 0; i < prefixLength; i++) {
+            int childIndex = 2 * node + IPAddressUtils.bitAt(address, family, i);
+            int child = children[childIndex];
+            if (child == 0) {
+                // The arrays may be replaced when creating the node, hence it is created before the assignment.
+                child = newNode();
+                children[childIndex] = child;
+            }
+            node = child;
+        }
+        counts[node]++;
+        networkCount++;
+    }
+
+    private int newNode() {
+        if (nodeCount == counts.length) {
+            counts = Arrays.copyOf(counts, counts.length * 2);
+            children = Arrays.copyOf(children, children.length * 2);
+        }
+        return nodeCount++;
+    }
+
+    private static BigInteger toBigInteger(long[] address) {
+        return new BigInteger(Long.toUnsignedString(address[0])).shiftLeft(Long.SIZE)
+                .or(new BigInteger(Long.toUnsignedString(address[1])));
+    }
+}
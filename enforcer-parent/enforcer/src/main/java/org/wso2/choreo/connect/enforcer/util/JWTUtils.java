@@ -22,7 +22,6 @@ import com.google.common.cache.LoadingCache;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.apache.commons.io.IOUtils;
@@ -40,6 +39,7 @@ import org.wso2.choreo.connect.enforcer.constants.Constants;
 import org.wso2.choreo.connect.enforcer.constants.JwtConstants;
 import org.wso2.choreo.connect.enforcer.dto.APIKeyValidationInfoDTO;
 import org.wso2.choreo.connect.enforcer.security.jwt.SignedJWTInfo;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.JWSVerifierFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -53,13 +53,14 @@ import java.security.KeyFactory;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.security.cert.Certificate;
 import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.text.ParseException;
 import java.util.Base64;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -68,6 +69,10 @@ import java.util.concurrent.TimeUnit;
  */
 public class JWTUtils {
     private static final Logger log = LogManager.getLogger(JWTUtils.class);
+    // JWKS endpoints are called rarely and one fetch at a time per endpoint, hence a small pool of their own.
+    private static final Map<String, String> JWKS_CLIENT_OPTIONS = Map.of(
+            FilterUtils.HTTPClientOptions.MAX_OPEN_CONNECTIONS, "20",
+            FilterUtils.HTTPClientOptions.MAX_PER_ROUTE, "5");
 
     /**
      * This method used to retrieve JWKS keys from endpoint.
@@ -79,17 +84,17 @@ public class JWTUtils {
     public static String retrieveJWKSConfiguration(String jwksEndpoint) throws IOException {
 
         URL url = new URL(jwksEndpoint);
-        try (CloseableHttpClient httpClient = (CloseableHttpClient) FilterUtils.getHttpClient(url.getProtocol())) {
-            HttpGet httpGet = new HttpGet(jwksEndpoint);
-            try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
-                if (response.getStatusLine().getStatusCode() == 200) {
-                    HttpEntity entity = response.getEntity();
-                    try (InputStream content = entity.getContent()) {
-                        return IOUtils.toString(content, Charset.defaultCharset());
-                    }
-                } else {
-                    return null;
+        CloseableHttpClient httpClient = HttpClientRegistry.getInstance().getClient(url.getProtocol(), null,
+                JWKS_CLIENT_OPTIONS);
+        HttpGet httpGet = new HttpGet(jwksEndpoint);
+        try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
+            if (response.getStatusLine().getStatusCode() == 200) {
+                HttpEntity entity = response.getEntity();
+                try (InputStream content = entity.getContent()) {
+                    return IOUtils.toString(content, Charset.defaultCharset());
                 }
+            } else {
+                return null;
             }
         }
     }
@@ -97,26 +102,46 @@ public class JWTUtils {
     /**
      * Verify the JWT token signature.
      *
-     * @param jwt       SignedJwt Token
-     * @param publicKey public certificate
-     * @return whether the signature is verified or or not
+     * @param jwt      SignedJwt Token
+     * @param verifier verifier created from the public key of the issuer
+     * @return whether the signature is verified or not
      */
-    public static boolean verifyTokenSignature(SignedJWT jwt, RSAPublicKey publicKey) {
+    public static boolean verifyTokenSignature(SignedJWT jwt, JWSVerifier verifier) {
 
         JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
-        if ((JWSAlgorithm.RS256.equals(algorithm) || JWSAlgorithm.RS512.equals(algorithm) || JWSAlgorithm.RS384
-                .equals(algorithm))) {
-            try {
-                JWSVerifier jwsVerifier = new RSASSAVerifier(publicKey);
-                return jwt.verify(jwsVerifier);
-            } catch (JOSEException e) {
-                log.error("Error while verifying JWT signature", e);
-                return false;
-            }
-        } else {
-            log.error("Public key is not a RSA");
+        if (!verifier.supportedJWSAlgorithms().contains(algorithm)) {
+            log.error("Algorithm {} is not supported by the signing key", algorithm);
+            return false;
+        }
+        try {
+            return jwt.verify(verifier);
+        } catch (JOSEException e) {
+            log.error("Error while verifying JWT signature", e);
+            return false;
+        }
+    }
+
+    /**
+     * Verify the JWT token signature.
+     *
+     * @param jwt       SignedJwt Token
+     * @param publicKey public key of the issuer. RSA, EC and Ed25519 keys are supported.
+     * @return whether the signature is verified or not
+     */
+    public static boolean verifyTokenSignature(SignedJWT jwt, PublicKey publicKey) {
+
+        JWSVerifier jwsVerifier;
+        try {
+            jwsVerifier = JWSVerifierFactory.getVerifier(publicKey);
+        } catch (JOSEException e) {
+            log.error("Error while creating the verifier for the public key", e);
+            return false;
+        }
+        if (jwsVerifier == null) {
+            log.error("Public key algorithm {} is not supported", publicKey.getAlgorithm());
             return false;
         }
+        return verifyTokenSignature(jwt, jwsVerifier);
     }
 
     /**
@@ -141,14 +166,17 @@ public class JWTUtils {
         }
 
         if (publicCert != null) {
-            JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
-            if ((JWSAlgorithm.RS256.equals(algorithm) || JWSAlgorithm.RS512.equals(algorithm) || JWSAlgorithm.RS384
-                    .equals(algorithm))) {
-                return verifyTokenSignature(jwt, (RSAPublicKey) publicCert.getPublicKey());
-            } else {
-                log.error("Public key is not RSA");
-                throw new EnforcerException("Public key is not RSA");
+            JWSVerifier jwsVerifier;
+            try {
+                jwsVerifier = JWSVerifierFactory.getVerifier(publicCert.getPublicKey());
+            } catch (JOSEException e) {
+                throw new EnforcerException("Error while creating the verifier for the certificate.", e);
+            }
+            if (jwsVerifier == null) {
+                log.error("Public key algorithm {} is not supported", publicCert.getPublicKey().getAlgorithm());
+                throw new EnforcerException("Public key algorithm is not supported");
             }
+            return verifyTokenSignature(jwt, jwsVerifier);
         } else {
             log.error("Couldn't find a public certificate to verify the signature");
             throw new EnforcerException("Couldn't find a public certificate to verify the signature");
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces concurrent calls for the same key into a single call. The first caller of a key executes the call,
+ * and the callers which arrive while the call is in flight wait for it and receive its result, or its exception.
+ * Results are not retained once the call completes, hence this is meant to be used in front of a cache or a
+ * lazily loaded value to avoid concurrent misses loading the same value.
+ * <p>
+ * Callers wait for the call in flight for a bounded time only. A caller which times out executes the call itself,
+ * so that a call which hangs does not hold all the callers of its key.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the result
+ */
+public class SingleFlight<K, V> {
+    private static final long DEFAULT_WAIT_TIMEOUT_SECONDS = 30;
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final long waitTimeoutNanos;
+
+    public SingleFlight() {
+        this(DEFAULT_WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param waitTimeout maximum time to wait for the call in flight
+     * @param unit        unit of the wait timeout
+     */
+    public SingleFlight(long waitTimeout, TimeUnit unit) {
+        this.waitTimeoutNanos = unit.toNanos(waitTimeout);
+    }
+
+    /**
+     * A call which returns a result and may throw a checked exception.
+     *
+     * @param <V> type of the result
+     * @param <E> type of the checked exception
+     */
+    @FunctionalInterface
+    public interface Call<V, E extends Exception> {
+        V call() throws E;
+    }
+
+    /**
+     * Executes the call, or waits for the call in flight for the same key. The calls of a key are expected to
+     * throw the same type of checked exception, since callers waiting for a call receive its exception.
+     *
+     * @param key  key of the call
+     * @param call call to execute if no call is in flight for the key
+     * @param <E>  type of the checked exception thrown by the call
+     * @return result of the call
+     * @throws E if the call fails
+     */
+    public <E extends Exception> V execute(K key, Call<? extends V, E> call) throws E {
+        CompletableFuture<V> result = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, result);
+        if (inFlight != null) {
+            try {
+                return SingleFlight.<V, E>await(inFlight, waitTimeoutNanos);
+            } catch (TimeoutException e) {
+                return call.call();
+            }
+        }
+        try {
+            V value = call.call();
+            result.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, result);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Exception> V await(CompletableFuture<V> inFlight, long timeoutNanos)
+            throws E, TimeoutException {
+        try {
+            return inFlight.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Waiting is given up on interruption as well, and the caller executes the call itself.
+            throw new TimeoutException("Interrupted while waiting for the call in flight");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // The calls of a key throw the same type of checked exception as the caller, or a runtime exception.
+            throw (E) cause;
+        }
+    }
+}
@@ -298,17 +298,15 @@ public class WebSocketThrottleFilter implements Filter {
 
     private Decision checkApiThrottled(String throttleKey, String tier, RequestContext context) {
         log.debug("Checking if request is throttled at API level for tier: {}, key: {}", tier, throttleKey);
-        Decision decision = new Decision();
-
         if (ThrottleConstants.UNLIMITED_TIER.equals(tier)) {
-            return decision;
+            return Decision.NOT_THROTTLED;
         }
 
         if (isGlobalThrottlingEnabled) {
-            decision = dataHolder.isAdvancedThrottled(throttleKey, context);
+            Decision decision = dataHolder.isAdvancedThrottled(throttleKey, context);
             log.debug("API Level throttle decision: {}", decision.isThrottled());
             return decision;
         }
-        return decision;
+        return Decision.NOT_THROTTLED;
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.choreo.connect.enforcer.admin;
+
+import io.grpc.netty.shaded.io.netty.channel.embedded.EmbeddedChannel;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpMethod;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpVersion;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.wso2.choreo.connect.discovery.config.enforcer.Config;
+import org.wso2.choreo.connect.discovery.config.enforcer.Management;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.constants.AdminConstants;
+import org.wso2.choreo.connect.enforcer.subscription.SubscriptionDataHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.wso2.choreo.connect.enforcer.security.jwt.validator.JWTConstants.AUTHORIZATION;
+
+public class AdminServerHandlerTest {
+
+    private static final String CREDENTIALS = "Basic " + Base64.getEncoder().encodeToString(
+            "admin:secret".getBytes(StandardCharsets.UTF_8));
+
+    @BeforeClass
+    public static void setUp() {
+        ConfigHolder.getInstance();
+        ConfigHolder.load(Config.newBuilder()
+                .setManagement(Management.newBuilder().setUsername("admin").setPassword("secret"))
+                .buildPartial());
+    }
+
+    @Test
+    public void testNotModifiedWhenETagMatches() {
+        String eTag = getCurrentETag();
+        FullHttpResponse response = send(AdminConstants.AdminResources.APPLICATIONS, CREDENTIALS, eTag);
+
+        Assert.assertEquals(HttpResponseStatus.NOT_MODIFIED, response.status());
+        Assert.assertEquals(eTag, response.headers().get(HttpHeaderNames.ETAG));
+        Assert.assertEquals(0, response.content().readableBytes());
+        response.release();
+    }
+
+    @Test
+    public void testRequestIsHandledWhenETagDoesNotMatch() {
+        FullHttpResponse response = send(AdminConstants.AdminResources.APPLICATIONS, CREDENTIALS,
+                "W/\"outdated\"");
+
+        // The request is handled, which rejects it for the missing organization.
+        Assert.assertEquals(HttpResponseStatus.BAD_REQUEST, response.status());
+        Assert.assertNull("Error responses are not tagged", response.headers().get(HttpHeaderNames.ETAG));
+        response.release();
+    }
+
+    @Test
+    public void testUnauthorizedRequestIsNotAnsweredFromETag() {
+        FullHttpResponse response = send(AdminConstants.AdminResources.APPLICATIONS, null, getCurrentETag());
+
+        Assert.assertEquals(HttpResponseStatus.UNAUTHORIZED, response.status());
+        Assert.assertNull(response.headers().get(HttpHeaderNames.ETAG));
+        response.release();
+    }
+
+    private static String getCurrentETag() {
+        return AdminUtils.getETag(SubscriptionDataHolder.getInstance().getTenantSubscriptionStore().getVersion());
+    }
+
+    private static FullHttpResponse send(String uri, String authorization, String ifNoneMatch) {
+        EmbeddedChannel channel = new EmbeddedChannel(new AdminServerHandler());
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+        if (authorization != null) {
+            request.headers().set(AUTHORIZATION, authorization);
+        }
+        request.headers().set(HttpHeaderNames.IF_NONE_MATCH, ifNoneMatch);
+        channel.writeInbound(request);
+        FullHttpResponse response = channel.readOutbound();
+        Assert.assertNotNull(response);
+        return response;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.choreo.connect.enforcer.admin;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdminUtilsTest {
+
+    @Test
+    public void testETagChangesWithDataStoreVersion() {
+        String eTag = AdminUtils.getETag(1);
+
+        Assert.assertTrue("Entity tag should be weak", eTag.startsWith("W/\""));
+        Assert.assertTrue(eTag.endsWith("\""));
+        Assert.assertEquals(eTag, AdminUtils.getETag(1));
+        Assert.assertNotEquals(eTag, AdminUtils.getETag(2));
+    }
+
+    @Test
+    public void testMatchingETag() {
+        String eTag = AdminUtils.getETag(1);
+
+        Assert.assertTrue(AdminUtils.isETagMatching(eTag, eTag));
+        // Weak comparison ignores the weak indicator.
+        Assert.assertTrue(AdminUtils.isETagMatching(eTag.substring(2), eTag));
+        Assert.assertTrue(AdminUtils.isETagMatching("\"other\", " + eTag, eTag));
+        Assert.assertTrue(AdminUtils.isETagMatching("*", eTag));
+    }
+
+    @Test
+    public void testMismatchingETag() {
+        String eTag = AdminUtils.getETag(2);
+
+        Assert.assertFalse(AdminUtils.isETagMatching(AdminUtils.getETag(1), eTag));
+        Assert.assertFalse(AdminUtils.isETagMatching("\"other\", W/\"another\"", eTag));
+        Assert.assertFalse(AdminUtils.isETagMatching("", eTag));
+        Assert.assertFalse(AdminUtils.isETagMatching(null, eTag));
+        Assert.assertFalse(AdminUtils.isETagMatching(eTag, null));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.choreo.connect.enforcer.admin;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class PaginationTest {
+
+    private static final List<String> ITEMS = Arrays.asList("e", "c", "a", "d", "b");
+
+    @Test
+    public void testPagesAreFollowedWithCursor() {
+        List<String> page = new ArrayList<>(ITEMS);
+        String cursor = Pagination.fromParams(new String[]{"limit=2"}).apply(page, Function.identity());
+        Assert.assertEquals(Arrays.asList("a", "b"), page);
+        Assert.assertNotNull(cursor);
+
+        page = new ArrayList<>(ITEMS);
+        cursor = Pagination.fromParams(new String[]{"limit=2", "cursor=" + cursor}).apply(page, Function.identity());
+        Assert.assertEquals(Arrays.asList("c", "d"), page);
+        Assert.assertNotNull(cursor);
+
+        page = new ArrayList<>(ITEMS);
+        cursor = Pagination.fromParams(new String[]{"cursor=" + cursor, "limit=2"}).apply(page, Function.identity());
+        Assert.assertEquals(Collections.singletonList("e"), page);
+        Assert.assertNull("There are no more pages", cursor);
+    }
+
+    @Test
+    public void testCursorRemainsValidWhenEntriesChange() {
+        List<String> page = new ArrayList<>(ITEMS);
+        String cursor = Pagination.fromParams(new String[]{"limit=2"}).apply(page, Function.identity());
+
+        // The last entry of the first page is removed and an entry is added before the cursor.
+        page = new ArrayList<>(Arrays.asList("e", "c", "a", "d", "0"));
+        Pagination.fromParams(new String[]{"limit=2", "cursor=" + cursor}).apply(page, Function.identity());
+        Assert.assertEquals(Arrays.asList("c", "d"), page);
+    }
+
+    @Test
+    public void testLimitBounds() {
+        List<String> page = new ArrayList<>(ITEMS);
+        String cursor = Pagination.fromParams(new String[]{"limit=1"}).apply(page, Function.identity());
+        Assert.assertEquals(Collections.singletonList("a"), page);
+        Assert.assertNotNull(cursor);
+
+        page = new ArrayList<>(ITEMS);
+        cursor = Pagination.fromParams(new String[]{"limit=" + Integer.MAX_VALUE}).apply(page, Function.identity());
+        Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), page);
+        Assert.assertNull(cursor);
+
+        assertInvalid("limit=0");
+        assertInvalid("limit=-1");
+        assertInvalid("limit=ten");
+        assertInvalid("limit=" + ((long) Integer.MAX_VALUE + 1));
+    }
+
+    @Test
+    public void testInvalidCursorIsRejected() {
+        assertInvalid("cursor=not*base64");
+        assertInvalid("cursor=a%3D%3D");
+    }
+
+    @Test
+    public void testItemsAreUnchangedWithoutPagination() {
+        List<String> items = new ArrayList<>(ITEMS);
+        Assert.assertNull(Pagination.fromParams(null).apply(items, Function.identity()));
+        Assert.assertNull(Pagination.fromParams(new String[]{"name=a", "limit"}).apply(items, Function.identity()));
+        Assert.assertEquals(ITEMS, items);
+    }
+
+    private static void assertInvalid(String param) {
+        try {
+            Pagination.fromParams(new String[]{param});
+            Assert.fail("Expected the pagination parameter to be rejected: " + param);
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
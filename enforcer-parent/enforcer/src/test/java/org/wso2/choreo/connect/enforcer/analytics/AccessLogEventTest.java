@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.analytics;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.Struct;
+import com.google.protobuf.UInt32Value;
+import com.google.protobuf.Value;
+import io.envoyproxy.envoy.config.core.v3.Metadata;
+import io.envoyproxy.envoy.data.accesslog.v3.AccessLogCommon;
+import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
+import io.envoyproxy.envoy.data.accesslog.v3.HTTPResponseProperties;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.choreo.connect.enforcer.constants.AnalyticsConstants;
+import org.wso2.choreo.connect.enforcer.constants.MetadataConstants;
+
+public class AccessLogEventTest {
+
+    @Test
+    public void testLatenciesAreDecoded() {
+        AccessLogEvent event = AccessLogEvent.from(createLogEntry(
+                AnalyticsConstants.UPSTREAM_SUCCESS_RESPONSE_DETAIL, "false"));
+        Latencies latencies = event.getLatencies();
+
+        Assert.assertFalse(event.isMockAPISuccess());
+        Assert.assertEquals(200, event.getResponseCode());
+        Assert.assertEquals(5, latencies.getRequestMediationLatency());
+        Assert.assertEquals(20, latencies.getBackendLatency());
+        Assert.assertEquals(1005, latencies.getResponseMediationLatency());
+        Assert.assertEquals(1030, latencies.getResponseLatency());
+        Assert.assertEquals("petstore", event.getMetadataValue(MetadataConstants.API_NAME_KEY));
+        Assert.assertNull(event.getMetadataValue(MetadataConstants.API_VERSION_KEY));
+    }
+
+    @Test
+    public void testMockAPILatenciesExcludeBackend() {
+        AccessLogEvent event = AccessLogEvent.from(createLogEntry(
+                AnalyticsConstants.EXT_AUTH_DENIED_RESPONSE_DETAIL, "true"));
+        Latencies latencies = event.getLatencies();
+
+        Assert.assertTrue(event.isMockAPISuccess());
+        Assert.assertEquals(1030, latencies.getRequestMediationLatency());
+        Assert.assertEquals(0, latencies.getBackendLatency());
+        Assert.assertEquals(0, latencies.getResponseMediationLatency());
+        Assert.assertEquals(1030, latencies.getResponseLatency());
+    }
+
+    @Test
+    public void testEntryWithoutMetadata() {
+        AccessLogEvent event = AccessLogEvent.from(HTTPAccessLogEntry.newBuilder().build());
+
+        Assert.assertFalse(event.isMockAPISuccess());
+        Assert.assertTrue(event.getMetadata().isEmpty());
+        Assert.assertNull(event.getMetadataValue(MetadataConstants.API_NAME_KEY));
+    }
+
+    private static HTTPAccessLogEntry createLogEntry(String responseCodeDetails, String isMockAPI) {
+        Struct extAuthMetadata = Struct.newBuilder()
+                .putFields(MetadataConstants.API_NAME_KEY, Value.newBuilder().setStringValue("petstore").build())
+                .putFields(MetadataConstants.IS_MOCK_API, Value.newBuilder().setStringValue(isMockAPI).build())
+                .build();
+        AccessLogCommon commonProperties = AccessLogCommon.newBuilder()
+                .setTimeToFirstUpstreamTxByte(Duration.newBuilder().setNanos(5000000))
+                .setTimeToLastUpstreamRxByte(Duration.newBuilder().setNanos(25000000))
+                .setTimeToLastDownstreamTxByte(Duration.newBuilder().setSeconds(1).setNanos(30000000))
+                .setMetadata(Metadata.newBuilder()
+                        .putFilterMetadata(MetadataConstants.EXT_AUTH_METADATA_CONTEXT_KEY, extAuthMetadata))
+                .build();
+        return HTTPAccessLogEntry.newBuilder()
+                .setCommonProperties(commonProperties)
+                .setResponse(HTTPResponseProperties.newBuilder()
+                        .setResponseCode(UInt32Value.of(200))
+                        .setResponseCodeDetails(responseCodeDetails))
+                .build();
+    }
+}
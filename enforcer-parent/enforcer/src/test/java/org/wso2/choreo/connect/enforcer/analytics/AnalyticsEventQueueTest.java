@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.analytics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class AnalyticsEventQueueTest {
+
+    @Test
+    public void testBatchIsHandedOverOnFlushInterval() throws Exception {
+        BlockingQueue<List<Integer>> batches = new LinkedBlockingQueue<>();
+        AnalyticsEventQueue<Integer> queue = new AnalyticsEventQueue<>(100, 1, 10, 50,
+                batch -> batches.add(new ArrayList<>(batch)));
+        queue.start();
+        queue.offer(1);
+        queue.offer(2);
+
+        List<Integer> batch = batches.poll(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(batch);
+        List<Integer> events = new ArrayList<>(batch);
+        if (events.size() < 2) {
+            events.addAll(batches.poll(5, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(List.of(1, 2), events);
+    }
+
+    @Test
+    public void testBatchIsLimitedToBatchSize() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<List<Integer>> batches = new LinkedBlockingQueue<>();
+        AnalyticsEventQueue<Integer> queue = new AnalyticsEventQueue<>(100, 1, 3, 60000, batch -> {
+            batches.add(new ArrayList<>(batch));
+            awaitQuietly(release);
+        });
+        queue.start();
+        for (int i = 0; i < 7; i++) {
+            queue.offer(i);
+        }
+        release.countDown();
+
+        int processed = 0;
+        while (processed < 6) {
+            List<Integer> batch = batches.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(batch);
+            Assert.assertTrue(batch.size() <= 3);
+            processed += batch.size();
+        }
+        Assert.assertEquals(6, processed);
+    }
+
+    @Test
+    public void testEventsAreDroppedWhenQueueIsFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        AnalyticsEventQueue<Integer> queue = new AnalyticsEventQueue<>(2, 1, 1, 0, batch -> awaitQuietly(release));
+        queue.start();
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (queue.offer(i)) {
+                accepted++;
+            }
+        }
+        release.countDown();
+
+        Assert.assertTrue(accepted <= 3);
+        Assert.assertEquals(10 - accepted, queue.getDroppedEventCount());
+        Assert.assertEquals(2, queue.getQueueCapacity());
+    }
+
+    @Test
+    public void testShutdownProcessesQueuedEvents() {
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        AnalyticsEventQueue<Integer> queue = new AnalyticsEventQueue<>(100, 2, 2, 60000, batch -> {
+            awaitQuietly(release);
+            processed.addAll(batch);
+        });
+        queue.start();
+        for (int i = 0; i < 7; i++) {
+            queue.offer(i);
+        }
+        release.countDown();
+        queue.shutdown(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(7, processed.size());
+        Assert.assertEquals(0, queue.getQueueDepth());
+        Assert.assertEquals(7, queue.getProcessedEventCount());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.config.dto.CacheDto;
+
+public class CacheProviderTest {
+
+    @Test
+    public void testGraphQLQueryCacheIsNotCreatedWhenCachingIsDisabled() {
+        CacheProvider.init(getCacheDto(true, CacheDto.BACKEND_GUAVA));
+        Assert.assertNotNull(CacheProvider.getGraphQLQueryCache());
+
+        CacheProvider.init(getCacheDto(false, CacheDto.BACKEND_GUAVA));
+        Assert.assertNull(CacheProvider.getGraphQLQueryCache());
+        Assert.assertFalse(CacheProvider.getCacheStats().containsKey(CacheProvider.GRAPHQL_QUERY_CACHE));
+    }
+
+    @Test
+    public void testCachesAreCreatedForEachBackend() {
+        for (String backend : new String[]{CacheDto.BACKEND_GUAVA, CacheDto.BACKEND_CAFFEINE}) {
+            CacheProvider.init(getCacheDto(true, backend));
+            Assert.assertNotNull(CacheProvider.getGraphQLQueryCache());
+            Assert.assertNotNull(CacheProvider.getGatewayTokenCache());
+            Assert.assertTrue(CacheProvider.getCacheStats().containsKey(CacheProvider.GRAPHQL_QUERY_CACHE));
+            Assert.assertTrue(CacheProvider.CACHE_NAMES.containsAll(CacheProvider.getCacheStats().keySet()));
+        }
+    }
+
+    private static CacheDto getCacheDto(boolean enabled, String backend) {
+        CacheDto cacheDto = new CacheDto();
+        cacheDto.setEnabled(enabled);
+        cacheDto.setMaximumSize(100);
+        cacheDto.setExpiryTime(15);
+        cacheDto.setBackend(backend);
+        return cacheDto;
+    }
+}
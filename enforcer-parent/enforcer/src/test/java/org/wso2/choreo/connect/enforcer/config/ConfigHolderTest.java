@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.config;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.config.dto.CacheDto;
+import org.wso2.choreo.connect.enforcer.config.dto.CacheSpecDto;
+
+import java.util.Map;
+
+public class ConfigHolderTest {
+
+    @Test
+    public void testCacheSpecsAreParsed() {
+        Map<String, CacheSpecDto> cacheSpecs = ConfigHolder.parseCacheSpecs(
+                "gatewayTokenCache:maximumSize=100,expireAfterWrite=5; gatewayKeyCache : expireAfterAccess = 3",
+                getCacheDto());
+
+        Assert.assertEquals(2, cacheSpecs.size());
+        assertCacheSpec(cacheSpecs.get(CacheProvider.GATEWAY_TOKEN_CACHE), 100, 5, true);
+        // Properties which are not specified are taken from the common cache configuration.
+        assertCacheSpec(cacheSpecs.get(CacheProvider.GATEWAY_KEY_CACHE), 10000, 3, false);
+    }
+
+    @Test
+    public void testBlankCacheSpecsAreEmpty() {
+        Assert.assertTrue(ConfigHolder.parseCacheSpecs("", getCacheDto()).isEmpty());
+        Assert.assertTrue(ConfigHolder.parseCacheSpecs(null, getCacheDto()).isEmpty());
+    }
+
+    @Test
+    public void testMalformedCacheSpecsAreIgnored() {
+        Map<String, CacheSpecDto> cacheSpecs = ConfigHolder.parseCacheSpecs(
+                "gatewayTokenCache;"
+                        + ":maximumSize=10;"
+                        + "gatewayKeyCache:maximumSize=ten;"
+                        + "invalidTokenCache:maximumSize;"
+                        + "gatewayJWTTokenCache:maximumSize=10,refreshAfterWrite=5;"
+                        + "gatewayAPIKeyCache:maximumSize=10",
+                getCacheDto());
+
+        Assert.assertEquals(1, cacheSpecs.size());
+        assertCacheSpec(cacheSpecs.get(CacheProvider.GATEWAY_API_KEY_CACHE), 10, 15, false);
+    }
+
+    @Test
+    public void testNegativeCacheSpecsAreIgnored() {
+        Map<String, CacheSpecDto> cacheSpecs = ConfigHolder.parseCacheSpecs(
+                "gatewayTokenCache:maximumSize=-1;"
+                        + "gatewayKeyCache:expireAfterWrite=-5;"
+                        + "invalidTokenCache:maximumSize=0,expireAfterAccess=0",
+                getCacheDto());
+
+        Assert.assertEquals(1, cacheSpecs.size());
+        // Caches without a valid spec fall back to the common cache configuration.
+        Assert.assertFalse(cacheSpecs.containsKey(CacheProvider.GATEWAY_TOKEN_CACHE));
+        Assert.assertFalse(cacheSpecs.containsKey(CacheProvider.GATEWAY_KEY_CACHE));
+        assertCacheSpec(cacheSpecs.get(CacheProvider.INVALID_TOKEN_CACHE), 0, 0, false);
+    }
+
+    @Test
+    public void testUnknownCacheSpecsAreIgnored() {
+        Map<String, CacheSpecDto> cacheSpecs = ConfigHolder.parseCacheSpecs(
+                "gatewayTokenCach:maximumSize=10;graphQLQueryCache:maximumSize=20", getCacheDto());
+
+        Assert.assertEquals(1, cacheSpecs.size());
+        Assert.assertFalse(cacheSpecs.containsKey("gatewayTokenCach"));
+        assertCacheSpec(cacheSpecs.get(CacheProvider.GRAPHQL_QUERY_CACHE), 20, 15, false);
+    }
+
+    @Test
+    public void testCachesWithoutSpecUseCommonConfiguration() {
+        CacheDto cacheDto = getCacheDto();
+        cacheDto.setCacheSpecs(ConfigHolder.parseCacheSpecs("gatewayTokenCache:maximumSize=100", cacheDto));
+
+        assertCacheSpec(cacheDto.getCacheSpec(CacheProvider.GATEWAY_TOKEN_CACHE), 100, 15, false);
+        assertCacheSpec(cacheDto.getCacheSpec(CacheProvider.GATEWAY_KEY_CACHE), 10000, 15, false);
+    }
+
+    private static CacheDto getCacheDto() {
+        CacheDto cacheDto = new CacheDto();
+        cacheDto.setMaximumSize(10000);
+        cacheDto.setExpiryTime(15);
+        return cacheDto;
+    }
+
+    private static void assertCacheSpec(CacheSpecDto cacheSpec, int maximumSize, int expiryTime,
+                                        boolean expireAfterWrite) {
+        Assert.assertNotNull(cacheSpec);
+        Assert.assertEquals(maximumSize, cacheSpec.getMaximumSize());
+        Assert.assertEquals(expiryTime, cacheSpec.getExpiryTime());
+        Assert.assertEquals(expireAfterWrite, cacheSpec.isExpireAfterWrite());
+    }
+}
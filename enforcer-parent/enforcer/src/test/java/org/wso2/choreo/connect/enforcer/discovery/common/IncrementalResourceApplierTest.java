@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.discovery.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class IncrementalResourceApplierTest {
+
+    @Test
+    public void testOnlyChangedResourcesAreApplied() {
+        IncrementalResourceApplier<String, String, StringBuilder> applier = createApplier();
+        Map<String, StringBuilder> target = new HashMap<>();
+
+        Assert.assertEquals(2, applier.apply(Arrays.asList("a=1", "b=1"), target));
+        StringBuilder unchangedValue = target.get("a");
+
+        Assert.assertEquals(1, applier.apply(Arrays.asList("a=1", "b=2"), target));
+        Assert.assertSame(unchangedValue, target.get("a"));
+        Assert.assertEquals("b=2", target.get("b").toString());
+    }
+
+    @Test
+    public void testMissingResourcesAreRemoved() {
+        IncrementalResourceApplier<String, String, StringBuilder> applier = createApplier();
+        Map<String, StringBuilder> target = new HashMap<>();
+        applier.apply(Arrays.asList("a=1", "b=1"), target);
+        target.put("c", new StringBuilder("c=1"));
+
+        Assert.assertEquals(2, applier.apply(Collections.singletonList("a=1"), target));
+        Assert.assertEquals(1, target.size());
+        Assert.assertTrue(target.containsKey("a"));
+    }
+
+    @Test
+    public void testExternallyModifiedEntriesAreReapplied() {
+        IncrementalResourceApplier<String, String, StringBuilder> applier = createApplier();
+        Map<String, StringBuilder> target = new HashMap<>();
+        applier.apply(Arrays.asList("a=1", "b=1"), target);
+        target.remove("a");
+        target.put("b", new StringBuilder("b=3"));
+
+        Assert.assertEquals(2, applier.apply(Arrays.asList("a=1", "b=1"), target));
+        Assert.assertEquals("a=1", target.get("a").toString());
+        Assert.assertEquals("b=1", target.get("b").toString());
+    }
+
+    private IncrementalResourceApplier<String, String, StringBuilder> createApplier() {
+        Function<String, String> keyResolver = resource -> resource.split("=")[0];
+        return new IncrementalResourceApplier<>(keyResolver, StringBuilder::new);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
+import org.wso2.choreo.connect.enforcer.commons.model.GraphQLSchemaDTO;
+
+import java.util.Collections;
+
+public class GraphQLPayloadUtilsTest {
+
+    private static final String SCHEMA = "schema { query: Query }\n"
+            + "type Query { hero(id: ID!): Hero }\n"
+            + "type Hero { id: ID! name: String }\n";
+    private static final String QUERY = "query { hero(id: \"1\") { name } }";
+
+    @Test
+    public void testQueryInfoIsCached() throws Exception {
+        Cache<GraphQLQueryInfo.Key, GraphQLQueryInfo> queryCache = CacheBuilder.newBuilder().build();
+        APIConfig apiConfig = createAPIConfig();
+
+        GraphQLQueryInfo queryInfo = GraphQLPayloadUtils.getQueryInfo(queryCache, apiConfig, QUERY);
+
+        Assert.assertNull(queryInfo.getValidationErrors());
+        Assert.assertEquals("QUERY", queryInfo.getMethod());
+        Assert.assertEquals(Collections.singletonList("hero"), queryInfo.getOperationList());
+        Assert.assertSame(queryInfo, GraphQLPayloadUtils.getQueryInfo(queryCache, apiConfig, QUERY));
+        // Queries are validated again once the schema of the API changes.
+        GraphQLQueryInfo updatedQueryInfo = GraphQLPayloadUtils.getQueryInfo(queryCache, createAPIConfig(), QUERY);
+        Assert.assertNotSame(queryInfo, updatedQueryInfo);
+        Assert.assertSame(updatedQueryInfo, queryCache.getIfPresent(new GraphQLQueryInfo.Key(apiConfig, QUERY)));
+        Assert.assertEquals(1, queryCache.size());
+    }
+
+    @Test
+    public void testQueryInfoIsKeyedByAPI() throws Exception {
+        Cache<GraphQLQueryInfo.Key, GraphQLQueryInfo> queryCache = CacheBuilder.newBuilder().build();
+        GraphQLSchemaDTO schema = createSchema();
+        APIConfig apiConfig = createAPIConfig("api-1", schema);
+
+        GraphQLQueryInfo queryInfo = GraphQLPayloadUtils.getQueryInfo(queryCache, apiConfig, QUERY);
+
+        // The cache holds on to the API identifier only, not to the API config.
+        Assert.assertSame(queryInfo, GraphQLPayloadUtils.getQueryInfo(queryCache, createAPIConfig("api-1", schema),
+                QUERY));
+        Assert.assertNotSame(queryInfo, GraphQLPayloadUtils.getQueryInfo(queryCache, createAPIConfig("api-2", schema),
+                QUERY));
+        Assert.assertEquals(2, queryCache.size());
+    }
+
+    @Test
+    public void testQueryInfoIsNotCachedWhenCachingIsDisabled() throws Exception {
+        APIConfig apiConfig = createAPIConfig();
+
+        GraphQLQueryInfo queryInfo = GraphQLPayloadUtils.getQueryInfo(null, apiConfig, QUERY);
+
+        Assert.assertEquals(Collections.singletonList("hero"), queryInfo.getOperationList());
+        Assert.assertNotSame(queryInfo, GraphQLPayloadUtils.getQueryInfo(null, apiConfig, QUERY));
+    }
+
+    @Test
+    public void testInvalidQueryIsCachedWithValidationErrors() throws Exception {
+        Cache<GraphQLQueryInfo.Key, GraphQLQueryInfo> queryCache = CacheBuilder.newBuilder().build();
+        APIConfig apiConfig = createAPIConfig();
+        String query = "query { hero(id: \"1\") { age } }";
+
+        GraphQLQueryInfo queryInfo = GraphQLPayloadUtils.getQueryInfo(queryCache, apiConfig, query);
+
+        Assert.assertNotNull(queryInfo.getValidationErrors());
+        Assert.assertSame(queryInfo, GraphQLPayloadUtils.getQueryInfo(queryCache, apiConfig, query));
+    }
+
+    private static APIConfig createAPIConfig() {
+        return createAPIConfig(null, createSchema());
+    }
+
+    private static APIConfig createAPIConfig(String uuid, GraphQLSchemaDTO schema) {
+        return new APIConfig.Builder("GraphQLAPI")
+                .uuid(uuid)
+                .graphQLSchemaDTO(schema)
+                .build();
+    }
+
+    private static GraphQLSchemaDTO createSchema() {
+        TypeDefinitionRegistry registry = new SchemaParser().parse(SCHEMA);
+        GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
+        return new GraphQLSchemaDTO(schema, registry, Collections.emptyList());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.interceptor.opa;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OPADecisionCacheTest {
+    private static final String POLICY_URL = "https://opa:8181/v1/data/petstore/allow";
+
+    private static String input(String path, String requestId) {
+        return "{\"input\":{\"transportHeaders\":{\"x-request-id\":\"" + requestId + "\"},\"method\":\"GET\"," +
+                "\"path\":\"" + path + "\"}}";
+    }
+
+    @Test
+    public void testDecisionIsNotCachedWithoutKeyFields() {
+        OPADecisionCache cache = new OPADecisionCache(10, 60);
+        Assert.assertNull(cache.getKey(POLICY_URL, input("/pets", "1"), null));
+        Assert.assertNull(cache.getKey(POLICY_URL, input("/pets", "1"), " "));
+    }
+
+    @Test
+    public void testPolicyIsPartOfKey() {
+        OPADecisionCache cache = new OPADecisionCache(10, 60);
+        String keyFields = "/input/path";
+        Assert.assertNotEquals(cache.getKey(POLICY_URL, input("/pets", "1"), keyFields),
+                cache.getKey(POLICY_URL + "/deny", input("/pets", "1"), keyFields));
+    }
+
+    @Test
+    public void testOnlyKeyFieldsAreFingerprinted() {
+        OPADecisionCache cache = new OPADecisionCache(10, 60);
+        String keyFields = "/input/method, /input/path";
+        Assert.assertEquals(cache.getKey(POLICY_URL, input("/pets", "1"), keyFields),
+                cache.getKey(POLICY_URL, input("/pets", "2"), keyFields));
+        Assert.assertNotEquals(cache.getKey(POLICY_URL, input("/pets", "1"), keyFields),
+                cache.getKey(POLICY_URL, input("/pets/1", "1"), keyFields));
+        Assert.assertNull(cache.getKey(POLICY_URL, input("/pets", "1"), "input.path"));
+    }
+
+    @Test
+    public void testResponsesAreCachedForTTL() {
+        OPADecisionCache cache = new OPADecisionCache(10, 60);
+        cache.put("allowed", "{\"result\":true}", 30, null);
+        cache.put("disabled", "{\"result\":true}", 0, null);
+        Assert.assertEquals("{\"result\":true}", cache.get("allowed"));
+        Assert.assertNull(cache.get("disabled"));
+        Assert.assertNull(cache.get("unknown"));
+    }
+
+    @Test
+    public void testCacheControlHints() {
+        OPADecisionCache cache = new OPADecisionCache(10, 60);
+        cache.put("noStore", "{\"result\":true}", 30, "no-store");
+        cache.put("maxAge", "{\"result\":true}", 0, "public, max-age=10");
+        Assert.assertNull(cache.get("noStore"));
+        Assert.assertEquals("{\"result\":true}", cache.get("maxAge"));
+
+        Assert.assertEquals(OPADecisionCache.NO_TTL_HINT, OPADecisionCache.getTTLHint(null));
+        Assert.assertEquals(OPADecisionCache.NO_TTL_HINT, OPADecisionCache.getTTLHint("max-age=abc"));
+        Assert.assertEquals(0, OPADecisionCache.getTTLHint("private, No-Cache"));
+        Assert.assertEquals(15, OPADecisionCache.getTTLHint("max-age=15"));
+    }
+}
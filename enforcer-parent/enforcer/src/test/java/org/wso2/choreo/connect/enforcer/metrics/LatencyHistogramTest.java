@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketIndexIsInclusiveOfUpperBound() {
+        Assert.assertEquals(0, LatencyHistogram.getBucketIndex(0));
+        Assert.assertEquals(0, LatencyHistogram.getBucketIndex(100));
+        Assert.assertEquals(1, LatencyHistogram.getBucketIndex(101));
+        Assert.assertEquals(9, LatencyHistogram.getBucketIndex(1000));
+        Assert.assertEquals(LatencyHistogram.getBucketCount() - 1,
+                LatencyHistogram.getBucketIndex(TimeUnit.SECONDS.toMicros(91)));
+        Assert.assertEquals(Long.MAX_VALUE,
+                LatencyHistogram.getBucketUpperBoundMicros(LatencyHistogram.getBucketCount() - 1));
+    }
+
+    @Test
+    public void testRecordedStatistics() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(-1, histogram.getPercentileMicros(50));
+        Assert.assertEquals(-1, histogram.getMaxMicros());
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toMicros(5050), histogram.getSumMicros());
+        Assert.assertEquals(1000, histogram.getMinMicros());
+        Assert.assertEquals(100000, histogram.getMaxMicros());
+        Assert.assertEquals(50000, histogram.getPercentileMicros(50));
+        Assert.assertEquals(100000, histogram.getPercentileMicros(99.9));
+
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(-1, histogram.getMinMicros());
+    }
+}
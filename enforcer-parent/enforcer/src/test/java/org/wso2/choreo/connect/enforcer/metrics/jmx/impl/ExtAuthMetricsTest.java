@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.metrics.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ExtAuthMetricsTest {
+    private final ExtAuthMetrics metrics = ExtAuthMetrics.getInstance();
+
+    @Test
+    public void testRecordMetricByAPIAndStatusCode() {
+        metrics.resetExtAuthMetrics();
+        metrics.recordMetric("/pets", 200, TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.recordMetric("/pets", 200, TimeUnit.MILLISECONDS.toNanos(4));
+        metrics.recordMetric("/pets", 401, TimeUnit.MILLISECONDS.toNanos(3));
+
+        Assert.assertEquals(3, metrics.getTotalRequestCount());
+        Assert.assertEquals(3, metrics.getAverageResponseTimeMillis(), 0.001);
+        Assert.assertEquals(4, metrics.getMaxResponseTimeMillis(), 0.001);
+        Assert.assertEquals(2, metrics.getMinResponseTimeMillis(), 0.001);
+        Map<Integer, LatencyHistogram> responseTimesByStatus = metrics.getResponseTimesByAPI().get("/pets");
+        Assert.assertEquals(2, responseTimesByStatus.get(200).getCount());
+        Assert.assertEquals(1, responseTimesByStatus.get(401).getCount());
+    }
+
+    @Test
+    public void testResetKeepsResponseTimesByAPI() {
+        metrics.recordMetric("/stores", 200, TimeUnit.MILLISECONDS.toNanos(1));
+        metrics.resetExtAuthMetrics();
+
+        Assert.assertEquals(0, metrics.getTotalRequestCount());
+        Assert.assertEquals(1, metrics.getResponseTimesByAPI().get("/stores").get(200).getCount());
+    }
+
+    @Test
+    public void testRetainAPIsDropsUndeployedAPIs() {
+        metrics.recordMetric("/orders", 200, TimeUnit.MILLISECONDS.toNanos(1));
+        metrics.recordMetric("/users", 200, TimeUnit.MILLISECONDS.toNanos(1));
+        metrics.recordMetric("", 404, TimeUnit.MILLISECONDS.toNanos(1));
+        ExtAuthMetrics.retainAPIs(Collections.singleton("/orders"));
+
+        Map<String, Map<Integer, LatencyHistogram>> responseTimesByAPI = metrics.getResponseTimesByAPI();
+        Assert.assertTrue(responseTimesByAPI.containsKey("/orders"));
+        Assert.assertFalse(responseTimesByAPI.containsKey("/users"));
+        Assert.assertTrue("Requests not matching any API are kept", responseTimesByAPI.containsKey(""));
+    }
+}
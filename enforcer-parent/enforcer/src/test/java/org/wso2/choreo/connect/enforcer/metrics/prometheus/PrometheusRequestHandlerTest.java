@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.metrics.prometheus;
+
+import io.grpc.netty.shaded.io.netty.channel.embedded.EmbeddedChannel;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpMethod;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpVersion;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames;
+import org.apache.http.protocol.HTTP;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.wso2.choreo.connect.discovery.config.enforcer.Config;
+import org.wso2.choreo.connect.discovery.config.enforcer.Management;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.ExtAuthMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.choreo.connect.enforcer.security.jwt.validator.JWTConstants.AUTHORIZATION;
+
+public class PrometheusRequestHandlerTest {
+
+    private static final String CREDENTIALS = "Basic " + Base64.getEncoder().encodeToString(
+            "admin:secret".getBytes(StandardCharsets.UTF_8));
+
+    @BeforeClass
+    public static void setUp() {
+        ConfigHolder.getInstance();
+        ConfigHolder.load(Config.newBuilder()
+                .setManagement(Management.newBuilder().setUsername("admin").setPassword("secret"))
+                .buildPartial());
+    }
+
+    @Test
+    public void testMetricsAreServed() {
+        ExtAuthMetrics.getInstance().recordMetric("/petstore", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        EmbeddedChannel channel = new EmbeddedChannel(new PrometheusRequestHandler());
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/metrics?x=1");
+        request.headers().set(AUTHORIZATION, CREDENTIALS);
+        channel.writeInbound(request);
+
+        FullHttpResponse response = channel.readOutbound();
+        Assert.assertNotNull(response);
+        Assert.assertEquals(HttpResponseStatus.OK, response.status());
+        Assert.assertEquals(PrometheusTextWriter.CONTENT_TYPE, response.headers().get(HTTP.CONTENT_TYPE));
+        String body = response.content().toString(StandardCharsets.UTF_8);
+        Assert.assertTrue(body.contains(PrometheusTextWriter.EXT_AUTHZ_DURATION_METRIC
+                + "_count{api=\"/petstore\",status=\"200\"} "));
+        Assert.assertEquals(body.getBytes(StandardCharsets.UTF_8).length,
+                response.headers().getInt(HTTP.CONTENT_LEN).intValue());
+        response.release();
+    }
+
+    @Test
+    public void testMetricsRequireManagementCredentials() {
+        String wrongCredentials = "Basic " + Base64.getEncoder().encodeToString(
+                "admin:admin".getBytes(StandardCharsets.UTF_8));
+        for (String authorization : new String[]{null, wrongCredentials, "Basic not-base64"}) {
+            EmbeddedChannel channel = new EmbeddedChannel(new PrometheusRequestHandler());
+            FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/metrics");
+            if (authorization != null) {
+                request.headers().set(AUTHORIZATION, authorization);
+            }
+            channel.writeInbound(request);
+
+            FullHttpResponse response = channel.readOutbound();
+            Assert.assertNotNull(response);
+            Assert.assertEquals(HttpResponseStatus.UNAUTHORIZED, response.status());
+            Assert.assertNotNull(response.headers().get(HttpHeaderNames.WWW_AUTHENTICATE));
+            Assert.assertEquals(0, response.content().readableBytes());
+            response.release();
+        }
+    }
+
+    @Test
+    public void testOtherRequestsAreForwarded() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PrometheusRequestHandler());
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/metrics");
+        channel.writeInbound(request);
+
+        Assert.assertNull(channel.readOutbound());
+        Assert.assertSame(request, channel.readInbound());
+        Assert.assertEquals("The forwarded request is still readable", 1, request.refCnt());
+        request.release();
+    }
+}
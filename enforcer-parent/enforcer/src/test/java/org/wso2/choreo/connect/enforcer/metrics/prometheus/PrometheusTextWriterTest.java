@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.prometheus;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.metrics.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class PrometheusTextWriterTest {
+
+    @Test
+    public void testHistogramIsWrittenWithCumulativeBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(150));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(2));
+        histogram.record(TimeUnit.SECONDS.toNanos(100));
+        Map<String, Map<Integer, LatencyHistogram>> histograms =
+                Collections.singletonMap("/pet\"store", Collections.singletonMap(200, histogram));
+
+        String text = PrometheusTextWriter.writeExtAuthMetrics(histograms);
+        String name = PrometheusTextWriter.EXT_AUTHZ_DURATION_METRIC;
+        String labels = "api=\"/pet\\\"store\",status=\"200\"";
+        Assert.assertTrue(text.startsWith("# HELP " + name));
+        Assert.assertTrue(text.contains("# TYPE " + name + " histogram\n"));
+        Assert.assertTrue(text.contains(name + "_bucket{" + labels + ",le=\"0.0001\"} 0\n"));
+        Assert.assertTrue(text.contains(name + "_bucket{" + labels + ",le=\"0.0002\"} 1\n"));
+        Assert.assertTrue(text.contains(name + "_bucket{" + labels + ",le=\"0.002\"} 2\n"));
+        Assert.assertTrue(text.contains(name + "_bucket{" + labels + ",le=\"90\"} 2\n"));
+        Assert.assertTrue(text.contains(name + "_bucket{" + labels + ",le=\"+Inf\"} 3\n"));
+        Assert.assertTrue(text.contains(name + "_sum{" + labels + "} 100.00215\n"));
+        Assert.assertTrue(text.contains(name + "_count{" + labels + "} 3\n"));
+    }
+}
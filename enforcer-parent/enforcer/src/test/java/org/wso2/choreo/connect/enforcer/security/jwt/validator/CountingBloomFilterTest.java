@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CountingBloomFilterTest {
+
+    @Test
+    public void testAddedValuesAreReported() {
+        CountingBloomFilter filter = new CountingBloomFilter(10, 4);
+        for (int i = 0; i < 100; i++) {
+            filter.add("jti-" + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(filter.mightContain("jti-" + i));
+        }
+    }
+
+    @Test
+    public void testRemovedValuesAreNotReported() {
+        CountingBloomFilter filter = new CountingBloomFilter(16, 4);
+        filter.add("jti-1");
+        filter.add("jti-2");
+        filter.remove("jti-1");
+        Assert.assertFalse(filter.mightContain("jti-1"));
+        Assert.assertTrue(filter.mightContain("jti-2"));
+    }
+
+    @Test
+    public void testFalsePositiveRateIsLow() {
+        CountingBloomFilter filter = new CountingBloomFilter(16, 4);
+        for (int i = 0; i < 5000; i++) {
+            filter.add("revoked-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("valid-" + i)) {
+                falsePositives++;
+            }
+        }
+        Assert.assertTrue("False positives: " + falsePositives, falsePositives < 200);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACVerifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JWKSManagerTest {
+
+    @Test
+    public void testFailingEndpointIsNotRefetchedWithinMinimumInterval() {
+        AtomicInteger fetches = new AtomicInteger();
+        JWKSManager.EndpointKeys endpointKeys = new JWKSManager.EndpointKeys("https://unreachable.idp/jwks",
+                endpoint -> {
+                    fetches.incrementAndGet();
+                    throw new IOException("Connection refused");
+                });
+        try {
+            endpointKeys.refreshForUnknownKey("kid-1");
+            Assert.fail("Expected the JWKS fetch to fail");
+        } catch (IOException e) {
+            Assert.assertEquals(1, fetches.get());
+        }
+        for (int i = 0; i < 10; i++) {
+            try {
+                endpointKeys.refreshForUnknownKey("kid-" + i);
+            } catch (IOException e) {
+                Assert.fail("The endpoint must not be called again within the minimum refresh interval");
+            }
+        }
+        Assert.assertEquals(1, fetches.get());
+        Assert.assertNull(endpointKeys.getVerifier("kid-1"));
+    }
+
+    @Test
+    public void testUnknownKeyIsNotRefetchedWithinMinimumInterval() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        JWSVerifier verifier = new MACVerifier("0123456789abcdef0123456789abcdef");
+        JWKSManager.EndpointKeys endpointKeys = new JWKSManager.EndpointKeys("https://idp/jwks", endpoint -> {
+            fetches.incrementAndGet();
+            return Collections.singletonMap("kid-1", verifier);
+        });
+        endpointKeys.refreshForUnknownKey("kid-1");
+        Assert.assertSame(verifier, endpointKeys.getVerifier("kid-1"));
+
+        endpointKeys.refreshForUnknownKey("kid-2");
+        endpointKeys.refreshForUnknownKey("kid-1");
+        Assert.assertEquals(1, fetches.get());
+        Assert.assertNull(endpointKeys.getVerifier("kid-2"));
+    }
+}
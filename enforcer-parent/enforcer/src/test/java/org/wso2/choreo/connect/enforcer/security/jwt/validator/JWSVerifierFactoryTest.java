@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.security.PublicKey;
+
+public class JWSVerifierFactoryTest {
+
+    // X.509 SubjectPublicKeyInfo prefix of an Ed25519 key, as returned by PublicKey.getEncoded()
+    private static final byte[] ED25519_PREFIX = {
+            0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00};
+    // Same structure with the X448 algorithm identifier (1.3.101.111)
+    private static final byte[] X448_PREFIX = {
+            0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x6f, 0x03, 0x21, 0x00};
+
+    @Test
+    public void testECSignatureIsVerified() throws Exception {
+        ECKey ecKey = new ECKeyGenerator(Curve.P_256).generate();
+        JWSObject jwsObject = sign(JWSAlgorithm.ES256, new ECDSASigner(ecKey));
+
+        Assert.assertTrue(jwsObject.verify(JWSVerifierFactory.createVerifier(ecKey.toPublicJWK())));
+        JWSVerifier verifier = JWSVerifierFactory.getVerifier(ecKey.toECPublicKey());
+        Assert.assertTrue(jwsObject.verify(verifier));
+        Assert.assertSame(verifier, JWSVerifierFactory.getVerifier(ecKey.toECPublicKey()));
+    }
+
+    @Test
+    public void testECSignatureOfOtherKeyIsRejected() throws Exception {
+        JWSObject jwsObject = sign(JWSAlgorithm.ES256,
+                new ECDSASigner(new ECKeyGenerator(Curve.P_256).generate()));
+        ECKey otherKey = new ECKeyGenerator(Curve.P_256).generate();
+
+        Assert.assertFalse(jwsObject.verify(JWSVerifierFactory.getVerifier(otherKey.toECPublicKey())));
+    }
+
+    @Test
+    public void testEd25519SignatureIsVerified() throws Exception {
+        OctetKeyPair keyPair = new OctetKeyPairGenerator(Curve.Ed25519).generate();
+        JWSObject jwsObject = sign(JWSAlgorithm.EdDSA, new Ed25519Signer(keyPair));
+
+        Assert.assertTrue(jwsObject.verify(JWSVerifierFactory.createVerifier(keyPair.toPublicJWK())));
+        Assert.assertTrue(jwsObject.verify(JWSVerifierFactory.getVerifier(
+                new EncodedPublicKey("Ed25519", concat(ED25519_PREFIX, keyPair.getX().decode())))));
+    }
+
+    @Test
+    public void testNonEd25519EdDSAKeyIsNotSupported() throws Exception {
+        OctetKeyPair keyPair = new OctetKeyPairGenerator(Curve.Ed25519).generate();
+        byte[] rawKey = keyPair.getX().decode();
+
+        Assert.assertNull(JWSVerifierFactory.getVerifier(
+                new EncodedPublicKey("EdDSA", concat(X448_PREFIX, rawKey))));
+        Assert.assertNull(JWSVerifierFactory.getVerifier(new EncodedPublicKey("EdDSA", rawKey)));
+    }
+
+    private static JWSObject sign(JWSAlgorithm algorithm, JWSSigner signer) throws Exception {
+        JWSObject jwsObject = new JWSObject(new JWSHeader(algorithm), new Payload("{\"sub\":\"admin\"}"));
+        jwsObject.sign(signer);
+        return JWSObject.parse(jwsObject.serialize());
+    }
+
+    private static byte[] concat(byte[] prefix, byte[] key) {
+        byte[] encoded = new byte[prefix.length + key.length];
+        System.arraycopy(prefix, 0, encoded, 0, prefix.length);
+        System.arraycopy(key, 0, encoded, prefix.length, key.length);
+        return encoded;
+    }
+
+    /**
+     * Public key as provided by a JCA provider, of which only the algorithm name and the X.509 encoding are known.
+     */
+    private static final class EncodedPublicKey implements PublicKey {
+        private final String algorithm;
+        private final byte[] encoded;
+
+        private EncodedPublicKey(String algorithm, byte[] encoded) {
+            this.algorithm = algorithm;
+            this.encoded = encoded;
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return algorithm;
+        }
+
+        @Override
+        public String getFormat() {
+            return "X.509";
+        }
+
+        @Override
+        public byte[] getEncoded() {
+            return encoded.clone();
+        }
+    }
+}
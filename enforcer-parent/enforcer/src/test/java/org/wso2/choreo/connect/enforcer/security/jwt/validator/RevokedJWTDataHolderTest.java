@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RevokedJWTDataHolderTest {
+
+    private static final long SKEW = RevokedJWTDataHolder.EVICTION_GRACE_PERIOD_MILLIS;
+
+    private final RevokedJWTDataHolder holder = RevokedJWTDataHolder.getInstance();
+
+    @Test
+    public void testExpiredTokensAreEvicted() {
+        holder.addRevokedJWTToMap("evict-expired", 1000L);
+        holder.addRevokedJWTToMap("evict-valid", 3000L);
+        Assert.assertTrue(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-expired"));
+
+        holder.removeExpiredTokens(2000L + SKEW);
+
+        Assert.assertFalse(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-expired"));
+        Assert.assertFalse(holder.getRevokedJWTMap().containsKey("evict-expired"));
+        Assert.assertTrue(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-valid"));
+
+        holder.removeExpiredTokens(3000L + SKEW);
+        Assert.assertFalse(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-valid"));
+    }
+
+    @Test
+    public void testTokenRevokedAgainIsKeptUntilLaterExpiry() {
+        holder.addRevokedJWTToMap("evict-extended", 1000L);
+        holder.addRevokedJWTToMap("evict-extended", 5000L);
+
+        // The stale queue entry of the earlier expiry must not remove the token.
+        holder.removeExpiredTokens(2000L + SKEW);
+        Assert.assertTrue(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-extended"));
+        Assert.assertEquals(Long.valueOf(5000L), holder.getRevokedJWTMap().get("evict-extended"));
+
+        holder.removeExpiredTokens(5000L + SKEW);
+        Assert.assertFalse(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-extended"));
+    }
+
+    @Test
+    public void testResentTokenIsEvictedOnce() {
+        // Each discovery response re-sends the revoked tokens with the same expiry.
+        holder.addRevokedJWTToMap("evict-resent", 1000L);
+        holder.addRevokedJWTToMap("evict-resent", 1000L);
+        holder.removeExpiredTokens(1000L + SKEW);
+        Assert.assertFalse(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-resent"));
+
+        // Revoking the token again after its eviction must make it visible again.
+        holder.addRevokedJWTToMap("evict-resent", 4000L);
+        holder.removeExpiredTokens(1000L + SKEW);
+        Assert.assertTrue(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-resent"));
+    }
+
+    @Test
+    public void testTokenWithoutExpiryIsNotEvicted() {
+        holder.addRevokedJWTToMap("evict-no-expiry", 0L);
+
+        holder.removeExpiredTokens(Long.MAX_VALUE);
+
+        Assert.assertTrue(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-no-expiry"));
+    }
+
+    @Test
+    public void testTokenWithinClockSkewIsNotEvicted() {
+        holder.addRevokedJWTToMap("evict-within-skew", 1000L);
+
+        // The validators still accept the token until its expiry plus the clock skew.
+        holder.removeExpiredTokens(1000L);
+        holder.removeExpiredTokens(1000L + SKEW - 1);
+        Assert.assertTrue(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-within-skew"));
+
+        holder.removeExpiredTokens(1000L + SKEW);
+        Assert.assertFalse(RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap("evict-within-skew"));
+    }
+}
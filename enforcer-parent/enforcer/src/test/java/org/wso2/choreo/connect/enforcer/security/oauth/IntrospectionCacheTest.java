@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.oauth;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.util.ConcurrentCallers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IntrospectionCacheTest {
+
+    private static IntrospectInfo introspectInfo(boolean active, long expiry) {
+        IntrospectInfo introspectInfo = new IntrospectInfo();
+        introspectInfo.setActive(active);
+        introspectInfo.setExpiry(expiry);
+        return introspectInfo;
+    }
+
+    @Test
+    public void testIntrospectionResultsAreCached() throws Exception {
+        IntrospectionCache cache = new IntrospectionCache(10, 60, 10);
+        AtomicInteger introspections = new AtomicInteger();
+        long expiry = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 30;
+        IntrospectionCache.Introspector introspector = token -> {
+            introspections.incrementAndGet();
+            return introspectInfo(!token.startsWith("revoked"), expiry);
+        };
+
+        Assert.assertTrue(cache.get("token", introspector).isActive());
+        Assert.assertTrue(cache.get("token", introspector).isActive());
+        Assert.assertFalse(cache.get("revoked", introspector).isActive());
+        Assert.assertFalse(cache.get("revoked", introspector).isActive());
+        Assert.assertEquals(2, introspections.get());
+    }
+
+    @Test
+    public void testFailedIntrospectionsAreNotCached() throws Exception {
+        IntrospectionCache cache = new IntrospectionCache(10, 60, 10);
+        AtomicInteger introspections = new AtomicInteger();
+        IntrospectionCache.Introspector introspector = token -> {
+            introspections.incrementAndGet();
+            return null;
+        };
+
+        Assert.assertNull(cache.get("token", introspector));
+        Assert.assertNull(cache.get("token", introspector));
+        Assert.assertEquals(2, introspections.get());
+    }
+
+    @Test
+    public void testTTLIsBoundedByTokenExpiry() {
+        IntrospectionCache cache = new IntrospectionCache(10, 60, 10);
+        long now = 1_000_000_000L;
+        Assert.assertEquals(20_000, cache.getTTLMillis(introspectInfo(true, 1_000_020L), now));
+        Assert.assertEquals(60_000, cache.getTTLMillis(introspectInfo(true, 1_001_000L), now));
+        Assert.assertEquals(60_000, cache.getTTLMillis(introspectInfo(true, 0), now));
+        Assert.assertEquals(0, cache.getTTLMillis(introspectInfo(true, 999_990L), now));
+        Assert.assertEquals(10_000, cache.getTTLMillis(introspectInfo(false, 1_001_000L), now));
+    }
+
+    @Test
+    public void testConcurrentIntrospectionsAreDeduplicated() throws Exception {
+        IntrospectionCache cache = new IntrospectionCache(10, 60, 10);
+        AtomicInteger introspections = new AtomicInteger();
+        ConcurrentCallers callers = new ConcurrentCallers(3);
+        IntrospectionCache.Introspector introspector = token -> {
+            introspections.incrementAndGet();
+            // The other callers must be waiting for this introspection, not reading its result from the cache.
+            callers.awaitOtherCallers();
+            return introspectInfo(true, 0);
+        };
+
+        List<IntrospectInfo> results = callers.run(() -> cache.get("token", introspector));
+
+        Assert.assertEquals(3, results.size());
+        for (IntrospectInfo result : results) {
+            Assert.assertTrue(result.isActive());
+        }
+        Assert.assertEquals(1, introspections.get());
+    }
+}
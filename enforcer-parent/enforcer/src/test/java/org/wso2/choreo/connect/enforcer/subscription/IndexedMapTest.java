@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.subscription;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class IndexedMapTest {
+
+    @Test
+    public void testIndexIsUpdatedWithEntries() {
+        IndexedMap<String, String[]> map = createMap(new AtomicLong());
+        map.put("a", new String[]{"a", "ctx1"});
+        map.put("b", new String[]{"b", "ctx1"});
+        map.put("c", new String[]{"c", "ctx2"});
+        Assert.assertEquals(2, map.getByIndex("context", "ctx1").size());
+
+        map.put("b", new String[]{"b", "ctx2"});
+        Assert.assertEquals(1, map.getByIndex("context", "ctx1").size());
+        Assert.assertEquals(2, map.getByIndex("context", "ctx2").size());
+
+        map.remove("a");
+        Assert.assertEquals(Collections.emptyList(), map.getByIndex("context", "ctx1"));
+        Assert.assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testVersionIsIncrementedOnModification() {
+        AtomicLong version = new AtomicLong();
+        IndexedMap<String, String[]> map = createMap(version);
+        map.put("a", new String[]{"a", "ctx1"});
+        map.remove("b");
+        Assert.assertEquals(1, version.get());
+        map.remove("a");
+        Assert.assertEquals(2, version.get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEntriesCannotBeRemovedWithoutUpdatingIndexes() {
+        IndexedMap<String, String[]> map = createMap(new AtomicLong());
+        map.put("a", new String[]{"a", "ctx1"});
+        map.keySet().removeIf(key -> true);
+    }
+
+    private IndexedMap<String, String[]> createMap(AtomicLong version) {
+        return new IndexedMap<String, String[]>(version).withIndex("context", value -> value[1]);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class KeyTemplateTest {
+
+    private static String[] values() {
+        String[] values = new String[KeyTemplate.Variable.values().length];
+        values[KeyTemplate.Variable.RESOURCE_KEY.ordinal()] = "/petstore/v1:1.0.0:/pet/{id}:GET";
+        values[KeyTemplate.Variable.USER_ID.ordinal()] = "admin";
+        values[KeyTemplate.Variable.API_CONTEXT.ordinal()] = "/petstore/v1";
+        values[KeyTemplate.Variable.API_VERSION.ordinal()] = "1.0.0";
+        values[KeyTemplate.Variable.APP_TENANT.ordinal()] = "carbon.super";
+        values[KeyTemplate.Variable.API_TENANT.ordinal()] = "carbon.super";
+        values[KeyTemplate.Variable.APP_ID.ordinal()] = "7";
+        return values;
+    }
+
+    @Test
+    public void testVariablesAreSubstituted() {
+        KeyTemplate template = KeyTemplate.compile("$userId:$apiContext:$apiVersion:$appId");
+        Assert.assertFalse(template.hasCustomProperties());
+        Assert.assertEquals("admin:/petstore/v1:1.0.0:7",
+                template.evaluate(new StringBuilder(), values(), Collections.emptyMap()));
+    }
+
+    @Test
+    public void testLiteralsAndUnknownVariablesAreKept() {
+        KeyTemplate template = KeyTemplate.compile("key-$appTenant-$unknown-$apiTenant$");
+        Assert.assertEquals("key-carbon.super-$unknown-carbon.super$",
+                template.evaluate(new StringBuilder(), values(), Collections.emptyMap()));
+    }
+
+    @Test
+    public void testVariablesWithoutValueAreKept() {
+        KeyTemplate template = KeyTemplate.compile("$clientIp:$resourceKey");
+        Assert.assertEquals("$clientIp:/petstore/v1:1.0.0:/pet/{id}:GET",
+                template.evaluate(new StringBuilder(), values(), Collections.emptyMap()));
+    }
+
+    @Test
+    public void testCustomProperties() {
+        KeyTemplate template = KeyTemplate.compile("$userId:$customProperty.region:$customProperty.tier");
+        Assert.assertTrue(template.hasCustomProperties());
+        Map<String, String> customProperties = new HashMap<>();
+        customProperties.put("region", "us-east");
+        StringBuilder builder = new StringBuilder("previous");
+        Assert.assertEquals("admin:us-east:$customProperty.tier",
+                template.evaluate(builder, values(), customProperties));
+    }
+}
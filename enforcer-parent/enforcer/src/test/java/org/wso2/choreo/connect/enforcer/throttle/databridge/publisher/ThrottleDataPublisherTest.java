@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle.databridge.publisher;
+
+import org.apache.commons.pool.BasePoolableObjectFactory;
+import org.apache.commons.pool.impl.StackObjectPool;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.config.dto.ThrottlePublisherConfigDto;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.ThrottlePublisherMetrics;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.ThrottleEventConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class ThrottleDataPublisherTest {
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final ThrottlePublisherMetrics metrics = ThrottlePublisherMetrics.getInstance();
+    private final List<String> publishedMessageIds = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch publisherThreadBusy = new CountDownLatch(1);
+    private final CountDownLatch releasePublisherThread = new CountDownLatch(1);
+    private final Semaphore completedEvents = new Semaphore(0);
+
+    @Before
+    public void setUp() {
+        metrics.resetThrottlePublisherMetrics();
+    }
+
+    @Test
+    public void testDropPolicyDropsEventsWhenQueueIsFull() throws Exception {
+        ThrottleDataPublisher publisher = createPublisher(ThrottlePublisherConfigDto.OVERFLOW_POLICY_DROP, 2, 1);
+        occupyPublisherThread(publisher);
+        publish(publisher, "2", "3", "4");
+
+        Assert.assertEquals(1, metrics.getDroppedEventCount());
+        releasePublisherThread.countDown();
+        awaitCompletedEvents(3);
+        Assert.assertEquals(Arrays.asList("1", "2", "3"), publishedMessageIds);
+    }
+
+    @Test
+    public void testBlockPolicyWaitsForSpaceInQueue() throws Exception {
+        ThrottleDataPublisher publisher = createPublisher(ThrottlePublisherConfigDto.OVERFLOW_POLICY_BLOCK, 2, 1);
+        occupyPublisherThread(publisher);
+        publish(publisher, "2", "3");
+
+        Thread requestThread = new Thread(() -> publish(publisher, "4"));
+        requestThread.start();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (requestThread.getState() != Thread.State.TIMED_WAITING) {
+            Assert.assertTrue("The request thread did not block on the full queue",
+                    System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+
+        releasePublisherThread.countDown();
+        requestThread.join(TIMEOUT_MILLIS);
+        Assert.assertFalse(requestThread.isAlive());
+        awaitCompletedEvents(4);
+        Assert.assertEquals(Arrays.asList("1", "2", "3", "4"), publishedMessageIds);
+        Assert.assertEquals(0, metrics.getDroppedEventCount());
+    }
+
+    @Test
+    public void testBlockPolicyDropsEventWhenQueueStaysFull() throws Exception {
+        ThrottleDataPublisher publisher = createPublisher(ThrottlePublisherConfigDto.OVERFLOW_POLICY_BLOCK, 2, 1);
+        occupyPublisherThread(publisher);
+        publish(publisher, "2", "3", "4");
+
+        Assert.assertEquals(1, metrics.getDroppedEventCount());
+        releasePublisherThread.countDown();
+        awaitCompletedEvents(3);
+        Assert.assertEquals(Arrays.asList("1", "2", "3"), publishedMessageIds);
+    }
+
+    @Test
+    public void testMaximumPoolSizeDoesNotGrowPoolBeyondCoreSize() throws Exception {
+        ThrottleDataPublisher publisher = createPublisher(ThrottlePublisherConfigDto.OVERFLOW_POLICY_DROP, 2, 1, 0,
+                4);
+        occupyPublisherThread(publisher);
+        publish(publisher, "2", "3", "4");
+
+        Assert.assertEquals(1, metrics.getDroppedEventCount());
+        releasePublisherThread.countDown();
+        awaitCompletedEvents(3);
+        Assert.assertEquals(Arrays.asList("1", "2", "3"), publishedMessageIds);
+    }
+
+    @Test
+    public void testSamplePolicyPublishesOneInSampleRateEventsWhenQueueIsHalfFull() throws Exception {
+        ThrottleDataPublisher publisher = createPublisher(ThrottlePublisherConfigDto.OVERFLOW_POLICY_SAMPLE, 4, 2);
+        occupyPublisherThread(publisher);
+        // Events 2 and 3 fill half of the queue, after which every other event is sampled out, until the queue is
+        // full and event 9 is dropped.
+        publish(publisher, "2", "3", "4", "5", "6", "7", "8", "9");
+
+        Assert.assertEquals(3, metrics.getSampledOutEventCount());
+        Assert.assertEquals(1, metrics.getDroppedEventCount());
+        releasePublisherThread.countDown();
+        awaitCompletedEvents(5);
+        Assert.assertEquals(Arrays.asList("1", "2", "3", "5", "7"), publishedMessageIds);
+    }
+
+    @Test
+    public void testShutdownPublishesAggregatedAndQueuedEvents() {
+        ThrottleDataPublisher publisher = createPublisher(ThrottlePublisherConfigDto.OVERFLOW_POLICY_DROP, 2, 1,
+                3600000);
+        releasePublisherThread.countDown();
+        publish(publisher, "1", "2");
+        publisher.shutdown();
+
+        Assert.assertEquals(Collections.singletonList("1"), publishedMessageIds);
+    }
+
+    private ThrottleDataPublisher createPublisher(String overflowPolicy, int queueSize, int sampleRate) {
+        return createPublisher(overflowPolicy, queueSize, sampleRate, 0);
+    }
+
+    private ThrottleDataPublisher createPublisher(String overflowPolicy, int queueSize, int sampleRate,
+                                                  int eventAggregationWindow) {
+        return createPublisher(overflowPolicy, queueSize, sampleRate, eventAggregationWindow, 1);
+    }
+
+    private ThrottleDataPublisher createPublisher(String overflowPolicy, int queueSize, int sampleRate,
+                                                  int eventAggregationWindow, int maximumPoolSize) {
+        ThrottlePublisherConfigDto config = new ThrottlePublisherConfigDto();
+        config.setPublisherThreadPoolCoreSize(1);
+        config.setPublisherThreadPoolMaximumSize(maximumPoolSize);
+        config.setPublisherThreadPoolKeepAliveTime(60);
+        config.setPublisherQueueSize(queueSize);
+        config.setPublisherOverflowPolicy(overflowPolicy);
+        config.setPublisherSampleRate(sampleRate);
+        config.setEventAggregationWindow(eventAggregationWindow);
+        return new ThrottleDataPublisher(config, new ThrottleDataPublisherPool(new StackObjectPool(
+                new BasePoolableObjectFactory() {
+                    @Override
+                    public Object makeObject() {
+                        return new RecordingAgent();
+                    }
+                })));
+    }
+
+    /**
+     * Publishes the first event and waits until the only publisher thread is busy with it, so that the following
+     * events stay in the queue.
+     */
+    private void occupyPublisherThread(ThrottleDataPublisher publisher) throws InterruptedException {
+        publish(publisher, "1");
+        Assert.assertTrue(publisherThreadBusy.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    private void awaitCompletedEvents(int count) throws InterruptedException {
+        Assert.assertTrue(completedEvents.tryAcquire(count, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    private static void publish(ThrottleDataPublisher publisher, String... messageIds) {
+        for (String messageId : messageIds) {
+            publisher.publishNonThrottledEvent(
+                    Collections.singletonMap(ThrottleEventConstants.MESSAGE_ID, messageId));
+        }
+    }
+
+    /**
+     * Records the published events instead of sending them to the traffic manager. The publisher thread is held by
+     * the first event until the test releases it.
+     */
+    private class RecordingAgent extends DataProcessAndPublishingAgent {
+        @Override
+        public void run() {
+            publishedMessageIds.add(messageId);
+            publisherThreadBusy.countDown();
+            try {
+                releasePublisherThread.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completedEvents.release();
+        }
+    }
+}
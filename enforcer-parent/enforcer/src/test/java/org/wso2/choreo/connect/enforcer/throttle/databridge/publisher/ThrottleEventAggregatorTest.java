@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle.databridge.publisher;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.ThrottleEventConstants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ThrottleEventAggregatorTest {
+    // Long enough for the scheduled flush not to interfere with the test.
+    private static final long WINDOW_MILLIS = 3600000;
+
+    @Test
+    public void testEventsOfSameKeysAreAggregated() {
+        List<Map<String, String>> published = new ArrayList<>();
+        ThrottleEventAggregator aggregator = new ThrottleEventAggregator(WINDOW_MILLIS, published::add);
+        aggregator.add(createEvent("1", "/pets:GET"));
+        aggregator.add(createEvent("2", "/pets:GET"));
+        aggregator.add(createEvent("3", "/pets:GET"));
+        aggregator.add(createEvent("4", "/pets:POST"));
+        aggregator.flush();
+
+        Assert.assertEquals(2, published.size());
+        for (Map<String, String> event : published) {
+            if ("/pets:GET".equals(event.get(ThrottleEventConstants.RESOURCE_KEY))) {
+                Assert.assertEquals("1", event.get(ThrottleEventConstants.MESSAGE_ID));
+                Assert.assertEquals("3", event.get(ThrottleEventConstants.EVENT_COUNT));
+            } else {
+                Assert.assertEquals("4", event.get(ThrottleEventConstants.MESSAGE_ID));
+                Assert.assertEquals("1", event.get(ThrottleEventConstants.EVENT_COUNT));
+            }
+        }
+    }
+
+    @Test
+    public void testNewWindowStartsAfterFlush() {
+        List<Map<String, String>> published = new ArrayList<>();
+        ThrottleEventAggregator aggregator = new ThrottleEventAggregator(WINDOW_MILLIS, published::add);
+        aggregator.add(createEvent("1", "/pets:GET"));
+        aggregator.flush();
+        aggregator.flush();
+        aggregator.add(createEvent("2", "/pets:GET"));
+        aggregator.flush();
+
+        Assert.assertEquals(2, published.size());
+        Assert.assertEquals("1", published.get(1).get(ThrottleEventConstants.EVENT_COUNT));
+        Assert.assertEquals("2", published.get(1).get(ThrottleEventConstants.MESSAGE_ID));
+    }
+
+    @Test
+    public void testShutdownPublishesPendingEvents() {
+        List<Map<String, String>> published = new ArrayList<>();
+        ThrottleEventAggregator aggregator = new ThrottleEventAggregator(WINDOW_MILLIS, published::add);
+        aggregator.add(createEvent("1", "/pets:GET"));
+        aggregator.add(createEvent("2", "/pets:GET"));
+        aggregator.shutdown();
+
+        Assert.assertEquals(1, published.size());
+        Assert.assertEquals("2", published.get(0).get(ThrottleEventConstants.EVENT_COUNT));
+    }
+
+    private static Map<String, String> createEvent(String messageId, String resourceKey) {
+        Map<String, String> event = new HashMap<>();
+        event.put(ThrottleEventConstants.MESSAGE_ID, messageId);
+        event.put(ThrottleEventConstants.APP_KEY, "1:admin");
+        event.put(ThrottleEventConstants.API_KEY, "/petstore:1.0.0");
+        event.put(ThrottleEventConstants.RESOURCE_KEY, resourceKey);
+        event.put(ThrottleEventConstants.PROPERTIES, "{}");
+        return event;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle.local;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketTest {
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testBurstIsLimitedToCapacity() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(5, WINDOW, now);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(0, bucket.tryAcquire(now));
+        }
+        Assert.assertTrue(bucket.tryAcquire(now) > 0);
+    }
+
+    @Test
+    public void testTokensAreRefilledOverTime() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(10, WINDOW, now);
+        for (int i = 0; i < 10; i++) {
+            bucket.tryAcquire(now);
+        }
+        long wait = bucket.tryAcquire(now);
+        Assert.assertEquals(WINDOW / 10, wait);
+        Assert.assertTrue(bucket.tryAcquire(now + wait / 2) > 0);
+        Assert.assertEquals(0, bucket.tryAcquire(now + wait));
+    }
+
+    @Test
+    public void testOnlyIdleBucketIsRetired() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(2, WINDOW, now);
+        bucket.tryAcquire(now);
+        Assert.assertFalse(bucket.retireIfFull(now));
+        Assert.assertFalse(bucket.isRetired());
+        Assert.assertTrue(bucket.retireIfFull(now + WINDOW));
+        Assert.assertTrue(bucket.isRetired());
+        Assert.assertTrue(bucket.isConfiguredFor(2, WINDOW));
+        Assert.assertFalse(bucket.isConfiguredFor(3, WINDOW));
+    }
+
+    @Test
+    public void testTokenIsNotAcquiredFromRetiredBucket() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(2, WINDOW, now);
+        Assert.assertTrue(bucket.retireIfFull(now));
+        Assert.assertEquals(TokenBucket.RETIRED, bucket.tryAcquire(now));
+        Assert.assertEquals(TokenBucket.RETIRED, bucket.tryAcquire(now + WINDOW));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a call from several threads at once, for testing the deduplication of concurrent calls.
+ * <p>
+ * The call under test holds the first caller with {@link #awaitOtherCallers()}, which returns only once all the
+ * callers have entered and the other callers are blocked, i.e. waiting for the call in flight. Hence the callers
+ * are known to overlap, instead of the later callers possibly arriving after the first call has completed.
+ */
+public class ConcurrentCallers {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final int count;
+    private final CountDownLatch entered;
+    private final Set<Thread> callers = ConcurrentHashMap.newKeySet();
+
+    public ConcurrentCallers(int count) {
+        this.count = count;
+        this.entered = new CountDownLatch(count);
+    }
+
+    /**
+     * Runs the call from each caller concurrently.
+     *
+     * @param call call to run
+     * @param <V>  type of the result
+     * @return results of the callers
+     * @throws Exception if a call fails or does not complete in time
+     */
+    public <V> List<V> run(Callable<V> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<V>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> {
+                    callers.add(Thread.currentThread());
+                    entered.countDown();
+                    return call.call();
+                }));
+            }
+            List<V> results = new ArrayList<>();
+            for (Future<V> future : futures) {
+                results.add(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Holds the current caller until all the callers have entered and the other callers are waiting.
+     */
+    public void awaitOtherCallers() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        try {
+            if (!entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Callers did not enter in time");
+            }
+            for (Thread caller : callers) {
+                while (caller != Thread.currentThread() && caller.getState() != Thread.State.WAITING
+                        && caller.getState() != Thread.State.TIMED_WAITING) {
+                    if (System.nanoTime() > deadline) {
+                        throw new IllegalStateException("Callers did not wait for the call in flight");
+                    }
+                    Thread.sleep(1);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the callers", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.util;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.KeyStore;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HttpClientRegistryTest {
+
+    @Test
+    public void testClientIsReusedForSameProtocolAndOptions() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        HttpClientRegistry registry = new HttpClientRegistry((protocol, keyStore, options) -> {
+            created.incrementAndGet();
+            return HttpClients.createMinimal();
+        });
+        Map<String, String> options = new HashMap<>();
+        options.put(FilterUtils.HTTPClientOptions.MAX_OPEN_CONNECTIONS, "10");
+        options.put(FilterUtils.HTTPClientOptions.MAX_PER_ROUTE, "5");
+        Map<String, String> sameOptions = new HashMap<>(options);
+
+        CloseableHttpClient client = registry.getClient("https", null, options);
+        Assert.assertSame(client, registry.getClient("https", null, sameOptions));
+        Assert.assertNotSame(client, registry.getClient("http", null, options));
+        Assert.assertSame(registry.getClient("http"), registry.getClient("http", null, new HashMap<>()));
+        Assert.assertEquals(3, created.get());
+        registry.closeAll();
+    }
+
+    @Test
+    public void testClientIsKeyedByKeyStore() throws Exception {
+        HttpClientRegistry registry = new HttpClientRegistry((protocol, keyStore, options) ->
+                HttpClients.createMinimal());
+        KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        KeyStore otherKeyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+
+        CloseableHttpClient client = registry.getClient("https", keyStore, null);
+        Assert.assertSame(client, registry.getClient("https", keyStore, null));
+        Assert.assertNotSame(client, registry.getClient("https", otherKeyStore, null));
+        Assert.assertNotSame(client, registry.getClient("https", null, null));
+        Assert.assertEquals(3, registry.size());
+
+        registry.closeAll();
+        Assert.assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void testFailedClientIsNotCached() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        HttpClientRegistry registry = new HttpClientRegistry((protocol, keyStore, options) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("Error while creating the connection pool");
+            }
+            return HttpClients.createMinimal();
+        });
+        try {
+            registry.getClient("https");
+            Assert.fail("Expected the client creation to fail");
+        } catch (IOException e) {
+            Assert.assertEquals(0, registry.size());
+        }
+        Assert.assertNotNull(registry.getClient("https"));
+        Assert.assertEquals(2, attempts.get());
+        registry.closeAll();
+    }
+
+    @Test
+    public void testSlowClientCreationDoesNotBlockOtherClients() throws Exception {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpClientRegistry registry = new HttpClientRegistry((protocol, keyStore, options) -> {
+            if ("https".equals(protocol)) {
+                creating.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return HttpClients.createMinimal();
+        });
+        CompletableFuture<CloseableHttpClient> slowClient = CompletableFuture.supplyAsync(() -> {
+            try {
+                return registry.getClient("https");
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Assert.assertTrue(creating.await(5, TimeUnit.SECONDS));
+
+        Assert.assertNotNull(registry.getClient("http"));
+        Assert.assertFalse(slowClient.isDone());
+        release.countDown();
+        Assert.assertNotNull(slowClient.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(2, registry.size());
+        registry.closeAll();
+    }
+}
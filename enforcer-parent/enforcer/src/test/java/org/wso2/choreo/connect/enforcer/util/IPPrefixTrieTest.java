@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IPPrefixTrieTest {
+
+    @Test
+    public void testParseIPv4() {
+        long[] address = new long[2];
+        Assert.assertEquals(IPAddressUtils.IPV4, IPAddressUtils.parse("192.168.1.10", address));
+        Assert.assertEquals(0xC0A8010AL, address[1]);
+        Assert.assertEquals(IPAddressUtils.INVALID, IPAddressUtils.parse("192.168.1", address));
+        Assert.assertEquals(IPAddressUtils.INVALID, IPAddressUtils.parse("192.168.1.256", address));
+        Assert.assertEquals(IPAddressUtils.INVALID, IPAddressUtils.parse("localhost", address));
+    }
+
+    @Test
+    public void testParseIPv6() {
+        long[] address = new long[2];
+        Assert.assertEquals(IPAddressUtils.IPV6, IPAddressUtils.parse("2001:db8::1", address));
+        Assert.assertEquals(0x20010DB800000000L, address[0]);
+        Assert.assertEquals(1L, address[1]);
+        Assert.assertEquals(IPAddressUtils.IPV6, IPAddressUtils.parse("::10.0.0.1", address));
+        Assert.assertEquals(0L, address[0]);
+        Assert.assertEquals(0x0A000001L, address[1]);
+        Assert.assertEquals(IPAddressUtils.IPV6, IPAddressUtils.parse("fe80:0:0:0:0:0:0:ab%eth0", address));
+        Assert.assertEquals(0xFE80000000000000L, address[0]);
+        Assert.assertEquals(0xABL, address[1]);
+        Assert.assertEquals(IPAddressUtils.IPV6, IPAddressUtils.parse("1::", address));
+        Assert.assertEquals(0x0001000000000000L, address[0]);
+        Assert.assertEquals(IPAddressUtils.INVALID, IPAddressUtils.parse("1::2::3", address));
+        Assert.assertEquals(IPAddressUtils.INVALID, IPAddressUtils.parse("1:2:3:4:5:6:7", address));
+        Assert.assertEquals(IPAddressUtils.INVALID, IPAddressUtils.parse("12345::", address));
+    }
+
+    @Test
+    public void testParseIPv4MappedIPv6() {
+        long[] address = new long[2];
+        Assert.assertEquals(IPAddressUtils.IPV4, IPAddressUtils.parse("::ffff:10.0.0.1", address));
+        Assert.assertEquals(0L, address[0]);
+        Assert.assertEquals(0x0A000001L, address[1]);
+        Assert.assertEquals(IPAddressUtils.IPV4, IPAddressUtils.parse("0:0:0:0:0:FFFF:C0A8:010A", address));
+        Assert.assertEquals(0xC0A8010AL, address[1]);
+        Assert.assertEquals(IPAddressUtils.IPV6, IPAddressUtils.parse("::fffe:10.0.0.1", address));
+        Assert.assertEquals(IPAddressUtils.IPV6, IPAddressUtils.parse("1::ffff:10.0.0.1", address));
+    }
+
+    @Test
+    public void testIPv4MappedIPv6MatchesIPv4Networks() {
+        IPPrefixTrie trie = new IPPrefixTrie();
+        Assert.assertTrue(trie.addNetwork("10.0.0.0/8"));
+        Assert.assertTrue(trie.addRange("::ffff:192.168.1.1", "::ffff:192.168.1.20", false));
+
+        Assert.assertTrue(trie.matches("::ffff:10.1.2.3"));
+        Assert.assertFalse(trie.matches("::ffff:11.1.2.3"));
+        Assert.assertTrue(trie.matches("192.168.1.10"));
+        Assert.assertTrue(trie.matches("::ffff:192.168.1.10"));
+        Assert.assertFalse(trie.matches("192.168.1.21"));
+    }
+
+    @Test
+    public void testNetworks() {
+        IPPrefixTrie trie = new IPPrefixTrie();
+        Assert.assertTrue(trie.isEmpty());
+        Assert.assertTrue(trie.addNetwork("10.0.0.0/8"));
+        Assert.assertTrue(trie.addNetwork("192.168.1.10"));
+        Assert.assertTrue(trie.addNetwork("2001:db8::/32"));
+        Assert.assertFalse(trie.addNetwork("10.0.0.0/33"));
+        Assert.assertFalse(trie.addNetwork("invalid/8"));
+
+        Assert.assertTrue(trie.matches("10.20.30.40"));
+        Assert.assertFalse(trie.matches("11.0.0.1"));
+        Assert.assertTrue(trie.matches("192.168.1.10"));
+        Assert.assertFalse(trie.matches("192.168.1.11"));
+        Assert.assertTrue(trie.matches("2001:db8:ffff::1"));
+        Assert.assertFalse(trie.matches("2001:db9::1"));
+        Assert.assertFalse(trie.matches("not an ip"));
+    }
+
+    @Test
+    public void testRanges() {
+        IPPrefixTrie trie = new IPPrefixTrie();
+        Assert.assertTrue(trie.addRange("10.0.0.5", "10.0.1.20", false));
+        Assert.assertFalse(trie.matches("10.0.0.4"));
+        Assert.assertTrue(trie.matches("10.0.0.5"));
+        Assert.assertTrue(trie.matches("10.0.0.255"));
+        Assert.assertTrue(trie.matches("10.0.1.20"));
+        Assert.assertFalse(trie.matches("10.0.1.21"));
+        Assert.assertEquals(1, trie.countMatches("10.0.0.128"));
+
+        IPPrefixTrie exclusive = new IPPrefixTrie();
+        Assert.assertTrue(exclusive.addRange("2001:db8::", "2001:db8::ffff", true));
+        Assert.assertFalse(exclusive.matches("2001:db8::"));
+        Assert.assertTrue(exclusive.matches("2001:db8::1"));
+        Assert.assertTrue(exclusive.matches("2001:db8::fffe"));
+        Assert.assertFalse(exclusive.matches("2001:db8::ffff"));
+        Assert.assertFalse(exclusive.addRange("10.0.0.1", "2001:db8::1", false));
+    }
+}
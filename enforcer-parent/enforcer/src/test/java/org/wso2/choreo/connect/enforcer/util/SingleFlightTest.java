@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+    @Test
+    public void testConcurrentCallsAreCoalesced() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        ConcurrentCallers callers = new ConcurrentCallers(3);
+        SingleFlight.Call<String, RuntimeException> call = () -> {
+            calls.incrementAndGet();
+            callers.awaitOtherCallers();
+            return "keys";
+        };
+
+        List<String> results = callers.run(() -> singleFlight.execute("jwks", call));
+
+        Assert.assertEquals(Arrays.asList("keys", "keys", "keys"), results);
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testCompletedCallsAreNotRetained() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        Assert.assertEquals(1, (int) singleFlight.execute("jwks", calls::incrementAndGet));
+        Assert.assertEquals(2, (int) singleFlight.execute("jwks", calls::incrementAndGet));
+        Assert.assertEquals(3, (int) singleFlight.execute("keyManager", calls::incrementAndGet));
+    }
+
+    @Test
+    public void testFailuresAreNotRetained() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        try {
+            singleFlight.execute("jwks", () -> {
+                throw new IOException("Connection refused");
+            });
+            Assert.fail("The exception of the call is not thrown");
+        } catch (IOException e) {
+            Assert.assertEquals("Connection refused", e.getMessage());
+        }
+        Assert.assertEquals("keys", singleFlight.execute("jwks", () -> "keys"));
+    }
+
+    @Test
+    public void testWaitForHangingCallIsBounded() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(100, TimeUnit.MILLISECONDS);
+        CountDownLatch hangingCallStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight.Call<String, RuntimeException> hangingCall = () -> {
+            hangingCallStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "stale";
+        };
+        Thread hangingCaller = new Thread(() -> singleFlight.execute("jwks", hangingCall));
+        hangingCaller.start();
+        try {
+            Assert.assertTrue(hangingCallStarted.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals("keys", singleFlight.execute("jwks", () -> "keys"));
+        } finally {
+            release.countDown();
+            hangingCaller.join();
+        }
+    }
+}